@@ -1,7 +1,13 @@
 package io.quarkus.builder;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
@@ -22,6 +28,7 @@ public final class BuildChain {
     private final int endStepCount;
     private final ClassLoader classLoader;
     private final Map<ItemId, int[]> producingOrdinals;
+    private volatile Map<StepInfo, BitSet> transitiveDependencies;
 
     BuildChain(final Set<StepInfo> startSteps, BuildChainBuilder builder, final int endStepCount,
             Map<ItemId, int[]> producingOrdinals) {
@@ -118,4 +125,54 @@ int getEndStepCount() {
     Map<ItemId, int[]> getProducingOrdinals() {
         return producingOrdinals;
     }
+
+    /**
+     * Returns the ordinals of the {@link BuildStep}s the given step depends on, directly or transitively.
+     * The result is computed once for the whole chain, the first time it is requested.
+     *
+     * @param stepInfo the step
+     * @return the ordinals, must not be modified
+     */
+    BitSet getTransitiveDependencies(StepInfo stepInfo) {
+        Map<StepInfo, BitSet> transitiveDependencies = this.transitiveDependencies;
+        if (transitiveDependencies == null) {
+            synchronized (this) {
+                transitiveDependencies = this.transitiveDependencies;
+                if (transitiveDependencies == null) {
+                    this.transitiveDependencies = transitiveDependencies = computeTransitiveDependencies();
+                }
+            }
+        }
+        return transitiveDependencies.get(stepInfo);
+    }
+
+    private Map<StepInfo, BitSet> computeTransitiveDependencies() {
+        List<StepInfo> steps = new ArrayList<>();
+        Set<StepInfo> visited = new HashSet<>(startSteps);
+        Deque<StepInfo> toVisit = new ArrayDeque<>(startSteps);
+        while (!toVisit.isEmpty()) {
+            StepInfo step = toVisit.poll();
+            steps.add(step);
+            for (StepInfo dependent : step.getDependents()) {
+                if (visited.add(dependent)) {
+                    toVisit.add(dependent);
+                }
+            }
+        }
+        // the ordinals follow a topological ordering, so the dependencies of a step are complete when it's processed
+        steps.sort(Comparator.comparingInt(StepInfo::getOrdinal));
+        Map<StepInfo, BitSet> result = new HashMap<>(steps.size() * 4 / 3 + 1);
+        for (StepInfo step : steps) {
+            result.put(step, new BitSet());
+        }
+        for (StepInfo step : steps) {
+            BitSet dependencies = result.get(step);
+            for (StepInfo dependent : step.getDependents()) {
+                BitSet dependentDependencies = result.get(dependent);
+                dependentDependencies.or(dependencies);
+                dependentDependencies.set(step.getOrdinal());
+            }
+        }
+        return result;
+    }
 }
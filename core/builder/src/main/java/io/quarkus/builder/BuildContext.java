@@ -3,6 +3,7 @@
 import static io.quarkus.builder.Execution.log;
 
 import java.time.LocalTime;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -152,6 +153,26 @@ public <T extends MultiBuildItem> List<T> consumeMulti(Class<T> type, Comparator
         return consumeMulti(type).stream().sorted(comparator).toList();
     }
 
+    /**
+     * Get the ordinal of this build step. The ordinals of the build steps of a chain follow a topological ordering: a
+     * build step always has a greater ordinal than the build steps it depends on.
+     *
+     * @return the ordinal of this build step
+     */
+    public int getStepOrdinal() {
+        return stepInfo.getOrdinal();
+    }
+
+    /**
+     * Get the ordinals of the build steps this build step depends on, directly or transitively, because it consumes the
+     * items they produce. These build steps are guaranteed to complete before this build step runs.
+     *
+     * @return the ordinals of the build steps this build step depends on, as a new bit set (not {@code null})
+     */
+    public BitSet getStepDependencies() {
+        return (BitSet) execution.getBuildChain().getTransitiveDependencies(stepInfo).clone();
+    }
+
     /**
      * Emit a build note. This indicates information that the user may be interested in.
      *
@@ -250,8 +271,10 @@ void run() {
                 }
             }
         } finally {
-            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            final long end = System.nanoTime();
+            long duration = TimeUnit.NANOSECONDS.toMillis(end - start);
             execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, duration);
+            execution.getParallelism().buildStepFinished(stepInfo, currentThread.getName(), start, end);
             log.tracef("Finished step \"%s\" in %s ms", buildStep, duration);
             execution.removeBuildContext(stepInfo, this);
         }
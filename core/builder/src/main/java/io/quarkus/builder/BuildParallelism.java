@@ -0,0 +1,289 @@
+package io.quarkus.builder;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.bootstrap.json.Json;
+import io.quarkus.bootstrap.json.Json.JsonArrayBuilder;
+import io.quarkus.bootstrap.json.Json.JsonObjectBuilder;
+
+/**
+ * Analyzes how well a build used the available processors.
+ * <p>
+ * The start and end of every build step are recorded, which is cheap enough to be done for every build. Once the build is
+ * finished, the analysis computes:
+ * <ul>
+ * <li>the critical path: the chain of build steps that actually determined the duration of the build, following from the
+ * last step to finish the dependency that finished last,</li>
+ * <li>the idle processor time, and the time spent at every level of parallelism,</li>
+ * <li>the serializing steps: the steps that ran while no other step was running, with the time they ran alone.</li>
+ * </ul>
+ */
+public final class BuildParallelism {
+
+    public static final String BUILDER_PARALLELISM_REPORT_ENABLED = "quarkus.builder.parallelism-report.enabled";
+
+    private static final int MAX_SERIALIZING_STEPS = 20;
+
+    private final int processors;
+    // null if disabled
+    private final ConcurrentMap<StepInfo, Span> spans;
+    private volatile long started;
+    private volatile long finished;
+
+    BuildParallelism(int processors) {
+        this.processors = processors;
+        this.spans = Boolean.parseBoolean(System.getProperty(BUILDER_PARALLELISM_REPORT_ENABLED, "true"))
+                ? new ConcurrentHashMap<>()
+                : null;
+    }
+
+    void buildStarted(long nanos) {
+        this.started = nanos;
+    }
+
+    void buildFinished(long nanos) {
+        this.finished = nanos;
+    }
+
+    void buildStepFinished(StepInfo stepInfo, String thread, long start, long end) {
+        if (spans != null) {
+            spans.put(stepInfo, new Span(stepInfo, thread, start, end));
+        }
+    }
+
+    /**
+     * @return the analysis of the build, or {@code null} if the parallelism report is disabled
+     */
+    public Report analyze() {
+        if (spans == null || spans.isEmpty()) {
+            return null;
+        }
+        return new Report(new ArrayList<>(spans.values()));
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static final class Span {
+
+        final StepInfo stepInfo;
+        final String thread;
+        final long start;
+        final long end;
+        // the time this step ran while no other step was running
+        long alone;
+
+        Span(StepInfo stepInfo, String thread, long start, long end) {
+            this.stepInfo = stepInfo;
+            this.thread = thread;
+            this.start = start;
+            this.end = end;
+        }
+
+        String id() {
+            return stepInfo.getBuildStep().getId();
+        }
+    }
+
+    public final class Report {
+
+        private final long wallTime;
+        private final long busyTime;
+        private final long idleTime;
+        // number of running steps -> time
+        private final Map<Integer, Long> parallelism = new TreeMap<>();
+        private final List<Span> criticalPath = new ArrayList<>();
+        private final List<Span> serializingSteps = new ArrayList<>();
+
+        private Report(List<Span> spans) {
+            long buildStart = Math.min(started, spans.stream().mapToLong(s -> s.start).min().getAsLong());
+            long buildEnd = Math.max(finished, spans.stream().mapToLong(s -> s.end).max().getAsLong());
+            this.wallTime = buildEnd - buildStart;
+
+            // sweep the start and end events, an end sorts before a start at the same time
+            record Event(long time, boolean start, Span span) {
+            }
+            List<Event> events = new ArrayList<>(spans.size() * 2);
+            for (Span span : spans) {
+                events.add(new Event(span.start, true, span));
+                events.add(new Event(span.end, false, span));
+            }
+            events.sort(Comparator.comparingLong(Event::time).thenComparing(Event::start));
+            Set<Span> running = new HashSet<>();
+            long busy = 0;
+            long idle = 0;
+            long last = buildStart;
+            for (Event event : events) {
+                long length = event.time - last;
+                if (length > 0) {
+                    busy += length * running.size();
+                    idle += length * Math.max(0, processors - running.size());
+                    parallelism.merge(running.size(), length, Long::sum);
+                    if (running.size() == 1) {
+                        running.iterator().next().alone += length;
+                    }
+                }
+                last = event.time;
+                if (event.start) {
+                    running.add(event.span);
+                } else {
+                    running.remove(event.span);
+                }
+            }
+            if (buildEnd > last) {
+                idle += (buildEnd - last) * processors;
+                parallelism.merge(0, buildEnd - last, Long::sum);
+            }
+            this.busyTime = busy;
+            this.idleTime = idle;
+
+            // follow the dependency that finished last, from the step that finished last
+            Map<StepInfo, Span> byStep = new HashMap<>();
+            for (Span span : spans) {
+                byStep.put(span.stepInfo, span);
+            }
+            Map<Span, Span> lastDependency = new HashMap<>();
+            for (Span span : spans) {
+                for (StepInfo dependent : span.stepInfo.getDependents()) {
+                    Span dependentSpan = byStep.get(dependent);
+                    if (dependentSpan != null) {
+                        lastDependency.merge(dependentSpan, span, (a, b) -> a.end >= b.end ? a : b);
+                    }
+                }
+            }
+            Deque<Span> path = new ArrayDeque<>();
+            Span current = spans.stream().max(Comparator.comparingLong(s -> s.end)).get();
+            while (current != null) {
+                path.addFirst(current);
+                current = lastDependency.get(current);
+            }
+            criticalPath.addAll(path);
+
+            spans.stream()
+                    .filter(s -> s.alone > 0)
+                    .sorted(Comparator.comparingLong((Span s) -> s.alone).reversed())
+                    .limit(MAX_SERIALIZING_STEPS)
+                    .forEach(serializingSteps::add);
+        }
+
+        /**
+         * @return the duration of the build in ms
+         */
+        public long getWallTime() {
+            return millis(wallTime);
+        }
+
+        /**
+         * @return the time the processors spent running build steps, in ms
+         */
+        public long getBusyTime() {
+            return millis(busyTime);
+        }
+
+        /**
+         * @return the time the processors did not run any build step, in ms
+         */
+        public long getIdleTime() {
+            return millis(idleTime);
+        }
+
+        /**
+         * @return the sum of the durations of the steps of the critical path, in ms
+         */
+        public long getCriticalPathTime() {
+            return millis(criticalPath.stream().mapToLong(s -> s.end - s.start).sum());
+        }
+
+        /**
+         * @return the ids of the build steps of the critical path, in execution order
+         */
+        public List<String> getCriticalPath() {
+            return criticalPath.stream().map(Span::id).toList();
+        }
+
+        /**
+         * @return the ids of the build steps that ran while no other step was running, the longest first
+         */
+        public List<String> getSerializingSteps() {
+            return serializingSteps.stream().map(Span::id).toList();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Build used %.1f of %d processors on average, critical path of %d steps takes %d of %d ms",
+                    wallTime == 0 ? 0.0 : (double) busyTime / wallTime, processors, criticalPath.size(),
+                    getCriticalPathTime(), getWallTime());
+        }
+
+        /**
+         * Write this analysis to a JSON file.
+         */
+        public void dumpTo(Path file) throws IOException {
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
+                toJson().appendTo(writer);
+            }
+        }
+
+        JsonObjectBuilder toJson() {
+            JsonObjectBuilder json = Json.object();
+            json.put("processors", processors);
+            json.put("wallTime", getWallTime());
+            json.put("busyTime", getBusyTime());
+            json.put("idleTime", getIdleTime());
+            // in percent of the available processor time
+            json.put("utilization", wallTime == 0 ? 0 : busyTime * 100 / (wallTime * processors));
+
+            JsonArrayBuilder parallelismArray = Json.array();
+            for (Map.Entry<Integer, Long> e : parallelism.entrySet()) {
+                parallelismArray.add(Json.object()
+                        .put("runningSteps", e.getKey().intValue())
+                        .put("time", millis(e.getValue())));
+            }
+            json.put("parallelism", parallelismArray);
+
+            json.put("criticalPathTime", getCriticalPathTime());
+            JsonArrayBuilder pathArray = Json.array();
+            long previousEnd = criticalPath.get(0).start;
+            long origin = Math.min(started, previousEnd);
+            for (Span span : criticalPath) {
+                pathArray.add(Json.object()
+                        .put("stepId", span.id())
+                        .put("thread", span.thread)
+                        .put("started", millis(span.start - origin))
+                        .put("duration", millis(span.end - span.start))
+                        // the time between the completion of the dependency and the start of the step
+                        .put("waited", millis(Math.max(0, span.start - previousEnd))));
+                previousEnd = span.end;
+            }
+            json.put("criticalPath", pathArray);
+
+            JsonArrayBuilder serializingArray = Json.array();
+            for (Span span : serializingSteps) {
+                serializingArray.add(Json.object()
+                        .put("stepId", span.id())
+                        .put("duration", millis(span.end - span.start))
+                        .put("alone", millis(span.alone)));
+            }
+            json.put("serializingSteps", serializingArray);
+            return json;
+        }
+    }
+}
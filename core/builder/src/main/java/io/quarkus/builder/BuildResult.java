@@ -23,16 +23,19 @@ public final class BuildResult {
     private final List<Diagnostic> diagnostics;
     private final long nanos;
     private final BuildMetrics metrics;
+    private final BuildParallelism parallelism;
     private final ClassLoader deploymentClassLoader;
 
     BuildResult(final ConcurrentHashMap<ItemId, BuildItem> simpleItems,
             final MultiBuildItems multiItems, final Set<ItemId> finalIds,
-            final List<Diagnostic> diagnostics, final long nanos, BuildMetrics metrics, ClassLoader classLoader) {
+            final List<Diagnostic> diagnostics, final long nanos, BuildMetrics metrics, BuildParallelism parallelism,
+            ClassLoader classLoader) {
         this.simpleItems = simpleItems;
         this.multiItems = multiItems;
         this.diagnostics = diagnostics;
         this.nanos = nanos;
         this.metrics = metrics;
+        this.parallelism = parallelism;
         this.deploymentClassLoader = classLoader;
     }
 
@@ -113,6 +116,13 @@ public BuildMetrics getMetrics() {
         return metrics;
     }
 
+    /**
+     * @return the parallelism of the build
+     */
+    public BuildParallelism getParallelism() {
+        return parallelism;
+    }
+
     /**
      * Close all the resultant resources, logging any failures.
      */
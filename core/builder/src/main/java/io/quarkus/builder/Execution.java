@@ -40,6 +40,7 @@ final class Execution {
     private volatile boolean done;
 
     private final BuildMetrics metrics;
+    private final BuildParallelism parallelism;
 
     static {
         try {
@@ -71,6 +72,7 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+        parallelism = new BuildParallelism(availableProcessors);
     }
 
     private static int defineMaxPoolSize(final int availableProcessors, final int corePoolSize) {
@@ -100,6 +102,7 @@ void removeBuildContext(StepInfo stepInfo, BuildContext buildContext) {
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
         metrics.buildStarted();
+        parallelism.buildStarted(start);
         runningThread = Thread.currentThread();
 
         // run the build
@@ -150,8 +153,9 @@ BuildResult run() throws BuildException {
 
         long duration = max(0, System.nanoTime() - start);
         metrics.buildFinished(TimeUnit.NANOSECONDS.toMillis(duration));
+        parallelism.buildFinished(start + duration);
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                duration, metrics, chain.getClassLoader());
+                duration, metrics, parallelism, chain.getClassLoader());
     }
 
     EnhancedQueueExecutor getExecutor() {
@@ -186,6 +190,10 @@ BuildMetrics getMetrics() {
         return metrics;
     }
 
+    BuildParallelism getParallelism() {
+        return parallelism;
+    }
+
     void depFinished() {
         final int count = lastStepCount.decrementAndGet();
         log.tracef("End step completed; %d remaining", count);
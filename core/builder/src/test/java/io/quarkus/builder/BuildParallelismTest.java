@@ -0,0 +1,69 @@
+package io.quarkus.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildParallelismTest {
+
+    public static final class SlowItem extends SimpleBuildItem {
+    }
+
+    public static final class FastItem extends SimpleBuildItem {
+    }
+
+    public static final class FinalItem extends SimpleBuildItem {
+    }
+
+    @Test
+    public void testCriticalPath() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(step("slow", 200, context -> context.produce(new SlowItem())))
+                .produces(SlowItem.class)
+                .build();
+        builder.addBuildStep(step("fast", 10, context -> context.produce(new FastItem())))
+                .produces(FastItem.class)
+                .build();
+        builder.addBuildStep(step("final", 50, context -> {
+            context.consume(SlowItem.class);
+            context.consume(FastItem.class);
+            context.produce(new FinalItem());
+        }))
+                .consumes(SlowItem.class)
+                .consumes(FastItem.class)
+                .produces(FinalItem.class)
+                .build();
+        builder.addFinal(FinalItem.class);
+
+        BuildParallelism.Report report = builder.build().createExecutionBuilder("my-app.jar").execute()
+                .getParallelism().analyze();
+
+        assertThat(report).isNotNull();
+        assertThat(report.getCriticalPath()).containsExactly("slow", "final");
+        assertThat(report.getCriticalPathTime()).isGreaterThanOrEqualTo(250);
+        assertThat(report.getWallTime()).isGreaterThanOrEqualTo(report.getCriticalPathTime());
+        // the final step can only run alone, as can the slow step once the fast one is done
+        assertThat(report.getSerializingSteps()).containsExactly("slow", "final");
+    }
+
+    private static BuildStep step(String id, long sleep, BuildStep action) {
+        return new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                action.execute(context);
+            }
+
+            @Override
+            public String getId() {
+                return id;
+            }
+        };
+    }
+}
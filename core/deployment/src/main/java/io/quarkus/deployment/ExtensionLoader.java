@@ -822,7 +822,8 @@ public void execute(final BuildContext bc) {
                                     if (recordAnnotation.value() == ExecutionTime.STATIC_INIT) {
                                         bc.produce(new StaticBytecodeRecorderBuildItem(bri));
                                     } else {
-                                        bc.produce(new MainBytecodeRecorderBuildItem(bri));
+                                        bc.produce(new MainBytecodeRecorderBuildItem(bri, bc.getStepOrdinal(),
+                                                bc.getStepDependencies()));
                                     }
 
                                 }
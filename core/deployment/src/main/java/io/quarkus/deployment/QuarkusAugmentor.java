@@ -22,6 +22,7 @@
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
 import io.quarkus.builder.BuildMetrics;
+import io.quarkus.builder.BuildParallelism;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
@@ -193,6 +194,14 @@ public BuildResult run() throws Exception {
             if (targetDir != null) {
                 buildResult.getMetrics().dumpTo(targetDir.resolve("build-metrics.json"));
             }
+            // Analyze the critical path and the parallelism of the build unless disabled
+            BuildParallelism.Report parallelism = buildResult.getParallelism().analyze();
+            if (parallelism != null) {
+                log.debug(parallelism);
+                if (targetDir != null) {
+                    parallelism.dumpTo(targetDir.resolve("build-parallelism.json"));
+                }
+            }
 
             return buildResult;
         } finally {
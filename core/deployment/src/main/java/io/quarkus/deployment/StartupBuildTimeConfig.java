@@ -0,0 +1,25 @@
+package io.quarkus.deployment;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Startup
+ */
+@ConfigMapping(prefix = "quarkus.startup")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface StartupBuildTimeConfig {
+
+    /**
+     * Whether the runtime init startup tasks recorded by independent build steps run concurrently.
+     * <p>
+     * A startup task only waits for the tasks recorded by the build steps its own build step depends on, and for the
+     * tasks producing the values it consumes. Recorders that share state outside of build items or recorded values
+     * can break when this is enabled. The shutdown tasks registered by the startup tasks still run in the same order as
+     * when the startup tasks run sequentially.
+     */
+    @WithDefault("false")
+    boolean parallelTasks();
+}
@@ -1,5 +1,7 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.BitSet;
+
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 
@@ -16,15 +18,31 @@ public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
     private final String generatedStartupContextClassName;
+    private final int stepOrdinal;
+    private final BitSet stepDependencies;
 
     public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, -1, null);
+    }
+
+    /**
+     * @param bytecodeRecorder the recorder
+     * @param stepOrdinal the ordinal of the build step that recorded the bytecode
+     * @param stepDependencies the ordinals of the build steps the recording build step depends on
+     * @see io.quarkus.builder.BuildContext#getStepDependencies()
+     */
+    public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, int stepOrdinal, BitSet stepDependencies) {
         this.bytecodeRecorder = bytecodeRecorder;
         this.generatedStartupContextClassName = null;
+        this.stepOrdinal = stepOrdinal;
+        this.stepDependencies = stepDependencies;
     }
 
     public MainBytecodeRecorderBuildItem(String generatedStartupContextClassName) {
         this.generatedStartupContextClassName = generatedStartupContextClassName;
         this.bytecodeRecorder = null;
+        this.stepOrdinal = -1;
+        this.stepDependencies = null;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
@@ -34,4 +52,18 @@ public BytecodeRecorderImpl getBytecodeRecorder() {
     public String getGeneratedStartupContextClassName() {
         return generatedStartupContextClassName;
     }
+
+    /**
+     * @return the ordinal of the build step that recorded the bytecode, or {@code -1} if unknown
+     */
+    public int getStepOrdinal() {
+        return stepOrdinal;
+    }
+
+    /**
+     * @return the ordinals of the build steps the recording build step depends on, or {@code null} if unknown
+     */
+    public BitSet getStepDependencies() {
+        return stepDependencies;
+    }
 }
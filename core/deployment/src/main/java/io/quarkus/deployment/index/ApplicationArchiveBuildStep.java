@@ -35,6 +35,7 @@
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
@@ -117,13 +118,19 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfig indexCacheConfig,
+            BuildSystemTargetBuildItem buildSystemTarget) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        indexCache.persistent = indexCacheConfig.enabled()
+                ? new PersistentIndexCache(indexCacheConfig.directory()
+                        .orElseGet(() -> buildSystemTarget.getOutputDirectory().resolve("quarkus-index-cache")))
+                : null;
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources().entrySet()) {
@@ -290,7 +297,11 @@ private static void addMarkerFilePaths(List<String> applicationArchiveMarkers,
                         Index index = indexCache.cache.get(rootPath);
                         if (index == null) {
                             try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
+                                Set<String> removedResources = removed.get(dependencyKey);
+                                index = indexCache.persistent != null
+                                        ? indexCache.persistent.get(rootPath, removedResources,
+                                                () -> IndexingUtil.indexTree(tree, removedResources))
+                                        : IndexingUtil.indexTree(tree, removedResources);
                             } catch (IOException ioe) {
                                 throw new UncheckedIOException(ioe);
                             }
@@ -357,6 +368,9 @@ private static Index handleJarPath(Path path, IndexCache indexCache, Set<String>
             @Override
             public Index apply(Path path) {
                 try {
+                    if (indexCache.persistent != null) {
+                        return indexCache.persistent.get(path, removed, () -> IndexingUtil.indexJar(path, removed));
+                    }
                     return IndexingUtil.indexJar(path, removed);
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
@@ -368,8 +382,11 @@ public Index apply(Path path) {
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * If enabled, the indexes of the jars are also persisted between builds.
      */
     private static final class IndexCache {
         final Map<Path, Index> cache = new HashMap<>();
+        PersistentIndexCache persistent;
     }
 }
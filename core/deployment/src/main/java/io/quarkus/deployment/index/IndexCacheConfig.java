@@ -0,0 +1,34 @@
+package io.quarkus.deployment.index;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Index cache
+ */
+@ConfigMapping(prefix = "quarkus.index-cache")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface IndexCacheConfig {
+
+    /**
+     * Whether the Jandex indexes computed for the application dependencies are persisted between builds.
+     * <p>
+     * A dependency is only indexed again when its path, size or last modification time change, or when the version of
+     * Quarkus changes.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The directory where the indexes are persisted. Defaults to {@code quarkus-index-cache} in the build output directory.
+     * <p>
+     * Pointing it to a directory that is preserved between clean builds, for instance a directory cached by the CI system,
+     * allows the indexes to be reused across CI runs.
+     */
+    Optional<Path> directory();
+}
@@ -0,0 +1,108 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.Version;
+
+/**
+ * Persists the indexes of the dependency jars between builds.
+ * <p>
+ * An index is stored in a file named after a hash of the path, size and last modification time of the jar, of the
+ * resources removed from it and of the Quarkus version, so a changed jar is never matched with a stale index.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String SUFFIX = ".idx";
+
+    private final Path directory;
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the persisted index of the jar, or computes and persists it.
+     */
+    Index get(Path jar, Set<String> removed, Indexing indexing) throws IOException {
+        Path file;
+        try {
+            file = directory.resolve(key(jar, removed) + SUFFIX);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to compute the index cache key of %s", jar);
+            return indexing.index();
+        }
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                Index index = new IndexReader(in).read();
+                LOGGER.debugf("Using the cached index of %s", jar);
+                return index;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debugf(e, "Ignoring the invalid cached index %s of %s", file, jar);
+            }
+        }
+        Index index = indexing.index();
+        try {
+            Files.createDirectories(directory);
+            // write to a temporary file first, as the cache may be shared by concurrent builds
+            Path tmp = Files.createTempFile(directory, "index", ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tmp)) {
+                    new IndexWriter(out).write(index);
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to persist the index of %s", jar);
+        }
+        return index;
+    }
+
+    private static String key(Path jar, Set<String> removed) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, Version.getVersion());
+        update(digest, jar.toAbsolutePath().toString());
+        update(digest, Long.toString(Files.size(jar)));
+        update(digest, Long.toString(Files.getLastModifiedTime(jar).toMillis()));
+        if (removed != null) {
+            for (String resource : new TreeSet<>(removed)) {
+                update(digest, resource);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    interface Indexing {
+
+        Index index() throws IOException;
+    }
+}
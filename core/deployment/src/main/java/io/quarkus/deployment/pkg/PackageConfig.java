@@ -136,6 +136,34 @@ interface JarConfig {
         @WithDefault("true")
         boolean compress();
 
+        /**
+         * Whether the classes of the application and its dependencies should also be written to an uncompressed archive
+         * indexed at build time.
+         * At runtime, this archive is mapped into memory and the classes are defined directly from the mapping,
+         * instead of being read and inflated from the individual jars.
+         * This trades disk space for a faster class loading.
+         * <p>
+         * This setting only applies to the {@linkplain JarType#FAST_JAR fast-jar} and
+         * {@linkplain JarType#MUTABLE_JAR mutable-jar} output types.
+         */
+        @WithDefault("false")
+        boolean mappedClasses();
+
+        /**
+         * The class loading profile to package with the application.
+         * <p>
+         * The profile is recorded by a training run of the packaged application, started with the
+         * {@code quarkus.launch.class-loading-profile} system property set to the file to write, e.g.
+         * {@code java -Dquarkus.launch.class-loading-profile=class-loading-profile.txt -jar quarkus-run.jar}.
+         * It lists the classes loaded until the application is started, in order.
+         * The packaged application then loads these classes in the recorded order on background threads during startup,
+         * ahead of the main thread.
+         * <p>
+         * This setting only applies to the {@linkplain JarType#FAST_JAR fast-jar} and
+         * {@linkplain JarType#MUTABLE_JAR mutable-jar} output types.
+         */
+        Optional<Path> classLoadingProfile();
+
         /**
          * Files that should not be copied to the output artifact.
          */
@@ -2,8 +2,12 @@
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
@@ -55,7 +59,29 @@ public FastJarBuilder(CurateOutcomeBuildItem curateOutcome,
     @Override
     protected void writeSerializedApplication(OutputStream out, Path buildDir, List<Path> allJars, List<Path> sortedParentFirst)
             throws IOException {
-        SerializedApplication.write(out, mainClass.getClassName(), buildDir, allJars, sortedParentFirst);
+        SerializedApplication.write(out, mainClass.getClassName(), buildDir, allJars, sortedParentFirst,
+                packageConfig.jar().mappedClasses(), readClassLoadingProfile());
+    }
+
+    private List<String> readClassLoadingProfile() throws IOException {
+        Optional<Path> profile = packageConfig.jar().classLoadingProfile();
+        if (profile.isEmpty()) {
+            return List.of();
+        }
+        if (!Files.isRegularFile(profile.get())) {
+            // the profile is usually recorded from a previous build of the application
+            LOG.warnf("The class loading profile %s does not exist, the application will be packaged without it",
+                    profile.get());
+            return List.of();
+        }
+        List<String> classes = new ArrayList<>();
+        for (String line : Files.readAllLines(profile.get(), StandardCharsets.UTF_8)) {
+            String className = line.strip();
+            if (!className.isEmpty()) {
+                classes.add(className);
+            }
+        }
+        return classes;
     }
 
     @Override
@@ -149,6 +149,7 @@ public class BytecodeRecorderImpl implements RecorderContext {
     private final List<ObjectLoader> loaders = new ArrayList<>();
     private final Map<Class<?>, ConstantHolder<?>> constants = new HashMap<>();
     private final Set<Class> classesToUseRecordableConstructor = new HashSet<>();
+    private final Set<String> consumedProxyKeys = new HashSet<>();
     private final boolean useIdentityComparison;
 
     /**
@@ -239,6 +240,32 @@ public boolean isEmpty() {
         return storedMethodCalls.isEmpty();
     }
 
+    /**
+     * @return the keys of the proxies returned by the recorded invocations, whose values are put in the
+     *         {@link StartupContext} when the recorded bytecode runs
+     */
+    public Set<String> getProducedProxyKeys() {
+        Set<String> keys = new HashSet<>();
+        for (BytecodeInstruction instruction : storedMethodCalls) {
+            if (instruction instanceof StoredMethodCall call && call.proxyId != null) {
+                keys.add(call.proxyId);
+            } else if (instruction instanceof NewInstance newInstance) {
+                keys.add(newInstance.proxyId);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * The result is only complete once the bytecode is written.
+     *
+     * @return the keys of the proxies passed to the recorded invocations, whose values are read from the
+     *         {@link StartupContext} when the recorded bytecode runs
+     */
+    public Set<String> getConsumedProxyKeys() {
+        return consumedProxyKeys;
+    }
+
     @Override
     public <F, T> void registerSubstitution(Class<F> from, Class<T> to,
             Class<? extends ObjectSubstitution<? super F, ? super T>> substitution) {
@@ -753,6 +780,7 @@ ResultHandle doLoad(MethodContext context, MethodCreator method, ResultHandle ar
                         + " was created in a runtime recorder method, while this recorder is for a static init method. The object will not have been created at the time this method is run.");
             }
             String proxyId = rp.__returned$proxy$key();
+            consumedProxyKeys.add(proxyId);
             //because this is the result of a method invocation that may not have happened at param deserialization time
             //we just load it from the startup context
             return new DeferredParameter() {
@@ -7,12 +7,14 @@
 import java.io.File;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
@@ -35,6 +37,7 @@
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.StartupBuildTimeConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.AllowJNDIBuildItem;
@@ -87,6 +90,7 @@
 import io.quarkus.runtime.QuarkusApplication;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.StartupTasks;
 import io.quarkus.runtime.ValueRegistryImpl.ConfigRuntimeSource;
 import io.quarkus.runtime.annotations.QuarkusMain;
 import io.quarkus.runtime.configuration.ConfigUtils;
@@ -148,7 +152,8 @@ void build(
             ApplicationInfoBuildItem applicationInfo,
             List<AllowJNDIBuildItem> allowJNDIBuildItems,
             Optional<PreInitBuildItem> preInitBuildItem,
-            NamingConfig namingConfig) {
+            NamingConfig namingConfig,
+            StartupBuildTimeConfig startupConfig) {
 
         appClassNameProducer.produce(new ApplicationClassNameBuildItem(Application.APP_CLASS_NAME));
 
@@ -321,10 +326,15 @@ void build(
                     tryBlock.invokeStaticMethod(ofMethod(ConfigRuntimeSource.class, "runtimeSource", RuntimeSource.class)));
         }
 
-        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
-                    recordableConstructorBuildItems,
-                    loaders, constants, gizmoOutput, startupContext, tryBlock);
+        if (startupConfig.parallelTasks()) {
+            writeParallelRecordedBytecode(mainMethod, substitutions, recordableConstructorBuildItems, loaders, constants,
+                    gizmoOutput, startupContext, tryBlock);
+        } else {
+            for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+                writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(),
+                        substitutions, recordableConstructorBuildItems,
+                        loaders, constants, gizmoOutput, startupContext, tryBlock);
+            }
         }
 
         tryBlock.invokeStaticMethod(RUNTIME_EXECUTION_RUNNING);
@@ -529,10 +539,109 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
             GeneratedClassGizmoAdaptor gizmoOutput,
             ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
 
-        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+        String startupTaskClassName = writeStartupTask(recorder, fallbackGeneratedStartupTaskClassName, substitutions,
+                recordableConstructorBuildItems, loaders, constants, gizmoOutput);
+        if (startupTaskClassName == null) {
             return;
         }
 
+        ResultHandle dup = bytecodeCreator.newInstance(ofConstructor(startupTaskClassName));
+        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
+                startupContext);
+        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+    }
+
+    /**
+     * Writes the runtime init startup tasks, and deploys them with {@link StartupTasks} so that the tasks recorded by
+     * independent build steps run concurrently.
+     * <p>
+     * A task depends on the earlier tasks recorded by the build steps its own build step depends on, and on the earlier
+     * tasks returning proxies it consumes. A task without build step information depends on all the earlier tasks, and all
+     * the later tasks depend on it.
+     */
+    private void writeParallelRecordedBytecode(List<MainBytecodeRecorderBuildItem> mainMethod,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput,
+            ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
+
+        List<MainBytecodeRecorderBuildItem> holders = new ArrayList<>();
+        List<String> classNames = new ArrayList<>();
+        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+            String className = writeStartupTask(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(),
+                    substitutions, recordableConstructorBuildItems, loaders, constants, gizmoOutput);
+            if (className != null) {
+                holders.add(holder);
+                classNames.add(className);
+            }
+        }
+
+        // only keep the direct dependencies that are not implied by others
+        BitSet[] reachable = new BitSet[holders.size()];
+        StringBuilder dependencies = new StringBuilder();
+        for (int i = 0; i < holders.size(); i++) {
+            BitSet covered = new BitSet();
+            StringBuilder taskDependencies = new StringBuilder();
+            for (int j = i - 1; j >= 0; j--) {
+                if (!covered.get(j) && dependsOn(holders.get(i), holders.get(j))) {
+                    if (!taskDependencies.isEmpty()) {
+                        taskDependencies.append(',');
+                    }
+                    taskDependencies.append(j);
+                    covered.set(j);
+                    covered.or(reachable[j]);
+                }
+            }
+            reachable[i] = covered;
+            if (i > 0) {
+                dependencies.append(';');
+            }
+            dependencies.append(taskDependencies);
+        }
+
+        ResultHandle tasks = bytecodeCreator.newArray(StartupTask.class, classNames.size());
+        for (int i = 0; i < classNames.size(); i++) {
+            bytecodeCreator.writeArrayValue(tasks, i, bytecodeCreator.newInstance(ofConstructor(classNames.get(i))));
+        }
+        bytecodeCreator.invokeStaticMethod(
+                ofMethod(StartupTasks.class, "deploy", void.class, StartupContext.class, StartupTask[].class, String.class),
+                startupContext, tasks, bytecodeCreator.load(dependencies.toString()));
+    }
+
+    private static boolean dependsOn(MainBytecodeRecorderBuildItem task, MainBytecodeRecorderBuildItem previous) {
+        if (task.getBytecodeRecorder() == null || previous.getBytecodeRecorder() == null
+                || task.getStepDependencies() == null || previous.getStepOrdinal() < 0
+                || task.getStepOrdinal() == previous.getStepOrdinal()
+                || task.getStepDependencies().get(previous.getStepOrdinal())) {
+            return true;
+        }
+        Set<String> produced = previous.getBytecodeRecorder().getProducedProxyKeys();
+        for (String consumed : task.getBytecodeRecorder().getConsumedProxyKeys()) {
+            if (produced.contains(consumed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the startup task class of the recorder if needed.
+     *
+     * @return the name of the startup task class, or {@code null} if there is nothing to run
+     */
+    private String writeStartupTask(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput) {
+
+        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+            return null;
+        }
+
         if ((recorder != null) && !recorder.isEmpty()) {
             for (ObjectSubstitutionBuildItem sub : substitutions) {
                 sub.holder.registerTo(recorder);
@@ -550,12 +659,7 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
             }
             recorder.writeBytecode(gizmoOutput);
         }
-
-        ResultHandle dup = bytecodeCreator
-                .newInstance(ofConstructor(recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName));
-        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                startupContext);
-        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+        return recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName;
     }
 
     /**
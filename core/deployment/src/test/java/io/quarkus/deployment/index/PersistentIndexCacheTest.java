@@ -0,0 +1,56 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testIndexReused() throws IOException {
+        Path jar = Files.write(dir.resolve("dep.jar"), new byte[] { 1, 2, 3 });
+        AtomicInteger indexed = new AtomicInteger();
+        PersistentIndexCache.Indexing indexing = () -> {
+            indexed.incrementAndGet();
+            return Index.of(PersistentIndexCacheTest.class);
+        };
+
+        new PersistentIndexCache(dir.resolve("cache")).get(jar, null, indexing);
+        // a new build, with a new cache instance
+        Index index = new PersistentIndexCache(dir.resolve("cache")).get(jar, null, indexing);
+
+        assertEquals(1, indexed.get());
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class)));
+    }
+
+    @Test
+    public void testIndexInvalidated() throws IOException {
+        Path jar = Files.write(dir.resolve("dep.jar"), new byte[] { 1, 2, 3 });
+        AtomicInteger indexed = new AtomicInteger();
+        PersistentIndexCache.Indexing indexing = () -> {
+            indexed.incrementAndGet();
+            return Index.of(PersistentIndexCacheTest.class);
+        };
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve("cache"));
+
+        cache.get(jar, null, indexing);
+        cache.get(jar, Set.of("org/acme/Removed.class"), indexing);
+        Files.write(jar, new byte[] { 1, 2, 3, 4 });
+        cache.get(jar, null, indexing);
+
+        assertEquals(3, indexed.get());
+    }
+}
@@ -33,6 +33,11 @@ public interface BuilderConfig {
      */
     Metrics Metrics();
 
+    /**
+     * Build parallelism report configuration.
+     */
+    ParallelismReport parallelismReport();
+
     interface Metrics {
 
         /**
@@ -49,4 +54,15 @@ interface Metrics {
         boolean extendedCapture();
 
     }
+
+    interface ParallelismReport {
+
+        /**
+         * If set to true then the critical path, the idle processor time and the steps that serialize the build are
+         * computed for every build, and dumped to a JSON file in the build directory.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+    }
 }
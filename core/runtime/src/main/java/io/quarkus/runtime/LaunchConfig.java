@@ -1,5 +1,7 @@
 package io.quarkus.runtime;
 
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -17,4 +19,18 @@ public interface LaunchConfig {
      */
     @WithDefault("false")
     boolean rebuild();
+
+    /**
+     * If set, the {@code fast-jar} application records the classes loaded until it is started into this file, in order.
+     * This file can then be packaged with the application using the {@code quarkus.package.jar.class-loading-profile}
+     * build property.
+     */
+    Optional<String> classLoadingProfile();
+
+    /**
+     * If set to false, the classes of the class loading profile packaged with the application are not loaded in the
+     * background during startup.
+     */
+    @WithDefault("true")
+    boolean prefetchClasses();
 }
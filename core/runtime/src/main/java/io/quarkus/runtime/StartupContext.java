@@ -1,8 +1,10 @@
 package io.quarkus.runtime;
 
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Supplier;
@@ -18,19 +20,28 @@ public class StartupContext implements Closeable {
     // Holds values for returned proxies
     // These values are usually returned from recorder methods but can be also set explicitly
     // For example, the raw command line args and ShutdownContext are set when the StartupContext is created
+    // Access is synchronized as startup tasks may run concurrently, see StartupTasks
     private final Map<String, Object> values = new HashMap<>();
 
     private final Deque<Runnable> shutdownTasks = new ConcurrentLinkedDeque<>();
     private final Deque<Runnable> lastShutdownTasks = new ConcurrentLinkedDeque<>();
     private String[] commandLineArgs;
-    private String currentBuildStepName;
+    // Per thread as startup tasks may run concurrently
+    private final ThreadLocal<String> currentBuildStepName = new ThreadLocal<>();
+    // Set while a startup task runs concurrently, so that the shutdown tasks are added in the order of the startup tasks
+    private final ThreadLocal<RecordedShutdownTasks> recordedShutdownTasks = new ThreadLocal<>();
 
     public StartupContext() {
         ShutdownContext shutdownContext = new ShutdownContext() {
             @Override
             public void addShutdownTask(Runnable runnable) {
                 if (runnable != null) {
-                    shutdownTasks.addFirst(runnable);
+                    RecordedShutdownTasks recorded = recordedShutdownTasks.get();
+                    if (recorded != null) {
+                        recorded.tasks.add(runnable);
+                    } else {
+                        shutdownTasks.addFirst(runnable);
+                    }
                 } else {
                     throw new IllegalArgumentException("Extension passed an invalid shutdown handler");
                 }
@@ -39,7 +50,12 @@ public void addShutdownTask(Runnable runnable) {
             @Override
             public void addLastShutdownTask(Runnable runnable) {
                 if (runnable != null) {
-                    lastShutdownTasks.addFirst(runnable);
+                    RecordedShutdownTasks recorded = recordedShutdownTasks.get();
+                    if (recorded != null) {
+                        recorded.lastTasks.add(runnable);
+                    } else {
+                        lastShutdownTasks.addFirst(runnable);
+                    }
                 } else {
                     throw new IllegalArgumentException("Extension passed an invalid last shutdown handler");
                 }
@@ -58,18 +74,25 @@ public String[] get() {
     }
 
     public void putValue(String name, Object value) {
-        values.put(name, value);
+        synchronized (values) {
+            values.put(name, value);
+        }
     }
 
     public Object getValue(String name) {
-        return values.get(name);
+        synchronized (values) {
+            return values.get(name);
+        }
     }
 
     @Override
     public void close() {
         runAllAndClear(shutdownTasks);
         runAllAndClear(lastShutdownTasks);
-        values.clear();
+        synchronized (values) {
+            values.clear();
+        }
+        currentBuildStepName.remove();
     }
 
     private void runAllAndClear(Deque<Runnable> tasks) {
@@ -83,6 +106,31 @@ private void runAllAndClear(Deque<Runnable> tasks) {
         }
     }
 
+    /**
+     * The shutdown tasks added by the current thread are recorded in the given holder instead of being added directly.
+     *
+     * @param recorded the holder, or {@code null} to add the shutdown tasks directly again
+     */
+    void recordShutdownTasks(RecordedShutdownTasks recorded) {
+        if (recorded != null) {
+            recordedShutdownTasks.set(recorded);
+        } else {
+            recordedShutdownTasks.remove();
+        }
+    }
+
+    /**
+     * Adds the recorded shutdown tasks, as if they had been added directly.
+     */
+    void addShutdownTasks(RecordedShutdownTasks recorded) {
+        for (Runnable task : recorded.tasks) {
+            shutdownTasks.addFirst(task);
+        }
+        for (Runnable task : recorded.lastTasks) {
+            lastShutdownTasks.addFirst(task);
+        }
+    }
+
     @SuppressWarnings("unused")
     public void setCommandLineArguments(String[] commandLineArguments) {
         this.commandLineArgs = commandLineArguments;
@@ -90,11 +138,18 @@ public void setCommandLineArguments(String[] commandLineArguments) {
 
     @SuppressWarnings("unused")
     public String getCurrentBuildStepName() {
-        return currentBuildStepName;
+        return currentBuildStepName.get();
     }
 
     @SuppressWarnings("unused")
     public void setCurrentBuildStepName(String currentBuildStepName) {
-        this.currentBuildStepName = currentBuildStepName;
+        this.currentBuildStepName.set(currentBuildStepName);
+    }
+
+    static final class RecordedShutdownTasks {
+
+        final List<Runnable> tasks = new ArrayList<>();
+        final List<Runnable> lastTasks = new ArrayList<>();
+
     }
 }
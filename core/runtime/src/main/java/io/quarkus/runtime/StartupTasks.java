@@ -0,0 +1,158 @@
+package io.quarkus.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.runtime.util.StepTiming;
+
+/**
+ * Runs the runtime init {@link StartupTask}s concurrently, respecting the dependencies between them.
+ * <p>
+ * This is called from generated bytecode when {@code quarkus.startup.parallel-tasks} is enabled, and should not be used
+ * directly.
+ */
+public final class StartupTasks {
+
+    private final StartupContext context;
+    private final StartupTask[] tasks;
+    private final List<List<Integer>> dependents;
+    private final int[] remaining;
+    // The shutdown tasks added by each startup task
+    private final StartupContext.RecordedShutdownTasks[] shutdownTasks;
+    private final ExecutorService executor;
+    private int running;
+    private Throwable failure;
+
+    private StartupTasks(StartupContext context, StartupTask[] tasks, String dependencies, int threads) {
+        this.context = context;
+        this.tasks = tasks;
+        this.dependents = new ArrayList<>(tasks.length);
+        this.remaining = new int[tasks.length];
+        this.shutdownTasks = new StartupContext.RecordedShutdownTasks[tasks.length];
+        for (int i = 0; i < tasks.length; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        String[] perTask = dependencies.split(";", -1);
+        for (int i = 0; i < tasks.length; i++) {
+            if (i < perTask.length && !perTask[i].isEmpty()) {
+                for (String dependency : perTask[i].split(",")) {
+                    dependents.get(Integer.parseInt(dependency)).add(i);
+                    remaining[i]++;
+                }
+            }
+        }
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "quarkus-startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(tccl);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs the tasks and waits for them to complete. If a task fails, the tasks that have not started yet are not run,
+     * and the first failure is rethrown once the running tasks have completed.
+     * <p>
+     * The shutdown tasks are added to the context once the tasks have completed, in the order they would have been added
+     * if the tasks had run sequentially. Therefore, they also run in the same order at shutdown.
+     *
+     * @param context the startup context
+     * @param tasks the tasks, in an order in which they can run sequentially
+     * @param dependencies the indexes of the tasks each task depends on, separated by {@code ,} for a task and by {@code ;}
+     *        between tasks
+     */
+    public static void deploy(StartupContext context, StartupTask[] tasks, String dependencies) {
+        deploy(context, tasks, dependencies, Runtime.getRuntime().availableProcessors());
+    }
+
+    static void deploy(StartupContext context, StartupTask[] tasks, String dependencies, int maxThreads) {
+        int threads = Math.min(tasks.length, maxThreads);
+        if (threads <= 1) {
+            for (StartupTask task : tasks) {
+                task.deploy(context);
+                StepTiming.printStepTime(context);
+            }
+            return;
+        }
+        new StartupTasks(context, tasks, dependencies, threads).run();
+    }
+
+    private void run() {
+        try {
+            synchronized (this) {
+                for (int i = 0; i < tasks.length; i++) {
+                    if (remaining[i] == 0) {
+                        schedule(i);
+                    }
+                }
+                boolean interrupted = false;
+                while (running > 0) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // the running tasks cannot be abandoned
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (StartupContext.RecordedShutdownTasks recorded : shutdownTasks) {
+            if (recorded != null) {
+                context.addShutdownTasks(recorded);
+            }
+        }
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        } else if (failure instanceof Error e) {
+            throw e;
+        } else if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    private void schedule(int index) {
+        running++;
+        executor.execute(() -> runTask(index));
+    }
+
+    private void runTask(int index) {
+        Throwable taskFailure = null;
+        StartupContext.RecordedShutdownTasks recorded = new StartupContext.RecordedShutdownTasks();
+        context.recordShutdownTasks(recorded);
+        try {
+            long start = System.nanoTime();
+            tasks[index].deploy(context);
+            StepTiming.printStepTime(context, start);
+        } catch (Throwable t) {
+            taskFailure = t;
+        } finally {
+            context.recordShutdownTasks(null);
+        }
+        synchronized (this) {
+            running--;
+            shutdownTasks[index] = recorded;
+            if (taskFailure != null) {
+                if (failure == null) {
+                    failure = taskFailure;
+                }
+            } else if (failure == null) {
+                for (int dependent : dependents.get(index)) {
+                    if (--remaining[dependent] == 0) {
+                        schedule(dependent);
+                    }
+                }
+            }
+            notifyAll();
+        }
+    }
+}
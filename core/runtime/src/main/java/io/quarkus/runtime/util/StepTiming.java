@@ -34,6 +34,21 @@ public static void printStepTime(StartupContext startupContext) {
         stepTimingStart = System.nanoTime();
     }
 
+    /**
+     * Prints the time of a step that may run concurrently with other steps, and therefore measures from its own start
+     * instead of the end of the previous step.
+     */
+    public static void printStepTime(StartupContext startupContext, long stepStart) {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out.printf("%1$tF %1$tT,%1$tL Build step %2$s completed in: %3$sms on %4$s%n",
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
+                startupContext.getCurrentBuildStepName(),
+                duration(System.nanoTime(), stepStart),
+                Thread.currentThread().getName());
+    }
+
     private static long duration(long ended, long started) {
         return TimeUnit.MILLISECONDS.convert(ended - started, TimeUnit.NANOSECONDS);
     }
@@ -0,0 +1,183 @@
+package io.quarkus.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class StartupTasksTest {
+
+    private static final int THREADS = 4;
+
+    @Test
+    public void testDependencyOrder() {
+        List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        StartupTask[] tasks = new StartupTask[5];
+        for (int i = 0; i < tasks.length; i++) {
+            int index = i;
+            tasks[i] = context -> {
+                threads.add(Thread.currentThread().getName());
+                completed.add(index);
+            };
+        }
+        // 2 depends on 0 and 1, 3 depends on 2, 4 is independent
+        StartupTasks.deploy(new StartupContext(), tasks, ";;0,1;2;", THREADS);
+
+        assertThat(completed).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+        assertThat(completed.indexOf(2)).isGreaterThan(completed.indexOf(0)).isGreaterThan(completed.indexOf(1));
+        assertThat(completed.indexOf(3)).isGreaterThan(completed.indexOf(2));
+        assertThat(threads).allMatch(name -> name.startsWith("quarkus-startup-"));
+    }
+
+    @Test
+    public void testIndependentTasksRunConcurrently() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        StartupTask waiting = context -> {
+            started.countDown();
+            try {
+                // Only completes if the other task runs at the same time
+                assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        StartupTasks.deploy(new StartupContext(), new StartupTask[] { waiting, waiting }, ";", THREADS);
+        assertThat(started.getCount()).isZero();
+    }
+
+    @Test
+    public void testRuntimeValueBarrier() {
+        // Like the proxies of the recorded values, 1 reads the value returned by 0
+        StartupTask producer = context -> {
+            sleep();
+            context.putValue("proxykey1", new RuntimeValue<>("foo"));
+        };
+        List<Object> consumed = new ArrayList<>();
+        StartupTask consumer = context -> consumed.add(((RuntimeValue<?>) context.getValue("proxykey1")).getValue());
+        StartupTasks.deploy(new StartupContext(), new StartupTask[] { producer, consumer }, ";0", THREADS);
+        assertThat(consumed).containsExactly("foo");
+    }
+
+    @Test
+    public void testPreventFurtherSteps() {
+        AtomicInteger dependentRuns = new AtomicInteger();
+        StartupTask[] tasks = new StartupTask[] {
+                context -> {
+                    throw new PreventFurtherStepsException(42);
+                },
+                context -> dependentRuns.incrementAndGet()
+        };
+        assertThatThrownBy(() -> StartupTasks.deploy(new StartupContext(), tasks, ";0", THREADS))
+                .isInstanceOf(PreventFurtherStepsException.class)
+                .extracting(e -> ((PreventFurtherStepsException) e).getExitCode()).isEqualTo(42);
+        assertThat(dependentRuns).hasValue(0);
+    }
+
+    @Test
+    public void testFirstFailurePropagated() {
+        IllegalStateException first = new IllegalStateException("first");
+        CountDownLatch firstFailed = new CountDownLatch(1);
+        AtomicInteger dependentRuns = new AtomicInteger();
+        StartupTask[] tasks = new StartupTask[] {
+                context -> {
+                    try {
+                        throw first;
+                    } finally {
+                        firstFailed.countDown();
+                    }
+                },
+                context -> {
+                    try {
+                        firstFailed.await(10, TimeUnit.SECONDS);
+                        // Make sure the first failure has been recorded
+                        sleep();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    throw new IllegalArgumentException("second");
+                },
+                context -> dependentRuns.incrementAndGet()
+        };
+        assertThatThrownBy(() -> StartupTasks.deploy(new StartupContext(), tasks, ";;0,1", THREADS)).isSameAs(first);
+        assertThat(dependentRuns).hasValue(0);
+    }
+
+    @Test
+    public void testCheckedFailureWrapped() {
+        Exception checked = new Exception("checked");
+        StartupTask[] tasks = new StartupTask[] {
+                context -> sneakyThrow(checked),
+                context -> {
+                }
+        };
+        assertThatThrownBy(() -> StartupTasks.deploy(new StartupContext(), tasks, ";", THREADS))
+                .isInstanceOf(RuntimeException.class)
+                .hasCause(checked);
+    }
+
+    @Test
+    public void testShutdownTasksInRecordedOrder() {
+        List<String> shutdown = new ArrayList<>();
+        StartupTask[] tasks = new StartupTask[3];
+        for (int i = 0; i < tasks.length; i++) {
+            int index = i;
+            tasks[i] = context -> {
+                if (index == 0) {
+                    // Completes last
+                    sleep();
+                }
+                ShutdownContext shutdownContext = (ShutdownContext) context.getValue(ShutdownContext.class.getName());
+                shutdownContext.addShutdownTask(() -> shutdown.add(index + "a"));
+                shutdownContext.addShutdownTask(() -> shutdown.add(index + "b"));
+                shutdownContext.addLastShutdownTask(() -> shutdown.add(index + "last"));
+            };
+        }
+        StartupContext context = new StartupContext();
+        StartupTasks.deploy(context, tasks, ";;", THREADS);
+        context.close();
+
+        // The same order as if the tasks had run sequentially
+        assertThat(shutdown).containsExactly("2b", "2a", "1b", "1a", "0b", "0a", "2last", "1last", "0last");
+    }
+
+    @Test
+    public void testShutdownTasksOfCompletedTasksAddedOnFailure() {
+        List<String> shutdown = new ArrayList<>();
+        StartupTask[] tasks = new StartupTask[] {
+                context -> ((ShutdownContext) context.getValue(ShutdownContext.class.getName()))
+                        .addShutdownTask(() -> shutdown.add("0")),
+                context -> {
+                    throw new IllegalStateException();
+                }
+        };
+        StartupContext context = new StartupContext();
+        assertThatThrownBy(() -> StartupTasks.deploy(context, tasks, ";0", THREADS))
+                .isInstanceOf(IllegalStateException.class);
+        context.close();
+        assertThat(shutdown).containsExactly("0");
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> void sneakyThrow(Throwable t) throws T {
+        throw (T) t;
+    }
+
+}
@@ -0,0 +1,153 @@
+package io.quarkus.agroal.runtime;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.cache.ConnectionCache;
+import io.agroal.api.configuration.supplier.AgroalDataSourceConfigurationSupplier;
+import io.netty.util.concurrent.FastThreadLocalThread;
+
+/**
+ * Measures the cost of acquiring pooled connections from requests served by platform threads, as the Vert.x worker
+ * threads, and by virtual threads, as the {@code @RunOnVirtualThread} endpoints.
+ * <p>
+ * Every request acquires and releases a connection a few times, as a request running a few queries does. The JDBC driver
+ * is a stub, so only the pool and its connection cache are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkConnectionAcquisition {
+
+    private static final int REQUESTS = 1000;
+    private static final int QUERIES_PER_REQUEST = 4;
+
+    @Param({ "platform", "virtual" })
+    public String threads;
+
+    @Param({ "none", "quarkus" })
+    public String cache;
+
+    private AgroalDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        ConnectionCache connectionCache = cache.equals("none") ? ConnectionCache.none() : new QuarkusNettyConnectionCache();
+        dataSource = new io.agroal.pool.DataSource(new AgroalDataSourceConfigurationSupplier()
+                .connectionPoolConfiguration(pool -> pool
+                        .minSize(parallelism)
+                        .maxSize(parallelism)
+                        .connectionCache(connectionCache)
+                        .connectionFactoryConfiguration(factory -> factory
+                                .connectionProviderClass(StubDriver.class)
+                                .jdbcUrl("jdbc:stub:")))
+                .get());
+        executor = threads.equals("virtual") ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(parallelism, FastThreadLocalThread::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void requests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    for (int q = 0; q < QUERIES_PER_REQUEST; q++) {
+                        try (Connection connection = dataSource.getConnection()) {
+                            connection.getAutoCommit();
+                        }
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    /**
+     * A driver returning connections that do nothing.
+     */
+    public static class StubDriver implements Driver {
+
+        @Override
+        public Connection connect(String url, Properties info) {
+            return (Connection) Proxy.newProxyInstance(StubDriver.class.getClassLoader(), new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> {
+                        Class<?> type = method.getReturnType();
+                        if (type == boolean.class) {
+                            return method.getName().equals("isValid") || method.getName().equals("getAutoCommit");
+                        } else if (type == int.class) {
+                            return 0;
+                        }
+                        return null;
+                    });
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url.startsWith("jdbc:stub:");
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+    }
+}
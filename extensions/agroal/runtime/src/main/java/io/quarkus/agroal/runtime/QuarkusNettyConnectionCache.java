@@ -10,6 +10,7 @@
 class QuarkusNettyConnectionCache implements ConnectionCache {
 
     final FastThreadLocal<Acquirable> connectionCache = new FastThreadLocal<>();
+    final VirtualThreadConnectionCache virtualThreadCache = new VirtualThreadConnectionCache();
 
     @Override
     public Acquirable get() {
@@ -23,6 +24,9 @@ public Acquirable get() {
             Acquirable acquirable = connectionCache.get();
             return acquirable != null && acquirable.acquire() ? acquirable : null;
         }
+        if (VirtualThreadConnectionCache.isVirtual(thread)) {
+            return virtualThreadCache.get(thread);
+        }
         return null;
     }
 
@@ -31,11 +35,15 @@ public void put(Acquirable acquirable) {
         Thread thread = Thread.currentThread();
         if (thread instanceof FastThreadLocalThread || thread instanceof JBossThread) {
             connectionCache.set(acquirable);
+        } else if (VirtualThreadConnectionCache.isVirtual(thread)) {
+            virtualThreadCache.put(thread, acquirable);
         }
     }
 
     @Override
     public void reset() {
+        virtualThreadCache.reset();
+
         // Do our best to release memory. In fact `io.agroal.pool.ConnectionPool` calls
         // this method in `housingkeepingExecutor` thread only, so business threads still
         // hold references to `ConnectionHandler` objects.
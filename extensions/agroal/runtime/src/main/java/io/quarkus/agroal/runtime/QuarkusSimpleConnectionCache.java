@@ -8,6 +8,7 @@
 class QuarkusSimpleConnectionCache implements ConnectionCache {
 
     volatile ThreadLocal<Acquirable> connectionCache = new ThreadLocal<>();
+    final VirtualThreadConnectionCache virtualThreadCache = new VirtualThreadConnectionCache();
 
     @Override
     public Acquirable get() {
@@ -21,6 +22,9 @@ public Acquirable get() {
             Acquirable acquirable = connectionCache.get();
             return acquirable != null && acquirable.acquire() ? acquirable : null;
         }
+        if (VirtualThreadConnectionCache.isVirtual(thread)) {
+            return virtualThreadCache.get(thread);
+        }
         return null;
     }
 
@@ -29,11 +33,15 @@ public void put(Acquirable acquirable) {
         Thread thread = Thread.currentThread();
         if (thread instanceof JBossThread) {
             connectionCache.set(acquirable);
+        } else if (VirtualThreadConnectionCache.isVirtual(thread)) {
+            virtualThreadCache.put(thread, acquirable);
         }
     }
 
     @Override
     public void reset() {
+        virtualThreadCache.reset();
+
         connectionCache = new ThreadLocal<>();
     }
 }
@@ -0,0 +1,74 @@
+package io.quarkus.agroal.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.agroal.api.cache.Acquirable;
+
+/**
+ * Connection cache for virtual threads.
+ * <p>
+ * Virtual threads are not reused, so a thread local cache would never be hit and would keep the connections of every
+ * thread that ever ran. The connections are instead cached in a fixed number of slots, one per carrier thread the
+ * default scheduler may use, shared by the virtual threads. A virtual thread always uses the same slot, so it gets back
+ * the connection it released unless another thread acquired it in the meantime. Acquiring a cached connection is atomic,
+ * so a connection is never handed to two threads; a thread that loses the race simply falls back to the pool.
+ */
+final class VirtualThreadConnectionCache {
+
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+    private final AtomicReferenceArray<Acquirable> slots;
+    private final int mask;
+
+    VirtualThreadConnectionCache() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    VirtualThreadConnectionCache(int parallelism) {
+        int size = parallelism <= 1 ? 1 : Integer.highestOneBit(parallelism - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    Acquirable get(Thread thread) {
+        Acquirable acquirable = slots.get(slot(thread));
+        return acquirable != null && acquirable.acquire() ? acquirable : null;
+    }
+
+    void put(Thread thread, Acquirable acquirable) {
+        slots.set(slot(thread), acquirable);
+    }
+
+    void reset() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    private int slot(Thread thread) {
+        // thread ids are sequential, so the virtual threads are spread evenly across the slots
+        return (int) thread.getId() & mask;
+    }
+
+    static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.quarkus.agroal.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.agroal.api.cache.Acquirable;
+
+public class VirtualThreadConnectionCacheTest {
+
+    @Test
+    public void testSlotReusedByThread() {
+        VirtualThreadConnectionCache cache = new VirtualThreadConnectionCache(4);
+        Thread thread = new Thread(() -> {
+        });
+        assertNull(cache.get(thread));
+
+        TestConnection connection = new TestConnection();
+        cache.put(thread, connection);
+        assertSame(connection, cache.get(thread));
+        // The connection is in use until it is released
+        assertNull(cache.get(thread));
+
+        connection.release();
+        assertSame(connection, cache.get(thread));
+    }
+
+    @Test
+    public void testThreadsSharingSlot() {
+        VirtualThreadConnectionCache cache = new VirtualThreadConnectionCache(4);
+        // 4 slots, the slot of a thread is its id & 3
+        Thread first = new Thread(() -> {
+        });
+        Thread sameSlot = threadWithSlot(first.getId() & 3, 3);
+        Thread otherSlot = threadWithSlot((first.getId() + 1) & 3, 3);
+        assertNotEquals(first.getId(), sameSlot.getId());
+
+        TestConnection connection = new TestConnection();
+        cache.put(first, connection);
+        assertNull(cache.get(otherSlot));
+        // A released connection is handed to the next thread using the slot
+        assertSame(connection, cache.get(sameSlot));
+        // But never to two threads at the same time
+        assertNull(cache.get(first));
+
+        // The last released connection replaces the one cached in the slot
+        TestConnection other = new TestConnection();
+        cache.put(sameSlot, other);
+        assertSame(other, cache.get(first));
+        connection.release();
+        assertNull(cache.get(sameSlot));
+    }
+
+    @Test
+    public void testSizeRoundedToPowerOfTwo() {
+        // 3 is rounded to 4 slots
+        VirtualThreadConnectionCache cache = new VirtualThreadConnectionCache(3);
+        Thread first = new Thread(() -> {
+        });
+        TestConnection connection = new TestConnection();
+        cache.put(first, connection);
+        assertNull(cache.get(threadWithSlot((first.getId() + 2) & 3, 3)));
+        assertSame(connection, cache.get(threadWithSlot(first.getId() & 3, 3)));
+
+        // A single slot shared by all the threads
+        cache = new VirtualThreadConnectionCache(1);
+        cache.put(first, connection.release());
+        assertSame(connection, cache.get(threadWithSlot((first.getId() + 1) & 1, 1)));
+    }
+
+    @Test
+    public void testConcurrentAcquire() throws Exception {
+        int threads = 8;
+        int iterations = 10_000;
+        // All the threads use the same slot
+        VirtualThreadConnectionCache cache = new VirtualThreadConnectionCache(1);
+        Set<TestConnection> connections = ConcurrentHashMap.newKeySet();
+        AtomicInteger cacheHits = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    Thread thread = Thread.currentThread();
+                    for (int j = 0; j < iterations; j++) {
+                        TestConnection connection = (TestConnection) cache.get(thread);
+                        if (connection != null) {
+                            cacheHits.incrementAndGet();
+                        } else {
+                            // Acquired from the pool
+                            connection = new TestConnection();
+                            connection.acquire();
+                            connections.add(connection);
+                        }
+                        connection.use();
+                        cache.put(thread, connection.release());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                // Fails if a connection was used by two threads at the same time
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(cacheHits.get() > 0);
+        assertEquals(threads * iterations, cacheHits.get() + connections.size());
+    }
+
+    @Test
+    public void testReset() {
+        VirtualThreadConnectionCache cache = new VirtualThreadConnectionCache(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = threadWithSlot(i, 3);
+            threads.add(thread);
+            cache.put(thread, new TestConnection());
+        }
+        cache.reset();
+        for (Thread thread : threads) {
+            assertNull(cache.get(thread));
+        }
+    }
+
+    @Test
+    public void testPoolClosed() {
+        VirtualThreadConnectionCache cache = new VirtualThreadConnectionCache(4);
+        Thread thread = new Thread(() -> {
+        });
+        TestConnection connection = new TestConnection();
+        cache.put(thread, connection);
+
+        // The connections of a closed pool cannot be acquired anymore, even if the pool did not reset the cache
+        connection.close();
+        assertNull(cache.get(thread));
+        assertFalse(connection.checkedOut.get());
+
+        // The pool then resets the cache
+        cache.reset();
+        assertNull(cache.get(thread));
+    }
+
+    @Test
+    public void testPlatformThreadNotVirtual() {
+        assertFalse(VirtualThreadConnectionCache.isVirtual(Thread.currentThread()));
+    }
+
+    private static Thread threadWithSlot(long slot, int mask) {
+        while (true) {
+            Thread thread = new Thread(() -> {
+            });
+            if ((thread.getId() & mask) == slot) {
+                return thread;
+            }
+        }
+    }
+
+    /**
+     * Mimics the state transitions of {@code io.agroal.pool.ConnectionHandler}.
+     */
+    static final class TestConnection implements Acquirable {
+
+        final AtomicBoolean checkedOut = new AtomicBoolean();
+        final AtomicBoolean inUse = new AtomicBoolean();
+        volatile boolean closed;
+
+        @Override
+        public boolean acquire() {
+            return !closed && checkedOut.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean isAcquirable() {
+            return !closed;
+        }
+
+        void use() {
+            if (!checkedOut.get() || !inUse.compareAndSet(false, true)) {
+                throw new AssertionError("Connection acquired by two threads");
+            }
+            Thread.yield();
+            inUse.set(false);
+        }
+
+        TestConnection release() {
+            checkedOut.set(false);
+            return this;
+        }
+
+        void close() {
+            closed = true;
+        }
+    }
+}
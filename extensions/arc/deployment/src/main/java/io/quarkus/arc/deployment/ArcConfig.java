@@ -235,6 +235,25 @@ public enum OptimizeContexts {
         AUTO
     }
 
+    /**
+     * If set to {@code true}, the client proxy of an {@link jakarta.enterprise.context.ApplicationScoped} bean caches the
+     * bean instance once it is created, and the client proxy of a {@link jakarta.enterprise.context.RequestScoped} bean
+     * reads the instance directly from the request context if the contexts are optimized.
+     * <p>
+     * This removes the context lookup performed by every method invocation upon a client proxy.
+     */
+    @WithDefault("false")
+    boolean optimizeClientProxies();
+
+    /**
+     * If set to {@code true} and the contexts are optimized, the storage of a destroyed request context is reused by the
+     * next request context initialized on the same thread.
+     * <p>
+     * The storage is never reused if the request context was accessed from another thread.
+     */
+    @WithDefault("false")
+    boolean recycleRequestContexts();
+
     default boolean isRemoveUnusedBeansFieldValid() {
         return ALLOWED_REMOVE_UNUSED_BEANS_VALUES.contains(removeUnusedBeans().toLowerCase());
     }
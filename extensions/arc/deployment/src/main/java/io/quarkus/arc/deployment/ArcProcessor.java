@@ -414,6 +414,9 @@ public boolean test(BeanDeployment deployment) {
             }
         });
 
+        builder.setOptimizeClientProxies(arcConfig.optimizeClientProxies());
+        builder.setRecycleRequestContexts(arcConfig.recycleRequestContexts());
+
         BeanProcessor beanProcessor = builder.build();
         ContextRegistrar.RegistrationContext context = beanProcessor.registerCustomContexts();
         return new ContextRegistrationPhaseBuildItem(context, beanProcessor);
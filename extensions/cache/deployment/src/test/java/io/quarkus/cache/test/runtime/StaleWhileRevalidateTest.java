@@ -0,0 +1,140 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+
+public class StaleWhileRevalidateTest {
+
+    private static final String CACHE_NAME = "prices";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar.addClasses(PriceService.class, RequestData.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"prices\".expire-after-write", "1h");
+
+    @Inject
+    PriceService priceService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testStaleValueReturnedWhileRefreshing() throws InterruptedException {
+        assertEquals("a1", priceService.price("a"));
+        Thread.sleep(PriceService.REFRESH_AFTER + 50);
+
+        CountDownLatch refreshLatch = new CountDownLatch(1);
+        priceService.latch = refreshLatch;
+        try {
+            // The stale value is returned immediately while a single refresh is blocked
+            for (int i = 0; i < 10; i++) {
+                assertEquals("a1", priceService.price("a"));
+            }
+            await().until(() -> priceService.invocations.get() == 2);
+        } finally {
+            priceService.latch = null;
+            refreshLatch.countDown();
+        }
+        await().until(() -> priceService.price("a").equals("a2"));
+        assertEquals(2, priceService.invocations.get());
+        assertEquals(0, cache.as(CaffeineCacheImpl.class).getRefreshFailureCount());
+    }
+
+    @Test
+    public void testUniStaleValueReturnedWhileRefreshing() throws InterruptedException {
+        assertEquals("b1", priceService.asyncPrice("b").await().indefinitely());
+        assertEquals("b1", priceService.asyncPrice("b").await().indefinitely());
+        Thread.sleep(PriceService.REFRESH_AFTER + 50);
+
+        assertEquals("b1", priceService.asyncPrice("b").await().indefinitely());
+        await().until(() -> priceService.asyncPrice("b").await().indefinitely().equals("b2"));
+        assertEquals(2, priceService.asyncInvocations.get());
+    }
+
+    @Test
+    public void testRefreshAfterRequestEnded() throws InterruptedException {
+        CountDownLatch refreshLatch = new CountDownLatch(1);
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            assertEquals("r-c1", priceService.requestPrice("c"));
+            Thread.sleep(PriceService.REFRESH_AFTER + 50);
+            priceService.requestLatch = refreshLatch;
+            assertEquals("r-c1", priceService.requestPrice("c"));
+        } finally {
+            requestContext.terminate();
+        }
+        // The refresh uses a request scoped bean once the request context of the invocation is destroyed
+        refreshLatch.countDown();
+        await().until(() -> !priceService.requestPrice("c").equals("r-c1"));
+        assertEquals(0, cache.as(CaffeineCacheImpl.class).getRefreshFailureCount());
+    }
+
+    @ApplicationScoped
+    static class PriceService {
+
+        static final long REFRESH_AFTER = 200;
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final AtomicInteger asyncInvocations = new AtomicInteger();
+        final AtomicInteger requestInvocations = new AtomicInteger();
+        volatile CountDownLatch latch;
+        volatile CountDownLatch requestLatch;
+
+        @Inject
+        RequestData requestData;
+
+        @CacheResult(cacheName = CACHE_NAME, refreshAfter = REFRESH_AFTER)
+        public String price(String id) throws InterruptedException {
+            int invocation = invocations.incrementAndGet();
+            CountDownLatch latch = this.latch;
+            if (latch != null) {
+                latch.await();
+            }
+            return id + invocation;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME, refreshAfter = REFRESH_AFTER)
+        public Uni<String> asyncPrice(String id) {
+            return Uni.createFrom().item(() -> id + asyncInvocations.incrementAndGet());
+        }
+
+        @CacheResult(cacheName = CACHE_NAME, refreshAfter = REFRESH_AFTER)
+        public String requestPrice(String id) throws InterruptedException {
+            int invocation = requestInvocations.incrementAndGet();
+            CountDownLatch latch = this.requestLatch;
+            if (latch != null) {
+                latch.await();
+            }
+            return requestData.prefix() + id + invocation;
+        }
+    }
+
+    @RequestScoped
+    static class RequestData {
+
+        String prefix() {
+            return "r-";
+        }
+    }
+
+}
@@ -38,6 +38,10 @@
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * The {@code refreshAfter} parameter can be used to enable the stale-while-revalidate behavior. When a cached value is older
+ * than the given delay, it is still returned immediately while the method is invoked in the background to refresh the cached
+ * value. Concurrent invocations never trigger more than one refresh per key. See the parameter Javadoc for more details.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
@@ -63,6 +67,23 @@
     @Nonbinding
     long lockTimeout() default 0;
 
+    /**
+     * Delay in milliseconds after which a cached value is considered stale. A stale value is returned immediately and a
+     * single refresh of the value is started in the background, i.e. the method is invoked again on a worker thread if it
+     * returns a synchronous type or its asynchronous result is subscribed to otherwise. The refreshed value replaces the stale
+     * one unless the entry was invalidated in the meantime. If the refresh fails, the stale value is kept.
+     * <p>
+     * A synchronous method is invoked in a new request context, with the security identity and the other propagated contexts
+     * of the invocation that returned the stale value.
+     * <p>
+     * The value is still removed from the cache when the configured {@code expire-after-write} delay (the hard TTL) elapses,
+     * so this delay should be shorter. A value of {@code 0} (which is the default one) means that the values are never
+     * refreshed. This is only supported by the Caffeine backend and requires the {@code expire-after-write} configuration
+     * property to be set for the cache. Other backends ignore it.
+     */
+    @Nonbinding
+    long refreshAfter() default 0;
+
     /**
      * The {@link CacheKeyGenerator} implementation to use to generate a cache key.
      */
@@ -1,7 +1,11 @@
 package io.quarkus.cache.runtime;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
+import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractCache implements Cache {
 
@@ -27,4 +31,20 @@ public <T extends Cache> T as(Class<T> type) {
         }
     }
 
+    /**
+     * Refreshes the value associated with the given key in the background if the value was written more than
+     * {@code refreshAfter} ago. At most one refresh per key is running at a time. The refreshed value only replaces the
+     * current one if the entry was not invalidated or replaced in the meantime.
+     * <p>
+     * The default implementation does not support refreshing and always returns {@code false}.
+     *
+     * @param key cache key
+     * @param refreshAfter the age after which the value is stale
+     * @param valueLoader supplies the (lazy) computation of the new value
+     * @return {@code true} if a refresh was started
+     */
+    public boolean refreshIfStale(Object key, Duration refreshAfter, Supplier<Uni<?>> valueLoader) {
+        return false;
+    }
+
 }
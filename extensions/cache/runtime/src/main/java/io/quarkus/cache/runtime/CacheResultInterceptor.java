@@ -1,6 +1,7 @@
 package io.quarkus.cache.runtime;
 
 import java.time.Duration;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -16,6 +17,7 @@
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @CacheResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
 @Interceptor
@@ -66,6 +68,14 @@ public Uni<Object> apply(Object key) {
                         }
                     }
                 });
+                if (binding.refreshAfter() > 0) {
+                    cacheValue = cacheValue.invoke(new Runnable() {
+                        @Override
+                        public void run() {
+                            refreshIfStale(cache, key, binding, invocationContext, returnType);
+                        }
+                    });
+                }
 
                 if (binding.lockTimeout() <= 0) {
                     return createAsyncResult(cacheValue, returnType);
@@ -116,6 +126,9 @@ public Object apply(Object k) {
                         return invocationContext.proceed();
                     }
                 }
+                if (binding.refreshAfter() > 0) {
+                    refreshIfStale(cache, key, binding, invocationContext, returnType);
+                }
                 return value;
             }
 
@@ -128,4 +141,42 @@ public Object apply(Object k) {
         }
     }
 
+    private void refreshIfStale(AbstractCache cache, Object key, CacheResult binding, InvocationContext invocationContext,
+            ReturnType returnType) {
+        boolean refreshing = cache.refreshIfStale(key, Duration.ofMillis(binding.refreshAfter()), new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                if (returnType != ReturnType.NonAsync) {
+                    try {
+                        return asyncInvocationResultToUni(invocationContext.proceed(), returnType);
+                    } catch (Exception e) {
+                        return Uni.createFrom().failure(e);
+                    }
+                }
+                // The method may block, so it must not be invoked on the current thread
+                Callable<Object> refresh = RefreshContext.capture(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        return invocationContext.proceed();
+                    }
+                });
+                return Uni.createFrom().item(new Supplier<Object>() {
+                    @Override
+                    public Object get() {
+                        try {
+                            return refresh.call();
+                        } catch (RuntimeException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new CacheException(e);
+                        }
+                    }
+                }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+            }
+        });
+        if (refreshing) {
+            LOGGER.debugf("Refreshing stale entry with key [%s] from cache [%s]", key, binding.cacheName());
+        }
+    }
+
 }
@@ -0,0 +1,100 @@
+package io.quarkus.cache.runtime;
+
+import java.util.concurrent.Callable;
+
+import org.eclipse.microprofile.context.ThreadContext;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.security.identity.CurrentIdentityAssociation;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Captures the context of an invocation whose stale cached value is refreshed in the background.
+ * <p>
+ * The refresh of a method with a synchronous return type runs on a worker thread once the intercepted invocation has
+ * returned, when the request context of the invocation may already be destroyed. Therefore, all the contexts of the
+ * invocation are propagated except the CDI request context and the transaction, and the method is invoked in a new request
+ * context. The security identity of the invocation, if any, is associated with this request context.
+ */
+final class RefreshContext {
+
+    private static final boolean SECURITY_PRESENT = isSecurityPresent();
+
+    private static volatile ThreadContext threadContext;
+
+    private RefreshContext() {
+    }
+
+    /**
+     * Must be called on the thread of the intercepted invocation.
+     *
+     * @param task the invocation of the intercepted method
+     * @return the task to run on the worker thread
+     */
+    static <T> Callable<T> capture(Callable<T> task) {
+        Uni<SecurityIdentity> identity = SECURITY_PRESENT ? Identities.capture() : null;
+        return threadContext().contextualCallable(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                ManagedContext requestContext = Arc.container().requestContext();
+                requestContext.activate();
+                try {
+                    if (identity != null) {
+                        Identities.associate(identity);
+                    }
+                    return task.call();
+                } finally {
+                    requestContext.terminate();
+                }
+            }
+        });
+    }
+
+    private static ThreadContext threadContext() {
+        ThreadContext ret = threadContext;
+        if (ret == null) {
+            ret = ThreadContext.builder()
+                    .propagated(ThreadContext.ALL_REMAINING)
+                    .cleared(ThreadContext.CDI, ThreadContext.TRANSACTION)
+                    .unchanged()
+                    .build();
+            threadContext = ret;
+        }
+        return ret;
+    }
+
+    private static boolean isSecurityPresent() {
+        try {
+            Class.forName("io.quarkus.security.identity.CurrentIdentityAssociation", false,
+                    RefreshContext.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // Only loaded if the security API is present
+    private static final class Identities {
+
+        static Uni<SecurityIdentity> capture() {
+            if (!Arc.container().requestContext().isActive()) {
+                return null;
+            }
+            InstanceHandle<CurrentIdentityAssociation> association = Arc.container()
+                    .instance(CurrentIdentityAssociation.class);
+            return association.isAvailable() ? association.get().getDeferredIdentity() : null;
+        }
+
+        static void associate(Uni<SecurityIdentity> identity) {
+            InstanceHandle<CurrentIdentityAssociation> association = Arc.container()
+                    .instance(CurrentIdentityAssociation.class);
+            if (association.isAvailable()) {
+                association.get().setIdentity(identity);
+            }
+        }
+    }
+
+}
@@ -6,7 +6,10 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -44,6 +47,11 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    // The keys of the entries being refreshed in the background
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final LongAdder refreshSuccesses = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private volatile boolean refreshUnsupportedLogged;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -246,6 +254,85 @@ public Object apply(Object value) {
         });
     }
 
+    @Override
+    public boolean refreshIfStale(Object key, Duration refreshAfter, Supplier<Uni<?>> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        Optional<FixedExpiration<Object, Object>> expireAfterWrite = cache.synchronous().policy().expireAfterWrite();
+        if (expireAfterWrite.isEmpty()) {
+            if (!refreshUnsupportedLogged) {
+                LOGGER.warnf("Cached values of cache [%s] are never refreshed because the cache was not constructed with an "
+                        + "expire-after-write configuration value", cacheInfo.name);
+                refreshUnsupportedLogged = true;
+            }
+            return false;
+        }
+        Optional<Duration> age = expireAfterWrite.get().ageOf(key);
+        if (age.isEmpty() || age.get().compareTo(refreshAfter) < 0) {
+            return false;
+        }
+        // asMap().get() does not record stats
+        CompletableFuture<Object> staleValue = cache.asMap().get(key);
+        if (staleValue == null || !staleValue.isDone()
+                || staleValue.getNow(null) instanceof CaffeineComputationThrowable) {
+            return false;
+        }
+        if (!refreshing.add(key)) {
+            // Already being refreshed
+            return false;
+        }
+        LOGGER.tracef("Refreshing stale entry with key [%s] in cache [%s]", key, cacheInfo.name);
+        Uni<?> refresh;
+        try {
+            refresh = valueLoader.get();
+        } catch (Throwable t) {
+            refresh = Uni.createFrom().failure(t);
+        }
+        // The stale value is removed once the hard TTL elapses, a refresh that takes longer is useless
+        refresh = refresh.ifNoItem().after(expireAfterWrite.get().getExpiresAfter()).fail()
+                .onItem().invoke(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object value) {
+                        // An invalidated or replaced entry is not overwritten
+                        cache.asMap().replace(key, staleValue,
+                                CompletableFuture.completedFuture(NullValueConverter.toCacheValue(value)));
+                    }
+                })
+                .onTermination().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        // Also called if the refresh is cancelled
+                        refreshing.remove(key);
+                    }
+                });
+        refresh.subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object value) {
+                refreshSuccesses.increment();
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                refreshFailures.increment();
+                LOGGER.warnf(failure, "Unable to refresh the stale entry with key [%s] in cache [%s]", key, cacheInfo.name);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * @return the number of cache entries successfully refreshed in the background
+     */
+    public long getRefreshSuccessCount() {
+        return refreshSuccesses.sum();
+    }
+
+    /**
+     * @return the number of failed refreshes of cache entries
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
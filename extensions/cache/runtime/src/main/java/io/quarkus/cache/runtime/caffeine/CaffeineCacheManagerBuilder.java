@@ -56,6 +56,7 @@ public CacheManager get() {
                         CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics);
                         if (recordMetrics) {
                             metricsInitializer.recordMetrics(cache.cache, cacheInfo.name);
+                            metricsInitializer.recordRefreshMetrics(cache, cacheInfo.name);
                         } else if (cacheInfo.metricsEnabled) {
                             LOGGER.warnf(
                                     "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
@@ -29,6 +29,7 @@ public class HttpBinderProcessor {
 
     // JAX-RS, Servlet Filters
     static final String UNDERTOW_SERVLET_FILTER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderUndertowServletFilter";
+    static final String REST_RESPONSE_BUFFER_METRICS_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.RestResponseBufferMetrics";
 
     private static final String JAKARTA_REST_CLIENT_REQUEST_FILTER = "jakarta.ws.rs.client.ClientRequestFilter";
     private static final String RESTEASY_CLIENT_METRICS_FILTER = "io.quarkus.micrometer.runtime.binder.ResteasyClientMetricsFilter";
@@ -94,6 +95,11 @@ void enableHttpServerSupport(Capabilities capabilities,
                             .build());
             createAdditionalBean(additionalBeans, UNDERTOW_SERVLET_FILTER_CLASS_NAME);
         }
+
+        // Response sizes predicted for the REST endpoints
+        if (capabilities.isPresent(Capability.REST)) {
+            createAdditionalBean(additionalBeans, REST_RESPONSE_BUFFER_METRICS_CLASS_NAME);
+        }
     }
 
     @BuildStep(onlyIf = RestClientBinderEnabled.class)
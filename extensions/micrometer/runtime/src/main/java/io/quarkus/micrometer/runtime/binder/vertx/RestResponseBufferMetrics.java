@@ -0,0 +1,63 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ResponseSizePredictor;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+import org.jboss.resteasy.reactive.server.util.RuntimeResourceVisitor;
+
+import io.micrometer.core.instrument.BaseUnits;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.resteasy.reactive.server.runtime.ResteasyReactiveRecorder;
+
+/**
+ * Exposes, for each REST endpoint, the response size predicted by its {@link ResponseSizePredictor} along with the
+ * sizes of the responses actually written, when {@code quarkus.rest.adaptive-output-buffer-max-size} is set.
+ */
+@Singleton
+public class RestResponseBufferMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Deployment deployment = ResteasyReactiveRecorder.getCurrentDeployment();
+        if (deployment == null || deployment.getResteasyReactiveConfig().getMaxAdaptiveOutputBufferSize() == 0) {
+            return;
+        }
+        RuntimeResourceVisitor.visitRuntimeResources(deployment.getPrefix(), deployment.getClassMappers(),
+                new RuntimeResourceVisitor() {
+                    @Override
+                    public void visitRuntimeResource(String httpMethod, String fullPath, RuntimeResource runtimeResource) {
+                        ResponseSizePredictor predictor = runtimeResource.getResponseSizePredictor();
+                        Tags tags = Tags.of("method", httpMethod, "uri", fullPath);
+
+                        Gauge.builder("http.server.response.buffer.predicted", predictor,
+                                ResponseSizePredictor::predictedSize)
+                                .description("The size predicted for the next response of the endpoint")
+                                .baseUnit(BaseUnits.BYTES)
+                                .tags(tags)
+                                .register(registry);
+                        FunctionCounter.builder("http.server.response.buffer.written", predictor,
+                                ResponseSizePredictor::bytes)
+                                .description("The total size of the responses written by the endpoint")
+                                .baseUnit(BaseUnits.BYTES)
+                                .tags(tags)
+                                .register(registry);
+                        FunctionCounter.builder("http.server.response.buffer.responses", predictor,
+                                ResponseSizePredictor::responses)
+                                .description("The number of responses written by the endpoint")
+                                .tags(tags)
+                                .register(registry);
+                        FunctionCounter.builder("http.server.response.buffer.underestimated", predictor,
+                                ResponseSizePredictor::underestimated)
+                                .description("The number of responses larger than the size predicted for them")
+                                .tags(tags)
+                                .register(registry);
+                    }
+                });
+    }
+}
@@ -0,0 +1,26 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds a name of a generated {@link io.quarkus.qute.CompiledTemplate} class.
+ */
+public final class CompiledTemplateBuildItem extends MultiBuildItem {
+
+    private final String templatePath;
+    private final String className;
+
+    public CompiledTemplateBuildItem(String templatePath, String className) {
+        this.templatePath = templatePath;
+        this.className = className;
+    }
+
+    public String getTemplatePath() {
+        return templatePath;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
@@ -85,6 +85,7 @@
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.GeneratedClassGizmo2Adaptor;
+import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.IsLocalDevelopment;
 import io.quarkus.deployment.IsTest;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -149,6 +150,7 @@
 import io.quarkus.qute.deployment.TypeInfos.Info;
 import io.quarkus.qute.deployment.TypeInfos.TypeInfo;
 import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceExtensionMethodInfo;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.Param;
@@ -2777,16 +2779,63 @@ private String findDefaultVariant(QuteConfig config, List<String> variants) {
         return null;
     }
 
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void compileTemplates(QuteConfig config,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (!config.compileTemplates() || !incorrectExpressions.isEmpty()) {
+            return;
+        }
+        ClassOutput classOutput = new GeneratedClassGizmo2Adaptor(generatedClasses, generatedResources, true);
+        // Template extension methods are only applied by the parsed template
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(beanArchiveIndex.getIndex(), classOutput,
+                name -> templateExtensionMethods.stream().anyMatch(m -> !m.hasNamespace() && m.matchesName(name)));
+
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            if (analysis.id != null) {
+                // Message bundle templates are not compiled
+                continue;
+            }
+            Map<String, Type> parameters = new HashMap<>();
+            for (ParameterDeclaration declaration : analysis.parameterDeclarations) {
+                Type type = TypeInfos.resolveTypeFromTypeInfo(declaration.getTypeInfo());
+                if (type != null) {
+                    parameters.putIfAbsent(declaration.getKey(), type);
+                }
+            }
+            if (parameters.isEmpty()) {
+                // Not a type-safe template
+                continue;
+            }
+            String className = generator.generate(analysis.path, analysis.getTemplate(), parameters);
+            if (className != null) {
+                compiledTemplates.produce(new CompiledTemplateBuildItem(analysis.path, className));
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(className).build());
+            }
+        }
+        LOGGER.debugf("Generated %s compiled templates: %s", generator.getGeneratedTypes().size(),
+                generator.getGeneratedTypes());
+    }
+
     @BuildStep
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplates.stream().collect(Collectors.toMap(CompiledTemplateBuildItem::getTemplatePath,
+                        CompiledTemplateBuildItem::getClassName)));
     }
 
     @BuildStep
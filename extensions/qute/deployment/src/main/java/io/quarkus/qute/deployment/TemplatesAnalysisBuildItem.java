@@ -71,6 +71,15 @@ public List<TemplateNode> getNodes() {
             return template.getNodes();
         }
 
+        /**
+         *
+         * @return the parsed template
+         * @see io.quarkus.qute.generator.CompiledTemplateGenerator
+         */
+        Template getTemplate() {
+            return template;
+        }
+
         /**
          *
          * @return the collection of nodes that match the given predicate
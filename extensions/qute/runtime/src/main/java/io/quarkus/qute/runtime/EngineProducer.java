@@ -35,6 +35,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EngineBuilder.ParserConfigurator;
@@ -218,6 +219,11 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             }
             LOGGER.debugf("Added generated value resolver: %s", resolverClass);
         }
+        // Add compiled templates
+        for (Entry<String, String> e : context.getCompiledTemplateClasses().entrySet()) {
+            builder.addCompiledTemplate(e.getKey(), createCompiledTemplate(e.getValue()));
+            LOGGER.debugf("Added compiled template for %s: %s", e.getKey(), e.getValue());
+        }
         // Add tags
         for (String tag : context.getTags()) {
             // Strip suffix, item.html -> item
@@ -370,6 +376,20 @@ private Resolver createResolver(String resolverClassName) {
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClassName);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     private TemplateGlobalProvider createGlobalProvider(String initializerClassName) {
         try {
             Class<?> initializerClazz = Thread.currentThread()
@@ -109,6 +109,20 @@ public interface QuteConfig {
     @WithDefault("false")
     boolean altExprSyntax();
 
+    /**
+     * If set to `true` then the type-safe templates are compiled into Java classes during the build. A compiled template
+     * appends the static text directly and invokes the members of the declared parameter types without value resolvers. If a
+     * template cannot be rendered synchronously, e.g. a value does not match the declared type, the parsed template is
+     * rendered instead.
+     * <p>
+     * Only templates that consist of output expressions, `{#if}` sections with a single operand condition and
+     * `{#for}`/`{#each}` sections are compiled. Compiled templates are never used in the development mode.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean compileTemplates();
+
     /**
      * Development mode configuration.
      */
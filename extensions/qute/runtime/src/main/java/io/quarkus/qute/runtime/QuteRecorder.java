@@ -27,6 +27,7 @@ public Object get() {
 
                     volatile List<String> resolverClasses;
                     volatile List<String> templateGlobalProviderClasses;
+                    volatile Map<String, String> compiledTemplateClasses;
 
                     @Override
                     public Map<String, TemplateInfo> getTemplates() {
@@ -70,9 +71,19 @@ public Map<ParserConfig, Set<String>> getNonDefaultParserConfigs() {
                     }
 
                     @Override
-                    public void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses) {
+                    public Map<String, String> getCompiledTemplateClasses() {
+                        if (compiledTemplateClasses == null) {
+                            throw generatedClassesNotInitialized();
+                        }
+                        return compiledTemplateClasses;
+                    }
+
+                    @Override
+                    public void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+                            Map<String, String> compiledTemplateClasses) {
                         this.resolverClasses = resolverClasses;
                         this.templateGlobalProviderClasses = templateGlobalProviderClasses;
+                        this.compiledTemplateClasses = compiledTemplateClasses;
                     }
 
                     private IllegalStateException generatedClassesNotInitialized() {
@@ -84,9 +95,10 @@ private IllegalStateException generatedClassesNotInitialized() {
         };
     }
 
-    public void initializeGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses) {
+    public void initializeGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+            Map<String, String> compiledTemplateClasses) {
         QuteContext context = Arc.container().instance(QuteContext.class).get();
-        context.setGeneratedClasses(resolverClasses, templateGlobalProviderClasses);
+        context.setGeneratedClasses(resolverClasses, templateGlobalProviderClasses, compiledTemplateClasses);
     }
 
     public interface QuteContext {
@@ -99,6 +111,11 @@ public interface QuteContext {
 
         List<String> getTemplateGlobalProviderClasses();
 
+        /**
+         * @return the map of template paths to generated {@link io.quarkus.qute.CompiledTemplate} classes
+         */
+        Map<String, String> getCompiledTemplateClasses();
+
         Set<String> getTemplateRoots();
 
         List<String> getExcludePatterns();
@@ -114,8 +131,10 @@ public interface QuteContext {
          *
          * @param resolverClasses
          * @param templateGlobalProviderClasses
+         * @param compiledTemplateClasses
          */
-        void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses);
+        void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+                Map<String, String> compiledTemplateClasses);
 
         default List<String> getTags() {
             List<String> ret = new ArrayList<>();
@@ -34,6 +34,7 @@
 import io.quarkus.qute.Location;
 import io.quarkus.qute.ParameterDeclaration;
 import io.quarkus.qute.RenderedResults;
+import io.quarkus.qute.ResolvedTemplate;
 import io.quarkus.qute.ResultsCollectingTemplateInstance;
 import io.quarkus.qute.SectionNode;
 import io.quarkus.qute.Template;
@@ -396,6 +397,11 @@ public CompletionStage<Void> consume(Consumer<String> consumer) {
                 return templateInstance().consume(consumer);
             }
 
+            @Override
+            public CompletionStage<ResolvedTemplate> resolve() {
+                return templateInstance().resolve();
+            }
+
             @Override
             protected Engine engine() {
                 return engine;
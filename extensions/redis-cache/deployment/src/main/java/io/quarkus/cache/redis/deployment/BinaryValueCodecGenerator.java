@@ -0,0 +1,320 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.classDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.constructorDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.fieldDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.methodDescOf;
+
+import java.lang.constant.ClassDesc;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.RecordComponentInfo;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.redis.runtime.BinaryBeanAccessor;
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.gizmo2.Expr;
+import io.quarkus.gizmo2.Gizmo;
+import io.quarkus.gizmo2.LocalVar;
+import io.quarkus.gizmo2.ParamVar;
+import io.quarkus.gizmo2.creator.BlockCreator;
+import io.quarkus.gizmo2.desc.ConstructorDesc;
+
+/**
+ * Verifies that a cached value class can be encoded by the binary codec and generates the {@link BinaryBeanAccessor} of
+ * the class and of the classes of its properties.
+ */
+class BinaryValueCodecGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(BinaryValueCodecGenerator.class);
+
+    private static final Set<DotName> SIMPLE_TYPES = Set.of(DotName.createSimple(Boolean.class),
+            DotName.createSimple(Byte.class), DotName.createSimple(Short.class), DotName.createSimple(Character.class),
+            DotName.createSimple(Integer.class), DotName.createSimple(Long.class), DotName.createSimple(Float.class),
+            DotName.createSimple(Double.class), DotName.createSimple(String.class), DotName.createSimple(BigInteger.class),
+            DotName.createSimple(BigDecimal.class), DotName.createSimple(UUID.class), DotName.createSimple(Instant.class),
+            DotName.createSimple(LocalDate.class), DotName.createSimple(LocalDateTime.class));
+    private static final DotName LIST = DotName.createSimple(List.class);
+    private static final DotName SET = DotName.createSimple(Set.class);
+    private static final DotName MAP = DotName.createSimple(Map.class);
+
+    private final IndexView index;
+    private final Gizmo gizmo;
+    // The classes with a generated accessor
+    private final Map<DotName, List<Property>> beans = new LinkedHashMap<>();
+
+    BinaryValueCodecGenerator(IndexView index, ClassOutput classOutput) {
+        this.index = index;
+        this.gizmo = Gizmo.create(classOutput)
+                .withDebugInfo(false)
+                .withParameters(false);
+    }
+
+    /**
+     * @return the classes with a generated accessor and their properties
+     */
+    Map<DotName, List<Property>> getBeans() {
+        return beans;
+    }
+
+    /**
+     * Generates the accessors needed to encode the values of the given class.
+     *
+     * @param valueClass
+     * @return {@code true} if the values can be encoded by the binary codec
+     */
+    boolean generate(DotName valueClass) {
+        if (beans.containsKey(valueClass)) {
+            return true;
+        }
+        // The classes analyzed are only accepted if the value class is eligible, they may depend on it
+        Map<DotName, List<Property>> analyzed = new LinkedHashMap<>();
+        List<String> problems = new ArrayList<>();
+        if (!analyze(valueClass, analyzed, problems)) {
+            LOGGER.warnf("Binary codec cannot be used for %s, values are encoded as JSON: %s", valueClass,
+                    String.join(", ", problems));
+            return false;
+        }
+        for (Map.Entry<DotName, List<Property>> e : analyzed.entrySet()) {
+            if (beans.putIfAbsent(e.getKey(), e.getValue()) == null) {
+                generateAccessor(index.getClassByName(e.getKey()), e.getValue());
+            }
+        }
+        return true;
+    }
+
+    private boolean analyze(DotName name, Map<DotName, List<Property>> analyzed, List<String> problems) {
+        if (beans.containsKey(name) || analyzed.containsKey(name)) {
+            // Already verified or being verified
+            return true;
+        }
+        ClassInfo clazz = index.getClassByName(name);
+        if (clazz == null) {
+            problems.add(name + " is not indexed");
+            return false;
+        }
+        if (Modifier.isPrivate(clazz.flags()) || Modifier.isInterface(clazz.flags())
+                || Modifier.isAbstract(clazz.flags()) || !clazz.typeParameters().isEmpty()
+                || clazz.nestingType() == ClassInfo.NestingType.ANONYMOUS
+                || clazz.nestingType() == ClassInfo.NestingType.LOCAL
+                || (clazz.nestingType() == ClassInfo.NestingType.INNER && !Modifier.isStatic(clazz.flags()))) {
+            problems.add(name + " must be a non-private, non-abstract, non-generic top-level or static nested class");
+            return false;
+        }
+        List<Property> properties = clazz.isRecord() ? recordProperties(clazz) : beanProperties(clazz, problems);
+        if (properties == null) {
+            return false;
+        }
+        analyzed.put(name, properties);
+        boolean eligible = true;
+        for (Property property : properties) {
+            if (!isSupported(property.type(), analyzed, problems)) {
+                problems.add("unsupported type of " + name + "#" + property.name() + ": " + property.type());
+                eligible = false;
+            }
+        }
+        return eligible;
+    }
+
+    private List<Property> recordProperties(ClassInfo clazz) {
+        List<Property> properties = new ArrayList<>();
+        for (RecordComponentInfo component : clazz.recordComponentsInDeclarationOrder()) {
+            properties.add(new Property(component.name(), component.type(), component.accessor(), null));
+        }
+        return properties;
+    }
+
+    private List<Property> beanProperties(ClassInfo clazz, List<String> problems) {
+        MethodInfo constructor = clazz.method("<init>");
+        if (constructor == null || Modifier.isPrivate(constructor.flags())) {
+            problems.add(clazz.name() + " must declare a non-private no-args constructor");
+            return null;
+        }
+        List<Property> properties = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        ClassInfo current = clazz;
+        while (current != null && !DotName.OBJECT_NAME.equals(current.name())) {
+            for (FieldInfo field : current.fields()) {
+                if (Modifier.isStatic(field.flags()) || Modifier.isTransient(field.flags())) {
+                    continue;
+                }
+                if (!names.add(field.name())) {
+                    problems.add(clazz.name() + " declares multiple fields named " + field.name());
+                    return null;
+                }
+                AnnotationTarget getter = getter(current, field, clazz);
+                AnnotationTarget setter = setter(current, field, clazz);
+                if (getter == null || setter == null) {
+                    problems.add(field.declaringClass().name() + "#" + field.name()
+                            + " must be public or have an accessible getter and setter");
+                    return null;
+                }
+                properties.add(new Property(field.name(), field.type(), getter, setter));
+            }
+            DotName superName = current.superName();
+            current = superName != null ? index.getClassByName(superName) : null;
+            if (current == null && superName != null && !DotName.OBJECT_NAME.equals(superName)) {
+                problems.add(superName + " is not indexed");
+                return null;
+            }
+        }
+        return properties;
+    }
+
+    private AnnotationTarget getter(ClassInfo declaringClass, FieldInfo field, ClassInfo beanClass) {
+        String suffix = capitalize(field.name());
+        MethodInfo getter = declaringClass.method("get" + suffix);
+        if (getter == null && field.type().kind() == Type.Kind.PRIMITIVE
+                && field.type().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+            getter = declaringClass.method("is" + suffix);
+        }
+        if (getter != null && !Modifier.isStatic(getter.flags()) && getter.returnType().equals(field.type())
+                && isAccessible(getter.flags(), declaringClass, beanClass)) {
+            return getter;
+        }
+        return isAccessible(field.flags(), declaringClass, beanClass) ? field : null;
+    }
+
+    private AnnotationTarget setter(ClassInfo declaringClass, FieldInfo field, ClassInfo beanClass) {
+        MethodInfo setter = declaringClass.method("set" + capitalize(field.name()), field.type());
+        if (setter != null && !Modifier.isStatic(setter.flags()) && isAccessible(setter.flags(), declaringClass, beanClass)) {
+            return setter;
+        }
+        return !Modifier.isFinal(field.flags()) && isAccessible(field.flags(), declaringClass, beanClass) ? field : null;
+    }
+
+    private static boolean isAccessible(int flags, ClassInfo declaringClass, ClassInfo beanClass) {
+        // The accessor is generated in the package of the bean class
+        return Modifier.isPublic(flags)
+                || (!Modifier.isPrivate(flags) && declaringClass.name().packagePrefixName()
+                        .equals(beanClass.name().packagePrefixName()));
+    }
+
+    private boolean isSupported(Type type, Map<DotName, List<Property>> analyzed, List<String> problems) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+                return true;
+            case ARRAY:
+                return type.asArrayType().deepDimensions() == 1
+                        && type.asArrayType().elementType().kind() == Type.Kind.PRIMITIVE
+                        && type.asArrayType().elementType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BYTE;
+            case CLASS:
+                if (SIMPLE_TYPES.contains(type.name())) {
+                    return true;
+                }
+                ClassInfo clazz = index.getClassByName(type.name());
+                if (clazz != null && clazz.isEnum()) {
+                    return true;
+                }
+                return analyze(type.name(), analyzed, problems);
+            case PARAMETERIZED_TYPE:
+                List<Type> arguments = type.asParameterizedType().arguments();
+                if (type.asParameterizedType().owner() != null) {
+                    return false;
+                }
+                if (LIST.equals(type.name()) || SET.equals(type.name())) {
+                    return isSupported(arguments.get(0), analyzed, problems);
+                } else if (MAP.equals(type.name())) {
+                    return isSupported(arguments.get(0), analyzed, problems)
+                            && isSupported(arguments.get(1), analyzed, problems);
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private void generateAccessor(ClassInfo bean, List<Property> properties) {
+        ClassDesc beanDesc = classDescOf(bean);
+        gizmo.class_(bean.name().toString() + BinaryBeanAccessor.SUFFIX, cc -> {
+            cc.defaultConstructor();
+            cc.implements_(BinaryBeanAccessor.class);
+
+            cc.method("get", mc -> {
+                ParamVar beanParam = mc.parameter("bean", Object.class);
+                mc.returning(Object[].class);
+                mc.body(bc -> {
+                    LocalVar instance = bc.localVar("instance", bc.cast(beanParam, beanDesc));
+                    bc.return_(bc.newArray(Object.class, properties, property -> {
+                        Expr value = property.getter().kind() == AnnotationTarget.Kind.METHOD
+                                ? bc.invokeVirtual(methodDescOf(property.getter().asMethod()), instance)
+                                : bc.get(instance.field(fieldDescOf(property.getter().asField())));
+                        return property.type().kind() == Type.Kind.PRIMITIVE ? bc.box(value) : value;
+                    }));
+                });
+            });
+
+            cc.method("create", mc -> {
+                ParamVar valuesParam = mc.parameter("values", Object[].class);
+                mc.returning(Object.class);
+                mc.body(bc -> {
+                    if (bean.isRecord()) {
+                        List<Expr> args = new ArrayList<>(properties.size());
+                        for (int i = 0; i < properties.size(); i++) {
+                            args.add(value(bc, bc.get(valuesParam.elem(i)), properties.get(i).type()));
+                        }
+                        bc.return_(bc.new_(constructorDescOf(bean.canonicalRecordConstructor()), args));
+                    } else {
+                        LocalVar instance = bc.localVar("instance", bc.new_(ConstructorDesc.of(beanDesc)));
+                        for (int i = 0; i < properties.size(); i++) {
+                            Property property = properties.get(i);
+                            Expr value = value(bc, bc.get(valuesParam.elem(i)), property.type());
+                            if (property.setter().kind() == AnnotationTarget.Kind.METHOD) {
+                                bc.invokeVirtual(methodDescOf(property.setter().asMethod()), instance, value);
+                            } else {
+                                bc.set(instance.field(fieldDescOf(property.setter().asField())), value);
+                            }
+                        }
+                        bc.return_(instance);
+                    }
+                });
+            });
+        });
+    }
+
+    private static Expr value(BlockCreator bc, Expr element, Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            // Primitive values are never null
+            return bc.unbox(bc.cast(element, classDescOf(PrimitiveType.box(type.asPrimitiveType()))));
+        } else if (type.kind() == Type.Kind.ARRAY) {
+            return bc.cast(element, classDescOf(type));
+        }
+        return bc.cast(element, classDescOf(type.name()));
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * A property of a class encoded by the binary codec.
+     *
+     * @param name
+     * @param type
+     * @param getter a getter method, a record component accessor or a field
+     * @param setter a setter method, a field or {@code null} for a record component
+     */
+    record Property(String name, Type type, AnnotationTarget getter, AnnotationTarget setter) {
+    }
+
+}
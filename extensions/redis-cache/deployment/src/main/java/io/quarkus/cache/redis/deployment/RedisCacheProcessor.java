@@ -4,6 +4,7 @@
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,13 +28,17 @@
 import io.quarkus.cache.deployment.CacheDeploymentConstants;
 import io.quarkus.cache.deployment.CacheManagerInfoBuildItem;
 import io.quarkus.cache.deployment.CacheNamesBuildItem;
+import io.quarkus.cache.redis.runtime.BinaryBeanAccessor;
 import io.quarkus.cache.redis.runtime.RedisCacheBuildRecorder;
 import io.quarkus.cache.redis.runtime.RedisCacheBuildTimeConfig;
 import io.quarkus.cache.redis.runtime.RedisCachesBuildTimeConfig;
+import io.quarkus.deployment.GeneratedClassGizmo2Adaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.types.TypeParser;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
@@ -48,8 +53,8 @@ public class RedisCacheProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder) {
-        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier());
+    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder, ShutdownContextBuildItem shutdownContext) {
+        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier(shutdownContext));
     }
 
     @BuildStep
@@ -87,9 +92,80 @@ void determineKeyValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuild
         }
         recorder.setCacheKeyTypes(keyTypes);
 
+        Map<String, java.lang.reflect.Type> valueTypes = new HashMap<>();
+        for (Map.Entry<String, String> e : resolveValueTypes(combinedIndex, cacheNamesBuildItem, buildConfig).entrySet()) {
+            valueTypes.put(e.getKey(), TypeParser.parse(e.getValue()));
+        }
+        recorder.setCacheValueTypes(valueTypes);
+    }
+
+    @BuildStep
+    @Record(STATIC_INIT)
+    void generateBinaryCodecs(RedisCacheBuildRecorder recorder, CombinedIndexBuildItem combinedIndex,
+            CacheNamesBuildItem cacheNamesBuildItem, RedisCachesBuildTimeConfig buildConfig,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        List<String> binaryCodecCaches = new ArrayList<>();
+        for (String cacheName : cacheNamesBuildItem.getNames()) {
+            RedisCacheBuildTimeConfig namedBuildTimeConfig = buildConfig.cachesConfig().get(cacheName);
+            Optional<Boolean> binaryCodec = namedBuildTimeConfig != null && namedBuildTimeConfig.binaryCodec().isPresent()
+                    ? namedBuildTimeConfig.binaryCodec()
+                    : buildConfig.defaultConfig().binaryCodec();
+            if (binaryCodec.orElse(false)) {
+                binaryCodecCaches.add(cacheName);
+            }
+        }
+        if (binaryCodecCaches.isEmpty()) {
+            return;
+        }
+
+        // The accessors are application classes if the accessed classes are
+        BinaryValueCodecGenerator generator = new BinaryValueCodecGenerator(combinedIndex.getIndex(),
+                new GeneratedClassGizmo2Adaptor(generatedClasses, null, null,
+                        generated -> generated.substring(0, generated.length() - BinaryBeanAccessor.SUFFIX.length())));
+        Map<String, String> valueTypes = resolveValueTypes(combinedIndex, cacheNamesBuildItem, buildConfig);
+        for (String cacheName : binaryCodecCaches) {
+            Type valueType = Type.parse(valueTypes.get(cacheName));
+            if (valueType.kind() == Type.Kind.CLASS) {
+                generator.generate(valueType.name());
+            } else {
+                LOGGER.warnf("Binary codec cannot be used for the '%s' Redis cache, the value type %s is not a class",
+                        cacheName, valueType);
+            }
+        }
+        if (generator.getBeans().isEmpty()) {
+            return;
+        }
+
+        Map<String, List<String>> propertyNames = new HashMap<>();
+        Map<String, List<java.lang.reflect.Type>> propertyTypes = new HashMap<>();
+        List<String> accessors = new ArrayList<>();
+        for (Map.Entry<DotName, List<BinaryValueCodecGenerator.Property>> e : generator.getBeans().entrySet()) {
+            List<String> names = new ArrayList<>();
+            List<java.lang.reflect.Type> types = new ArrayList<>();
+            for (BinaryValueCodecGenerator.Property property : e.getValue()) {
+                names.add(property.name());
+                types.add(TypeParser.parse(typeToString(property.type())));
+            }
+            propertyNames.put(e.getKey().toString(), names);
+            propertyTypes.put(e.getKey().toString(), types);
+            accessors.add(e.getKey().toString() + BinaryBeanAccessor.SUFFIX);
+        }
+        recorder.setBinaryCodecProperties(propertyNames, propertyTypes);
+        reflectiveClasses.produce(ReflectiveClassBuildItem.builder(accessors.toArray(String[]::new))
+                .reason(getClass().getName())
+                .build());
+    }
+
+    /**
+     * @return the value type of each cache
+     * @throws DeploymentException if the value type of a cache cannot be determined
+     */
+    private static Map<String, String> resolveValueTypes(CombinedIndexBuildItem combinedIndex,
+            CacheNamesBuildItem cacheNamesBuildItem, RedisCachesBuildTimeConfig buildConfig) {
         Map<String, Type> resolvedValuesTypesFromAnnotations = valueTypesFromCacheResultAnnotation(combinedIndex);
 
-        Map<String, java.lang.reflect.Type> valueTypes = new HashMap<>();
+        Map<String, String> valueTypes = new HashMap<>();
         Optional<String> defaultValueType = buildConfig.defaultConfig().valueType();
         Set<String> cacheNames = cacheNamesBuildItem.getNames();
         for (String cacheName : cacheNames) {
@@ -111,14 +187,14 @@ void determineKeyValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuild
             }
 
             if (valueType != null) {
-                valueTypes.put(cacheName, TypeParser.parse(valueType));
+                valueTypes.put(cacheName, valueType);
             } else {
                 throw new DeploymentException("Unable to determine the value type for '" + cacheName
                         + "' Redis cache. An appropriate configuration value for 'quarkus.cache.redis." + cacheName
                         + ".value-type' needs to be set");
             }
         }
-        recorder.setCacheValueTypes(valueTypes);
+        return valueTypes;
     }
 
     private static Map<String, Type> valueTypesFromCacheResultAnnotation(CombinedIndexBuildItem combinedIndex) {
@@ -0,0 +1,129 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class BinaryCodecRedisCacheTest {
+
+    private static final String CACHE_NAME = "products";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(ProductService.class, Product.class, Variant.class))
+            .overrideConfigKey("quarkus.cache.redis.products.binary-codec", "true")
+            .overrideConfigKey("quarkus.cache.redis.products.compression", "deflate")
+            .overrideConfigKey("quarkus.cache.redis.products.compression-threshold", "256");
+
+    @Inject
+    ProductService productService;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @Test
+    public void testBinaryValue() {
+        int invocations = productService.invocations.get();
+        Product product = productService.product("small");
+        assertThat(productService.product("small")).isEqualTo(product);
+        assertThat(productService.invocations.get()).isEqualTo(invocations + 1);
+
+        byte[] stored = redisDataSource.value(byte[].class).get("cache:products:small");
+        // Binary format
+        assertThat(stored[0]).isEqualTo((byte) 0);
+        assertThat(stored[1]).isEqualTo((byte) 'B');
+    }
+
+    @Test
+    public void testCompressedValue() {
+        Product product = productService.product("large");
+        assertThat(productService.product("large")).isEqualTo(product);
+        assertThat(product.variants()).hasSize(100);
+
+        byte[] stored = redisDataSource.value(byte[].class).get("cache:products:large");
+        // Compressed binary format
+        assertThat(stored[0]).isEqualTo((byte) 0);
+        assertThat(stored[1]).isEqualTo((byte) 'Z');
+    }
+
+    @Test
+    public void testJsonValueStillReadable() {
+        redisDataSource.value(String.class).set("cache:products:legacy",
+                "{\"name\":\"legacy\",\"price\":1.5,\"variants\":[],\"attributes\":{}}");
+        int invocations = productService.invocations.get();
+        Product product = productService.product("legacy");
+        assertThat(product.name()).isEqualTo("legacy");
+        assertThat(product.price()).isEqualByComparingTo("1.5");
+        assertThat(productService.invocations.get()).isEqualTo(invocations);
+    }
+
+    @ApplicationScoped
+    public static class ProductService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Product product(String name) {
+            invocations.incrementAndGet();
+            int count = name.equals("large") ? 100 : 1;
+            List<Variant> variants = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Variant variant = new Variant();
+                variant.setCode("variant-" + i);
+                variant.setStock(i);
+                variants.add(variant);
+            }
+            return new Product(name, new BigDecimal("10.25"), variants, Map.of("color", "red"));
+        }
+    }
+
+    public record Product(String name, BigDecimal price, List<Variant> variants, Map<String, String> attributes) {
+    }
+
+    public static class Variant {
+
+        private String code;
+        private int stock;
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public int getStock() {
+            return stock;
+        }
+
+        public void setStock(int stock) {
+            this.stock = stock;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Variant other && code.equals(other.code) && stock == other.stock;
+        }
+
+        @Override
+        public int hashCode() {
+            return code.hashCode();
+        }
+    }
+
+}
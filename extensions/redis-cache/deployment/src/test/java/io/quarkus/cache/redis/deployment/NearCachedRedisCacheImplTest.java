@@ -0,0 +1,134 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.redis.runtime.NearCacheInvalidationListener;
+import io.quarkus.cache.redis.runtime.NearCachedRedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+
+class NearCachedRedisCacheImplTest {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Redis redis;
+
+    // Two listeners simulate two application instances
+    NearCacheInvalidationListener listener1;
+    NearCacheInvalidationListener listener2;
+
+    NearCachedRedisCacheImpl cache1;
+    NearCachedRedisCacheImpl cache2;
+
+    @BeforeEach
+    void start() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = Value.class;
+        info.nearCacheEnabled = true;
+        listener1 = new NearCacheInvalidationListener(vertx, redis);
+        listener2 = new NearCacheInvalidationListener(vertx, redis);
+        cache1 = new NearCachedRedisCacheImpl(info, new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED), listener1);
+        cache2 = new NearCachedRedisCacheImpl(info, new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED), listener2);
+        listener1.start();
+        listener2.start();
+        await().until(() -> listener1.isActive() && listener2.isActive());
+    }
+
+    @AfterEach
+    void stop() {
+        listener1.close();
+        listener2.close();
+        redis.send(Request.cmd(Command.FLUSHALL).arg("SYNC")).await().atMost(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void testHitsServedLocally() {
+        String k = UUID.randomUUID().toString();
+        Value value = cache1.get(k, key -> new Value("hello")).await().indefinitely();
+        assertThat(value.content).isEqualTo("hello");
+
+        Value first = cache2.get(k, key -> new Value("ignored")).await().indefinitely();
+        assertThat(first.content).isEqualTo("hello");
+        // The subsequent hits do not decode the value again
+        // Note that the invalidation message of the initial write may evict the first local entry
+        await().until(() -> cache2.get(k, key -> new Value("ignored")).await().indefinitely() == cache2
+                .get(k, key -> new Value("ignored")).await().indefinitely());
+        Value local = cache2.getOrNull(k, Value.class).await().indefinitely();
+        assertThat(cache2.getOrNull(k, Value.class).await().indefinitely()).isSameAs(local);
+    }
+
+    @Test
+    public void testInvalidationAcrossInstances() {
+        String k = UUID.randomUUID().toString();
+        cache1.put(k, new Value("hello")).await().indefinitely();
+        assertThat(cache2.getOrNull(k, Value.class).await().indefinitely().content).isEqualTo("hello");
+
+        // Modified by another instance
+        cache1.put(k, new Value("bonjour")).await().indefinitely();
+        await().until(() -> "bonjour".equals(cache2.getOrNull(k, Value.class).await().indefinitely().content));
+
+        // Modified outside of the cache
+        redis.send(Request.cmd(Command.DEL).arg("cache:near:" + k)).await().indefinitely();
+        await().until(() -> cache2.getOrNull(k, Value.class).await().indefinitely() == null);
+
+        // Invalidated by another instance
+        cache2.put(k, new Value("hola")).await().indefinitely();
+        assertThat(cache2.getOrNull(k, Value.class).await().indefinitely().content).isEqualTo("hola");
+        cache1.invalidateAll().await().indefinitely();
+        await().until(() -> cache2.getOrNull(k, Value.class).await().indefinitely() == null);
+    }
+
+    @Test
+    public void testLocalEntriesDiscardedWhenListenerClosed() {
+        String k = UUID.randomUUID().toString();
+        cache1.put(k, new Value("hello")).await().indefinitely();
+        await().until(() -> cache2.getOrNull(k, Value.class).await().indefinitely() == cache2
+                .getOrNull(k, Value.class).await().indefinitely());
+        Value first = cache2.getOrNull(k, Value.class).await().indefinitely();
+
+        listener2.close();
+        assertThat(listener2.isActive()).isFalse();
+        Value fromRedis = cache2.getOrNull(k, Value.class).await().indefinitely();
+        assertThat(fromRedis).isNotSameAs(first);
+        assertThat(fromRedis.content).isEqualTo("hello");
+    }
+
+    public static class Value {
+
+        public String content;
+
+        public Value() {
+        }
+
+        public Value(String content) {
+            this.content = content;
+        }
+
+    }
+
+}
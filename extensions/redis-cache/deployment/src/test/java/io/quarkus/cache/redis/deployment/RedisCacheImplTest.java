@@ -25,6 +25,7 @@
 
 import io.quarkus.cache.redis.runtime.RedisCacheImpl;
 import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.cache.redis.runtime.RedisCacheRuntimeConfig.Compression;
 import io.quarkus.test.QuarkusExtensionTest;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -202,6 +203,44 @@ public void testExpireAfterReadAndWrite() throws InterruptedException {
         await().until(() -> cache.getOrNull(k, String.class).await().indefinitely() == null);
     }
 
+    @Test
+    public void testRawValuesStartingWithHeaders() {
+        for (Compression compression : Compression.values()) {
+            RedisCacheInfo info = new RedisCacheInfo();
+            info.name = "foo";
+            info.valueType = byte[].class;
+            info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+            info.compression = compression;
+            info.compressionThreshold = 1;
+            RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+            // Like the compressed and binary headers
+            byte[] compressed = new byte[] { 0, 'Z', 1, 0, 0, 0, 42, 1, 2, 3 };
+            byte[] binary = new byte[] { 0, 'B', 1, 0, 0, 0, 42, 1, 2, 3 };
+            for (byte[] value : List.of(compressed, binary)) {
+                String k = UUID.randomUUID().toString();
+                assertThat(cache.get(k, s -> value).await().indefinitely()).isEqualTo(value);
+                assertThat(cache.getOrNull(k, byte[].class).await().indefinitely()).isEqualTo(value);
+            }
+        }
+    }
+
+    @Test
+    public void testStringValueStartingWithHeader() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.compression = Compression.DEFLATE;
+        info.compressionThreshold = 1;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        String k = UUID.randomUUID().toString();
+        String value = "\0Zhello world";
+        assertThat(cache.get(k, s -> value).await().indefinitely()).isEqualTo(value);
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo(value);
+    }
+
     @Test
     public void testManualInvalidation() {
         RedisCacheInfo info = new RedisCacheInfo();
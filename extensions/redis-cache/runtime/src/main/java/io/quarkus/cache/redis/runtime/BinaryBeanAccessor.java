@@ -0,0 +1,28 @@
+package io.quarkus.cache.redis.runtime;
+
+/**
+ * Reads and instantiates a cached value class without reflection. An implementation is generated at build time for each
+ * class encoded by the {@link BinaryValueCodec}.
+ * <p>
+ * This interface is an internal Quarkus cache API. Do not use it explicitly from your Quarkus application.
+ */
+public interface BinaryBeanAccessor {
+
+    /**
+     * The suffix of the name of a generated accessor, the prefix is the name of the accessed class.
+     */
+    String SUFFIX = "_RedisCacheBinaryAccessor";
+
+    /**
+     * @param bean
+     * @return the values of the properties, in the order of the schema recorded at build time; primitive values are boxed
+     */
+    Object[] get(Object bean);
+
+    /**
+     * @param values the values of the properties, in the order of the schema recorded at build time
+     * @return a new instance
+     */
+    Object create(Object[] values);
+
+}
@@ -0,0 +1,597 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Encodes the values of a class analyzed at build time in a compact binary format. The properties are read and written by
+ * a generated {@link BinaryBeanAccessor}, i.e. no reflection is involved.
+ * <p>
+ * The encoded value starts with a header that contains the fingerprint of the schema, i.e. of the names and types of the
+ * properties of all the encoded classes. A value encoded with a different schema, e.g. by a previous version of the
+ * application, cannot be decoded and {@code null} is returned instead.
+ */
+final class BinaryValueCodec {
+
+    static final byte MAGIC = 0;
+    static final byte FORMAT = 'B';
+    static final byte VERSION = 1;
+    static final int HEADER_LENGTH = 7;
+
+    private final Class<?> valueClass;
+    private final BeanCodec root;
+    private final int fingerprint;
+
+    private BinaryValueCodec(Class<?> valueClass, BeanCodec root, int fingerprint) {
+        this.valueClass = valueClass;
+        this.root = root;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     *
+     * @param valueClass
+     * @param propertyNames the names of the properties of the classes analyzed at build time
+     * @param propertyTypes the types of the properties of the classes analyzed at build time
+     * @return the codec or {@code null} if the given class was not analyzed at build time
+     */
+    static BinaryValueCodec create(Class<?> valueClass, Map<String, List<String>> propertyNames,
+            Map<String, List<Type>> propertyTypes) {
+        if (!propertyNames.containsKey(valueClass.getName())) {
+            return null;
+        }
+        Map<Class<?>, BeanCodec> beans = new HashMap<>();
+        StringBuilder schema = new StringBuilder();
+        BeanCodec root = beanCodec(valueClass, propertyNames, propertyTypes, beans, schema);
+        return new BinaryValueCodec(valueClass, root, schema.toString().hashCode());
+    }
+
+    static boolean isBinary(byte[] encoded) {
+        return encoded.length >= HEADER_LENGTH && encoded[0] == MAGIC && encoded[1] == FORMAT;
+    }
+
+    boolean canEncode(Object value) {
+        return value.getClass() == valueClass;
+    }
+
+    boolean canDecode(Type type) {
+        return type == valueClass;
+    }
+
+    byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(MAGIC);
+            out.writeByte(FORMAT);
+            out.writeByte(VERSION);
+            out.writeInt(fingerprint);
+            root.write(out, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param encoded
+     * @return the decoded value or {@code null} if the value was encoded with a different version of the schema
+     */
+    Object decode(byte[] encoded) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded));
+        try {
+            in.skipNBytes(2);
+            if (in.readByte() != VERSION || in.readInt() != fingerprint) {
+                return null;
+            }
+            return root.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BeanCodec beanCodec(Class<?> beanClass, Map<String, List<String>> propertyNames,
+            Map<String, List<Type>> propertyTypes, Map<Class<?>, BeanCodec> beans, StringBuilder schema) {
+        BeanCodec bean = beans.get(beanClass);
+        if (bean != null) {
+            return bean;
+        }
+        List<String> names = propertyNames.get(beanClass.getName());
+        List<Type> types = propertyTypes.get(beanClass.getName());
+        bean = new BeanCodec(newAccessor(beanClass), new PropertyCodec[types.size()]);
+        // Register first, a property may reference the class itself
+        beans.put(beanClass, bean);
+        schema.append(beanClass.getName()).append('{');
+        for (int i = 0; i < types.size(); i++) {
+            schema.append(names.get(i)).append(':').append(types.get(i).getTypeName()).append(';');
+        }
+        schema.append('}');
+        for (int i = 0; i < types.size(); i++) {
+            bean.properties[i] = propertyCodec(types.get(i), propertyNames, propertyTypes, beans, schema);
+        }
+        return bean;
+    }
+
+    private static BinaryBeanAccessor newAccessor(Class<?> beanClass) {
+        String accessorName = beanClass.getName() + BinaryBeanAccessor.SUFFIX;
+        try {
+            Class<?> accessorClass = Class.forName(accessorName, true,
+                    Thread.currentThread().getContextClassLoader());
+            return (BinaryBeanAccessor) accessorClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to instantiate the generated accessor " + accessorName, e);
+        }
+    }
+
+    private static PropertyCodec propertyCodec(Type type, Map<String, List<String>> propertyNames,
+            Map<String, List<Type>> propertyTypes, Map<Class<?>, BeanCodec> beans, StringBuilder schema) {
+        if (type instanceof Class<?> clazz) {
+            if (clazz.isPrimitive()) {
+                return primitiveCodec(clazz);
+            }
+            if (clazz == byte[].class) {
+                return new NullableCodec(BYTES);
+            }
+            if (clazz.isEnum()) {
+                return new NullableCodec(new EnumCodec(clazz));
+            }
+            PropertyCodec codec = SIMPLE_CODECS.get(clazz);
+            if (codec == null) {
+                codec = beanCodec(clazz, propertyNames, propertyTypes, beans, schema);
+            }
+            return new NullableCodec(codec);
+        } else if (type instanceof ParameterizedType parameterized) {
+            Type[] arguments = parameterized.getActualTypeArguments();
+            Type raw = parameterized.getRawType();
+            if (raw == List.class) {
+                return new NullableCodec(new CollectionCodec(false,
+                        propertyCodec(arguments[0], propertyNames, propertyTypes, beans, schema)));
+            } else if (raw == Set.class) {
+                return new NullableCodec(new CollectionCodec(true,
+                        propertyCodec(arguments[0], propertyNames, propertyTypes, beans, schema)));
+            } else if (raw == Map.class) {
+                return new NullableCodec(
+                        new MapCodec(propertyCodec(arguments[0], propertyNames, propertyTypes, beans, schema),
+                                propertyCodec(arguments[1], propertyNames, propertyTypes, beans, schema)));
+            }
+        }
+        // The eligibility is verified at build time
+        throw new IllegalStateException("Unsupported property type: " + type);
+    }
+
+    private static PropertyCodec primitiveCodec(Class<?> primitive) {
+        PropertyCodec codec = SIMPLE_CODECS.get(primitive);
+        if (codec == null) {
+            throw new IllegalStateException("Unsupported property type: " + primitive);
+        }
+        return codec;
+    }
+
+    private static void writeLength(DataOutputStream out, int value) throws IOException {
+        // Unsigned variable-length encoding, most of the lengths fit in a single byte
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        writeLength(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    interface PropertyCodec {
+
+        void write(DataOutputStream out, Object value) throws IOException;
+
+        Object read(DataInputStream in) throws IOException;
+
+    }
+
+    private static final PropertyCodec BYTES = new PropertyCodec() {
+
+        @Override
+        public void write(DataOutputStream out, Object value) throws IOException {
+            writeBytes(out, (byte[]) value);
+        }
+
+        @Override
+        public Object read(DataInputStream in) throws IOException {
+            return readBytes(in);
+        }
+    };
+
+    private static final Map<Class<?>, PropertyCodec> SIMPLE_CODECS = new HashMap<>();
+
+    static {
+        PropertyCodec booleanCodec = new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                out.writeBoolean((Boolean) value);
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return in.readBoolean();
+            }
+        };
+        SIMPLE_CODECS.put(boolean.class, booleanCodec);
+        SIMPLE_CODECS.put(Boolean.class, booleanCodec);
+        PropertyCodec byteCodec = new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                out.writeByte((Byte) value);
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return in.readByte();
+            }
+        };
+        SIMPLE_CODECS.put(byte.class, byteCodec);
+        SIMPLE_CODECS.put(Byte.class, byteCodec);
+        PropertyCodec shortCodec = new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                out.writeShort((Short) value);
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return in.readShort();
+            }
+        };
+        SIMPLE_CODECS.put(short.class, shortCodec);
+        SIMPLE_CODECS.put(Short.class, shortCodec);
+        PropertyCodec charCodec = new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                out.writeChar((Character) value);
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return in.readChar();
+            }
+        };
+        SIMPLE_CODECS.put(char.class, charCodec);
+        SIMPLE_CODECS.put(Character.class, charCodec);
+        PropertyCodec intCodec = new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                out.writeInt((Integer) value);
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return in.readInt();
+            }
+        };
+        SIMPLE_CODECS.put(int.class, intCodec);
+        SIMPLE_CODECS.put(Integer.class, intCodec);
+        PropertyCodec longCodec = new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                out.writeLong((Long) value);
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return in.readLong();
+            }
+        };
+        SIMPLE_CODECS.put(long.class, longCodec);
+        SIMPLE_CODECS.put(Long.class, longCodec);
+        PropertyCodec floatCodec = new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                out.writeFloat((Float) value);
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return in.readFloat();
+            }
+        };
+        SIMPLE_CODECS.put(float.class, floatCodec);
+        SIMPLE_CODECS.put(Float.class, floatCodec);
+        PropertyCodec doubleCodec = new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                out.writeDouble((Double) value);
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return in.readDouble();
+            }
+        };
+        SIMPLE_CODECS.put(double.class, doubleCodec);
+        SIMPLE_CODECS.put(Double.class, doubleCodec);
+        SIMPLE_CODECS.put(String.class, new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                writeString(out, (String) value);
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return readString(in);
+            }
+        });
+        SIMPLE_CODECS.put(BigInteger.class, new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                writeBytes(out, ((BigInteger) value).toByteArray());
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return new BigInteger(readBytes(in));
+            }
+        });
+        SIMPLE_CODECS.put(BigDecimal.class, new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                BigDecimal decimal = (BigDecimal) value;
+                out.writeInt(decimal.scale());
+                writeBytes(out, decimal.unscaledValue().toByteArray());
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+        });
+        SIMPLE_CODECS.put(UUID.class, new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                UUID uuid = (UUID) value;
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return new UUID(in.readLong(), in.readLong());
+            }
+        });
+        SIMPLE_CODECS.put(Instant.class, new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                Instant instant = (Instant) value;
+                out.writeLong(instant.getEpochSecond());
+                out.writeInt(instant.getNano());
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return Instant.ofEpochSecond(in.readLong(), in.readInt());
+            }
+        });
+        SIMPLE_CODECS.put(LocalDate.class, new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                out.writeLong(((LocalDate) value).toEpochDay());
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return LocalDate.ofEpochDay(in.readLong());
+            }
+        });
+        SIMPLE_CODECS.put(LocalDateTime.class, new PropertyCodec() {
+
+            @Override
+            public void write(DataOutputStream out, Object value) throws IOException {
+                LocalDateTime dateTime = (LocalDateTime) value;
+                out.writeLong(dateTime.toLocalDate().toEpochDay());
+                out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+            }
+
+            @Override
+            public Object read(DataInputStream in) throws IOException {
+                return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+            }
+        });
+    }
+
+    private static final class NullableCodec implements PropertyCodec {
+
+        private final PropertyCodec delegate;
+
+        NullableCodec(PropertyCodec delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(DataOutputStream out, Object value) throws IOException {
+            if (value == null) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                delegate.write(out, value);
+            }
+        }
+
+        @Override
+        public Object read(DataInputStream in) throws IOException {
+            return in.readBoolean() ? delegate.read(in) : null;
+        }
+    }
+
+    private static final class EnumCodec implements PropertyCodec {
+
+        private final Class<?> enumClass;
+
+        EnumCodec(Class<?> enumClass) {
+            this.enumClass = enumClass;
+        }
+
+        @Override
+        public void write(DataOutputStream out, Object value) throws IOException {
+            // The name is used so that the constants can be reordered
+            writeString(out, ((Enum<?>) value).name());
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        public Object read(DataInputStream in) throws IOException {
+            return Enum.valueOf((Class) enumClass, readString(in));
+        }
+    }
+
+    private static final class CollectionCodec implements PropertyCodec {
+
+        private final boolean set;
+        private final PropertyCodec element;
+
+        CollectionCodec(boolean set, PropertyCodec element) {
+            this.set = set;
+            this.element = element;
+        }
+
+        @Override
+        public void write(DataOutputStream out, Object value) throws IOException {
+            Collection<?> collection = (Collection<?>) value;
+            writeLength(out, collection.size());
+            for (Object e : collection) {
+                element.write(out, e);
+            }
+        }
+
+        @Override
+        public Object read(DataInputStream in) throws IOException {
+            int size = readLength(in);
+            Collection<Object> collection = set ? new LinkedHashSet<>((int) (size / 0.75f) + 1) : new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                collection.add(element.read(in));
+            }
+            return collection;
+        }
+    }
+
+    private static final class MapCodec implements PropertyCodec {
+
+        private final PropertyCodec key;
+        private final PropertyCodec value;
+
+        MapCodec(PropertyCodec key, PropertyCodec value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public void write(DataOutputStream out, Object value) throws IOException {
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeLength(out, map.size());
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                this.key.write(out, e.getKey());
+                this.value.write(out, e.getValue());
+            }
+        }
+
+        @Override
+        public Object read(DataInputStream in) throws IOException {
+            int size = readLength(in);
+            Map<Object, Object> map = new LinkedHashMap<>((int) (size / 0.75f) + 1);
+            for (int i = 0; i < size; i++) {
+                map.put(key.read(in), value.read(in));
+            }
+            return map;
+        }
+    }
+
+    private static final class BeanCodec implements PropertyCodec {
+
+        private final BinaryBeanAccessor accessor;
+        private final PropertyCodec[] properties;
+
+        BeanCodec(BinaryBeanAccessor accessor, PropertyCodec[] properties) {
+            this.accessor = accessor;
+            this.properties = properties;
+        }
+
+        @Override
+        public void write(DataOutputStream out, Object value) throws IOException {
+            Object[] values = accessor.get(value);
+            for (int i = 0; i < properties.length; i++) {
+                properties[i].write(out, values[i]);
+            }
+        }
+
+        @Override
+        public Object read(DataInputStream in) throws IOException {
+            Object[] values = new Object[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                values[i] = properties[i].read(in);
+            }
+            return accessor.create(values);
+        }
+    }
+
+}
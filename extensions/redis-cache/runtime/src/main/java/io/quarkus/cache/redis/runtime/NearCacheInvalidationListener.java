@@ -0,0 +1,288 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * Receives the invalidation messages of the Redis server-assisted client side caching and evicts the stale entries of the
+ * registered {@link NearCachedRedisCacheImpl near caches}.
+ * <p>
+ * The tracking is enabled in the broadcasting mode for the key prefixes of all the registered caches and the invalidation
+ * messages are redirected to a dedicated connection subscribed to the {@value #INVALIDATION_CHANNEL} channel. Therefore,
+ * only two connections are used no matter how many near caches are registered. The near caches are bypassed unless both
+ * connections are established. If any of the connections is lost, all the near caches are cleared and the connections are
+ * re-established.
+ * <p>
+ * Only the standalone Redis client type is supported. With the other client types the key space is distributed or
+ * replicated across several nodes, and the tracking would only be enabled on the node the tracking connection is
+ * established with.
+ * <p>
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application.
+ */
+public class NearCacheInvalidationListener {
+
+    private static final Logger log = Logger.getLogger(NearCacheInvalidationListener.class);
+
+    static final String INVALIDATION_CHANNEL = "__redis__:invalidate";
+
+    private static final Duration INITIAL_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final Vertx vertx;
+    private final Redis redis;
+    private final List<NearCachedRedisCacheImpl> caches = new CopyOnWriteArrayList<>();
+
+    private volatile boolean active;
+    private volatile boolean closed;
+    // Incremented whenever the near caches are cleared because the invalidation messages might have been lost
+    private volatile long epoch;
+
+    // Guarded by this
+    private RedisConnection subscriber;
+    private RedisConnection tracker;
+    private long generation;
+    private boolean reconnectScheduled;
+    private long retryDelay = INITIAL_RETRY_DELAY.toMillis();
+    private boolean failureLogged;
+
+    public NearCacheInvalidationListener(Vertx vertx, Redis redis) {
+        this.vertx = vertx;
+        this.redis = redis;
+    }
+
+    /**
+     * Registers the given cache. All the caches must be registered before the listener is started.
+     */
+    void register(NearCachedRedisCacheImpl cache) {
+        caches.add(cache);
+    }
+
+    /**
+     * @return {@code true} if the invalidation messages are received, i.e. the near caches can be used
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return the current epoch, to be passed to {@link #isActiveSince(long)}
+     */
+    long epoch() {
+        return epoch;
+    }
+
+    /**
+     * @return {@code true} if the listener is active and the near caches have not been cleared since the given epoch
+     */
+    boolean isActiveSince(long epoch) {
+        return active && this.epoch == epoch;
+    }
+
+    public void start() {
+        if (caches.isEmpty()) {
+            return;
+        }
+        connect();
+    }
+
+    public void close() {
+        closed = true;
+        deactivate();
+    }
+
+    private void connect() {
+        long generation;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            reconnectScheduled = false;
+            // The events of the connections from previous attempts are ignored
+            generation = ++this.generation;
+        }
+        redis.connect()
+                .chain(new Function<RedisConnection, Uni<Long>>() {
+                    @Override
+                    public Uni<Long> apply(RedisConnection connection) {
+                        setSubscriber(generation, connection);
+                        connection.handler(NearCacheInvalidationListener.this::handleMessage);
+                        connection.exceptionHandler(failure -> connectionFailed(generation, failure));
+                        connection.endHandler(() -> connectionClosed(generation));
+                        return connection.send(Request.cmd(Command.CLIENT).arg("ID"))
+                                .chain(id -> connection.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATION_CHANNEL))
+                                        .replaceWith(id.toLong()));
+                    }
+                })
+                .chain(new Function<Long, Uni<Response>>() {
+                    @Override
+                    public Uni<Response> apply(Long subscriberId) {
+                        return redis.connect().chain(connection -> {
+                            setTracker(generation, connection);
+                            connection.exceptionHandler(failure -> connectionFailed(generation, failure));
+                            connection.endHandler(() -> connectionClosed(generation));
+                            Request tracking = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                                    .arg("REDIRECT").arg(subscriberId).arg("BCAST");
+                            for (String prefix : prefixes()) {
+                                tracking.arg("PREFIX").arg(prefix);
+                            }
+                            return connection.send(tracking);
+                        });
+                    }
+                })
+                .subscribe().with(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response ignored) {
+                        activated(generation);
+                    }
+                }, failure -> connectionFailed(generation, failure));
+    }
+
+    private Set<String> prefixes() {
+        Set<String> prefixes = new LinkedHashSet<>();
+        for (NearCachedRedisCacheImpl cache : caches) {
+            prefixes.add(cache.getTrackingPrefix());
+        }
+        return prefixes;
+    }
+
+    private void handleMessage(Response message) {
+        if (message == null || message.size() < 3 || !"message".equalsIgnoreCase(message.get(0).toString())
+                || !INVALIDATION_CHANNEL.equals(message.get(1).toString())) {
+            return;
+        }
+        Response keys = message.get(2);
+        if (keys == null) {
+            // The whole database was flushed
+            clearAll();
+        } else if (keys.type() == ResponseType.MULTI) {
+            for (Response key : keys) {
+                invalidate(key.toString());
+            }
+        } else {
+            invalidate(keys.toString());
+        }
+    }
+
+    private void invalidate(String key) {
+        for (NearCachedRedisCacheImpl cache : caches) {
+            cache.invalidateLocal(key);
+        }
+    }
+
+    private void clearAll() {
+        for (NearCachedRedisCacheImpl cache : caches) {
+            cache.invalidateAllLocal();
+        }
+    }
+
+    private synchronized void setSubscriber(long generation, RedisConnection connection) {
+        if (closed || generation != this.generation) {
+            // The subsequent commands fail and the failure is ignored
+            closeQuietly(connection);
+        } else {
+            subscriber = connection;
+        }
+    }
+
+    private synchronized void setTracker(long generation, RedisConnection connection) {
+        if (closed || generation != this.generation) {
+            closeQuietly(connection);
+        } else {
+            tracker = connection;
+        }
+    }
+
+    private synchronized void activated(long generation) {
+        if (closed || generation != this.generation) {
+            return;
+        }
+        active = true;
+        retryDelay = INITIAL_RETRY_DELAY.toMillis();
+        failureLogged = false;
+        log.debugf("Near cache invalidation enabled for the key prefixes %s", prefixes());
+    }
+
+    private void connectionFailed(long generation, Throwable failure) {
+        synchronized (this) {
+            if (closed || generation != this.generation) {
+                return;
+            }
+            if (!failureLogged) {
+                log.warnf(failure, "Unable to receive the near cache invalidation messages, the near caches are bypassed");
+                failureLogged = true;
+            } else {
+                log.debugf(failure, "Unable to receive the near cache invalidation messages");
+            }
+        }
+        reconnect(generation);
+    }
+
+    private void connectionClosed(long generation) {
+        reconnect(generation);
+    }
+
+    private void reconnect(long generation) {
+        long delay;
+        synchronized (this) {
+            if (closed || generation != this.generation || reconnectScheduled) {
+                return;
+            }
+            deactivate();
+            reconnectScheduled = true;
+            delay = retryDelay;
+            retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY.toMillis());
+        }
+        try {
+            vertx.setTimer(delay, new Consumer<Long>() {
+                @Override
+                public void accept(Long timerId) {
+                    connect();
+                }
+            });
+        } catch (RuntimeException e) {
+            // Vert.x is being closed
+            log.debugf(e, "Unable to schedule the reconnection of the near cache invalidation connections");
+        }
+    }
+
+    /**
+     * Closes the connections and clears the near caches.
+     */
+    private synchronized void deactivate() {
+        // Stop serving the local entries first, the invalidation messages might have been lost
+        active = false;
+        // The reads started before are not stored locally
+        epoch++;
+        clearAll();
+        if (subscriber != null) {
+            closeQuietly(subscriber);
+            subscriber = null;
+        }
+        if (tracker != null) {
+            closeQuietly(tracker);
+            tracker = null;
+        }
+    }
+
+    private static void closeQuietly(RedisConnection connection) {
+        connection.close().subscribe().with(ignored -> {
+        }, failure -> log.debugf(failure, "Unable to close the near cache invalidation connection"));
+    }
+
+}
@@ -0,0 +1,236 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A two-tier cache: the hits are served from a bounded local Caffeine cache and Redis is only accessed on a local miss.
+ * <p>
+ * A local entry is only created when a value is read from Redis. Writes and invalidations always go to Redis and remove
+ * the local entry. The local entries modified, expired or evicted in Redis by any node are removed when the
+ * {@link NearCacheInvalidationListener} receives the invalidation message. The local cache is bypassed if the listener is
+ * not active.
+ * <p>
+ * If an invalidation message is received while a value is being read from Redis, the value is not stored locally. Each
+ * read places a unique token in the local cache before the value is requested and the token is only replaced with the
+ * value if it was not removed in the meantime. Likewise, the value is not kept if the near caches were cleared by the
+ * listener while it was read.
+ * <p>
+ * This class is an internal Quarkus cache implementation using Redis.
+ * Do not use it explicitly from your Quarkus application.
+ */
+public class NearCachedRedisCacheImpl extends AbstractCache implements RedisCache {
+
+    private final RedisCacheImpl delegate;
+    private final NearCacheInvalidationListener listener;
+    private final String trackingPrefix;
+    // Values are either LocalEntry or a token of a pending read
+    private final ConcurrentMap<String, Object> entries;
+
+    public NearCachedRedisCacheImpl(RedisCacheInfo cacheInfo, RedisCacheImpl delegate,
+            NearCacheInvalidationListener listener) {
+        this.delegate = delegate;
+        this.listener = listener;
+        this.trackingPrefix = delegate.getKeyPrefix() + ":";
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize);
+        Optional<Duration> expireAfterWrite = cacheInfo.nearCacheExpireAfterWrite.or(() -> cacheInfo.expireAfterWrite);
+        if (expireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(expireAfterWrite.get());
+        }
+        this.entries = builder.<String, Object> build().asMap();
+        listener.register(this);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return delegate.getDefaultKey();
+    }
+
+    @Override
+    public Class<?> getDefaultValueType() {
+        return delegate.getDefaultValueType();
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return cached(key, delegate.getValueType(), () -> delegate.get(key, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
+        return cached(key, clazz, () -> delegate.get(key, clazz, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader) {
+        return cached(key, type.getType(), () -> delegate.get(key, type, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return cached(key, delegate.getValueType(), () -> delegate.getAsync(key, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
+        return cached(key, clazz, () -> delegate.getAsync(key, clazz, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader) {
+        return cached(key, type.getType(), () -> delegate.getAsync(key, type, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
+        return this.<K, V> getOrNull(key).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, Class<V> clazz, V defaultValue) {
+        return getOrNull(key, clazz).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
+        return getOrNull(key, type).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key) {
+        return cached(key, delegate.getValueType(), () -> delegate.getOrNull(key));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
+        return cached(key, clazz, () -> delegate.getOrNull(key, clazz));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
+        return cached(key, type.getType(), () -> delegate.getOrNull(key, type));
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, V value) {
+        return evicting(key, delegate.put(key, value));
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
+        return evicting(key, delegate.put(key, supplier));
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        return evicting(key, delegate.invalidate(key));
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return delegate.invalidateAll().onTermination().invoke(this::invalidateAllLocal);
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return delegate.invalidateIf(predicate).onTermination().invoke(this::invalidateAllLocal);
+    }
+
+    String getTrackingPrefix() {
+        return trackingPrefix;
+    }
+
+    /**
+     * Removes the local entry, or the token of a pending read, for the given Redis key.
+     */
+    void invalidateLocal(String redisKey) {
+        if (redisKey.startsWith(trackingPrefix)) {
+            entries.remove(redisKey);
+        }
+    }
+
+    void invalidateAllLocal() {
+        entries.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> Uni<V> cached(K key, Type type, Supplier<Uni<V>> remote) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                long epoch = listener.epoch();
+                if (!listener.isActive()) {
+                    return remote.get();
+                }
+                String redisKey = redisKey(key);
+                Object current = entries.get(redisKey);
+                if (current instanceof LocalEntry entry) {
+                    if (Objects.equals(entry.type, type)) {
+                        return Uni.createFrom().item((V) entry.value);
+                    }
+                    // The value was read as a different type
+                    return remote.get();
+                }
+                Object token = new Object();
+                if (current != null || entries.putIfAbsent(redisKey, token) != null) {
+                    // Another read is pending
+                    return remote.get();
+                }
+                if (!listener.isActiveSince(epoch)) {
+                    // The near caches were cleared before the token was stored
+                    entries.remove(redisKey, token);
+                    return remote.get();
+                }
+                return remote.get().onTermination().invoke((value, failure, cancelled) -> {
+                    if (value != null) {
+                        LocalEntry entry = new LocalEntry(value, type);
+                        if (entries.replace(redisKey, token, entry) && !listener.isActiveSince(epoch)) {
+                            // The near caches were cleared before the value was stored
+                            entries.remove(redisKey, entry);
+                        }
+                    } else {
+                        entries.remove(redisKey, token);
+                    }
+                });
+            }
+        });
+    }
+
+    private <K> Uni<Void> evicting(K key, Uni<Void> remote) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                String redisKey = redisKey(key);
+                entries.remove(redisKey);
+                // Also remove the value loaded by a concurrent read before the invalidation message is received
+                return remote.onTermination().invoke(() -> entries.remove(redisKey));
+            }
+        });
+    }
+
+    private String redisKey(Object key) {
+        return delegate.computeActualKey(delegate.encodeKey(key));
+    }
+
+    private record LocalEntry(Object value, Type type) {
+    }
+
+}
@@ -9,9 +9,17 @@
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
+import io.quarkus.cache.redis.runtime.metrics.MicrometerValueCodecMetrics;
+import io.quarkus.cache.redis.runtime.metrics.NoOpValueCodecMetrics;
+import io.quarkus.cache.redis.runtime.metrics.ValueCodecMetrics;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.runtime.client.config.RedisClientConfig;
+import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.redis.client.RedisClientType;
 
 @Recorder
 public class RedisCacheBuildRecorder {
@@ -20,17 +28,21 @@ public class RedisCacheBuildRecorder {
 
     private final RedisCachesBuildTimeConfig buildConfig;
     private final RuntimeValue<RedisCachesRuntimeConfig> redisCacheConfigRV;
+    private final RuntimeValue<RedisConfig> redisConfigRV;
 
     private static Map<String, Type> keyTypes;
     private static Map<String, Type> valueTypes;
+    private static Map<String, List<String>> binaryPropertyNames = Collections.emptyMap();
+    private static Map<String, List<Type>> binaryPropertyTypes = Collections.emptyMap();
 
     public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig,
-            RuntimeValue<RedisCachesRuntimeConfig> redisCacheConfigRV) {
+            RuntimeValue<RedisCachesRuntimeConfig> redisCacheConfigRV, RuntimeValue<RedisConfig> redisConfigRV) {
         this.buildConfig = buildConfig;
         this.redisCacheConfigRV = redisCacheConfigRV;
+        this.redisConfigRV = redisConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -49,6 +61,9 @@ public CacheManager get() {
                         } else {
                             // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                             Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                            // A single listener receives the invalidation messages for all the near caches
+                            NearCacheInvalidationListener nearCacheListener = null;
+                            RedisClientType clientType = clientType();
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
@@ -57,8 +72,33 @@ public CacheManager get() {
                                             cacheInfo.valueType);
                                 }
 
-                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
-                                caches.put(cacheInfo.name, cache);
+                                ValueCodecMetrics metrics;
+                                if (context.metrics() == Context.Metrics.MICROMETER && cacheInfo.metricsEnabled) {
+                                    metrics = new MicrometerValueCodecMetrics(cacheInfo.name);
+                                } else {
+                                    metrics = NoOpValueCodecMetrics.INSTANCE;
+                                }
+                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName(),
+                                        binaryCodec(cacheInfo), metrics);
+                                if (cacheInfo.nearCacheEnabled && clientType != RedisClientType.STANDALONE) {
+                                    LOGGER.warnf("The near cache of the Redis cache [%s] is disabled because it is only "
+                                            + "supported by the standalone Redis client type, the client type is %s",
+                                            cacheInfo.name, clientType);
+                                    caches.put(cacheInfo.name, cache);
+                                } else if (cacheInfo.nearCacheEnabled) {
+                                    if (nearCacheListener == null) {
+                                        nearCacheListener = new NearCacheInvalidationListener(cache.getVertx(),
+                                                cache.getRedis());
+                                    }
+                                    caches.put(cacheInfo.name,
+                                            new NearCachedRedisCacheImpl(cacheInfo, cache, nearCacheListener));
+                                } else {
+                                    caches.put(cacheInfo.name, cache);
+                                }
+                            }
+                            if (nearCacheListener != null) {
+                                nearCacheListener.start();
+                                shutdownContext.addShutdownTask(nearCacheListener::close);
                             }
                             return new CacheManagerImpl(caches);
                         }
@@ -68,6 +108,29 @@ public CacheManager get() {
         };
     }
 
+    private RedisClientType clientType() {
+        RedisClientConfig clientConfig = redisConfigRV.getValue().clients()
+                .get(buildConfig.clientName().orElse(RedisConfig.DEFAULT_CLIENT_NAME));
+        return clientConfig != null ? clientConfig.clientType() : RedisClientType.STANDALONE;
+    }
+
+    private BinaryValueCodec binaryCodec(RedisCacheInfo cacheInfo) {
+        RedisCacheBuildTimeConfig namedConfig = buildConfig.cachesConfig().get(cacheInfo.name);
+        Optional<Boolean> enabled = namedConfig != null && namedConfig.binaryCodec().isPresent()
+                ? namedConfig.binaryCodec()
+                : buildConfig.defaultConfig().binaryCodec();
+        if (!enabled.orElse(false) || !(cacheInfo.valueType instanceof Class<?> valueClass)) {
+            return null;
+        }
+        if (!(Codecs.getDefaultCodecFor(valueClass) instanceof Codecs.JsonCodec)) {
+            // A custom codec is registered for the value type
+            LOGGER.debugf("Binary codec not used for the Redis cache [%s], a codec is registered for %s", cacheInfo.name,
+                    valueClass);
+            return null;
+        }
+        return BinaryValueCodec.create(valueClass, binaryPropertyNames, binaryPropertyTypes);
+    }
+
     public void setCacheKeyTypes(Map<String, Type> keyTypes) {
         RedisCacheBuildRecorder.keyTypes = keyTypes;
     }
@@ -75,4 +138,9 @@ public void setCacheKeyTypes(Map<String, Type> keyTypes) {
     public void setCacheValueTypes(Map<String, Type> valueTypes) {
         RedisCacheBuildRecorder.valueTypes = valueTypes;
     }
+
+    public void setBinaryCodecProperties(Map<String, List<String>> propertyNames, Map<String, List<Type>> propertyTypes) {
+        RedisCacheBuildRecorder.binaryPropertyNames = propertyNames;
+        RedisCacheBuildRecorder.binaryPropertyTypes = propertyTypes;
+    }
 }
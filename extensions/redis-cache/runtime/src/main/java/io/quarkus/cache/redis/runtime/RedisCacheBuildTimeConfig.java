@@ -16,4 +16,17 @@ public interface RedisCacheBuildTimeConfig {
      * The key type, {@code String} by default.
      */
     Optional<String> keyType();
+
+    /**
+     * Whether a binary codec should be generated at build time for the value type. The properties of the values are
+     * then encoded in a compact binary format without reflection, instead of JSON.
+     * <p>
+     * Records and classes with a no-args constructor whose properties are accessible through public fields or getters
+     * and setters are supported, as long as the types of the properties are primitives, their wrappers, {@code String},
+     * enums, {@code BigDecimal}, {@code BigInteger}, {@code UUID}, {@code Instant}, {@code LocalDate},
+     * {@code LocalDateTime}, {@code byte[]}, supported classes or {@code List}, {@code Set} and {@code Map} of these
+     * types. JSON is used for any other value type.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> binaryCodec();
 }
@@ -21,6 +21,8 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.redis.runtime.metrics.NoOpValueCodecMetrics;
+import io.quarkus.cache.redis.runtime.metrics.ValueCodecMetrics;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.runtime.datasource.Marshaller;
@@ -54,13 +56,18 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
     private final Type classOfKey;
 
     private final Marshaller marshaller;
+    private final RedisCacheValueCodec valueCodec;
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
+        this(cacheInfo, redisClientName, null, NoOpValueCodecMetrics.INSTANCE);
+    }
 
+    RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName, BinaryValueCodec binaryCodec,
+            ValueCodecMetrics metrics) {
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
-                BlockingOperationControl::isBlockingAllowed);
+                BlockingOperationControl::isBlockingAllowed, binaryCodec, metrics);
     }
 
     private static Redis determineRedisClient(Optional<String> redisClientName) {
@@ -73,6 +80,11 @@ private static Redis determineRedisClient(Optional<String> redisClientName) {
     }
 
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier) {
+        this(cacheInfo, vertx, redis, blockingAllowedSupplier, null, NoOpValueCodecMetrics.INSTANCE);
+    }
+
+    RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            BinaryValueCodec binaryCodec, ValueCodecMetrics metrics) {
         this.vertx = vertx;
         this.cacheInfo = cacheInfo;
         this.blockingAllowedSupplier = blockingAllowedSupplier;
@@ -87,6 +99,7 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
             this.marshaller = new Marshaller(this.classOfKey);
         }
         this.marshaller.add(CompositeCacheKey.class);
+        this.valueCodec = new RedisCacheValueCodec(cacheInfo, marshaller, binaryCodec, metrics);
         this.redis = redis;
     }
 
@@ -110,7 +123,19 @@ public Class<?> getDefaultValueType() {
         return classOfValue instanceof Class<?> ? (Class<?>) classOfValue : null;
     }
 
-    private <K> String encodeKey(K key) {
+    Type getValueType() {
+        return classOfValue;
+    }
+
+    Vertx getVertx() {
+        return vertx;
+    }
+
+    Redis getRedis() {
+        return redis;
+    }
+
+    <K> String encodeKey(K key) {
         return new String(marshaller.encode(key), StandardCharsets.UTF_8);
     }
 
@@ -191,7 +216,7 @@ public Uni<?> apply(V value) {
                                             if (value == null) {
                                                 throw new IllegalArgumentException("Cannot cache `null` value");
                                             }
-                                            byte[] encodedValue = marshaller.encode(value);
+                                            byte[] encodedValue = valueCodec.encode(value);
                                             Uni<V> result;
                                             if (cacheInfo.useOptimisticLocking) {
                                                 result = multi(connection, set(connection, encodedKey, encodedValue))
@@ -263,7 +288,7 @@ public Uni<V> apply(RedisConnection connection) {
                                 Uni<V> getter = valueLoader.apply(key);
                                 return getter
                                         .chain(value -> {
-                                            byte[] encodedValue = marshaller.encode(value);
+                                            byte[] encodedValue = valueCodec.encode(value);
                                             if (cacheInfo.useOptimisticLocking) {
                                                 return multi(connection, set(connection, encodedKey, encodedValue))
                                                         .replaceWith(value);
@@ -290,7 +315,7 @@ public <K, V> Uni<Void> put(K key, V value) {
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
+        byte[] encodedValue = valueCodec.encode(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
@@ -449,7 +474,7 @@ private String getKeyPattern() {
         return getKeyPrefix() + ":*";
     }
 
-    private String getKeyPrefix() {
+    String getKeyPrefix() {
         if (cacheInfo.prefix != null) {
             return cacheInfo.prefix.replace("{cache-name}", getName());
         } else {
@@ -487,7 +512,7 @@ private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
+                            return valueCodec.decode(clazz, r);
                         }
                     });
         } else {
@@ -495,7 +520,7 @@ public X apply(Response r) {
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
+                            return valueCodec.decode(clazz, r);
                         }
                     });
         }
@@ -51,4 +51,34 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether a local near cache is kept in front of Redis.
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries of the near cache.
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time to live of the near cache entries. If not set, {@link #expireAfterWrite} is used.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * The compression applied to the encoded values larger than {@link #compressionThreshold}.
+     */
+    public RedisCacheRuntimeConfig.Compression compression = RedisCacheRuntimeConfig.Compression.NONE;
+
+    /**
+     * The minimal size in bytes of an encoded value to be compressed.
+     */
+    public long compressionThreshold = 1024;
+
+    /**
+     * Whether the value encoding metrics are recorded.
+     */
+    public boolean metricsEnabled = false;
 }
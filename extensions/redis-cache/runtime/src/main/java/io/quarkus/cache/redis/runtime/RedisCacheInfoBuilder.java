@@ -67,6 +67,42 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheEnabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedRuntimeConfig.nearCacheEnabled().get();
+                } else if (defaultRuntimeConfig.nearCacheEnabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultRuntimeConfig.nearCacheEnabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize().getAsLong();
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize().getAsLong();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCacheExpireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCacheExpireAfterWrite();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.compression().isPresent()) {
+                    cacheInfo.compression = namedRuntimeConfig.compression().get();
+                } else if (defaultRuntimeConfig.compression().isPresent()) {
+                    cacheInfo.compression = defaultRuntimeConfig.compression().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.compressionThreshold().isPresent()) {
+                    cacheInfo.compressionThreshold = namedRuntimeConfig.compressionThreshold().get().asLongValue();
+                } else if (defaultRuntimeConfig.compressionThreshold().isPresent()) {
+                    cacheInfo.compressionThreshold = defaultRuntimeConfig.compressionThreshold().get().asLongValue();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.metricsEnabled().isPresent()) {
+                    cacheInfo.metricsEnabled = namedRuntimeConfig.metricsEnabled().get();
+                } else if (defaultRuntimeConfig.metricsEnabled().isPresent()) {
+                    cacheInfo.metricsEnabled = defaultRuntimeConfig.metricsEnabled().get();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
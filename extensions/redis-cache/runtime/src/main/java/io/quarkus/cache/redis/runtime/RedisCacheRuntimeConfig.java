@@ -3,8 +3,10 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public interface RedisCacheRuntimeConfig {
@@ -49,4 +51,60 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * Whether a bounded local (near) cache should be kept in front of Redis. Hits are then served from the local heap and
+     * Redis is only accessed on a local miss.
+     * <p>
+     * The local entries are evicted when the corresponding keys are modified, expired or evicted in Redis, no matter which
+     * node modified them. This relies on Redis server-assisted client side caching, i.e. it requires Redis 6.0 or newer.
+     * Local entries are only used while the invalidation connection is established. The near cache is only supported by the
+     * {@code standalone} Redis client type, it is disabled for the other client types.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> nearCacheEnabled();
+
+    /**
+     * The maximum number of entries the near cache may contain.
+     * Default is {@code 10000}.
+     */
+    OptionalLong nearCacheMaximumSize();
+
+    /**
+     * Specifies that each near cache entry should be automatically removed from the local cache once a fixed duration has
+     * elapsed after the entry was loaded from Redis. If not set, the {@code expire-after-write} value is used, if any.
+     */
+    Optional<Duration> nearCacheExpireAfterWrite();
+
+    /**
+     * The compression applied to the encoded values larger than {@code compression-threshold}.
+     * The {@code byte[]} and {@code String} values are never compressed. The values stored before the compression was
+     * enabled can still be read, the cache should be invalidated when the compression is disabled.
+     * Default is {@code none}.
+     */
+    Optional<Compression> compression();
+
+    /**
+     * The minimal size of an encoded value to be compressed.
+     * Default is {@code 1K}.
+     */
+    Optional<MemorySize> compressionThreshold();
+
+    /**
+     * Whether the size of the encoded values and the time spent encoding and decoding them should be recorded if the
+     * application depends on a Micrometer registry extension.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> metricsEnabled();
+
+    enum Compression {
+        /**
+         * The values are not compressed.
+         */
+        NONE,
+        /**
+         * The values are compressed with the JDK {@link java.util.zip.Deflater}.
+         */
+        DEFLATE
+    }
 }
@@ -0,0 +1,172 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.redis.runtime.RedisCacheRuntimeConfig.Compression;
+import io.quarkus.cache.redis.runtime.metrics.ValueCodecMetrics;
+import io.quarkus.redis.runtime.datasource.Marshaller;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * Encodes and decodes the values of a Redis cache.
+ * <p>
+ * The values are encoded by the {@link BinaryValueCodec} if one was generated for the value type, or by the
+ * {@link io.quarkus.redis.datasource.codecs.Codec} registered for the value type otherwise, i.e. JSON by default. The
+ * encoded values larger than the configured threshold are compressed. Compressed and binary values start with a
+ * {@code 0} byte that never starts a JSON document, so the values stored before the compression or the binary codec was
+ * enabled can still be decoded.
+ * <p>
+ * The {@code byte[]} and {@code String} values are stored as is by their codecs, so they may start with any byte. They
+ * are never compressed, and the headers are only looked for if the compression or the binary codec is enabled and the
+ * value type is not one of these types.
+ */
+final class RedisCacheValueCodec {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheValueCodec.class);
+
+    static final byte COMPRESSED = 'Z';
+    static final byte DEFLATE = 1;
+    // MAGIC, COMPRESSED, algorithm, uncompressed length
+    static final int COMPRESSED_HEADER_LENGTH = 7;
+
+    private final String cacheName;
+    private final Marshaller marshaller;
+    private final BinaryValueCodec binaryCodec;
+    private final Compression compression;
+    private final long compressionThreshold;
+    // whether the encoded values may start with the compressed or binary header
+    private final boolean headers;
+    private final ValueCodecMetrics metrics;
+
+    RedisCacheValueCodec(RedisCacheInfo cacheInfo, Marshaller marshaller, BinaryValueCodec binaryCodec,
+            ValueCodecMetrics metrics) {
+        this.cacheName = cacheInfo.name;
+        this.marshaller = marshaller;
+        this.binaryCodec = binaryCodec;
+        this.compression = cacheInfo.compression;
+        this.compressionThreshold = cacheInfo.compressionThreshold;
+        this.headers = compression == Compression.DEFLATE || binaryCodec != null;
+        this.metrics = metrics;
+    }
+
+    byte[] encode(Object value) {
+        if (value == null) {
+            return null;
+        }
+        boolean recordMetrics = metrics.metricsEnabled();
+        long start = recordMetrics ? System.nanoTime() : 0L;
+        byte[] encoded;
+        if (binaryCodec != null && binaryCodec.canEncode(value)) {
+            encoded = binaryCodec.encode(value);
+        } else {
+            encoded = marshaller.encode(value);
+        }
+        if (compression == Compression.DEFLATE && encoded.length >= compressionThreshold && !isRaw(value.getClass())) {
+            encoded = deflate(encoded);
+        }
+        if (recordMetrics) {
+            metrics.recordEncoding(encoded.length, System.nanoTime() - start);
+        }
+        return encoded;
+    }
+
+    @SuppressWarnings("unchecked")
+    <X> X decode(Type type, Response response) {
+        if (response == null) {
+            return null;
+        }
+        boolean recordMetrics = metrics.metricsEnabled();
+        long start = recordMetrics ? System.nanoTime() : 0L;
+        byte[] encoded = response.type() == ResponseType.SIMPLE ? response.toString().getBytes() : response.toBytes();
+        boolean hasHeaders = headers && !isRaw(type);
+        if (hasHeaders && isCompressed(encoded)) {
+            encoded = inflate(encoded);
+        }
+        X value;
+        if (hasHeaders && BinaryValueCodec.isBinary(encoded)) {
+            if (binaryCodec != null && binaryCodec.canDecode(type)) {
+                value = (X) binaryCodec.decode(encoded);
+                if (value == null) {
+                    LOGGER.debugf("Value encoded with a different schema ignored in the Redis cache [%s]", cacheName);
+                }
+            } else {
+                // The binary codec was disabled or the value type changed
+                LOGGER.debugf("Binary value of type [%s] ignored in the Redis cache [%s]", type, cacheName);
+                value = null;
+            }
+        } else {
+            value = marshaller.decode(type, encoded);
+        }
+        if (recordMetrics) {
+            metrics.recordDecoding(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    private static boolean isRaw(Type type) {
+        return type == byte[].class || type == String.class;
+    }
+
+    private static boolean isCompressed(byte[] encoded) {
+        return encoded.length >= COMPRESSED_HEADER_LENGTH && encoded[0] == BinaryValueCodec.MAGIC
+                && encoded[1] == COMPRESSED;
+    }
+
+    private static byte[] deflate(byte[] encoded) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(encoded);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length / 2 + COMPRESSED_HEADER_LENGTH);
+            out.write(BinaryValueCodec.MAGIC);
+            out.write(COMPRESSED);
+            out.write(DEFLATE);
+            out.writeBytes(ByteBuffer.allocate(4).putInt(encoded.length).array());
+            byte[] buffer = new byte[Math.min(Math.max(encoded.length, 64), 8192)];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            // Incompressible values are stored as is
+            return out.size() < encoded.length ? out.toByteArray() : encoded;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        if (compressed[2] != DEFLATE) {
+            throw new IllegalStateException("Unsupported compression algorithm: " + compressed[2]);
+        }
+        int length = ByteBuffer.wrap(compressed, 3, 4).getInt();
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed, COMPRESSED_HEADER_LENGTH, compressed.length - COMPRESSED_HEADER_LENGTH);
+            byte[] result = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int inflated = inflater.inflate(result, offset, length - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += inflated;
+            }
+            return offset == length ? result : Arrays.copyOf(result, offset);
+        } catch (DataFormatException e) {
+            throw new CacheException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
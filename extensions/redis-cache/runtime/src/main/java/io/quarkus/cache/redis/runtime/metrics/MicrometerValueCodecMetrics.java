@@ -0,0 +1,51 @@
+package io.quarkus.cache.redis.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * An instance of this class is created for each Redis cache with metrics enabled when the application depends on a
+ * quarkus-micrometer-registry-* extension.
+ */
+public class MicrometerValueCodecMetrics implements ValueCodecMetrics {
+
+    private final DistributionSummary size;
+    private final Timer encode;
+    private final Timer decode;
+
+    public MicrometerValueCodecMetrics(String cacheName) {
+        // Additional tags should be configured using MeterFilter
+        this.size = DistributionSummary.builder("cache.redis.value.size")
+                .tags("cache", cacheName)
+                .baseUnit("bytes")
+                .description("The size of the encoded values stored in Redis")
+                .register(Metrics.globalRegistry);
+        this.encode = Timer.builder("cache.redis.value.encode")
+                .tags("cache", cacheName)
+                .description("The time spent encoding the values stored in Redis")
+                .register(Metrics.globalRegistry);
+        this.decode = Timer.builder("cache.redis.value.decode")
+                .tags("cache", cacheName)
+                .description("The time spent decoding the values read from Redis")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public boolean metricsEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordEncoding(int encodedSize, long durationNanos) {
+        size.record(encodedSize);
+        encode.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordDecoding(long durationNanos) {
+        decode.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
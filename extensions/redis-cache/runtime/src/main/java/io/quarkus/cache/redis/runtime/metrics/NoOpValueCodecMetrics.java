@@ -0,0 +1,25 @@
+package io.quarkus.cache.redis.runtime.metrics;
+
+/**
+ * An instance of this class is used when the application does not depend on any quarkus-micrometer-registry-* extension
+ * or when the metrics are disabled for the cache. It is required to make the micrometer-core dependency optional.
+ */
+public class NoOpValueCodecMetrics implements ValueCodecMetrics {
+
+    public static final NoOpValueCodecMetrics INSTANCE = new NoOpValueCodecMetrics();
+
+    @Override
+    public boolean metricsEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordEncoding(int encodedSize, long durationNanos) {
+        // Do nothing.
+    }
+
+    @Override
+    public void recordDecoding(long durationNanos) {
+        // Do nothing.
+    }
+}
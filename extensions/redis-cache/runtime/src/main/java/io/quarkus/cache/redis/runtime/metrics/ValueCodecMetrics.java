@@ -0,0 +1,13 @@
+package io.quarkus.cache.redis.runtime.metrics;
+
+/**
+ * Records the size of the encoded values of a Redis cache and the time spent encoding and decoding them.
+ */
+public interface ValueCodecMetrics {
+
+    boolean metricsEnabled();
+
+    void recordEncoding(int encodedSize, long durationNanos);
+
+    void recordDecoding(long durationNanos);
+}
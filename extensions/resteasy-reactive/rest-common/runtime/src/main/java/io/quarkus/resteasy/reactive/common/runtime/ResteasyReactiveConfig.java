@@ -44,6 +44,15 @@ public interface ResteasyReactiveConfig {
     @WithDefault("8191")
     int outputBufferSize();
 
+    /**
+     * If set, the output stream response buffer of each endpoint is sized from the sizes of its previous responses, up to
+     * this size, so that most responses are written in a single allocation. Responses that are predicted to fit in it are
+     * not chunked, even if they are larger than {@code output-buffer-size}.
+     * <p>
+     * If not set, the response buffer is allocated in chunks of {@code min-chunk-size} bytes.
+     */
+    Optional<MemorySize> adaptiveOutputBufferMaxSize();
+
     /**
      * By default, we assume a default produced media type of "text/plain"
      * for String endpoint return types. If this is disabled, the default
@@ -0,0 +1,226 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.mappers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Compares the reflection-free serializers with the direct JSON writers, both writing a response entity into a pooled
+ * buffer as the server message body writers do.
+ * <p>
+ * The serializer and writer classes below are hand-written equivalents of what {@code JacksonSerializerFactory}
+ * generates for {@link Person} and {@link Address}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkDirectJsonWriter {
+
+    @Param({ "1", "20" })
+    public int addresses;
+
+    private ObjectWriter objectWriter;
+    private Map<Class<?>, DirectJsonWriter> writers;
+    private Person person;
+
+    @Setup
+    public void setup() {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Person.class, new PersonSerializer());
+        module.addSerializer(Address.class, new AddressSerializer());
+        objectWriter = new ObjectMapper().registerModule(module).writer();
+        writers = Map.of(Person.class, new PersonWriter(), Address.class, new AddressWriter());
+
+        List<Address> list = new ArrayList<>();
+        for (int i = 0; i < addresses; i++) {
+            list.add(new Address("Rue de la Paix \"" + i + "\"", 10 + i, "Paris"));
+        }
+        person = new Person("Jérôme", "Dupont", 42, 1.85, true, list);
+    }
+
+    @Benchmark
+    public int generatedSerializer() throws IOException {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(512);
+        try {
+            OutputStream stream = new ByteBufOutputStream(buffer);
+            objectWriter.writeValue(stream, person);
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Benchmark
+    public int directWriter() throws IOException {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(512);
+        try {
+            try (DirectJsonOutput out = new DirectJsonOutput(buffer, writers, objectWriter)) {
+                writers.get(Person.class).write(person, out);
+            }
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public record Address(String street, int number, String city) {
+    }
+
+    public record Person(String firstName, String lastName, int age, double height, boolean active,
+            List<Address> addresses) {
+    }
+
+    static final class PersonSerializer extends GeneratedSerializer {
+
+        static final SerializedString FIRST_NAME = new SerializedString("firstName");
+        static final SerializedString LAST_NAME = new SerializedString("lastName");
+        static final SerializedString AGE = new SerializedString("age");
+        static final SerializedString HEIGHT = new SerializedString("height");
+        static final SerializedString ACTIVE = new SerializedString("active");
+        static final SerializedString ADDRESSES = new SerializedString("addresses");
+
+        PersonSerializer() {
+            super(Person.class);
+        }
+
+        @Override
+        public void serializeContent(Object object, JsonGenerator gen, SerializerProvider prov) throws IOException {
+            Person person = (Person) object;
+            JacksonMapperUtil.SerializationInclude include = JacksonMapperUtil.SerializationInclude.decode(object, prov);
+            PropertyNamingStrategy strategy = prov.getConfig().getPropertyNamingStrategy();
+            if (include.shouldSerialize(person.firstName())) {
+                JacksonMapperUtil.writeFieldName(gen, strategy, "firstName", FIRST_NAME);
+                gen.writeString(person.firstName());
+            }
+            if (include.shouldSerialize(person.lastName())) {
+                JacksonMapperUtil.writeFieldName(gen, strategy, "lastName", LAST_NAME);
+                gen.writeString(person.lastName());
+            }
+            JacksonMapperUtil.writeFieldName(gen, strategy, "age", AGE);
+            gen.writeNumber(person.age());
+            JacksonMapperUtil.writeFieldName(gen, strategy, "height", HEIGHT);
+            gen.writeNumber(person.height());
+            JacksonMapperUtil.writeFieldName(gen, strategy, "active", ACTIVE);
+            gen.writeBoolean(person.active());
+            if (include.shouldSerialize(person.addresses())) {
+                JacksonMapperUtil.writeFieldName(gen, strategy, "addresses", ADDRESSES);
+                JacksonMapperUtil.serializePojo(person.addresses(), person, gen, prov);
+            }
+        }
+    }
+
+    static final class AddressSerializer extends GeneratedSerializer {
+
+        static final SerializedString STREET = new SerializedString("street");
+        static final SerializedString NUMBER = new SerializedString("number");
+        static final SerializedString CITY = new SerializedString("city");
+
+        AddressSerializer() {
+            super(Address.class);
+        }
+
+        @Override
+        public void serializeContent(Object object, JsonGenerator gen, SerializerProvider prov) throws IOException {
+            Address address = (Address) object;
+            JacksonMapperUtil.SerializationInclude include = JacksonMapperUtil.SerializationInclude.decode(object, prov);
+            PropertyNamingStrategy strategy = prov.getConfig().getPropertyNamingStrategy();
+            if (include.shouldSerialize(address.street())) {
+                JacksonMapperUtil.writeFieldName(gen, strategy, "street", STREET);
+                gen.writeString(address.street());
+            }
+            JacksonMapperUtil.writeFieldName(gen, strategy, "number", NUMBER);
+            gen.writeNumber(address.number());
+            if (include.shouldSerialize(address.city())) {
+                JacksonMapperUtil.writeFieldName(gen, strategy, "city", CITY);
+                gen.writeString(address.city());
+            }
+        }
+    }
+
+    static final class PersonWriter extends DirectJsonWriter {
+
+        static final byte[] NAME_0 = DirectJsonOutput.fieldName("firstName");
+        static final byte[] NAME_1 = DirectJsonOutput.fieldName("lastName");
+        static final byte[] NAME_2 = DirectJsonOutput.fieldName("age");
+        static final byte[] NAME_3 = DirectJsonOutput.fieldName("height");
+        static final byte[] NAME_4 = DirectJsonOutput.fieldName("active");
+        static final byte[] NAME_5 = DirectJsonOutput.fieldName("addresses");
+
+        PersonWriter() {
+            super(Person.class);
+        }
+
+        @Override
+        public void write(Object object, DirectJsonOutput out) throws IOException {
+            Person person = (Person) object;
+            out.writeStartObject();
+            out.writeFieldName(NAME_0);
+            out.writeString(person.firstName());
+            out.writeFieldName(NAME_1);
+            out.writeString(person.lastName());
+            out.writeFieldName(NAME_2);
+            out.writeNumber(person.age());
+            out.writeFieldName(NAME_3);
+            out.writeNumber(person.height());
+            out.writeFieldName(NAME_4);
+            out.writeBoolean(person.active());
+            out.writeFieldName(NAME_5);
+            out.writeValue(person.addresses(), person);
+            out.writeEndObject();
+        }
+    }
+
+    static final class AddressWriter extends DirectJsonWriter {
+
+        static final byte[] NAME_0 = DirectJsonOutput.fieldName("street");
+        static final byte[] NAME_1 = DirectJsonOutput.fieldName("number");
+        static final byte[] NAME_2 = DirectJsonOutput.fieldName("city");
+
+        AddressWriter() {
+            super(Address.class);
+        }
+
+        @Override
+        public void write(Object object, DirectJsonOutput out) throws IOException {
+            Address address = (Address) object;
+            out.writeStartObject();
+            out.writeFieldName(NAME_0);
+            out.writeString(address.street());
+            out.writeFieldName(NAME_1);
+            out.writeNumber(address.number());
+            out.writeFieldName(NAME_2);
+            out.writeString(address.city());
+            out.writeEndObject();
+        }
+    }
+}
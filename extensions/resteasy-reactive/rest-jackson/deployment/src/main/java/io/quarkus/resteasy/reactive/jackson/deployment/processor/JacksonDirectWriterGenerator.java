@@ -0,0 +1,196 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.jackson.deployment.processor.JacksonCodeGenerator.FieldSpecs;
+import io.quarkus.resteasy.reactive.jackson.runtime.mappers.DirectJsonOutput;
+import io.quarkus.resteasy.reactive.jackson.runtime.mappers.DirectJsonWriter;
+
+/**
+ * Generates a {@link DirectJsonWriter} for a class whose reflection-free serializer has just been generated by the
+ * {@link JacksonSerializerFactory}. The writer serializes the same fields in the same order, but writes them directly
+ * to a {@link DirectJsonOutput}. For the {@code Person} example of {@link JacksonSerializerFactory}, without the
+ * {@code address} and {@code id} fields that require the full serializer, it generates
+ *
+ * <pre>{@code
+ * public class Person$quarkusjsonwriter extends DirectJsonWriter {
+ *     static final byte[] NAME_0 = DirectJsonOutput.fieldName("age");
+ *     static final byte[] NAME_1 = DirectJsonOutput.fieldName("firstName");
+ *     static final byte[] NAME_2 = DirectJsonOutput.fieldName("familyName");
+ *
+ *     public Person$quarkusjsonwriter() {
+ *         super(Person.class);
+ *     }
+ *
+ *     public void write(Object object, DirectJsonOutput out) throws IOException {
+ *         Person person = (Person) object;
+ *         out.writeStartObject();
+ *         out.writeFieldName(NAME_0);
+ *         out.writeNumber(person.getAge());
+ *         out.writeFieldName(NAME_1);
+ *         out.writeString(person.getFirstName());
+ *         out.writeFieldName(NAME_2);
+ *         out.writeString(person.getLastName());
+ *         out.writeEndObject();
+ *     }
+ * }
+ * }</pre>
+ *
+ * Fields of any other type are written through {@link DirectJsonOutput#writeValue(Object, Object)}.
+ */
+final class JacksonDirectWriterGenerator {
+
+    private static final Logger log = Logger.getLogger(JacksonDirectWriterGenerator.class);
+
+    private static final String CLASS_NAME_SUFFIX = "$quarkusjsonwriter";
+
+    private static final DotName JSON_TYPE_INFO = DotName.createSimple(JsonTypeInfo.class);
+
+    private static final MethodDescriptor FIELD_NAME = MethodDescriptor.ofMethod(DirectJsonOutput.class, "fieldName",
+            byte[].class, String.class);
+    private static final MethodDescriptor WRITE_START_OBJECT = MethodDescriptor.ofMethod(DirectJsonOutput.class,
+            "writeStartObject", void.class);
+    private static final MethodDescriptor WRITE_END_OBJECT = MethodDescriptor.ofMethod(DirectJsonOutput.class,
+            "writeEndObject", void.class);
+    private static final MethodDescriptor WRITE_FIELD_NAME = MethodDescriptor.ofMethod(DirectJsonOutput.class,
+            "writeFieldName", void.class, byte[].class);
+    private static final MethodDescriptor WRITE_VALUE = MethodDescriptor.ofMethod(DirectJsonOutput.class,
+            "writeValue", void.class, Object.class, Object.class);
+
+    private final BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer;
+    private final IndexView jandexIndex;
+    private final List<String> generatedClassNames = new ArrayList<>();
+
+    JacksonDirectWriterGenerator(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
+            IndexView jandexIndex) {
+        this.generatedClassBuildItemBuildProducer = generatedClassBuildItemBuildProducer;
+        this.jandexIndex = jandexIndex;
+    }
+
+    Collection<String> getGeneratedClassNames() {
+        return generatedClassNames;
+    }
+
+    /**
+     * @param classInfo the serialized class
+     * @param beanClassName the name of the serialized class
+     * @param fields the fields written by the generated serializer, in order
+     */
+    void create(ClassInfo classInfo, String beanClassName, List<FieldSpecs> fields) {
+        if (fields.isEmpty() || JacksonCodeGenerator.getClassIncludeValue(classInfo) != null
+                || hasTypeInfo(classInfo)) {
+            return;
+        }
+        for (FieldSpecs fieldSpecs : fields) {
+            if (!isSupported(fieldSpecs)) {
+                log.debugf("Skipping generation of direct JSON writer for class %s because of its field %s",
+                        beanClassName, fieldSpecs.fieldName);
+                return;
+            }
+        }
+
+        String generatedClassName = beanClassName + CLASS_NAME_SUFFIX;
+        try (ClassCreator classCreator = new ClassCreator(
+                new GeneratedClassGizmoAdaptor(generatedClassBuildItemBuildProducer, true), generatedClassName, null,
+                DirectJsonWriter.class.getName())) {
+
+            MethodCreator constructor = classCreator.getConstructorCreator(new String[0]);
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(DirectJsonWriter.class, Class.class),
+                    constructor.getThis(), constructor.loadClass(beanClassName));
+            constructor.returnVoid();
+
+            MethodCreator clinit = classCreator.getMethodCreator("<clinit>", void.class).setModifiers(ACC_STATIC);
+            MethodCreator write = classCreator.getMethodCreator("write", void.class, Object.class, DirectJsonOutput.class)
+                    .setModifiers(ACC_PUBLIC)
+                    .addException(IOException.class);
+            ResultHandle bean = write.checkCast(write.getMethodParam(0), beanClassName);
+            ResultHandle out = write.getMethodParam(1);
+
+            write.invokeVirtualMethod(WRITE_START_OBJECT, out);
+            for (int i = 0; i < fields.size(); i++) {
+                FieldSpecs fieldSpecs = fields.get(i);
+                FieldDescriptor nameField = classCreator.getFieldCreator("NAME_" + i, byte[].class)
+                        .setModifiers(ACC_STATIC | ACC_FINAL).getFieldDescriptor();
+                clinit.writeStaticField(nameField, clinit.invokeStaticMethod(FIELD_NAME, clinit.load(fieldSpecs.jsonName)));
+                writeField(write, fieldSpecs, bean, out, nameField);
+            }
+            write.invokeVirtualMethod(WRITE_END_OBJECT, out);
+            write.returnVoid();
+            clinit.returnVoid();
+        }
+        generatedClassNames.add(generatedClassName);
+    }
+
+    private static void writeField(MethodCreator write, FieldSpecs fieldSpecs, ResultHandle bean, ResultHandle out,
+            FieldDescriptor nameField) {
+        ResultHandle arg = fieldSpecs.toValueReaderHandle(write, bean);
+        String typeName = fieldSpecs.fieldType.name().toString();
+        // DirectJsonOutput mirrors the JsonGenerator methods used by the serializer
+        String writeMethodName = JacksonSerializerFactory.writeMethodForPrimitiveFields(typeName);
+
+        if (writeMethodName != null) {
+            // like the generated serializer, null boxed primitives are skipped
+            BytecodeCreator bytecode = JacksonSerializationUtils.isBoxedPrimitive(typeName)
+                    ? write.ifNotNull(arg).trueBranch()
+                    : write;
+            bytecode.invokeVirtualMethod(WRITE_FIELD_NAME, out, bytecode.readStaticField(nameField));
+            bytecode.invokeVirtualMethod(MethodDescriptor.ofMethod(DirectJsonOutput.class, writeMethodName, void.class,
+                    fieldSpecs.writtenType()), out, arg);
+        } else {
+            write.invokeVirtualMethod(WRITE_FIELD_NAME, out, write.readStaticField(nameField));
+            write.invokeVirtualMethod(WRITE_VALUE, out, arg, bean);
+        }
+    }
+
+    /**
+     * Only the fields that the generated serializer writes unconditionally, as a plain name/value pair, are supported.
+     */
+    private static boolean isSupported(FieldSpecs fieldSpecs) {
+        return !fieldSpecs.isUnwrapped() && !fieldSpecs.isRawValue() && !fieldSpecs.isFormatShapeNumber()
+                && fieldSpecs.formatPattern() == null && fieldSpecs.jsonIncludeValue() == null
+                && fieldSpecs.viewClasses() == null && fieldSpecs.rolesAllowed() == null;
+    }
+
+    /**
+     * Polymorphic types are written with a type id by Jackson, which only the generated serializer supports.
+     */
+    private boolean hasTypeInfo(ClassInfo classInfo) {
+        if (classInfo.declaredAnnotation(JSON_TYPE_INFO) != null) {
+            return true;
+        }
+        List<DotName> superNames = new ArrayList<>(classInfo.interfaceNames());
+        if (classInfo.superName() != null) {
+            superNames.add(classInfo.superName());
+        }
+        for (DotName superName : superNames) {
+            ClassInfo superClassInfo = jandexIndex.getClassByName(superName);
+            if (superClassInfo != null && hasTypeInfo(superClassInfo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -20,6 +20,18 @@ public interface JacksonOptimizationConfig {
     @WithDefault("true")
     boolean enableReflectionFreeSerializers();
 
+    /**
+     * Enable build time generation of JSON writers that bypass Jackson's {@code JsonGenerator} and encode the response
+     * entity directly into the pooled response buffer, using pre-encoded field names.
+     * <p>
+     * This only applies when reflection-free serializers are enabled, and only to types without views, secure fields,
+     * unwrapped or raw values, per-field formatting or inclusion rules. At runtime a direct writer is only used if the
+     * {@code ObjectMapper} has no custom serializer for the type and uses the default JSON output features, otherwise
+     * the reflection-free serializer is used.
+     */
+    @WithDefault("false")
+    boolean enableDirectJsonWriters();
+
     class IsReflectionFreeSerializersEnabled implements BooleanSupplier {
         JacksonOptimizationConfig config;
 
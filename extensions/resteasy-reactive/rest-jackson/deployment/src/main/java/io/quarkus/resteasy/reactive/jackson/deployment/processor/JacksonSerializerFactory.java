@@ -176,10 +176,19 @@ public class JacksonSerializerFactory extends JacksonCodeGenerator {
     private static final String SER_STRINGS_CLASS_NAME = "SerializedStrings$quarkusjacksonserializer";
 
     private final Map<String, Map<String, String>> generatedFields = new HashMap<>();
+    private final JacksonDirectWriterGenerator directWriterGenerator;
 
     public JacksonSerializerFactory(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             IndexView jandexIndex) {
+        this(generatedClassBuildItemBuildProducer, jandexIndex, false);
+    }
+
+    public JacksonSerializerFactory(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
+            IndexView jandexIndex, boolean generateDirectWriters) {
         super(generatedClassBuildItemBuildProducer, jandexIndex);
+        this.directWriterGenerator = generateDirectWriters
+                ? new JacksonDirectWriterGenerator(generatedClassBuildItemBuildProducer, jandexIndex)
+                : null;
     }
 
     @Override
@@ -189,6 +198,13 @@ public Collection<String> create(Collection<ClassInfo> classInfos) {
         return createdClasses;
     }
 
+    /**
+     * @return the names of the generated {@code DirectJsonWriter}s, empty unless their generation has been enabled
+     */
+    public Collection<String> getDirectJsonWriters() {
+        return directWriterGenerator != null ? directWriterGenerator.getGeneratedClassNames() : List.of();
+    }
+
     private void createFieldNamesClass() {
         if (generatedFields.isEmpty()) {
             return;
@@ -247,12 +263,17 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
             serializeJsonValue(ctx, contentMethod, jsonValueFieldSpecs.get());
         } else {
             Set<String> serializedFields = new HashSet<>();
+            List<FieldSpecs> writtenFields = new ArrayList<>();
             SerializationContext ctx = new SerializationContext(contentMethod, beanClassName);
-            serializeObjectData(classInfo, classCreator, contentMethod, ctx, serializedFields);
+            boolean hasAnyGetter = serializeObjectData(classInfo, classCreator, contentMethod, ctx, serializedFields,
+                    writtenFields);
             if (serializedFields.isEmpty()) {
                 throwExceptionForEmptyBean(beanClassName, contentMethod, contentMethod.getMethodParam(1));
             }
             classCreator.getMethodCreator("<clinit>", void.class).setModifiers(ACC_STATIC).returnVoid();
+            if (directWriterGenerator != null && !hasAnyGetter) {
+                directWriterGenerator.create(classInfo, beanClassName, writtenFields);
+            }
         }
         contentMethod.returnVoid();
 
@@ -305,8 +326,11 @@ private void serializeJsonValue(SerializationContext ctx, MethodCreator bytecode
         writeFieldValue(jsonValueFieldSpecs, bytecode, ctx, typeName, arg, null);
     }
 
-    private void serializeObjectData(ClassInfo classInfo, ClassCreator classCreator, MethodCreator bytecode,
-            SerializationContext ctx, Set<String> serializedFields) {
+    /**
+     * @return true if the class has a {@code @JsonAnyGetter}, whose entries are written after the written fields
+     */
+    private boolean serializeObjectData(ClassInfo classInfo, ClassCreator classCreator, MethodCreator bytecode,
+            SerializationContext ctx, Set<String> serializedFields, List<FieldSpecs> writtenFields) {
         PropertyNamingStrategy namingStrategy = getNamingStrategy(classInfo);
         Set<String> ignoredProperties = new HashSet<>(getIgnoredProperties(classInfo));
         String classInclude = getClassIncludeValue(classInfo);
@@ -325,10 +349,12 @@ private void serializeObjectData(ClassInfo classInfo, ClassCreator classCreator,
                 }
                 writeField(classInfo, fieldSpecs, writeFieldBranch(classCreator, bytecode, fieldSpecs, ctx), ctx,
                         classInclude);
+                writtenFields.add(fieldSpecs);
             }
         }
 
         serializeAnyGetter(anyGetterMethod, bytecode, ctx);
+        return anyGetterMethod != null;
     }
 
     private List<FieldSpecs> collectAllFieldSpecs(ClassInfo classInfo, PropertyNamingStrategy namingStrategy) {
@@ -590,7 +616,7 @@ private static boolean isJavaUtilDateType(String typeName) {
                 || "java.sql.Timestamp".equals(typeName);
     }
 
-    private String writeMethodForPrimitiveFields(String typeName) {
+    static String writeMethodForPrimitiveFields(String typeName) {
         return switch (typeName) {
             case "java.lang.String", "char", "java.lang.Character" -> "writeString";
             case "short", "java.lang.Short", "int", "java.lang.Integer", "long", "java.lang.Long", "float", "java.lang.Float",
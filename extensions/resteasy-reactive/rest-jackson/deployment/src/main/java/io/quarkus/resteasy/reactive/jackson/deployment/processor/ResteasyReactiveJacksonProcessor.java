@@ -400,7 +400,7 @@ public void initializeRolesAllowedConfigExp(ResteasyReactiveServerJacksonRecorde
     public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
             JaxRsResourceIndexBuildItem jaxRsIndex, CombinedIndexBuildItem index,
             List<ResponseTypeUnwrapperBuildItem> responseTypeUnwrappers,
-            ResteasyReactiveServerJacksonRecorder recorder,
+            ResteasyReactiveServerJacksonRecorder recorder, JacksonOptimizationConfig optimizationConfig,
             BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer) {
 
         IndexView indexView = jaxRsIndex.getIndexView();
@@ -433,9 +433,11 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
 
         if (!serializedClasses.isEmpty()) {
             JacksonSerializerFactory factory = new JacksonSerializerFactory(generatedClassBuildItemBuildProducer,
-                    index.getComputingIndex());
+                    index.getComputingIndex(), optimizationConfig.enableDirectJsonWriters());
             factory.create(serializedClasses.values())
                     .forEach(recorder::recordGeneratedSerializer);
+            factory.getDirectJsonWriters()
+                    .forEach(recorder::recordDirectJsonWriter);
         }
 
         if (!deserializedClasses.isEmpty()) {
@@ -0,0 +1,300 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.common.annotation.NonBlocking;
+
+/**
+ * The direct JSON writers must produce the same bytes as the {@code ObjectMapper}.
+ */
+public class DirectJsonWritersTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, Strings.class, Numbers.class, Outer.class, Inner.class,
+                            Collections.class, Fallbacks.class, Trace.class)
+                    .addAsResource(new StringAsset("quarkus.rest.jackson.optimization.enable-direct-json-writers=true\n"),
+                            "application.properties"));
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testDirectWriterIsUsed() {
+        assertThat(get("/direct/trace", Trace.class).getStackTrace())
+                .anyMatch(s -> s.contains("$quarkusjsonwriter.write"))
+                .noneMatch(s -> s.contains("BeanSerializer.serialize"));
+    }
+
+    @Test
+    public void testStrings() throws Exception {
+        assertSameBytes("/direct/strings", TestResource.strings());
+    }
+
+    @Test
+    public void testNullsAndEmpty() throws Exception {
+        assertSameBytes("/direct/nulls", TestResource.nulls());
+    }
+
+    @Test
+    public void testNumbers() throws Exception {
+        assertSameBytes("/direct/numbers", TestResource.numbers());
+        assertSameBytes("/direct/extremes", TestResource.extremes());
+    }
+
+    @Test
+    public void testNestedBeans() throws Exception {
+        assertSameBytes("/direct/nested", TestResource.nested());
+    }
+
+    @Test
+    public void testCollections() throws Exception {
+        assertSameBytes("/direct/collections", TestResource.collections());
+    }
+
+    @Test
+    public void testFallbacks() throws Exception {
+        assertSameBytes("/direct/fallbacks", TestResource.fallbacks());
+    }
+
+    private void assertSameBytes(String path, Object entity) throws Exception {
+        byte[] body = given().accept("application/json").get(path).then().statusCode(200).extract().asByteArray();
+        assertThat(new String(body, StandardCharsets.UTF_8))
+                .isEqualTo(new String(objectMapper.writeValueAsBytes(entity), StandardCharsets.UTF_8));
+    }
+
+    private static <T> T get(String path, Class<T> type) {
+        return given().accept("application/json").get(path).then().statusCode(200).extract().as(type);
+    }
+
+    @Path("/direct")
+    @NonBlocking
+    public static class TestResource {
+
+        @GET
+        @Path("trace")
+        public Trace trace() {
+            return new Trace();
+        }
+
+        @GET
+        @Path("strings")
+        public Strings getStrings() {
+            return strings();
+        }
+
+        @GET
+        @Path("nulls")
+        public Strings getNulls() {
+            return nulls();
+        }
+
+        @GET
+        @Path("numbers")
+        public Numbers getNumbers() {
+            return numbers();
+        }
+
+        @GET
+        @Path("extremes")
+        public Numbers getExtremes() {
+            return extremes();
+        }
+
+        @GET
+        @Path("nested")
+        public Outer getNested() {
+            return nested();
+        }
+
+        @GET
+        @Path("collections")
+        public Collections getCollections() {
+            return collections();
+        }
+
+        @GET
+        @Path("fallbacks")
+        public Fallbacks getFallbacks() {
+            return fallbacks();
+        }
+
+        static Strings strings() {
+            Strings strings = new Strings();
+            strings.plain = "plain";
+            strings.escaped = "\"quoted\" \\ back/slash \b\f\n\r\t \u0000\u0001\u001f\u007f";
+            strings.unicode = "za\u017c\u00f3\u0142\u0107 \u20ac \u2028\u2029 \ud83d\ude00";
+            strings.empty = "";
+            strings.character = '"';
+            return strings;
+        }
+
+        static Strings nulls() {
+            Strings strings = new Strings();
+            strings.empty = "";
+            return strings;
+        }
+
+        static Numbers numbers() {
+            Numbers numbers = new Numbers();
+            numbers.primitiveInt = 42;
+            numbers.primitiveLong = -7L;
+            numbers.primitiveDouble = 1.5;
+            numbers.primitiveFloat = 0.1f;
+            numbers.primitiveShort = 3;
+            numbers.primitiveByte = -1;
+            numbers.primitiveBoolean = true;
+            numbers.boxedInt = 1;
+            numbers.boxedLong = 2L;
+            numbers.boxedDouble = 0.3;
+            numbers.boxedBoolean = false;
+            // boxedFloat is null
+            return numbers;
+        }
+
+        static Numbers extremes() {
+            Numbers numbers = new Numbers();
+            numbers.primitiveInt = Integer.MIN_VALUE;
+            numbers.primitiveLong = Long.MAX_VALUE;
+            numbers.primitiveDouble = Double.NaN;
+            numbers.primitiveFloat = Float.NEGATIVE_INFINITY;
+            numbers.primitiveShort = Short.MIN_VALUE;
+            numbers.primitiveByte = Byte.MAX_VALUE;
+            numbers.boxedInt = Integer.MAX_VALUE;
+            numbers.boxedLong = Long.MIN_VALUE;
+            numbers.boxedDouble = 1e-300;
+            numbers.boxedFloat = Float.MAX_VALUE;
+            return numbers;
+        }
+
+        static Outer nested() {
+            Outer outer = new Outer();
+            outer.name = "outer";
+            outer.inner = new Inner("first", 1);
+            // written as null
+            outer.other = null;
+            return outer;
+        }
+
+        static Collections collections() {
+            Collections collections = new Collections();
+            collections.names = Arrays.asList("a", null, "\"c\"");
+            collections.empty = List.of();
+            collections.inners = List.of(new Inner("x", 1), new Inner("y\n", 2));
+            collections.numbers = new int[] { 1, 2, 3 };
+            return collections;
+        }
+
+        static Fallbacks fallbacks() {
+            Fallbacks fallbacks = new Fallbacks();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("a", 1);
+            map.put("b", List.of("x", "y"));
+            map.put("c", null);
+            fallbacks.map = map;
+            fallbacks.date = LocalDate.of(2024, 2, 29);
+            fallbacks.object = new Inner("dynamic", 3);
+            fallbacks.objects = List.of("s", 1, new Inner("i", 4), List.of());
+            fallbacks.after = "after";
+            return fallbacks;
+        }
+    }
+
+    public static class Strings {
+        public String plain;
+        public String escaped;
+        public String unicode;
+        public String empty;
+        public String missing;
+        public char character = 'c';
+    }
+
+    public static class Numbers {
+        public int primitiveInt;
+        public long primitiveLong;
+        public double primitiveDouble;
+        public float primitiveFloat;
+        public short primitiveShort;
+        public byte primitiveByte;
+        public boolean primitiveBoolean;
+        public Integer boxedInt;
+        public Long boxedLong;
+        public Double boxedDouble;
+        public Float boxedFloat;
+        public Boolean boxedBoolean;
+    }
+
+    public static class Outer {
+        public String name;
+        public Inner inner;
+        public Inner other;
+    }
+
+    public static class Inner {
+        public String value;
+        public int count;
+
+        public Inner() {
+        }
+
+        public Inner(String value, int count) {
+            this.value = value;
+            this.count = count;
+        }
+    }
+
+    public static class Collections {
+        public List<String> names;
+        public List<String> empty;
+        public List<Inner> inners;
+        public int[] numbers;
+    }
+
+    public static class Fallbacks {
+        public Map<String, Object> map;
+        public LocalDate date;
+        public Object object;
+        public List<Object> objects;
+        public String after;
+    }
+
+    public static class Trace {
+
+        private List<String> stackTrace;
+
+        public List<String> getStackTrace() {
+            if (stackTrace == null) {
+                stackTrace = StackWalker.getInstance()
+                        .walk(frames -> frames.limit(20)
+                                .map(frame -> frame.getClassName() + "." + frame.getMethodName())
+                                .collect(Collectors.toList()));
+            }
+            return stackTrace;
+        }
+
+        public void setStackTrace(List<String> stackTrace) {
+            this.stackTrace = stackTrace;
+        }
+    }
+}
@@ -15,7 +15,9 @@
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.resteasy.reactive.jackson.runtime.mappers.DirectJsonWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.security.RolesAllowedConfigExpStorage;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.DirectJsonWriters;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersRegister;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
@@ -85,6 +87,10 @@ public void recordGeneratedSerializer(String className) {
         GeneratedSerializersRegister.addSerializer((Class<? extends StdSerializer>) loadClass(className));
     }
 
+    public void recordDirectJsonWriter(String className) {
+        DirectJsonWriters.addWriter((Class<? extends DirectJsonWriter>) loadClass(className));
+    }
+
     public void recordGeneratedDeserializer(String className) {
         GeneratedSerializersRegister.addDeserializer((Class<? extends StdDeserializer>) loadClass(className));
     }
@@ -0,0 +1,353 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.mappers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+
+/**
+ * The UTF-8 JSON output used by the {@link DirectJsonWriter}s. Field names are written as pre-encoded bytes and values
+ * are encoded, escaping strings the same way Jackson's default {@code UTF8JsonGenerator} does, into a byte array
+ * borrowed from the Jackson {@link BufferRecycler} which is copied to the target {@link ByteBuf} whenever it is full.
+ * <p>
+ * Values that can't be written directly, because there is no {@link DirectJsonWriter} for their runtime class, are
+ * delegated to the {@link ObjectWriter} the direct writers have been validated against, which writes them into the same
+ * buffer through a single {@link JsonGenerator} created on first use. The generator never closes the buffer and writes
+ * no separator between the values.
+ * <p>
+ * The output must be closed once the value has been written, to flush the pending bytes and give the byte array back.
+ */
+public final class DirectJsonOutput implements Closeable {
+
+    private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+    private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+    private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The maximum number of bytes a char of a string can be written as, i.e. a unicode escape
+     */
+    private static final int MAX_CHAR_BYTES = 6;
+
+    /**
+     * The maximum number of bytes of a long, i.e. {@code -9223372036854775808}
+     */
+    private static final int MAX_LONG_BYTES = 20;
+
+    /**
+     * For each ASCII character, 0 if it can be written as is, 'u' if it must be written as a unicode escape, or the
+     * character to write after the backslash otherwise
+     */
+    private static final byte[] ESCAPES = new byte[128];
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            ESCAPES[i] = 'u';
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\r'] = 'r';
+    }
+
+    private final ByteBuf buffer;
+    private final Map<Class<?>, DirectJsonWriter> writers;
+    private final ObjectWriter fallback;
+    private final BufferRecycler recycler;
+    private byte[] bytes;
+    private int position;
+    /**
+     * Whether the next field name must be preceded by a comma, i.e. whether it isn't the first of the current object
+     */
+    private boolean afterField;
+    private JsonGenerator fallbackGenerator;
+
+    public DirectJsonOutput(ByteBuf buffer, Map<Class<?>, DirectJsonWriter> writers, ObjectWriter fallback) {
+        this.buffer = buffer;
+        this.writers = writers;
+        this.fallback = fallback;
+        this.recycler = fallback.getFactory()._getRecyclerPool().acquireAndLinkPooled();
+        this.bytes = recycler.allocByteBuffer(BufferRecycler.BYTE_WRITE_ENCODING_BUFFER);
+    }
+
+    /**
+     * Encodes a field name, including its quotes and the trailing colon. Invoked once per field by the static
+     * initializer of the generated writers.
+     */
+    public static byte[] fieldName(String name) {
+        return ('"' + new String(JsonStringEncoder.getInstance().quoteAsString(name)) + "\":")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void writeStartObject() {
+        ensureWritable(1);
+        bytes[position++] = '{';
+        afterField = false;
+    }
+
+    public void writeEndObject() {
+        ensureWritable(1);
+        bytes[position++] = '}';
+        afterField = true;
+    }
+
+    /**
+     * Writes a field name previously encoded by {@link #fieldName(String)}, preceded by a comma unless it is the first
+     * field of the current object.
+     */
+    public void writeFieldName(byte[] name) {
+        ensureWritable(name.length + 1);
+        if (afterField) {
+            bytes[position++] = ',';
+        }
+        System.arraycopy(name, 0, bytes, position, name.length);
+        position += name.length;
+        afterField = true;
+    }
+
+    public void writeNull() {
+        writeRaw(NULL);
+    }
+
+    public void writeBoolean(boolean value) {
+        writeRaw(value ? TRUE : FALSE);
+    }
+
+    public void writeNumber(short value) {
+        writeNumber((long) value);
+    }
+
+    public void writeNumber(int value) {
+        writeNumber((long) value);
+    }
+
+    public void writeNumber(long value) {
+        ensureWritable(MAX_LONG_BYTES);
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            bytes[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long remaining = value; remaining >= 10; remaining /= 10) {
+            digits++;
+        }
+        for (int i = position + digits - 1; i >= position; i--) {
+            bytes[i] = (byte) ('0' + (int) (value % 10));
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    public void writeNumber(float value) {
+        if (Float.isFinite(value)) {
+            writeAscii(Float.toString(value));
+        } else {
+            // Jackson quotes non numeric numbers by default
+            writeString(Float.toString(value));
+        }
+    }
+
+    public void writeNumber(double value) {
+        if (Double.isFinite(value)) {
+            writeAscii(Double.toString(value));
+        } else {
+            writeString(Double.toString(value));
+        }
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        ensureWritable(1);
+        bytes[position++] = '"';
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (position + MAX_CHAR_BYTES > bytes.length) {
+                flush();
+            }
+            char c = value.charAt(i);
+            if (c < 128) {
+                byte escape = ESCAPES[c];
+                if (escape == 0) {
+                    bytes[position++] = (byte) c;
+                } else if (escape == 'u') {
+                    writeUnicodeEscape(c);
+                } else {
+                    bytes[position++] = '\\';
+                    bytes[position++] = escape;
+                }
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // like Jackson, surrogates are escaped rather than combined into a 4 bytes UTF-8 sequence
+                writeUnicodeEscape(c);
+            } else {
+                bytes[position++] = (byte) (0xE0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        ensureWritable(1);
+        bytes[position++] = '"';
+    }
+
+    private void writeUnicodeEscape(char c) {
+        bytes[position++] = '\\';
+        bytes[position++] = 'u';
+        bytes[position++] = HEX[c >> 12];
+        bytes[position++] = HEX[(c >> 8) & 0xF];
+        bytes[position++] = HEX[(c >> 4) & 0xF];
+        bytes[position++] = HEX[c & 0xF];
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensureWritable(length);
+        for (int i = 0; i < length; i++) {
+            bytes[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeRaw(byte[] value) {
+        ensureWritable(value.length);
+        System.arraycopy(value, 0, bytes, position, value.length);
+        position += value.length;
+    }
+
+    private void ensureWritable(int length) {
+        if (position + length > bytes.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Copies the pending bytes to the target buffer.
+     */
+    public void flush() {
+        if (position > 0) {
+            buffer.writeBytes(bytes, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Flushes the pending bytes and gives the byte array back to the {@link BufferRecycler}. The output can't be used
+     * afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        if (bytes != null) {
+            flush();
+            recycler.releaseByteBuffer(BufferRecycler.BYTE_WRITE_ENCODING_BUFFER, bytes);
+            recycler.releaseToPool();
+            bytes = null;
+            if (fallbackGenerator != null) {
+                // releases the buffers of the generator, the target buffer is left open
+                fallbackGenerator.close();
+                fallbackGenerator = null;
+            }
+        }
+    }
+
+    /**
+     * Writes a value whose type is not known at build time, using the direct writer of its runtime class if there is
+     * one, and falling back to Jackson otherwise.
+     *
+     * @param value the value to write
+     * @param bean the object owning the value, used to detect direct self references
+     */
+    public void writeValue(Object value, Object bean) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        if (value == bean) {
+            writeSelfReference(bean);
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            writeString((String) value);
+            return;
+        }
+        DirectJsonWriter writer = writers.get(type);
+        if (writer != null) {
+            writer.write(value, this);
+            return;
+        }
+        if (value instanceof Collection<?> collection && type.getName().startsWith("java.util.")) {
+            writeCollection(collection);
+            return;
+        }
+        flush();
+        JsonGenerator generator = fallbackGenerator();
+        fallback.writeValue(generator, value);
+        // the following bytes are written directly to the buffer
+        generator.flush();
+    }
+
+    private JsonGenerator fallbackGenerator() throws IOException {
+        if (fallbackGenerator == null) {
+            OutputStream stream = new ByteBufOutputStream(buffer);
+            JsonGenerator generator = fallback.createGenerator(stream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // the values are not root values of the response, they are separated by the direct output if needed
+            generator.setRootValueSeparator(null);
+            fallbackGenerator = generator;
+        }
+        return fallbackGenerator;
+    }
+
+    private void writeCollection(Collection<?> collection) throws IOException {
+        ensureWritable(1);
+        bytes[position++] = '[';
+        boolean first = true;
+        for (Object element : collection) {
+            if (first) {
+                first = false;
+            } else {
+                ensureWritable(1);
+                bytes[position++] = ',';
+            }
+            writeValue(element, null);
+        }
+        ensureWritable(1);
+        bytes[position++] = ']';
+    }
+
+    private void writeSelfReference(Object bean) throws IOException {
+        // same semantics as JacksonMapperUtil.serializePojo
+        SerializationConfig config = fallback.getConfig();
+        if (!config.isEnabled(SerializationFeature.FAIL_ON_SELF_REFERENCES)) {
+            writers.get(bean.getClass()).write(bean, this);
+        } else if (config.isEnabled(SerializationFeature.WRITE_SELF_REFERENCES_AS_NULL)) {
+            writeNull();
+        } else {
+            throw new JsonMappingException(null,
+                    "Direct self-reference leading to cycle (through reference chain: " + bean.getClass().getName() + ")");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.mappers;
+
+import java.io.IOException;
+
+/**
+ * Base class of the build time generated writers that serialize a class straight into a {@link DirectJsonOutput},
+ * without going through Jackson's {@code JsonGenerator}. A writer is only generated for classes that also have a
+ * {@link GeneratedSerializer}, and it produces exactly the same output as that serializer would for a default configured
+ * {@code ObjectMapper}.
+ */
+public abstract class DirectJsonWriter {
+
+    private final Class<?> handledType;
+
+    protected DirectJsonWriter(Class<?> handledType) {
+        this.handledType = handledType;
+    }
+
+    public Class<?> handledType() {
+        return handledType;
+    }
+
+    public abstract void write(Object value, DirectJsonOutput out) throws IOException;
+}
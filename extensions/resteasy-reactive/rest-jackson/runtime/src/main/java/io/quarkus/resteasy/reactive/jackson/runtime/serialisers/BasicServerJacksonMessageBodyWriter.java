@@ -32,11 +32,13 @@
 public class BasicServerJacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter {
 
     private final LazyValue<ObjectWriter> defaultWriter;
+    private final LazyValue<DirectJsonWriters> directWriters;
     private final Map<JavaType, ObjectWriter> genericWriters = new ConcurrentHashMap<>();
 
     // used by Arc
     public BasicServerJacksonMessageBodyWriter() {
         defaultWriter = null;
+        directWriters = null;
     }
 
     @Inject
@@ -47,6 +49,12 @@ public ObjectWriter get() {
                 return createDefaultWriter(mapper.get());
             }
         });
+        this.directWriters = new LazyValue<>(new Supplier<>() {
+            @Override
+            public DirectJsonWriters get() {
+                return DirectJsonWriters.forWriter(mapper.get(), defaultWriter.get());
+            }
+        });
     }
 
     private ObjectWriter getWriter(Type genericType, Object value) {
@@ -78,6 +86,9 @@ public ObjectWriter apply(JavaType type) {
     @Override
     public void writeResponse(Object o, Type genericType, ServerRequestContext context)
             throws WebApplicationException, IOException {
+        if (!(o instanceof String) && directWriters.get().writeResponse(o, genericType, context)) {
+            return;
+        }
         OutputStream stream = context.getOrCreateOutputStream();
         if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
             stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
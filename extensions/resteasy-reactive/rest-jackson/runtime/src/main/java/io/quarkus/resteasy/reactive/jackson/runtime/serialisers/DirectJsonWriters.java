@@ -0,0 +1,163 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.ResponseSizePredictor;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.resteasy.reactive.jackson.runtime.mappers.DirectJsonOutput;
+import io.quarkus.resteasy.reactive.jackson.runtime.mappers.DirectJsonWriter;
+import io.quarkus.resteasy.reactive.jackson.runtime.mappers.GeneratedSerializer;
+import io.quarkus.vertx.utils.NoBoundChecksBuffer;
+import io.vertx.core.impl.buffer.VertxByteBufAllocator;
+
+/**
+ * The {@link DirectJsonWriter}s usable with a given {@link ObjectWriter}.
+ * <p>
+ * A direct writer bypasses the {@code ObjectMapper}, so it is only used when the mapper would produce the same output
+ * through the corresponding {@link GeneratedSerializer}: the writer must use the default JSON output features, and the
+ * mapper must resolve the generated serializer for the type, i.e. no custom serializer or serializer modifier has been
+ * registered for it.
+ */
+public final class DirectJsonWriters {
+
+    private static final Logger log = Logger.getLogger(DirectJsonWriters.class);
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    // written by the recorder at static init, read when the message body writers are first used
+    private static final Map<Class<?>, DirectJsonWriter> registered = new ConcurrentHashMap<>();
+
+    private static final DirectJsonWriters NONE = new DirectJsonWriters(Map.of(), null);
+
+    private final Map<Class<?>, DirectJsonWriter> writers;
+    private final ObjectWriter fallback;
+
+    private DirectJsonWriters(Map<Class<?>, DirectJsonWriter> writers, ObjectWriter fallback) {
+        this.writers = writers;
+        this.fallback = fallback;
+    }
+
+    public static void addWriter(Class<? extends DirectJsonWriter> writerClass) {
+        try {
+            DirectJsonWriter writer = writerClass.getConstructor().newInstance();
+            registered.put(writer.handledType(), writer);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException
+                | NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static DirectJsonWriters forWriter(ObjectMapper mapper, ObjectWriter writer) {
+        if (registered.isEmpty()) {
+            return NONE;
+        }
+        if (!hasDefaultOutput(writer)) {
+            log.debug("Direct JSON writers are disabled because the ObjectMapper does not use the default JSON output");
+            return NONE;
+        }
+        SerializationConfig config = writer.getConfig();
+        SerializerProvider provider = mapper.getSerializerProviderInstance();
+        Map<Class<?>, DirectJsonWriter> writers = new HashMap<>();
+        for (Map.Entry<Class<?>, DirectJsonWriter> entry : registered.entrySet()) {
+            Class<?> type = entry.getKey();
+            try {
+                if (provider.findValueSerializer(type) instanceof GeneratedSerializer
+                        && includesAll(config.getDefaultPropertyInclusion(type))) {
+                    writers.put(type, entry.getValue());
+                } else {
+                    log.debugf("Direct JSON writer disabled for %s because of its ObjectMapper configuration", type);
+                }
+            } catch (JsonMappingException e) {
+                log.debugf(e, "Direct JSON writer disabled for %s", type);
+            }
+        }
+        return writers.isEmpty() ? NONE : new DirectJsonWriters(writers, writer);
+    }
+
+    private static boolean hasDefaultOutput(ObjectWriter writer) {
+        SerializationConfig config = writer.getConfig();
+        JsonFactory factory = writer.getFactory();
+        return JsonFactory.FORMAT_NAME_JSON.equals(factory.getFormatName())
+                && factory.getCharacterEscapes() == null
+                && !config.isEnabled(SerializationFeature.INDENT_OUTPUT)
+                && !config.isEnabled(SerializationFeature.WRAP_ROOT_VALUE)
+                && config.getPropertyNamingStrategy() == null
+                && config.getActiveView() == null
+                && config.isEnabled(JsonGenerator.Feature.QUOTE_FIELD_NAMES, factory)
+                && config.isEnabled(JsonGenerator.Feature.QUOTE_NON_NUMERIC_NUMBERS, factory)
+                && config.isEnabled(JsonGenerator.Feature.WRITE_HEX_UPPER_CASE, factory)
+                && !config.isEnabled(JsonGenerator.Feature.ESCAPE_NON_ASCII, factory)
+                && !config.isEnabled(JsonGenerator.Feature.ESCAPE_FORWARD_SLASHES, factory)
+                && !config.isEnabled(JsonGenerator.Feature.WRITE_NUMBERS_AS_STRINGS, factory)
+                && !config.isEnabled(JsonGenerator.Feature.USE_FAST_DOUBLE_WRITER, factory)
+                && !config.isEnabled(JsonGenerator.Feature.COMBINE_UNICODE_SURROGATES_IN_UTF8, factory);
+    }
+
+    private static boolean includesAll(JsonInclude.Value inclusion) {
+        // mirrors JacksonMapperUtil.SerializationInclude.decode
+        return switch (inclusion.getValueInclusion()) {
+            case NON_NULL, NON_ABSENT, NON_EMPTY -> false;
+            default -> true;
+        };
+    }
+
+    /**
+     * Writes the response entity through its direct writer, if it has one.
+     *
+     * @return true if the response has been written, false if the entity must be written through Jackson
+     */
+    boolean writeResponse(Object o, Type genericType, ServerRequestContext context) throws IOException {
+        if (o == null || writers.isEmpty() || !(genericType == null || genericType instanceof Class)) {
+            return false;
+        }
+        DirectJsonWriter writer = writers.get(o.getClass());
+        if (writer == null || !(context.serverResponse() instanceof VertxResteasyReactiveRequestContext response)) {
+            return false;
+        }
+        ResponseSizePredictor responseSizePredictor = responseSizePredictor(response);
+        int expectedSize = responseSizePredictor == null ? 0
+                : Math.min(responseSizePredictor.predictedSize(),
+                        response.getDeployment().getResteasyReactiveConfig().getMaxAdaptiveOutputBufferSize());
+        ByteBuf buffer = VertxByteBufAllocator.POOLED_ALLOCATOR
+                .directBuffer(expectedSize > 0 ? expectedSize : INITIAL_BUFFER_SIZE);
+        try (DirectJsonOutput out = new DirectJsonOutput(buffer, writers, fallback)) {
+            writer.write(o, out);
+        } catch (Throwable t) {
+            buffer.release();
+            throw t;
+        }
+        if (responseSizePredictor != null) {
+            responseSizePredictor.record(buffer.readableBytes(), expectedSize);
+        }
+        response.end(new NoBoundChecksBuffer(buffer));
+        return true;
+    }
+
+    private static ResponseSizePredictor responseSizePredictor(VertxResteasyReactiveRequestContext context) {
+        RuntimeResource target = context.getTarget();
+        if (target == null || context.getDeployment().getResteasyReactiveConfig().getMaxAdaptiveOutputBufferSize() == 0) {
+            return null;
+        }
+        return target.getResponseSizePredictor();
+    }
+}
@@ -41,6 +41,7 @@ public class FullyFeaturedServerJacksonMessageBodyWriter extends ServerMessageBo
     private final Instance<ObjectMapper> originalMapper;
     private final Providers providers;
     private final LazyValue<ObjectWriter> defaultWriter;
+    private final LazyValue<DirectJsonWriters> directWriters;
     private final ConcurrentMap<String, ObjectWriter> perMethodWriter = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, ObjectWriter> perTypeWriter = new ConcurrentHashMap<>();
     private final ConcurrentMap<Class<?>, ObjectMapper> contextResolverMap = new ConcurrentHashMap<>();
@@ -51,6 +52,7 @@ public FullyFeaturedServerJacksonMessageBodyWriter() {
         originalMapper = null;
         providers = null;
         defaultWriter = null;
+        directWriters = null;
     }
 
     @Inject
@@ -63,13 +65,20 @@ public ObjectWriter get() {
                 return createDefaultWriter(mapper.get());
             }
         });
+        this.directWriters = new LazyValue<>(new Supplier<>() {
+            @Override
+            public DirectJsonWriters get() {
+                return DirectJsonWriters.forWriter(mapper.get(), defaultWriter.get());
+            }
+        });
     }
 
     @Override
     public void writeResponse(Object o, Type genericType, ServerRequestContext context)
             throws WebApplicationException, IOException {
-        OutputStream stream = context.getOrCreateOutputStream();
+        OutputStream stream;
         if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
+            stream = context.getOrCreateOutputStream();
             stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
         } else {
             ObjectMapper effectiveMapper = getEffectiveMapper(o, context);
@@ -103,6 +112,11 @@ public void writeResponse(Object o, Type genericType, ServerRequestContext conte
                     effectiveWriter = effectiveWriter.forType(rootType);
                 }
             }
+            // the direct writers only apply when none of the above customized the writer
+            if (effectiveWriter == defaultWriter.get() && directWriters.get().writeResponse(o, genericType, context)) {
+                return;
+            }
+            stream = context.getOrCreateOutputStream();
             effectiveWriter.writeValue(stream, o);
         }
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
@@ -7,6 +7,10 @@
 import java.util.List;
 import java.util.Map;
 
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -23,11 +27,14 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.StreamedTemplate;
+import io.quarkus.resteasy.reactive.qute.runtime.StreamedTemplateMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -43,6 +50,14 @@ CustomContainerResponseFilterBuildItem registerProviders() {
         return new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName());
     }
 
+    @BuildStep
+    MessageBodyWriterBuildItem registerStreamedTemplateWriter() {
+        // Used if quarkus.rest.qute.streaming=true
+        return new MessageBodyWriterBuildItem(StreamedTemplateMessageBodyWriter.class.getName(),
+                StreamedTemplate.class.getName(), List.of(MediaType.TEXT_PLAIN, MediaType.WILDCARD), RuntimeType.SERVER,
+                true, Priorities.USER);
+    }
+
     @BuildStep
     ReflectiveHierarchyIgnoreWarningBuildItem ignoreReflectiveWarning() {
         return new ReflectiveHierarchyIgnoreWarningBuildItem(
@@ -0,0 +1,62 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class StreamingTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("quarkus.rest.qute.streaming=true\n"
+                            + "quarkus.rest.qute.streaming-flush-threshold=1K"),
+                            "application.properties")
+                    .addAsResource(new StringAsset("{#for i in total}{i}:ěščř;{/for}"), "templates/items.txt"));
+
+    @Test
+    public void testLargeOutput() {
+        String expected = IntStream.rangeClosed(1, 10_000).mapToObj(i -> i + ":ěščř;").collect(Collectors.joining());
+        when().get("/test?total=10000").then().statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body(Matchers.is(expected));
+    }
+
+    @Test
+    public void testSmallOutput() {
+        when().get("/test?total=2").then().statusCode(200)
+                .header("Content-Length", "22")
+                .body(Matchers.is("1:ěščř;2:ěščř;"));
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN + ";charset=UTF-8")
+        public TemplateInstance get(@QueryParam("total") int total) {
+            return items.data("total", total);
+        }
+    }
+}
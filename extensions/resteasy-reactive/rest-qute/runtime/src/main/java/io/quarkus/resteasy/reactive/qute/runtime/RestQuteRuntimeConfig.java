@@ -0,0 +1,33 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+@ConfigMapping(prefix = "quarkus.rest.qute")
+public interface RestQuteRuntimeConfig {
+
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a resource method is not rendered
+     * as a single string. Instead, the template is resolved first and then the output is encoded directly to the response
+     * buffers, i.e. no {@code String} or {@code byte[]} copy of the whole page is created. However, the resolved template
+     * still holds all the rendered output until it is encoded, and the encoded output is not subject to backpressure, i.e.
+     * the response buffers of a large page may be queued for writing at once.
+     * <p>
+     * Note that the response is committed once the output exceeds the output buffer size or the flush threshold. An error
+     * that occurs afterwards, e.g. in an {@code onRendered()} action, closes the connection.
+     */
+    @WithDefault("false")
+    boolean streaming();
+
+    /**
+     * The number of bytes after which the output of a streamed template is flushed to the client. The response is also
+     * flushed whenever the output buffer is full, see {@code quarkus.rest.output-buffer-size}.
+     */
+    @WithDefault("8K")
+    MemorySize streamingFlushThreshold();
+
+}
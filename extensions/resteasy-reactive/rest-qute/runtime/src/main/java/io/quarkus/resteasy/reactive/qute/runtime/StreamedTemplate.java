@@ -0,0 +1,26 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.qute.ResolvedTemplate;
+
+/**
+ * A resolved template whose output is written to the response by {@link StreamedTemplateMessageBodyWriter}.
+ */
+public final class StreamedTemplate {
+
+    private final ResolvedTemplate resolved;
+    private final int flushThreshold;
+
+    StreamedTemplate(ResolvedTemplate resolved, int flushThreshold) {
+        this.resolved = resolved;
+        this.flushThreshold = flushThreshold;
+    }
+
+    ResolvedTemplate getResolved() {
+        return resolved;
+    }
+
+    int getFlushThreshold() {
+        return flushThreshold;
+    }
+
+}
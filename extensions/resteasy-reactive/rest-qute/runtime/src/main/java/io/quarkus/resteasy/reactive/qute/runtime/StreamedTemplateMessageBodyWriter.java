@@ -0,0 +1,161 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.common.providers.serialisers.MessageReaderUtil;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+/**
+ * Encodes the output of a {@link StreamedTemplate} directly to the response output stream, i.e. to the pooled buffers of
+ * the response, and flushes the stream whenever the flush threshold is reached.
+ */
+public class StreamedTemplateMessageBodyWriter implements ServerMessageBodyWriter<StreamedTemplate> {
+
+    // The max size of the intermediate buffer used to encode the chunks
+    private static final int ENCODER_BUFFER_SIZE = 2048;
+    // The min size must be large enough for any encoded character
+    private static final int MIN_ENCODER_BUFFER_SIZE = 64;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return doIsWriteable(type);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target,
+            MediaType mediaType) {
+        return doIsWriteable(type);
+    }
+
+    private static boolean doIsWriteable(Class<?> type) {
+        return StreamedTemplate.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public long getSize(StreamedTemplate template, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType) {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(StreamedTemplate template, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        write(template, mediaType, entityStream);
+    }
+
+    @Override
+    public void writeResponse(StreamedTemplate template, Type genericType, ServerRequestContext context)
+            throws WebApplicationException, IOException {
+        ResteasyReactiveRequestContext rrContext = (ResteasyReactiveRequestContext) context;
+        try {
+            write(template, context.getResponseMediaType(), context.getOrCreateOutputStream());
+        } catch (Throwable t) {
+            if (context.serverResponse().headWritten()) {
+                context.serverResponse().reset();
+                rrContext.resume(t);
+            } else {
+                throw t;
+            }
+        }
+    }
+
+    private static void write(StreamedTemplate template, MediaType mediaType, OutputStream out) throws IOException {
+        Charset charset = Charset.forName(MessageReaderUtil.charsetFromMediaType(mediaType));
+        ChunkEncoder encoder = new ChunkEncoder(out, charset, template.getFlushThreshold());
+        try {
+            template.getResolved().consume(encoder);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        encoder.finish();
+    }
+
+    /**
+     * Encodes the chunks through a small reusable buffer. Each chunk is encoded in the same way as
+     * {@link String#getBytes(Charset)}, i.e. malformed input is replaced.
+     */
+    private static final class ChunkEncoder implements Consumer<String> {
+
+        private final OutputStream out;
+        private final CharsetEncoder encoder;
+        private final ByteBuffer bytes;
+        private final int flushThreshold;
+        private int unflushed;
+
+        ChunkEncoder(OutputStream out, Charset charset, int flushThreshold) {
+            this.out = out;
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.bytes = ByteBuffer
+                    .allocate(Math.max(MIN_ENCODER_BUFFER_SIZE, Math.min(ENCODER_BUFFER_SIZE, flushThreshold)));
+            this.flushThreshold = flushThreshold;
+        }
+
+        @Override
+        public void accept(String chunk) {
+            try {
+                CharBuffer chars = CharBuffer.wrap(chunk);
+                encoder.reset();
+                CoderResult result;
+                while ((result = encoder.encode(chars, bytes, true)).isOverflow()) {
+                    drain();
+                }
+                checkResult(result);
+                while ((result = encoder.flush(bytes)).isOverflow()) {
+                    drain();
+                }
+                checkResult(result);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            // The remaining bytes are written when the response is completed
+            if (bytes.position() > 0) {
+                out.write(bytes.array(), 0, bytes.position());
+                bytes.clear();
+            }
+        }
+
+        private void drain() throws IOException {
+            int length = bytes.position();
+            out.write(bytes.array(), 0, length);
+            bytes.clear();
+            unflushed += length;
+            if (unflushed >= flushThreshold) {
+                out.flush();
+                unflushed = 0;
+            }
+        }
+
+        private static void checkResult(CoderResult result) throws CharacterCodingException {
+            if (result.isError()) {
+                result.throwException();
+            }
+        }
+
+    }
+
+}
@@ -23,6 +23,9 @@ public class TemplateResponseFilter {
     @Inject
     Engine engine;
 
+    @Inject
+    RestQuteRuntimeConfig config;
+
     @ServerResponseFilter
     public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
         Object entity = responseContext.getEntity();
@@ -39,7 +42,7 @@ public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext,
             mediaType = selectedMediaType;
         }
 
-        Uni<String> uni = toUni(instance, engine);
+        Uni<?> uni = toUni(instance, engine, config);
         return uni.chain(r -> {
             if (mediaType != null) {
                 responseContext.setEntity(r, null, mediaType);
@@ -15,6 +15,7 @@
 public class TemplateResponseUniHandler implements ServerRestHandler {
 
     private volatile Engine engine;
+    private volatile RestQuteRuntimeConfig config;
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
@@ -28,18 +29,20 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         if (engine == null) {
             synchronized (this) {
                 if (engine == null) {
+                    config = Arc.container().instance(RestQuteRuntimeConfig.class).get();
                     engine = Arc.container().instance(Engine.class).get();
                 }
             }
         }
-        requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
+        requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine, config));
     }
 
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
+    private Uni<?> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine,
+            RestQuteRuntimeConfig config) {
         MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
-        return toUni(result, engine);
+        return toUni(result, engine, config);
     }
 
 }
@@ -20,8 +20,21 @@ final class Util {
     private Util() {
     }
 
+    static Uni<?> toUni(TemplateInstance instance, Engine engine, RestQuteRuntimeConfig config) {
+        if (config.streaming()) {
+            int flushThreshold = config.streamingFlushThreshold().asIntValue();
+            // The output is produced when the response is written
+            return withTimeout(Uni.createFrom().completionStage(instance::resolve)
+                    .map(resolved -> new StreamedTemplate(resolved, flushThreshold)), instance, engine);
+        }
+        return toUni(instance, engine);
+    }
+
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
@@ -1766,6 +1766,9 @@ private org.jboss.resteasy.reactive.common.ResteasyReactiveConfig createRestReac
                 config.inputBufferSize().asLongValue(),
                 config.minChunkSize(),
                 config.outputBufferSize(),
+                config.adaptiveOutputBufferMaxSize()
+                        .map(size -> (int) Math.min(size.asLongValue(), Integer.MAX_VALUE))
+                        .orElse(0),
                 config.singleDefaultProduces(),
                 config.defaultProduces());
     }
@@ -1,6 +1,7 @@
 package io.quarkus.scheduler;
 
 import java.time.Instant;
+import java.util.OptionalLong;
 
 /**
  * Execution metadata of a specific scheduled job.
@@ -35,4 +36,16 @@ public interface ScheduledExecution {
      */
     Instant getScheduledFireTime();
 
+    /**
+     * If the scheduler is clustered, every execution of a job holds the lease of the job. The fencing token of the lease
+     * increases every time the lease is acquired by a node. A resource updated by the job may reject the updates with a token
+     * lower than the last one it has seen, e.g. if the execution took longer than the lease and another node acquired the
+     * lease in the meantime.
+     *
+     * @return the fencing token of the lease held by this execution, or an empty value if the scheduler is not clustered
+     */
+    default OptionalLong getFencingToken() {
+        return OptionalLong.empty();
+    }
+
 }
@@ -324,7 +324,8 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
                 }
             }
             // Validate cron() and every() expressions
-            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.CHECK_PERIOD : 50;
+            // The simple scheduler evaluates the triggers when they are due, so any every() value is supported
+            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? 0 : 50;
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType()));
             for (AnnotationInstance scheduled : scheduledMethod.getSchedules()) {
                 Throwable error = validateScheduled(parser, scheduled, encounteredIdentities, validationPhase.getContext(),
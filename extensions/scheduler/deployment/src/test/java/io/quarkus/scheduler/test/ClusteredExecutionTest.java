@@ -0,0 +1,72 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.runtime.InMemoryJobLeaseStore;
+import io.quarkus.scheduler.spi.JobLeaseStore;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class ClusteredExecutionTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, LeaseStoreProducer.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.cluster.enabled=true\n"
+                            + "quarkus.scheduler.cluster.node-name=node1"),
+                            "application.properties"));
+
+    @Test
+    public void testExecution() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(OptionalLong.of(1), Jobs.fencingToken);
+        // the lease of this job is held by another node
+        assertEquals(0, Jobs.FOREIGN.get());
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(3);
+        static final AtomicInteger FOREIGN = new AtomicInteger();
+
+        static volatile OptionalLong fencingToken;
+
+        @Scheduled(identity = "local", every = "0.1s")
+        void local(ScheduledExecution execution) {
+            fencingToken = execution.getFencingToken();
+            LATCH.countDown();
+        }
+
+        @Scheduled(identity = "foreign", every = "0.1s")
+        void foreign() {
+            FOREIGN.incrementAndGet();
+        }
+    }
+
+    static class LeaseStoreProducer {
+
+        @Singleton
+        @Produces
+        JobLeaseStore leaseStore() {
+            InMemoryJobLeaseStore store = new InMemoryJobLeaseStore();
+            store.acquire("foreign", "node2", Duration.ofHours(1));
+            return store;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class SubSecondIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testExecution() throws InterruptedException {
+        // The triggers are evaluated when due, not once per second
+        assertTrue(Jobs.LATCH.await(1500, TimeUnit.MILLISECONDS));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(10);
+
+        @Scheduled(every = "0.05s")
+        void everyFiftyMillis() {
+            LATCH.countDown();
+        }
+    }
+}
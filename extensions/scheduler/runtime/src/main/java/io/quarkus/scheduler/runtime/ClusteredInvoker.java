@@ -0,0 +1,153 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Instant;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
+import io.quarkus.scheduler.spi.JobLeaseStore.Lease;
+
+/**
+ * A scheduled invoker wrapper that skips the execution unless this node holds the lease of the job.
+ * <p>
+ * The lease store is only used if the lease should be renewed or if the lease held by another node expired. Otherwise the
+ * last known lease decides.
+ */
+final class ClusteredInvoker implements ScheduledInvoker {
+
+    private static final Logger LOG = Logger.getLogger(ClusteredInvoker.class);
+
+    private final ScheduledInvoker delegate;
+    private final String job;
+    private final JobLeases leases;
+    private final AtomicBoolean acquiring;
+    private final Event<SkippedExecution> event;
+    private volatile Lease lease;
+
+    ClusteredInvoker(ScheduledInvoker delegate, String job, JobLeases leases, Event<SkippedExecution> event) {
+        this.delegate = delegate;
+        this.job = job;
+        this.leases = leases;
+        this.acquiring = new AtomicBoolean();
+        this.event = event;
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return delegate.isBlocking();
+    }
+
+    @Override
+    public boolean isRunningOnVirtualThread() {
+        return delegate.isRunningOnVirtualThread();
+    }
+
+    @Override
+    public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+        Lease current = lease;
+        if (current != null) {
+            long remaining = current.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            if (current.isHeldBy(leases.node)) {
+                if (remaining > leases.duration.toMillis() / 2) {
+                    return delegate.invoke(new LeasedExecution(execution, current.fencingToken()));
+                }
+            } else if (remaining > 0) {
+                LOG.debugf("Skipped execution of job %s - the lease is held by node %s", job, current.node());
+                return CompletableFuture.completedStage(null);
+            }
+        }
+        if (!acquiring.compareAndSet(false, true)) {
+            // the previous acquisition did not finish yet
+            LOG.debugf("Skipped execution of job %s - the acquisition of the lease is in progress", job);
+            SkippedExecution payload = new SkippedExecution(execution,
+                    "The acquisition of the lease of the job is in progress");
+            try {
+                event.fire(payload);
+                event.fireAsync(payload);
+            } catch (Exception e) {
+                LOG.errorf("Error while firing SkippedExecution event", e);
+            }
+            return CompletableFuture.completedStage(null);
+        }
+        // the lease store may block
+        CompletableFuture<Void> ret = new CompletableFuture<>();
+        long delay = current != null && current.isHeldBy(leases.node) ? 0 : leases.acquisitionDelay();
+        leases.executor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                Lease acquired;
+                try {
+                    acquired = leases.acquire(job);
+                } catch (Throwable t) {
+                    LOG.errorf(t, "Unable to acquire the lease of job %s - the execution is skipped", job);
+                    lease = null;
+                    ret.complete(null);
+                    return;
+                } finally {
+                    acquiring.set(false);
+                }
+                lease = acquired;
+                if (!acquired.isHeldBy(leases.node)) {
+                    LOG.debugf("Skipped execution of job %s - the lease is held by node %s", job, acquired.node());
+                    ret.complete(null);
+                    return;
+                }
+                try {
+                    delegate.invoke(new LeasedExecution(execution, acquired.fencingToken())).whenComplete((r, t) -> {
+                        if (t != null) {
+                            ret.completeExceptionally(t);
+                        } else {
+                            ret.complete(null);
+                        }
+                    });
+                } catch (Throwable t) {
+                    ret.completeExceptionally(t);
+                }
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+        return ret;
+    }
+
+    static final class LeasedExecution implements ScheduledExecution {
+
+        private final ScheduledExecution delegate;
+        private final long fencingToken;
+
+        LeasedExecution(ScheduledExecution delegate, long fencingToken) {
+            this.delegate = delegate;
+            this.fencingToken = fencingToken;
+        }
+
+        @Override
+        public Trigger getTrigger() {
+            return delegate.getTrigger();
+        }
+
+        @Override
+        public Instant getFireTime() {
+            return delegate.getFireTime();
+        }
+
+        @Override
+        public Instant getScheduledFireTime() {
+            return delegate.getScheduledFireTime();
+        }
+
+        @Override
+        public OptionalLong getFencingToken() {
+            return OptionalLong.of(fencingToken);
+        }
+
+    }
+
+}
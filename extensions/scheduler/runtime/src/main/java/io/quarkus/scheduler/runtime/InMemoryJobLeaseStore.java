@@ -0,0 +1,43 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.quarkus.scheduler.spi.JobLeaseStore;
+
+/**
+ * Stores the leases in memory.
+ * <p>
+ * The jobs are only coordinated within the application instance. This store is used if the scheduler is clustered and no
+ * other {@link JobLeaseStore} is available, and it can stand in for a shared store in tests.
+ */
+public class InMemoryJobLeaseStore implements JobLeaseStore {
+
+    private final ConcurrentMap<String, Lease> leases = new ConcurrentHashMap<>();
+
+    @Override
+    public Lease acquire(String job, String node, Duration duration) {
+        Instant now = Instant.now();
+        return leases.compute(job, (j, lease) -> {
+            if (lease == null) {
+                return new Lease(j, node, 1, now.plus(duration));
+            }
+            boolean valid = lease.expiresAt().isAfter(now);
+            if (valid && !lease.isHeldBy(node)) {
+                return lease;
+            }
+            long token = valid ? lease.fencingToken() : lease.fencingToken() + 1;
+            return new Lease(j, node, token, now.plus(duration));
+        });
+    }
+
+    @Override
+    public void release(String job, String node) {
+        // the released lease expires so that the fencing token still increases when the lease is acquired again
+        leases.computeIfPresent(job,
+                (j, lease) -> lease.isHeldBy(node) ? new Lease(j, node, lease.fencingToken(), Instant.EPOCH) : lease);
+    }
+
+}
@@ -0,0 +1,125 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import javax.sql.DataSource;
+
+import io.quarkus.scheduler.spi.JobLeaseStore;
+
+/**
+ * Stores the leases in a database table.
+ * <p>
+ * Every operation is a single statement on the row of the job, executed when a job is due, so the table is not polled.
+ * The table must be created upfront:
+ *
+ * <pre>
+ * CREATE TABLE QUARKUS_SCHEDULER_LEASES (
+ *   JOB VARCHAR(255) NOT NULL PRIMARY KEY,
+ *   NODE VARCHAR(255) NOT NULL,
+ *   FENCING_TOKEN BIGINT NOT NULL,
+ *   EXPIRES_AT BIGINT NOT NULL
+ * )
+ * </pre>
+ *
+ * The expiration times are computed from the clocks of the nodes, which should be synchronized.
+ */
+public class JdbcJobLeaseStore implements JobLeaseStore {
+
+    public static final String DEFAULT_TABLE = "QUARKUS_SCHEDULER_LEASES";
+
+    private final DataSource dataSource;
+    private final String update;
+    private final String insert;
+    private final String select;
+    private final String release;
+
+    public JdbcJobLeaseStore(DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE);
+    }
+
+    public JdbcJobLeaseStore(DataSource dataSource, String table) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        // FENCING_TOKEN is assigned first because some databases, e.g. MySQL, assign the columns from left to right
+        this.update = "UPDATE " + table
+                + " SET FENCING_TOKEN = CASE WHEN NODE = ? AND EXPIRES_AT > ? THEN FENCING_TOKEN ELSE FENCING_TOKEN + 1 END,"
+                + " NODE = ?, EXPIRES_AT = ? WHERE JOB = ? AND (NODE = ? OR EXPIRES_AT <= ?)";
+        this.insert = "INSERT INTO " + table + " (JOB, NODE, FENCING_TOKEN, EXPIRES_AT) VALUES (?, ?, 1, ?)";
+        this.select = "SELECT NODE, FENCING_TOKEN, EXPIRES_AT FROM " + table + " WHERE JOB = ?";
+        this.release = "UPDATE " + table + " SET EXPIRES_AT = 0 WHERE JOB = ? AND NODE = ?";
+    }
+
+    @Override
+    public Lease acquire(String job, String node, Duration duration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + duration.toMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            // every statement is atomic on its own, and a failed insert must not abort the following select
+            if (!connection.getAutoCommit()) {
+                connection.setAutoCommit(true);
+            }
+            int updated;
+            try (PreparedStatement statement = connection.prepareStatement(update)) {
+                statement.setString(1, node);
+                statement.setLong(2, now);
+                statement.setString(3, node);
+                statement.setLong(4, expiresAt);
+                statement.setString(5, job);
+                statement.setString(6, node);
+                statement.setLong(7, now);
+                updated = statement.executeUpdate();
+            }
+            if (updated == 0) {
+                try (PreparedStatement statement = connection.prepareStatement(insert)) {
+                    statement.setString(1, job);
+                    statement.setString(2, node);
+                    statement.setLong(3, expiresAt);
+                    statement.executeUpdate();
+                } catch (SQLException e) {
+                    // the row exists, i.e. the lease is held by another node
+                    if (!isIntegrityConstraintViolation(e)) {
+                        throw e;
+                    }
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(select)) {
+                statement.setString(1, job);
+                try (ResultSet result = statement.executeQuery()) {
+                    if (!result.next()) {
+                        throw new IllegalStateException("The lease of job " + job + " was not found");
+                    }
+                    return new Lease(job, result.getString(1), result.getLong(2), Instant.ofEpochMilli(result.getLong(3)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to acquire the lease of job " + job, e);
+        }
+    }
+
+    @Override
+    public void release(String job, String node) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.getAutoCommit()) {
+                connection.setAutoCommit(true);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(release)) {
+                statement.setString(1, job);
+                statement.setString(2, node);
+                statement.executeUpdate();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to release the lease of job " + job, e);
+        }
+    }
+
+    private static boolean isIntegrityConstraintViolation(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && state.startsWith("23");
+    }
+
+}
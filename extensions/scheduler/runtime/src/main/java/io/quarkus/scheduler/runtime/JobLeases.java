@@ -0,0 +1,81 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.spi.JobLeaseStore;
+import io.quarkus.scheduler.spi.JobLeaseStore.Lease;
+
+/**
+ * The leases of the jobs of a clustered scheduler.
+ */
+final class JobLeases {
+
+    private static final Logger LOG = Logger.getLogger(JobLeases.class);
+
+    final JobLeaseStore store;
+    final String node;
+    final Duration duration;
+    final ScheduledExecutorService executor;
+    private final long acquisitionDelay;
+    private final long maxAcquisitionDelay;
+    // the leases held by this node, some of them may have expired
+    private final ConcurrentMap<String, Lease> held;
+
+    JobLeases(JobLeaseStore store, String node, Duration duration, Duration acquisitionDelay,
+            ScheduledExecutorService executor) {
+        this.store = store;
+        this.node = node;
+        this.duration = duration;
+        this.executor = executor;
+        this.acquisitionDelay = acquisitionDelay.toMillis();
+        // a busy node must not delay the executions for too long
+        this.maxAcquisitionDelay = duration.toMillis() / 4;
+        this.held = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Must not be called on an event loop thread.
+     */
+    Lease acquire(String job) {
+        Lease lease = store.acquire(job, node, duration);
+        if (lease.isHeldBy(node)) {
+            held.put(job, lease);
+        } else {
+            held.remove(job);
+        }
+        return lease;
+    }
+
+    /**
+     *
+     * @return the delay in milliseconds before this node tries to acquire a lease that is not held by any node
+     */
+    long acquisitionDelay() {
+        Instant now = Instant.now();
+        long count = 0;
+        for (Lease lease : held.values()) {
+            if (lease.expiresAt().isAfter(now)) {
+                count++;
+            }
+        }
+        return Math.min(count * acquisitionDelay, maxAcquisitionDelay);
+    }
+
+    void releaseAll() {
+        for (String job : held.keySet()) {
+            try {
+                store.release(job, node);
+            } catch (Exception e) {
+                LOG.debugf(e, "Unable to release the lease of job %s", job);
+            }
+        }
+        held.clear();
+    }
+
+}
@@ -1,12 +1,14 @@
 package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.scheduler.Scheduler;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
 
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
 @ConfigMapping(prefix = "quarkus.scheduler")
@@ -31,6 +33,40 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * If set to {@code true} then the simple scheduler executes a job only on the node that holds the lease of the job.
+     * <p>
+     * The leases are stored in the {@link io.quarkus.scheduler.spi.JobLeaseStore} bean. If there is no such bean then the
+     * leases are stored in memory, i.e. the jobs are only coordinated within the application instance.
+     */
+    @WithName("cluster.enabled")
+    @WithDefault("false")
+    boolean clusterEnabled();
+
+    /**
+     * The name of this node in the cluster. A random name is generated by default.
+     */
+    @WithName("cluster.node-name")
+    Optional<String> clusterNodeName();
+
+    /**
+     * The duration of a lease. The node that holds the lease of a job renews the lease when the job is executed and less
+     * than half of the duration remains. The other nodes do not try to acquire the lease before it expires.
+     * <p>
+     * The duration should be longer than the execution time of the jobs.
+     */
+    @WithName("cluster.lease-duration")
+    @WithDefault("30s")
+    Duration clusterLeaseDuration();
+
+    /**
+     * A node that holds leases waits this period, for every lease it holds, before it tries to acquire a lease that is not
+     * held by any node. The nodes that hold fewer leases try first, so that the jobs are spread across the nodes.
+     */
+    @WithName("cluster.acquisition-delay")
+    @WithDefault("20ms")
+    Duration clusterAcquisitionDelay();
+
     enum StartMode {
 
         /**
@@ -2,7 +2,6 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -10,14 +9,19 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PreDestroy;
@@ -60,6 +64,7 @@
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
 import io.quarkus.scheduler.spi.JobInstrumenter;
+import io.quarkus.scheduler.spi.JobLeaseStore;
 import io.vertx.core.Vertx;
 
 @Typed(Scheduler.class)
@@ -68,13 +73,20 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
 
     private static final Logger LOG = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    public static final long CHECK_PERIOD = 1000L;
-
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
+    private volatile boolean started;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+    // the tasks ordered by the time their trigger is due, only the trigger check thread removes entries
+    private final PriorityBlockingQueue<DueTask> dueTasks;
     private final SchedulerConfig schedulerConfig;
+    // null if the scheduler is not clustered
+    private final JobLeases leases;
+
+    private final Object wakeUpLock = new Object();
+    // the next check of the triggers, guarded by wakeUpLock
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpAt = Long.MAX_VALUE;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -82,17 +94,20 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             Event<SchedulerPaused> schedulerPausedEvent, Event<SchedulerResumed> schedulerResumedEvent,
             Event<ScheduledJobPaused> scheduledJobPausedEvent,
             Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
-            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor) {
+            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor,
+            Instance<JobLeaseStore> jobLeaseStore) {
         super(vertx, new CronParser(context.getCronType()), schedulerRuntimeConfig.overdueGracePeriod(),
                 new Events(skippedExecutionEvent, successExecutionEvent, failedExecutionEvent, delayedExecutionEvent,
                         schedulerPausedEvent, schedulerResumedEvent, scheduledJobPausedEvent, scheduledJobResumedEvent),
                 jobInstrumenter, blockingExecutor);
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
+        this.dueTasks = new PriorityBlockingQueue<>();
         this.schedulerConfig = schedulerConfig;
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
+            this.leases = null;
             LOG.info("Simple scheduler is disabled by config property and will not be started");
             return;
         }
@@ -101,10 +116,27 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         if (startMode == StartMode.NORMAL && context.getScheduledMethods(Scheduled.SIMPLE).isEmpty()
                 && !context.forceSchedulerStart()) {
             this.scheduledExecutor = null;
+            this.leases = null;
             LOG.info("No scheduled business methods found - Simple scheduler will not be started");
             return;
         }
 
+        if (schedulerRuntimeConfig.clusterEnabled()) {
+            JobLeaseStore store;
+            if (jobLeaseStore.isResolvable()) {
+                store = jobLeaseStore.get();
+            } else {
+                store = new InMemoryJobLeaseStore();
+                LOG.warn("No JobLeaseStore bean found - the leases of the clustered simple scheduler are stored in memory");
+            }
+            String node = schedulerRuntimeConfig.clusterNodeName().orElseGet(() -> UUID.randomUUID().toString());
+            this.leases = new JobLeases(store, node, schedulerRuntimeConfig.clusterLeaseDuration(),
+                    schedulerRuntimeConfig.clusterAcquisitionDelay(), blockingExecutor);
+            LOG.infof("Simple scheduler is clustered - node name: %s", node);
+        } else {
+            this.leases = null;
+        }
+
         ThreadFactory tf = new ThreadFactory() {
 
             private final AtomicInteger threadNumber = new AtomicInteger(1);
@@ -123,13 +155,16 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
-        this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
+        // This executor is used to check the registered triggers when they are due
+        JBossScheduledThreadPoolExecutor executor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        // The next check is rescheduled whenever a trigger is due sooner
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduledExecutor = executor;
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -157,7 +192,10 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    invoker = initClusteredInvoker(invoker, trigger.get().id);
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    queue(task);
                 }
             }
         }
@@ -196,6 +234,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.due.set(null);
                     return task.trigger;
                 }
             }
@@ -208,12 +247,11 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        started = true;
+        DueTask first = dueTasks.peek();
+        if (first != null) {
+            wakeUp(first.time);
+        }
     }
 
     @PreDestroy
@@ -225,17 +263,100 @@ void stop() {
         } catch (Exception e) {
             LOG.warn("Unable to shutdown the scheduler executor", e);
         }
+        if (leases != null) {
+            // let the other nodes take over the jobs right away
+            leases.releaseAll();
+        }
+    }
+
+    private ScheduledInvoker initClusteredInvoker(ScheduledInvoker invoker, String id) {
+        return leases != null ? new ClusteredInvoker(invoker, id, leases, events.skippedExecution) : invoker;
     }
 
     void checkTriggers() {
+        synchronized (wakeUpLock) {
+            wakeUp = null;
+            wakeUpAt = Long.MAX_VALUE;
+        }
         if (!running) {
+            // The triggers are checked again when the scheduler is resumed
             LOG.trace("Skip all triggers - scheduler paused");
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
+        long nowMillis = now.toInstant().toEpochMilli();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
+        // Only the triggers that are due are evaluated
+        for (DueTask due = dueTasks.poll(); due != null; due = dueTasks.poll()) {
+            if (due.time > nowMillis) {
+                dueTasks.add(due);
+                break;
+            }
+            ScheduledTask task = due.task;
+            if (task.due.get() != due) {
+                // The task was unscheduled or queued again in the meantime
+                continue;
+            }
+            if (!task.trigger.isRunning()) {
+                // The task is queued again when resumed
+                task.due.compareAndSet(due, null);
+                continue;
+            }
             task.execute(now, vertx);
+            Instant next = task.trigger.getNextEvaluationTime();
+            if (next == null) {
+                task.due.compareAndSet(due, null);
+            } else {
+                // A trigger due at the current millisecond, e.g. a cron expression, is checked again in the next one
+                DueTask nextDue = new DueTask(task, Math.max(next.toEpochMilli(), nowMillis + 1));
+                if (task.due.compareAndSet(due, nextDue)) {
+                    dueTasks.add(nextDue);
+                }
+            }
+        }
+        DueTask first = dueTasks.peek();
+        if (first != null) {
+            wakeUp(first.time);
+        }
+    }
+
+    /**
+     * Queues the task for the next evaluation of its trigger.
+     */
+    private void queue(ScheduledTask task) {
+        Instant next = task.trigger.getNextEvaluationTime();
+        if (next == null) {
+            task.due.set(null);
+            return;
+        }
+        DueTask due = new DueTask(task, next.toEpochMilli());
+        task.due.set(due);
+        dueTasks.add(due);
+        wakeUp(due.time);
+    }
+
+    /**
+     * Makes sure the triggers are checked at the given time at the latest.
+     */
+    private void wakeUp(long time) {
+        if (!started) {
+            return;
+        }
+        synchronized (wakeUpLock) {
+            if (wakeUp != null && wakeUpAt <= time) {
+                return;
+            }
+            if (wakeUp != null) {
+                wakeUp.cancel(false);
+            }
+            try {
+                wakeUp = scheduledExecutor.schedule(this::checkTriggers, Math.max(0, time - System.currentTimeMillis()),
+                        TimeUnit.MILLISECONDS);
+                wakeUpAt = time;
+            } catch (RejectedExecutionException e) {
+                // The scheduler was stopped
+                wakeUp = null;
+            }
         }
     }
 
@@ -289,6 +410,7 @@ public void resume() {
             throw notStarted();
         }
         running = true;
+        wakeUp(System.currentTimeMillis());
         events.fireSchedulerResumed();
     }
 
@@ -306,6 +428,7 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            queue(task);
             events.fireScheduledJobResumed(new ScheduledJobResumed(task.trigger));
         }
     }
@@ -380,6 +503,8 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // the queued evaluation of the trigger, null if not queued
+        final AtomicReference<DueTask> due = new AtomicReference<>();
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -403,6 +528,24 @@ void execute(ZonedDateTime now, Vertx vertx) {
 
     }
 
+    static final class DueTask implements Comparable<DueTask> {
+
+        final ScheduledTask task;
+        // epoch milliseconds
+        final long time;
+
+        DueTask(ScheduledTask task, long time) {
+            this.task = task;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(DueTask other) {
+            return Long.compare(time, other.time);
+        }
+
+    }
+
     static abstract class SimpleTrigger implements Trigger {
 
         protected final String id;
@@ -426,6 +569,11 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @return the time when the trigger should be evaluated next, or {@code null} if it never fires again
+         */
+        abstract Instant getNextEvaluationTime();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -466,11 +614,6 @@ static class IntervalTrigger extends SimpleTrigger {
             super(id, start, methodDescription, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
-                LOG.warnf(
-                        "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
-                        CHECK_PERIOD, description);
-            }
         }
 
         @Override
@@ -480,19 +623,26 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now;
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                // Keep a fixed rate unless a whole interval was missed, e.g. when the scheduler was paused
+                lastFireTime = diff < 2 * interval ? scheduledFireTime : now;
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        @Override
+        Instant getNextEvaluationTime() {
+            ZonedDateTime last = lastFireTime;
+            return last == null ? start.toInstant() : last.plus(Duration.ofMillis(interval)).toInstant();
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -553,7 +703,7 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             Optional<ZonedDateTime> lastExecution = executionTime.lastExecution(now);
             if (lastExecution.isPresent()) {
                 ZonedDateTime lastTruncated = lastExecution.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isAfter(lastTruncated) && lastFireTime.isBefore(lastTruncated)) {
+                if (!now.isBefore(lastTruncated) && lastFireTime.isBefore(lastTruncated)) {
                     LOG.tracef("%s fired, last=%s", this, lastTruncated);
                     lastFireTime = now;
                     return lastTruncated;
@@ -562,6 +712,13 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             return null;
         }
 
+        @Override
+        Instant getNextEvaluationTime() {
+            // The next execution is computed once per execution, instead of evaluating the cron expression periodically
+            Instant next = getNextFireTime();
+            return next == null || next.isAfter(start.toInstant()) ? next : start.toInstant();
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -679,11 +836,13 @@ public boolean isBlocking() {
                 }
                 invoker = initInvoker(invoker, events, concurrentExecution, skipPredicate, instrumenter, vertx,
                         false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
+                invoker = initClusteredInvoker(invoker, identity);
                 ScheduledTask scheduledTask = new ScheduledTask(trigger.get(), invoker, true);
                 ScheduledTask existing = scheduledTasks.putIfAbsent(simpleTrigger.id, scheduledTask);
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                queue(scheduledTask);
                 return simpleTrigger;
             }
             return null;
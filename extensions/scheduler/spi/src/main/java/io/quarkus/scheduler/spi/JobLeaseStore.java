@@ -0,0 +1,55 @@
+package io.quarkus.scheduler.spi;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Stores the leases that make sure a job is executed on a single node of a cluster at a time.
+ * <p>
+ * If {@code quarkus.scheduler.cluster.enabled} is set to {@code true}, the simple scheduler acquires the lease of a job
+ * before the job is executed, and skips the execution if the lease is held by another node. An application or an extension
+ * can provide exactly one CDI bean of this type. The scope must be either {@link jakarta.inject.Singleton} or
+ * {@link jakarta.enterprise.context.ApplicationScoped}.
+ * <p>
+ * The methods of this interface are never called on an event loop thread and may block.
+ */
+public interface JobLeaseStore {
+
+    /**
+     * Acquires the lease of the given job, or renews the lease if it is held by the given node.
+     * <p>
+     * A lease that expired can be acquired by any node. The fencing token of a lease must be incremented every time the lease
+     * is acquired and must not change when the lease is renewed. The operation must be atomic across all nodes of the
+     * cluster.
+     *
+     * @param job the identity of the job
+     * @param node the name of the node
+     * @param duration the duration of the lease
+     * @return the current lease of the job; held by the given node if the lease was acquired or renewed
+     */
+    Lease acquire(String job, String node, Duration duration);
+
+    /**
+     * Releases the lease of the given job if it is held by the given node.
+     *
+     * @param job the identity of the job
+     * @param node the name of the node
+     */
+    void release(String job, String node);
+
+    /**
+     *
+     * @param job the identity of the job
+     * @param node the name of the node that holds the lease
+     * @param fencingToken the token that increases every time the lease is acquired
+     * @param expiresAt the time the lease expires unless it is renewed
+     */
+    record Lease(String job, String node, long fencingToken, Instant expiresAt) {
+
+        public boolean isHeldBy(String node) {
+            return this.node.equals(node);
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources compressed with gzip at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> etags;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> etags) {
+        this.etags = Map.copyOf(etags);
+    }
+
+    /**
+     * @return the strong entity tags of the compressed variants, by path of the resource relative to
+     *         {@code META-INF/resources}
+     */
+    public Map<String, String> getEtags() {
+        return etags;
+    }
+}
@@ -2,13 +2,25 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -19,6 +31,7 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
@@ -27,12 +40,16 @@
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.vertx.core.http.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -59,13 +76,64 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    /**
+     * Compresses the static resources with a compressible media type, so that they are not compressed for every request.
+     * In dev mode the resources are served from the project directories instead, as they may change at any time.
+     */
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(Capabilities capabilities, VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedResources) {
+        if (!httpBuildTimeConfig.precompressStaticResources() || capabilities.isPresent(Capability.SERVLET)) {
+            return;
+        }
+        final Set<String> mediaTypes = new HashSet<>(httpBuildTimeConfig.compressMediaTypes().orElse(List.of()));
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        final Set<String> visited = new HashSet<>();
+        final Map<String, String> etags = new HashMap<>();
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getResourceName();
+            if (Files.isDirectory(visitPath) || !rel.startsWith(prefix)) {
+                return;
+            }
+            String subPath = rel.substring(prefix.length());
+            String mediaType = MimeMapping.mimeTypeForFilename(subPath);
+            // the first resource found on the class path is the one served
+            if (mediaType == null || !mediaTypes.contains(mediaType) || !visited.add(subPath)) {
+                return;
+            }
+            byte[] compressed;
+            try {
+                byte[] content = Files.readAllBytes(visitPath);
+                compressed = gzip(content);
+                if (compressed.length >= content.length) {
+                    LOG.debugf("Static resource %s is not precompressed as compression does not reduce its size", subPath);
+                    return;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to compress static resource " + rel, e);
+            }
+            String variant = StaticResourcesRecorder.PRECOMPRESSED_RESOURCES + subPath + StaticResourcesRecorder.GZIP_SUFFIX;
+            generatedResources.produce(new GeneratedResourceBuildItem(variant, compressed));
+            nativeImageResources.produce(new NativeImageResourceBuildItem(variant));
+            etags.put(subPath, etag(compressed));
+        });
+        if (!etags.isEmpty()) {
+            precompressedResources.produce(new PrecompressedStaticResourcesBuildItem(etags));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedResources,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedResources.map(PrecompressedStaticResourcesBuildItem::getEtags).orElse(Map.of()))));
         }
     }
 
@@ -123,6 +191,27 @@ private Set<StaticResourcesBuildItem.Entry> getClasspathResources() {
         return knownPaths;
     }
 
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                // compressed once at build time, so the best compression is worth its cost
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            return '"' + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Visits all {@code META-INF/resources} directories and their content found on the runtime classpath
      *
@@ -0,0 +1,63 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.ext.web.Router;
+
+/**
+ * Tests that an application starts with {@code quarkus.startup.parallel-tasks} enabled.
+ */
+public class ParallelStartupTasksTest {
+
+    private static final String APP_PROPS = """
+            quarkus.startup.parallel-tasks=true
+            greeting=hello
+            """;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(Routes.class));
+
+    @Test
+    public void testStartup() {
+        given().get("/greeting")
+                .then()
+                .statusCode(200)
+                .body(is("hello"));
+
+        // The router is initialized by a runtime init startup task
+        assertNotNull(Routes.routerThread);
+        if (Runtime.getRuntime().availableProcessors() > 1) {
+            // Otherwise the tasks run sequentially
+            assertTrue(Routes.routerThread.startsWith("quarkus-startup-"), Routes.routerThread);
+        }
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        static volatile String routerThread;
+
+        @ConfigProperty(name = "greeting")
+        String greeting;
+
+        void init(@Observes Router router) {
+            routerThread = Thread.currentThread().getName();
+            router.get("/greeting").handler(rc -> rc.response().end(greeting));
+        }
+    }
+}
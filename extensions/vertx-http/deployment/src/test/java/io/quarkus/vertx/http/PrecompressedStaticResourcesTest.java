@@ -0,0 +1,43 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class PrecompressedStaticResourcesTest {
+
+    @RegisterExtension
+    final static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset(
+                            "quarkus.http.precompress-static-resources=true\n"),
+                            "application.properties")
+                    .addAsResource(new StringAsset(CompressionTest.TEXT), "META-INF/resources/lorem.txt"));
+
+    @Test
+    public void shouldServeCompressedVariant() {
+        String etag = given().header("Accept-Encoding", "gzip")
+                .get("/lorem.txt")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", is("gzip"))
+                .header("Content-Type", startsWith("text/plain"))
+                .header("ETag", notNullValue())
+                .body(equalTo(CompressionTest.TEXT))
+                .extract().header("ETag");
+
+        given().header("Accept-Encoding", "gzip")
+                .header("If-None-Match", etag)
+                .get("/lorem.txt")
+                .then()
+                .statusCode(304);
+    }
+}
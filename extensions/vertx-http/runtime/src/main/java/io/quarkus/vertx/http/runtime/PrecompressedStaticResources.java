@@ -0,0 +1,157 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.MimeMapping;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the gzip variants of the static resources, compressed at build time, to the clients that accept them.
+ * <p>
+ * The variants are loaded off-heap when the application starts, so serving them neither reads the application archive
+ * nor compresses anything. Requests that cannot be served with a variant, e.g. range requests, are left to the
+ * {@link io.vertx.ext.web.handler.StaticHandler}.
+ */
+final class PrecompressedStaticResources {
+
+    private static final Logger LOG = Logger.getLogger(PrecompressedStaticResources.class);
+
+    private static final String GZIP = "gzip";
+
+    private final Map<String, Variant> variants;
+    private final String cacheControl;
+
+    private PrecompressedStaticResources(Map<String, Variant> variants, String cacheControl) {
+        this.variants = variants;
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * @param etags the strong entity tags of the variants, by resource path
+     * @param classLoader the class loader the variants are loaded from
+     * @param config the static resources configuration
+     */
+    static PrecompressedStaticResources load(Map<String, String> etags, ClassLoader classLoader,
+            StaticResourcesConfig config) {
+        Map<String, Variant> variants = new HashMap<>();
+        for (Map.Entry<String, String> e : etags.entrySet()) {
+            String path = e.getKey();
+            try (InputStream in = classLoader.getResourceAsStream(
+                    StaticResourcesRecorder.PRECOMPRESSED_RESOURCES + path + StaticResourcesRecorder.GZIP_SUFFIX)) {
+                if (in == null) {
+                    LOG.debugf("Precompressed variant of static resource %s not found", path);
+                    continue;
+                }
+                byte[] data = in.readAllBytes();
+                ByteBuf content = Unpooled.unreleasableBuffer(
+                        Unpooled.directBuffer(data.length).writeBytes(data).asReadOnly());
+                String contentType = MimeMapping.mimeTypeForFilename(path);
+                if (contentType != null && contentType.startsWith("text")) {
+                    contentType = contentType + ";charset=UTF-8";
+                }
+                variants.put(path, new Variant(content, e.getValue(), contentType));
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to load the precompressed variant of static resource " + path, ex);
+            }
+        }
+        String cacheControl = config.cachingEnabled() ? "public, max-age=" + config.maxAge().toSeconds() : null;
+        return new PrecompressedStaticResources(Map.copyOf(variants), cacheControl);
+    }
+
+    /**
+     * Serves the precompressed variant of the resource if possible.
+     *
+     * @return {@code true} if the request was handled
+     */
+    boolean handle(RoutingContext ctx, String path) {
+        Variant variant = variants.get(path);
+        if (variant == null) {
+            return false;
+        }
+        HttpMethod method = ctx.request().method();
+        MultiMap requestHeaders = ctx.request().headers();
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD)
+                || requestHeaders.contains(HttpHeaders.RANGE)
+                || !acceptsGzip(requestHeaders.get(HttpHeaders.ACCEPT_ENCODING))) {
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        headers.set(HttpHeaders.ETAG, variant.etag);
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        String ifNoneMatch = requestHeaders.get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matches(ifNoneMatch, variant.etag)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return true;
+        }
+        if (variant.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, variant.contentType);
+        }
+        if (method == HttpMethod.HEAD) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, Integer.toString(variant.content.readableBytes()));
+            response.end();
+        } else {
+            response.end(BufferInternal.buffer(variant.content.duplicate()));
+        }
+        return true;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            int parameters = coding.indexOf(';');
+            String name = (parameters == -1 ? coding : coding.substring(0, parameters)).trim();
+            if (name.equalsIgnoreCase(GZIP) || name.equals("*")) {
+                return parameters == -1 || !isZeroQuality(coding.substring(parameters + 1));
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String p = parameter.trim();
+            if (p.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(p.substring(2).trim()) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String c = candidate.trim();
+            if (c.equals("*") || c.equals(etag) || c.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Variant(ByteBuf content, String etag, String contentType) {
+    }
+}
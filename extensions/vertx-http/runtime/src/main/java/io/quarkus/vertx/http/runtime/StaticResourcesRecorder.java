@@ -5,6 +5,7 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -22,6 +23,12 @@
 public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
+    /**
+     * The location of the gzip variants of the static resources compressed at build time, the path of a variant is the
+     * path of the resource relative to {@link #META_INF_RESOURCES} followed by {@link #GZIP_SUFFIX}.
+     */
+    public static final String PRECOMPRESSED_RESOURCES = "META-INF/quarkus-precompressed-resources";
+    public static final String GZIP_SUFFIX = ".gz";
 
     private static volatile List<Path> hotDeploymentResourcePaths;
 
@@ -39,7 +46,11 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     * @param knownPaths the paths of the static resources
+     * @param precompressedResources the strong entity tags of the static resources compressed at build time, by path
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> precompressedResources) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -98,6 +109,8 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage().charAt(0) == '/')
                     ? config.indexPage().substring(1)
                     : config.indexPage();
+            final PrecompressedStaticResources precompressed = precompressedResources.isEmpty() ? null
+                    : PrecompressedStaticResources.load(precompressedResources, currentCl, config);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -108,6 +121,10 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        if (precompressed != null
+                                && precompressed.handle(ctx, rel.endsWith("/") ? rel.concat(indexPage) : rel)) {
+                            return;
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
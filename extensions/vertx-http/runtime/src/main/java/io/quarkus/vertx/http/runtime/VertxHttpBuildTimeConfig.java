@@ -116,6 +116,14 @@ public interface VertxHttpBuildTimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * If enabled then the static resources served from {@code META-INF/resources} with a media type listed in
+     * {@link #compressMediaTypes} are compressed with gzip at build time. The compressed variants are served from memory,
+     * with a strong {@code ETag}, to the clients that accept gzip, instead of being compressed for every request.
+     */
+    @WithDefault("false")
+    boolean precompressStaticResources();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import jakarta.enterprise.inject.Instance;
@@ -37,9 +38,16 @@ public class AbstractPathMatchingHttpSecurityPolicy {
 
     private static final String PATH_MATCHING_POLICY_FOUND = AbstractPathMatchingHttpSecurityPolicy.class.getName()
             + ".POLICY_FOUND";
+    /**
+     * Maximum number of memoized resolutions, the cache is cleared once it is reached, as paths with path parameters
+     * have an unbounded number of values.
+     */
+    static final int MAX_RESOLUTIONS = 1024;
     private final ImmutablePathMatcher<List<HttpMatcher>> pathMatcher;
     private final List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermissionsPathMatchers;
     private final boolean hasNoPermissions;
+    // "method path" -> resolution
+    private final Map<String, Resolution> resolutions = new ConcurrentHashMap<>();
 
     AbstractPathMatchingHttpSecurityPolicy(List<HttpSecurityConfiguration.HttpPermissionCarrier> httpPermissions,
             Map<String, PolicyConfig> rolePolicy, String rootPath, Instance<HttpSecurityPolicy> installedPolicies,
@@ -71,15 +79,7 @@ public class AbstractPathMatchingHttpSecurityPolicy {
     }
 
     AuthenticationMechanisms getAuthMechanisms(RoutingContext routingContext) {
-        if (sharedPermissionsPathMatchers != null) {
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
-                AuthenticationMechanisms authMechanisms = getAuthMechanisms(routingContext, matcher);
-                if (authMechanisms != null) {
-                    return authMechanisms;
-                }
-            }
-        }
-        return getAuthMechanisms(routingContext, pathMatcher);
+        return resolve(routingContext).authMechanisms;
     }
 
     public boolean hasNoPermissions() {
@@ -93,8 +93,19 @@ public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<Secur
 
     Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext, HttpSecurityPolicy... additionalPolicies) {
-        final List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? new ArrayList<>()
-                : getHttpSecurityPolicies(routingContext);
+        final List<HttpSecurityPolicy> permissionCheckers;
+        final boolean policyFound;
+        if (hasNoPermissions) {
+            permissionCheckers = new ArrayList<>();
+            policyFound = false;
+        } else {
+            Resolution resolution = resolve(routingContext);
+            if (resolution.denied) {
+                return CheckResult.deny();
+            }
+            permissionCheckers = new ArrayList<>(resolution.policies);
+            policyFound = resolution.policyFound;
+        }
         if (additionalPolicies.length > 0) {
             if (additionalPolicies.length == 1) {
                 permissionCheckers.add(additionalPolicies[0]);
@@ -102,28 +113,64 @@ Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIde
                 permissionCheckers.addAll(Arrays.asList(additionalPolicies));
             }
         }
-        return doPermissionCheck(routingContext, identity, 0, null, permissionCheckers, requestContext);
+        return doPermissionCheck(routingContext, identity, 0, null, permissionCheckers, requestContext, policyFound);
     }
 
-    private List<HttpSecurityPolicy> getHttpSecurityPolicies(RoutingContext routingContext) {
-        final List<HttpSecurityPolicy> permissionCheckers;
-        if (sharedPermissionsPathMatchers == null) {
-            permissionCheckers = findPermissionCheckers(routingContext, pathMatcher);
-        } else {
-            permissionCheckers = new ArrayList<>();
+    /**
+     * Resolves the policies and authentication mechanisms that apply to the request, from all the path matchers in one
+     * pass. The resolution only depends on the path and method of the request, so it is memoized.
+     */
+    Resolution resolve(RoutingContext routingContext) {
+        String path = HttpSecurityUtils.pathWithoutMatrixParams(routingContext.normalizedPath());
+        String method = routingContext.request().method().name();
+        String key = method + ' ' + path;
+        Resolution resolution = resolutions.get(key);
+        if (resolution == null) {
+            resolution = createResolution(path, method);
+            if (resolutions.size() >= MAX_RESOLUTIONS) {
+                resolutions.clear();
+            }
+            resolutions.put(key, resolution);
+        }
+        return resolution;
+    }
+
+    private Resolution createResolution(String path, String method) {
+        List<HttpMatcher> httpMatchers = new ArrayList<>();
+        if (sharedPermissionsPathMatchers != null) {
             for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
-                permissionCheckers.addAll(findPermissionCheckers(routingContext, matcher));
+                httpMatchers.addAll(findHttpMatchers(path, method, matcher));
             }
-            permissionCheckers.addAll(findPermissionCheckers(routingContext, pathMatcher));
         }
-        return permissionCheckers;
+        httpMatchers.addAll(findHttpMatchers(path, method, pathMatcher));
+
+        AuthenticationMechanisms authMechanisms = null;
+        List<HttpSecurityPolicy> policies = new ArrayList<>(httpMatchers.size());
+        // whether the policies are denied before any policy that depends on the request or the identity
+        Boolean denied = null;
+        for (HttpMatcher httpMatcher : httpMatchers) {
+            if (authMechanisms == null) {
+                authMechanisms = httpMatcher.authMechanisms;
+            }
+            HttpSecurityPolicy policy = httpMatcher.checker;
+            if (policy.getClass() == PermitSecurityPolicy.class) {
+                // always permits without augmenting the identity, no need to check it for every request
+                continue;
+            }
+            if (denied == null) {
+                denied = policy == DenySecurityPolicy.INSTANCE;
+            }
+            policies.add(policy);
+        }
+        return new Resolution(List.copyOf(policies), authMechanisms, !httpMatchers.isEmpty(), denied == Boolean.TRUE);
     }
 
     private Uni<CheckResult> doPermissionCheck(RoutingContext routingContext,
             Uni<SecurityIdentity> identity, int index, SecurityIdentity augmentedIdentity,
-            List<HttpSecurityPolicy> permissionCheckers, AuthorizationRequestContext requestContext) {
+            List<HttpSecurityPolicy> permissionCheckers, AuthorizationRequestContext requestContext,
+            boolean policyFound) {
         if (index == permissionCheckers.size()) {
-            if (index > 0) {
+            if (index > 0 || policyFound) {
                 routingContext.put(PATH_MATCHING_POLICY_FOUND, true);
             }
             return Uni.createFrom().item(new CheckResult(true, augmentedIdentity));
@@ -148,28 +195,18 @@ public Uni<? extends CheckResult> apply(CheckResult checkResult) {
                                         checkResult.getAugmentedIdentityAsUni(), index + 1,
                                         checkResult.getAugmentedIdentity(),
                                         permissionCheckers,
-                                        requestContext);
+                                        requestContext, policyFound);
                             } else {
                                 //attempt to run the next checker
                                 return doPermissionCheck(routingContext, identity, index + 1, augmentedIdentity,
                                         permissionCheckers,
-                                        requestContext);
+                                        requestContext, policyFound);
                             }
                         }
                     }
                 });
     }
 
-    private static AuthenticationMechanisms getAuthMechanisms(RoutingContext routingContext,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        for (HttpMatcher i : findHttpMatchers(routingContext, pathMatcher)) {
-            if (i.authMechanisms != null) {
-                return i.authMechanisms;
-            }
-        }
-        return null;
-    }
-
     private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> permissionCheckers,
             HttpSecurityConfiguration.HttpPermissionCarrier httpPermission,
             ImmutablePathMatcher.ImmutablePathMatcherBuilder<List<HttpMatcher>> builder) {
@@ -198,19 +235,9 @@ private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> p
         }
     }
 
-    private static List<HttpSecurityPolicy> findPermissionCheckers(RoutingContext context,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        List<HttpSecurityPolicy> list = new ArrayList<>();
-        for (HttpMatcher httpMatcher : findHttpMatchers(context, pathMatcher)) {
-            list.add(httpMatcher.checker);
-        }
-        return list;
-    }
-
-    private static List<HttpMatcher> findHttpMatchers(RoutingContext context,
+    private static List<HttpMatcher> findHttpMatchers(String path, String method,
             ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        String normalizedPath = context.normalizedPath();
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(HttpSecurityUtils.pathWithoutMatrixParams(normalizedPath));
+        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(path);
         if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
             return List.of();
         }
@@ -219,7 +246,7 @@ private static List<HttpMatcher> findHttpMatchers(RoutingContext context,
         for (HttpMatcher i : toCheck.getValue()) {
             if (i.methods == null || i.methods.isEmpty()) {
                 noMethod.add(i);
-            } else if (i.methods.contains(context.request().method().toString())) {
+            } else if (i.methods.contains(method)) {
                 methodMatch.add(i);
             }
         }
@@ -423,6 +450,18 @@ static ConfigurationException duplicateNamedPoliciesNotAllowedEx(HttpSecurityPol
                 + policy1.name() + "' is allowed, but found: " + policyClassName1 + " and " + policyClassName2);
     }
 
+    /**
+     * The policies that apply to a path and method.
+     *
+     * @param policies the policies to check, without the policies that always permit
+     * @param authMechanisms the authentication mechanisms, or null
+     * @param policyFound whether any policy matched
+     * @param denied whether the request is denied regardless of the identity
+     */
+    record Resolution(List<HttpSecurityPolicy> policies, AuthenticationMechanisms authMechanisms,
+            boolean policyFound, boolean denied) {
+    }
+
     record HttpMatcher(AuthenticationMechanisms authMechanisms, Set<String> methods, HttpSecurityPolicy checker) {
         private static final HttpMatcher DENY = new HttpMatcher(null, Set.of(), DenySecurityPolicy.INSTANCE);
     }
@@ -2,9 +2,39 @@
 
 import static io.quarkus.vertx.http.runtime.security.HttpSecurityUtils.pathWithoutMatrixParams;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.inject.Instance;
 
 import org.junit.jupiter.api.Test;
 
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+import io.quarkus.vertx.http.runtime.security.AbstractPathMatchingHttpSecurityPolicy.Resolution;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityConfiguration.AuthenticationMechanisms;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityConfiguration.HttpPermissionCarrier;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityConfiguration.Policy;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
 public class AbstractPathMatchingHttpSecurityPolicyTest {
 
     @Test
@@ -94,4 +124,188 @@ public void testMatrixParamWithSpecialValues() {
         assertEquals("/a/b", pathWithoutMatrixParams("/a;k=v;k2=v2/b;k3=v3;k4=v4"));
     }
 
+    @Test
+    public void testDenyPolicyFirst() {
+        CountingPolicy counting = new CountingPolicy();
+        var policy = policy(permission("/a", new PermitSecurityPolicy()), permission("/a", DenySecurityPolicy.INSTANCE),
+                permission("/a", counting));
+        RoutingContext routingContext = request(HttpMethod.GET, "/a");
+
+        assertTrue(policy.resolve(routingContext).denied());
+        assertFalse(check(policy, routingContext));
+        // Denied without running the policies
+        assertEquals(0, counting.checks.get());
+    }
+
+    @Test
+    public void testDenyPolicyAfterOtherPolicy() {
+        CountingPolicy counting = new CountingPolicy();
+        var policy = policy(permission("/a", counting), permission("/a", DenySecurityPolicy.INSTANCE));
+        RoutingContext routingContext = request(HttpMethod.GET, "/a");
+
+        // The policies are checked in order
+        assertFalse(policy.resolve(routingContext).denied());
+        assertFalse(check(policy, routingContext));
+        assertEquals(1, counting.checks.get());
+    }
+
+    @Test
+    public void testMethodNotMatchedDenied() {
+        CountingPolicy counting = new CountingPolicy();
+        var policy = policy(permission("/a", Set.of("GET"), false, null, counting));
+
+        RoutingContext post = request(HttpMethod.POST, "/a");
+        assertTrue(policy.resolve(post).denied());
+        assertFalse(check(policy, post));
+        assertEquals(0, counting.checks.get());
+
+        assertTrue(check(policy, request(HttpMethod.GET, "/a")));
+        assertEquals(1, counting.checks.get());
+    }
+
+    @Test
+    public void testPermitPoliciesSkipped() {
+        CountingPolicy counting = new CountingPolicy();
+        var policy = policy(permission("/a", new PermitSecurityPolicy()), permission("/a", counting),
+                permission("/b", new PermitSecurityPolicy()));
+
+        RoutingContext a = request(HttpMethod.GET, "/a");
+        Resolution resolution = policy.resolve(a);
+        assertEquals(List.of(counting), resolution.policies());
+        assertTrue(resolution.policyFound());
+        assertTrue(check(policy, a));
+        assertEquals(1, counting.checks.get());
+
+        // A permit policy that is not checked still counts as an applied policy
+        RoutingContext b = request(HttpMethod.GET, "/b");
+        resolution = policy.resolve(b);
+        assertEquals(List.of(), resolution.policies());
+        assertTrue(resolution.policyFound());
+        assertFalse(resolution.denied());
+        assertTrue(check(policy, b));
+        verify(b).put(anyString(), eq(true));
+
+        // No policy matched
+        RoutingContext c = request(HttpMethod.GET, "/c");
+        resolution = policy.resolve(c);
+        assertFalse(resolution.policyFound());
+        assertTrue(check(policy, c));
+        verify(c, never()).put(anyString(), eq(true));
+    }
+
+    @Test
+    public void testSharedPermissionsAuthMechanisms() {
+        var permit = new PermitSecurityPolicy();
+        var policy = policy(
+                permission("/a", null, false, new AuthenticationMechanisms("form"), permit),
+                permission("/a", null, true, new AuthenticationMechanisms("basic"), permit),
+                permission("/b", null, false, new AuthenticationMechanisms("form"), permit),
+                permission("/b", null, true, null, permit),
+                permission("/c", null, true, new AuthenticationMechanisms("bearer"), permit),
+                permission("/c", null, true, new AuthenticationMechanisms("basic"), permit),
+                permission("/c", null, false, new AuthenticationMechanisms("form"), permit));
+
+        // The shared permissions are selected first
+        assertEquals(new AuthenticationMechanisms("basic"), policy.getAuthMechanisms(request(HttpMethod.GET, "/a")));
+        // Unless they do not select any mechanism
+        assertEquals(new AuthenticationMechanisms("form"), policy.getAuthMechanisms(request(HttpMethod.GET, "/b")));
+        // The first shared permission selecting a mechanism wins
+        assertEquals(new AuthenticationMechanisms("bearer"), policy.getAuthMechanisms(request(HttpMethod.GET, "/c")));
+        assertNull(policy.getAuthMechanisms(request(HttpMethod.GET, "/d")));
+    }
+
+    @Test
+    public void testResolutionMemoized() {
+        CountingPolicy counting = new CountingPolicy();
+        var policy = policy(permission("/a", Set.of("GET"), false, null, counting),
+                permission("/b", DenySecurityPolicy.INSTANCE));
+
+        Resolution getA = policy.resolve(request(HttpMethod.GET, "/a"));
+        Resolution postA = policy.resolve(request(HttpMethod.POST, "/a"));
+        Resolution getB = policy.resolve(request(HttpMethod.GET, "/b"));
+        assertNotSame(getA, postA);
+        assertNotSame(getA, getB);
+        for (int i = 0; i < 3; i++) {
+            // The same decision for every request, whatever the order of the requests
+            assertSame(getA, policy.resolve(request(HttpMethod.GET, "/a")));
+            assertSame(getA, policy.resolve(request(HttpMethod.GET, "/a;k=v")));
+            assertSame(postA, policy.resolve(request(HttpMethod.POST, "/a")));
+            assertSame(getB, policy.resolve(request(HttpMethod.GET, "/b")));
+            assertTrue(check(policy, request(HttpMethod.GET, "/a")));
+            assertFalse(check(policy, request(HttpMethod.POST, "/a")));
+            assertFalse(check(policy, request(HttpMethod.GET, "/b")));
+        }
+        // The memoized resolution does not memoize the decision of the policies
+        assertEquals(3, counting.checks.get());
+    }
+
+    @Test
+    public void testResolutionsCleared() {
+        var policy = policy(permission("/*", new AuthenticatedHttpSecurityPolicy()));
+
+        Resolution first = policy.resolve(request(HttpMethod.GET, "/0"));
+        for (int i = 1; i < AbstractPathMatchingHttpSecurityPolicy.MAX_RESOLUTIONS; i++) {
+            policy.resolve(request(HttpMethod.GET, "/" + i));
+        }
+        assertSame(first, policy.resolve(request(HttpMethod.GET, "/0")));
+
+        // Exceeds the maximum number of resolutions
+        policy.resolve(request(HttpMethod.GET, "/" + AbstractPathMatchingHttpSecurityPolicy.MAX_RESOLUTIONS));
+        Resolution resolved = policy.resolve(request(HttpMethod.GET, "/0"));
+        assertNotSame(first, resolved);
+        assertEquals(first, resolved);
+    }
+
+    private static boolean check(AbstractPathMatchingHttpSecurityPolicy policy, RoutingContext routingContext) {
+        return policy.checkPermission(routingContext, Uni.createFrom().nullItem(), null).await().indefinitely()
+                .isPermitted();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AbstractPathMatchingHttpSecurityPolicy policy(HttpPermissionCarrier... permissions) {
+        Instance<HttpSecurityPolicy> installedPolicies = mock(Instance.class);
+        doReturn(List.of()).when(installedPolicies).handles();
+        return new AbstractPathMatchingHttpSecurityPolicy(List.of(permissions), Map.of(), "/", installedPolicies,
+                PolicyMappingConfig.AppliesTo.ALL);
+    }
+
+    private static RoutingContext request(HttpMethod method, String path) {
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        when(request.method()).thenReturn(method);
+        RoutingContext routingContext = mock(RoutingContext.class);
+        when(routingContext.request()).thenReturn(request);
+        when(routingContext.normalizedPath()).thenReturn(path);
+        return routingContext;
+    }
+
+    private static HttpPermissionCarrier permission(String path, HttpSecurityPolicy policy) {
+        return permission(path, null, false, null, policy);
+    }
+
+    private static HttpPermissionCarrier permission(String path, Set<String> methods, boolean shared,
+            AuthenticationMechanisms authMechanisms, HttpSecurityPolicy policy) {
+        return new TestPermission(Set.of(path), shared, methods, authMechanisms, new Policy(null, policy));
+    }
+
+    private record TestPermission(Set<String> getPaths, boolean isShared, Set<String> getMethods,
+            AuthenticationMechanisms getAuthMechanisms, Policy getPolicy) implements HttpPermissionCarrier {
+
+        @Override
+        public boolean shouldApplyToJaxRs() {
+            return false;
+        }
+    }
+
+    private static final class CountingPolicy implements HttpSecurityPolicy {
+
+        private final AtomicInteger checks = new AtomicInteger();
+
+        @Override
+        public Uni<CheckResult> checkPermission(RoutingContext request, Uni<SecurityIdentity> identity,
+                AuthorizationRequestContext requestContext) {
+            checks.incrementAndGet();
+            return CheckResult.permit();
+        }
+    }
+
 }
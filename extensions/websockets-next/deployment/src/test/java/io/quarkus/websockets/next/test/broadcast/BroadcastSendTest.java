@@ -0,0 +1,189 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+public class BroadcastSendTest {
+
+    private static final int CLIENTS = 8;
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Room.class, Ordered.class, Item.class, WSClient.class);
+            });
+
+    @TestHTTPResource("room")
+    URI roomUri;
+
+    @TestHTTPResource("ordered")
+    URI orderedUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    OpenConnections connections;
+
+    @Test
+    public void testBroadcastToAllEventLoops() {
+        List<WSClient> clients = connect(CLIENTS);
+        try {
+            // The connections are distributed across the event loops
+            assertTrue(Room.EVENT_LOOPS.size() > 1, () -> "Event loops: " + Room.EVENT_LOOPS);
+
+            broadcaster().broadcast().sendTextAndAwait("hello");
+            // The broadcast completes once the message was written to all the connections
+            for (WSClient client : clients) {
+                client.waitForMessages(1);
+                assertEquals("hello", client.getLastMessage().toString());
+            }
+
+            broadcaster().broadcast().sendTextAndAwait(new Item("foo", 1));
+            for (WSClient client : clients) {
+                client.waitForMessages(2);
+                assertEquals(new JsonObject().put("name", "foo").put("count", 1),
+                        new JsonObject(client.getLastMessage()));
+            }
+
+            broadcaster().broadcast().sendBinaryAndAwait(Buffer.buffer(new byte[] { 1, 2, 3 }));
+            for (WSClient client : clients) {
+                client.waitForMessages(3);
+                assertEquals(Buffer.buffer(new byte[] { 1, 2, 3 }), client.getLastMessage());
+            }
+        } finally {
+            clients.forEach(WSClient::close);
+        }
+    }
+
+    @Test
+    public void testFilter() {
+        List<WSClient> clients = connect(4);
+        try {
+            WebSocketConnection sender = broadcaster();
+            sender.broadcast().filter(c -> !c.id().equals(sender.id())).sendTextAndAwait("others");
+            sender.broadcast().sendTextAndAwait("all");
+            int received = 0;
+            for (WSClient client : clients) {
+                // The messages are received in order
+                await().until(() -> !client.getMessages().isEmpty() && client.getLastMessage().toString().equals("all"));
+                if (client.getMessages().size() == 2) {
+                    assertEquals("others", client.getMessages().get(0).toString());
+                    received++;
+                }
+            }
+            // Only the sender was skipped
+            assertEquals(3, received);
+        } finally {
+            clients.forEach(WSClient::close);
+        }
+    }
+
+    @Test
+    public void testClosedConnectionsSkipped() {
+        List<WSClient> clients = connect(4);
+        try {
+            WebSocketConnection closed = broadcaster();
+            closed.closeAndAwait();
+            // Broadcast right away, the connection might not have been removed yet
+            closed.broadcast().sendTextAndAwait("still open");
+            await().until(() -> clients.stream().filter(c -> !c.getMessages().isEmpty()).count() == 3);
+
+            // A broadcast without any recipient completes immediately
+            for (WebSocketConnection connection : connections.findByEndpointId(Room.ID)) {
+                connection.closeAndAwait();
+            }
+            closed.broadcast().sendTextAndAwait("nobody");
+        } finally {
+            clients.forEach(WSClient::close);
+        }
+    }
+
+    @Test
+    public void testBroadcastOrderedBeforeDirectSend() {
+        WSClient client = WSClient.create(vertx).connect(orderedUri);
+        try {
+            for (int i = 0; i < 10; i++) {
+                client.sendAndAwait("" + i);
+                client.waitForMessages(2 * (i + 1));
+                List<String> messages = client.getMessages().stream().map(Buffer::toString).toList();
+                // The broadcast was sent first
+                assertEquals(List.of("broadcast:" + i, "direct:" + i), messages.subList(2 * i, 2 * i + 2));
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    private List<WSClient> connect(int count) {
+        List<WSClient> clients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            clients.add(WSClient.create(vertx).connect(roomUri));
+        }
+        await().until(() -> connections.findByEndpointId(Room.ID).size() == count);
+        return clients;
+    }
+
+    private WebSocketConnection broadcaster() {
+        return connections.findByEndpointId(Room.ID).iterator().next();
+    }
+
+    @WebSocket(path = "/room", endpointId = Room.ID)
+    public static class Room {
+
+        static final String ID = "room";
+
+        static final Set<String> EVENT_LOOPS = ConcurrentHashMap.newKeySet();
+
+        @NonBlocking
+        @OnOpen
+        void open() {
+            EVENT_LOOPS.add(Thread.currentThread().getName());
+        }
+    }
+
+    @WebSocket(path = "/ordered")
+    public static class Ordered {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> message(String message) {
+            // Both messages are sent from the event loop of the connection without waiting for the broadcast
+            Uni<Void> broadcast = connection.broadcast().sendText("broadcast:" + message);
+            Uni<Void> direct = connection.sendText("direct:" + message);
+            return Uni.join().all(broadcast, direct).andFailFast().replaceWithVoid();
+        }
+    }
+
+    public record Item(String name, int count) {
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.PathParam;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.vertx.core.Vertx;
+
+public class BroadcastTopicTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Chat.class, WSClient.class);
+            });
+
+    @TestHTTPResource("chat/a/c1")
+    URI c1Uri;
+
+    @TestHTTPResource("chat/a/c2")
+    URI c2Uri;
+
+    @TestHTTPResource("chat/b/c3")
+    URI c3Uri;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    OpenConnections connections;
+
+    @Test
+    public void testBroadcastToTopic() {
+        try (WSClient client1 = WSClient.create(vertx).connect(c1Uri);
+                WSClient client2 = WSClient.create(vertx).connect(c2Uri);
+                WSClient client3 = WSClient.create(vertx).connect(c3Uri)) {
+            client1.waitForMessages(1);
+            client2.waitForMessages(1);
+            client3.waitForMessages(1);
+            assertEquals(2, connections.findByTopic("a").size());
+            assertEquals(1, connections.findByTopic("b").size());
+            assertTrue(connections.findByTopic("c").isEmpty());
+
+            client1.sendAndAwait("hi");
+            client1.waitForMessages(2);
+            client2.waitForMessages(2);
+            assertEquals("c1:hi", client1.getLastMessage().toString());
+            assertEquals("c1:hi", client2.getLastMessage().toString());
+            // The broadcast is complete, client3 is not subscribed to the topic
+            assertEquals(1, client3.getMessages().size());
+        }
+    }
+
+    @WebSocket(path = "/chat/{room}/{name}")
+    public static class Chat {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnOpen
+        String open(@PathParam String room) {
+            connection.subscribe(room);
+            return "joined";
+        }
+
+        @OnTextMessage
+        void message(@PathParam String room, @PathParam String name, String message) {
+            connection.broadcast().topic(room).sendTextAndAwait(name + ":" + message);
+        }
+    }
+
+}
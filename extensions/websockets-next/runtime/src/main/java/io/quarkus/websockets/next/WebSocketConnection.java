@@ -36,6 +36,31 @@ public interface WebSocketConnection extends Connection {
      */
     Set<WebSocketConnection> getOpenConnections();
 
+    /**
+     * Subscribes this connection to the given topic. Messages can then be sent to all the subscribers of a topic with
+     * {@link BroadcastSender#topic(String)}, without iterating over all the connections to the endpoint.
+     * <p>
+     * A topic can be used as an index, e.g. a topic named after the user connected. A closed connection is unsubscribed
+     * from all its topics.
+     *
+     * @param topic
+     * @return {@code true} if the connection was not subscribed to the topic yet
+     */
+    boolean subscribe(String topic);
+
+    /**
+     *
+     * @param topic
+     * @return {@code true} if the connection was subscribed to the topic
+     */
+    boolean unsubscribe(String topic);
+
+    /**
+     *
+     * @return the immutable set of topics this connection is subscribed to
+     */
+    Set<String> topics();
+
     /**
      * Makes it possible to send messages to all clients connected to the same WebSocket endpoint.
      *
@@ -51,6 +76,15 @@ interface BroadcastSender extends Sender {
          */
         BroadcastSender filter(Predicate<WebSocketConnection> predicate);
 
+        /**
+         *
+         * @param topic
+         * @return a new sender that sends messages to all open clients connected to the same WebSocket endpoint and
+         *         subscribed to the given topic
+         * @see WebSocketConnection#subscribe(String)
+         */
+        BroadcastSender topic(String topic);
+
     }
 
 }
@@ -1,7 +1,9 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -29,6 +31,12 @@ public class ConnectionManager implements OpenConnections {
     // generatedEndpointClassName -> open connections
     private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
 
+    // connection id -> open connection
+    private final ConcurrentMap<String, WebSocketConnection> idToConnection = new ConcurrentHashMap<>();
+
+    // generatedEndpointClassName -> topic -> subscribed connections
+    private final ConcurrentMap<String, ConcurrentMap<String, Set<WebSocketConnection>>> endpointToTopics = new ConcurrentHashMap<>();
+
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
     private final Event<WebSocketConnection> openEvent;
@@ -53,9 +61,25 @@ public Stream<WebSocketConnection> stream() {
         return endpointToConnections.values().stream().flatMap(Set::stream).filter(WebSocketConnection::isOpen);
     }
 
+    @Override
+    public Optional<WebSocketConnection> findByConnectionId(String connectionId) {
+        WebSocketConnection connection = idToConnection.get(connectionId);
+        return connection != null && connection.isOpen() ? Optional.of(connection) : Optional.empty();
+    }
+
+    @Override
+    public Collection<WebSocketConnection> findByTopic(String topic) {
+        return endpointToTopics.values().stream()
+                .map(topics -> topics.getOrDefault(topic, Set.of()))
+                .flatMap(Set::stream)
+                .filter(WebSocketConnection::isOpen)
+                .toList();
+    }
+
     void add(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Add connection: %s", connection);
         if (endpointToConnections.computeIfAbsent(endpoint, e -> ConcurrentHashMap.newKeySet()).add(connection)) {
+            idToConnection.put(connection.id(), connection);
             if (openEvent != null) {
                 openEvent.fireAsync(connection);
             }
@@ -77,6 +101,10 @@ void remove(String endpoint, WebSocketConnection connection) {
         Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
         if (connections != null) {
             if (connections.remove(connection)) {
+                idToConnection.remove(connection.id());
+                for (String topic : connection.topics()) {
+                    unsubscribe(endpoint, topic, connection);
+                }
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
                 }
@@ -107,6 +135,46 @@ public Set<WebSocketConnection> getConnections(String endpoint) {
         return ret;
     }
 
+    /**
+     *
+     * @param endpoint
+     * @param topic
+     * @return the connections for the given endpoint subscribed to the given topic, never {@code null}
+     */
+    public Set<WebSocketConnection> getSubscribers(String endpoint, String topic) {
+        ConcurrentMap<String, Set<WebSocketConnection>> topics = endpointToTopics.get(endpoint);
+        if (topics == null) {
+            return Set.of();
+        }
+        return topics.getOrDefault(topic, Set.of());
+    }
+
+    void subscribe(String endpoint, String topic, WebSocketConnection connection) {
+        endpointToTopics.computeIfAbsent(endpoint, e -> new ConcurrentHashMap<>())
+                .compute(topic, (t, subscribers) -> {
+                    if (subscribers == null) {
+                        subscribers = ConcurrentHashMap.newKeySet();
+                    }
+                    subscribers.add(connection);
+                    return subscribers;
+                });
+        if (!getConnections(endpoint).contains(connection)) {
+            // The connection was removed in the meantime
+            unsubscribe(endpoint, topic, connection);
+        }
+    }
+
+    void unsubscribe(String endpoint, String topic, WebSocketConnection connection) {
+        ConcurrentMap<String, Set<WebSocketConnection>> topics = endpointToTopics.get(endpoint);
+        if (topics != null) {
+            // Remove the topic once it has no subscribers, so that short-lived topics do not accumulate
+            topics.computeIfPresent(topic, (t, subscribers) -> {
+                subscribers.remove(connection);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+
     public void addListener(ConnectionListener listener) {
         this.listeners.add(listener);
     }
@@ -114,6 +182,8 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        idToConnection.clear();
+        endpointToTopics.clear();
     }
 
     public interface ConnectionListener {
@@ -17,6 +17,7 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
@@ -90,17 +91,59 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(encodeText(message));
+    }
+
+    <M> String encodeText(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
         } else {
-            text = codecs.textEncode(message, null);
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Writes a text message without creating a {@link Uni}, used to broadcast messages to many connections.
+     */
+    Future<Void> writeText(String message) {
+        Future<Void> future = webSocket().writeTextMessage(message);
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
+        }
+        // Like the Uni returned by sendText(), the returned future fails if a callback throws
+        return future.map(v -> {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend(message);
+            }
+            if (trafficLogger != null) {
+                trafficLogger.textMessageSent(this, message);
+            }
+            return v;
+        });
+    }
+
+    /**
+     * Writes a binary message without creating a {@link Uni}, used to broadcast messages to many connections.
+     */
+    Future<Void> writeBinary(Buffer message) {
+        Future<Void> future = webSocket().writeBinaryMessage(message);
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
         }
-        return sendText(text);
+        // Like the Uni returned by sendBinary(), the returned future fails if a callback throws
+        return future.map(v -> {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend(message);
+            }
+            if (trafficLogger != null) {
+                trafficLogger.binaryMessageSent(this, message);
+            }
+            return v;
+        });
     }
 
     @Override
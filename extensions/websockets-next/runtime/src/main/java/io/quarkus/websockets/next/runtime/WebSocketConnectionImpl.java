@@ -7,6 +7,8 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -16,7 +18,14 @@
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
@@ -36,6 +45,11 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final SecuritySupport securitySupport;
 
+    // the root context of the connection, null if created outside a Vert.x context
+    private final Context context;
+
+    private final Set<String> topics = ConcurrentHashMap.newKeySet();
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
             TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
@@ -46,8 +60,10 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
-        this.defaultBroadcast = new BroadcastImpl(null);
+        this.defaultBroadcast = new BroadcastImpl(null, null);
         this.securitySupport = securitySupportCreator.apply(this);
+        Context current = Vertx.currentContext();
+        this.context = current != null ? VertxContext.getRootContext(current) : null;
     }
 
     SecuritySupport securitySupport() {
@@ -75,6 +91,29 @@ public Set<WebSocketConnection> getOpenConnections() {
                 .collect(Collectors.toUnmodifiableSet());
     }
 
+    @Override
+    public boolean subscribe(String topic) {
+        if (topics.add(Objects.requireNonNull(topic))) {
+            connectionManager.subscribe(generatedEndpointClass, topic, this);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean unsubscribe(String topic) {
+        if (topics.remove(Objects.requireNonNull(topic))) {
+            connectionManager.unsubscribe(generatedEndpointClass, topic, this);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Set<String> topics() {
+        return Set.copyOf(topics);
+    }
+
     @Override
     public String toString() {
         return "WebSocket connection [endpointId=" + endpointId + ", path=" + webSocket.path() + ", id=" + identifier + "]";
@@ -181,49 +220,41 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Buffer b) {
-                return c.sendBinary(b);
-            }
-        };
-
         private final Predicate<WebSocketConnection> filter;
 
-        BroadcastImpl(Predicate<WebSocketConnection> filter) {
+        // null if the message is sent to all the connections to the endpoint
+        private final String topic;
+
+        BroadcastImpl(Predicate<WebSocketConnection> filter, String topic) {
             this.filter = filter;
+            this.topic = topic;
         }
 
         @Override
         public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
-            return new BroadcastImpl(Objects.requireNonNull(predicate));
+            return new BroadcastImpl(Objects.requireNonNull(predicate), topic);
+        }
+
+        @Override
+        public BroadcastSender topic(String topic) {
+            return new BroadcastImpl(filter, Objects.requireNonNull(topic));
         }
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return doSend(WebSocketConnectionBase::writeText, message);
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // Encode the message once for all the connections
+            return Uni.createFrom().deferred(() -> doSend(WebSocketConnectionBase::writeText, encodeText(message)));
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            // Vert.x writes a duplicate of the buffer, so the same buffer can be written to all the connections
+            return doSend(WebSocketConnectionBase::writeBinary, message);
         }
 
         @Override
@@ -236,28 +267,98 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
-        private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
-            Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
-            if (connections.isEmpty()) {
-                return Uni.createFrom().voidItem();
-            }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
-            for (WebSocketConnection connection : connections) {
-                if (connection.isOpen()
-                        && (filter == null || filter.test(connection))) {
-                    unis.add(sendFunction.apply(connection, message)
-                            // Intentionally ignore 'WebSocket is closed' failures
-                            // It might happen that the connection is closed in the mean time
-                            .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
-                            .recoverWithNull());
+        private <M> Uni<Void> doSend(BiFunction<WebSocketConnectionBase, M, Future<Void>> writeFunction, M message) {
+            return Uni.createFrom().emitter(emitter -> {
+                // Only the subscribers of a topic are visited
+                Set<WebSocketConnection> connections = topic == null
+                        ? connectionManager.getConnections(generatedEndpointClass)
+                        : connectionManager.getSubscribers(generatedEndpointClass, topic);
+                // Group the recipients by event loop so that each event loop gets a single task to write the message
+                Map<Context, List<WebSocketConnectionImpl>> batches = new HashMap<>();
+                int recipients = 0;
+                for (WebSocketConnection connection : connections) {
+                    if (connection.isOpen()
+                            && (filter == null || filter.test(connection))) {
+                        WebSocketConnectionImpl c = (WebSocketConnectionImpl) connection;
+                        batches.computeIfAbsent(c.context, k -> new ArrayList<>()).add(c);
+                        recipients++;
+                    }
+                }
+                if (recipients == 0) {
+                    emitter.complete(null);
+                    return;
+                }
+                BroadcastCompletion completion = new BroadcastCompletion(recipients, emitter);
+                // The batch of the current event loop is written inline, so that the broadcast is ordered before the
+                // messages sent afterwards by the caller, e.g. in the same callback
+                Context current = Context.isOnEventLoopThread() ? Vertx.currentContext() : null;
+                Context currentRoot = current != null ? VertxContext.getRootContext(current) : null;
+                for (Entry<Context, List<WebSocketConnectionImpl>> batch : batches.entrySet()) {
+                    Handler<Void> write = new Handler<>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            for (WebSocketConnectionImpl c : batch.getValue()) {
+                                Future<Void> written;
+                                try {
+                                    written = writeFunction.apply(c, message);
+                                } catch (Throwable t) {
+                                    written = Future.failedFuture(t);
+                                }
+                                written.onComplete(r -> {
+                                    // Intentionally ignore 'WebSocket is closed' failures
+                                    // It might happen that the connection is closed in the mean time
+                                    completion.completed(r.failed() && !Endpoints.isWebSocketIsClosedFailure(r.cause(), c)
+                                            ? r.cause()
+                                            : null);
+                                });
+                            }
+                        }
+                    };
+                    if (batch.getKey() == null || batch.getKey() == currentRoot) {
+                        write.handle(null);
+                    } else {
+                        batch.getKey().runOnContext(write);
+                    }
+                }
+            });
+        }
+
+    }
+
+    /**
+     * Completes a broadcast once the message was written to all the recipients.
+     */
+    static class BroadcastCompletion {
+
+        private final AtomicInteger remaining;
+        private final UniEmitter<? super Void> emitter;
+        private final List<Throwable> failures = new ArrayList<>();
+
+        BroadcastCompletion(int recipients, UniEmitter<? super Void> emitter) {
+            this.remaining = new AtomicInteger(recipients);
+            this.emitter = emitter;
+        }
+
+        /**
+         * @param failure the failure of the write to a recipient, or {@code null} if it succeeded or the failure is ignored
+         */
+        void completed(Throwable failure) {
+            if (failure != null) {
+                synchronized (failures) {
+                    failures.add(failure);
                 }
             }
-            if (unis.isEmpty()) {
-                return Uni.createFrom().voidItem();
+            if (remaining.decrementAndGet() == 0) {
+                // The counter orders the failures recorded by the other writes before this point
+                if (failures.isEmpty()) {
+                    emitter.complete(null);
+                } else if (failures.size() == 1) {
+                    emitter.fail(failures.get(0));
+                } else {
+                    emitter.fail(new CompositeException(failures));
+                }
             }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
         }
-
     }
 
 }
@@ -0,0 +1,109 @@
+package io.quarkus.websockets.next.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.websockets.next.runtime.WebSocketConnectionImpl.BroadcastCompletion;
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Uni;
+
+public class BroadcastCompletionTest {
+
+    @Test
+    public void testCompletedOnceAllWritesComplete() {
+        AtomicReference<BroadcastCompletion> completion = new AtomicReference<>();
+        CompletableFuture<Void> result = broadcast(3, completion);
+        completion.get().completed(null);
+        completion.get().completed(null);
+        assertFalse(result.isDone());
+        completion.get().completed(null);
+        assertTrue(result.isDone());
+        assertFalse(result.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testSingleFailure() {
+        AtomicReference<BroadcastCompletion> completion = new AtomicReference<>();
+        CompletableFuture<Void> result = broadcast(2, completion);
+        IllegalStateException failure = new IllegalStateException();
+        completion.get().completed(failure);
+        // The broadcast fails once all the writes completed
+        assertFalse(result.isDone());
+        completion.get().completed(null);
+        ExecutionException e = assertFailed(result);
+        assertSame(failure, e.getCause());
+    }
+
+    @Test
+    public void testMultipleFailures() {
+        AtomicReference<BroadcastCompletion> completion = new AtomicReference<>();
+        CompletableFuture<Void> result = broadcast(3, completion);
+        IllegalStateException failure1 = new IllegalStateException();
+        IllegalArgumentException failure2 = new IllegalArgumentException();
+        completion.get().completed(failure1);
+        completion.get().completed(null);
+        completion.get().completed(failure2);
+        ExecutionException e = assertFailed(result);
+        CompositeException composite = assertInstanceOf(CompositeException.class, e.getCause());
+        assertEquals(List.of(failure1, failure2), composite.getCauses());
+    }
+
+    @Test
+    public void testConcurrentWrites() throws Exception {
+        int recipients = 1000;
+        AtomicReference<BroadcastCompletion> completion = new AtomicReference<>();
+        CompletableFuture<Void> result = broadcast(recipients, completion);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < recipients; i++) {
+                Throwable failure = i % 100 == 0 ? new IllegalStateException("" + i) : null;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    completion.get().completed(failure);
+                });
+            }
+            start.countDown();
+            ExecutionException e = assertFailed(result);
+            // None of the failures is lost
+            assertEquals(10, assertInstanceOf(CompositeException.class, e.getCause()).getCauses().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static CompletableFuture<Void> broadcast(int recipients, AtomicReference<BroadcastCompletion> completion) {
+        return Uni.createFrom().<Void> emitter(emitter -> completion.set(new BroadcastCompletion(recipients, emitter)))
+                .subscribeAsCompletionStage();
+    }
+
+    private static ExecutionException assertFailed(CompletableFuture<Void> result) {
+        try {
+            result.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e;
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+        throw new AssertionError("The broadcast did not fail");
+    }
+
+}
@@ -86,6 +86,8 @@ public static Builder builder() {
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
     private final Predicate<BeanDeployment> optimizeContexts;
+    private final boolean optimizeClientProxies;
+    private final boolean recycleRequestContexts;
     private final List<Consumer<BeanGenerator.SuppressConditionGeneration>> suppressConditionGenerators;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
@@ -116,6 +118,8 @@ private BeanProcessor(Builder builder) {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.optimizeContexts = builder.optimizeContexts;
+        this.optimizeClientProxies = builder.optimizeClientProxies;
+        this.recycleRequestContexts = builder.recycleRequestContexts;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
         this.suppressConditionGenerators = builder.suppressConditionGenerators;
 
@@ -239,8 +243,14 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         // Set of normal scopes for which the client proxy delegate can be optimized
         Set<DotName> singleContextNormalScopes = findSingleContextNormalScopes();
 
+        // The indexes of the request scoped beans in the optimized request context, read directly by client proxies
+        Map<String, Integer> requestContextIndexes = optimizeClientProxies && optimizeContextsValue
+                ? ContextInstancesGenerator.requestContextIndexes(beanDeployment)
+                : Map.of();
+
         ClientProxyGenerator clientProxyGenerator = new ClientProxyGenerator(applicationClassPredicate, generateSources,
-                allowMocking, refReg, existingClasses, singleContextNormalScopes);
+                allowMocking, refReg, existingClasses, singleContextNormalScopes, optimizeClientProxies,
+                requestContextIndexes);
 
         InterceptorGenerator interceptorGenerator = new InterceptorGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, beanToGeneratedName,
@@ -258,8 +268,11 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
             decoratorGenerator.precomputeGeneratedName(decorator);
         }
 
+        // Interceptor bytecode is read upfront, before the resources are generated in parallel
+        Set<InterceptorInfo> confinedInterceptors = InvocationContextAnalysis.findConfined(interceptors,
+                Thread.currentThread().getContextClassLoader());
         SubclassGenerator subclassGenerator = new SubclassGenerator(annotationLiterals, applicationClassPredicate,
-                generateSources, refReg, existingClasses, privateMembers);
+                generateSources, refReg, existingClasses, privateMembers, confinedInterceptors);
 
         ObserverGenerator observerGenerator = new ObserverGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, observerToGeneratedName,
@@ -270,7 +283,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         }
 
         ContextInstancesGenerator contextInstancesGenerator = new ContextInstancesGenerator(generateSources,
-                refReg, beanDeployment, scopeToGeneratedName);
+                refReg, beanDeployment, scopeToGeneratedName, recycleRequestContexts);
         if (optimizeContextsValue) {
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
@@ -656,6 +669,8 @@ public static class Builder {
         boolean allowMocking;
         boolean strictCompatibility;
         Predicate<BeanDeployment> optimizeContexts;
+        boolean optimizeClientProxies;
+        boolean recycleRequestContexts;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -691,6 +706,8 @@ public Builder() {
             failOnInterceptedPrivateMethod = false;
             allowMocking = false;
             strictCompatibility = false;
+            optimizeClientProxies = false;
+            recycleRequestContexts = false;
 
             excludeTypes = new ArrayList<>();
 
@@ -960,6 +977,33 @@ public Builder setOptimizeContexts(Predicate<BeanDeployment> fun) {
             return this;
         }
 
+        /**
+         * If set to {@code true}, the client proxies of {@link jakarta.enterprise.context.ApplicationScoped} beans cache the
+         * handle of the bean instance once it is created, and the client proxies of
+         * {@link jakarta.enterprise.context.RequestScoped} beans read the instance directly from the optimized request
+         * context if {@link #setOptimizeContexts(boolean) contexts are optimized}.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setOptimizeClientProxies(boolean value) {
+            this.optimizeClientProxies = value;
+            return this;
+        }
+
+        /**
+         * If set to {@code true} and {@link #setOptimizeContexts(boolean) contexts are optimized}, the storage of a destroyed
+         * request context is reused by the next request context initialized on the same thread, unless it was accessed from
+         * another thread.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setRecycleRequestContexts(boolean value) {
+            this.recycleRequestContexts = value;
+            return this;
+        }
+
         /**
          * Can be used to compute a priority of an alternative bean. A non-null computed value always
          * takes precedence over the priority defined by {@link Priority} or a stereotype.
@@ -28,6 +28,7 @@
 import org.jboss.jandex.Type;
 
 import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.impl.Mockable;
@@ -61,21 +62,29 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String HANDLE_FIELD = "handle";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
     private final Set<String> existingClasses;
     // We optimize the access to the delegate if a single context is registered for a given scope
     private final Set<DotName> singleContextNormalScopes;
+    // If true, the handle of an application scoped bean instance is cached on the proxy
+    private final boolean cacheApplicationScopedHandles;
+    // The indexes of the request scoped beans in the optimized request context, empty if not optimized
+    private final Map<String, Integer> requestContextIndexes;
 
     public ClientProxyGenerator(Predicate<DotName> applicationClassPredicate, boolean generateSources, boolean mockable,
             ReflectionRegistration reflectionRegistration, Set<String> existingClasses,
-            Set<DotName> singleContextNormalScopes) {
+            Set<DotName> singleContextNormalScopes, boolean cacheApplicationScopedHandles,
+            Map<String, Integer> requestContextIndexes) {
         super(generateSources, reflectionRegistration);
         this.applicationClassPredicate = applicationClassPredicate;
         this.mockable = mockable;
         this.existingClasses = existingClasses;
         this.singleContextNormalScopes = singleContextNormalScopes;
+        this.cacheApplicationScopedHandles = cacheApplicationScopedHandles;
+        this.requestContextIndexes = requestContextIndexes;
     }
 
     /**
@@ -166,6 +175,21 @@ private void createClientProxy(Gizmo gizmo, BeanInfo bean, Consumer<BytecodeTran
                 contextField = null;
             }
 
+            FieldDesc handleField;
+            if (cacheApplicationScopedHandles && BuiltinScope.APPLICATION.is(bean.getScope())) {
+                // A ContextInstanceHandleImpl is safely published, the field does not need to be volatile
+                handleField = cc.field(HANDLE_FIELD, fc -> {
+                    fc.private_();
+                    fc.setType(ContextInstanceHandle.class);
+                });
+            } else {
+                handleField = null;
+            }
+            Integer requestContextIndex = BuiltinScope.REQUEST.is(bean.getScope())
+                    && singleContextNormalScopes.contains(bean.getScope().getDotName())
+                            ? requestContextIndexes.get(bean.getIdentifier())
+                            : null;
+
             cc.constructor(mc -> {
                 ParamVar id = mc.parameter("id", String.class);
                 mc.body(bc -> {
@@ -198,10 +222,29 @@ private void createClientProxy(Gizmo gizmo, BeanInfo bean, Consumer<BytecodeTran
                     }
 
                     Expr ret;
-                    if (BuiltinScope.APPLICATION.is(bean.getScope())) {
+                    if (handleField != null) {
+                        // ContextInstanceHandle<?> cached = this.handle;
+                        // ContextInstanceHandle<?> handle = ClientProxies.getApplicationScopedHandle(this.context,
+                        //        this.bean, cached);
+                        // if (handle != cached) {
+                        //    this.handle = handle;
+                        // }
+                        // return handle.get();
+                        LocalVar cached = b0.localVar("cached", cc.this_().field(handleField));
+                        LocalVar handle = b0.localVar("handle",
+                                b0.invokeStatic(MethodDescs.CLIENT_PROXIES_GET_APP_SCOPED_HANDLE,
+                                        cc.this_().field(contextField), cc.this_().field(beanField), cached));
+                        b0.if_(b0.ne(handle, cached), b1 -> {
+                            b1.set(cc.this_().field(handleField), handle);
+                        });
+                        ret = b0.invokeInterface(MethodDescs.INSTANCE_HANDLE_GET, handle);
+                    } else if (BuiltinScope.APPLICATION.is(bean.getScope())) {
                         // Application context is stored in a field and is always active
                         ret = b0.invokeStatic(MethodDescs.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
                                 cc.this_().field(contextField), cc.this_().field(beanField));
+                    } else if (requestContextIndex != null) {
+                        ret = b0.invokeStatic(MethodDescs.CLIENT_PROXIES_GET_REQUEST_SCOPED_DELEGATE,
+                                cc.this_().field(contextField), cc.this_().field(beanField), Const.of(requestContextIndex));
                     } else if (singleContextNormalScopes.contains(bean.getScope().getDotName())) {
                         ret = b0.invokeStatic(MethodDescs.CLIENT_PROXIES_GET_SINGLE_CONTEXT_DELEGATE,
                                 cc.this_().field(contextField), cc.this_().field(beanField));
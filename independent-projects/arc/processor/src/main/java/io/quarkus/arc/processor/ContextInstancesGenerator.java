@@ -6,6 +6,7 @@
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -21,6 +22,7 @@
 
 import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.impl.ContextInstances;
+import io.quarkus.arc.impl.IndexedContextInstances;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo2.Const;
 import io.quarkus.gizmo2.Expr;
@@ -30,6 +32,7 @@
 import io.quarkus.gizmo2.ParamVar;
 import io.quarkus.gizmo2.StaticFieldVar;
 import io.quarkus.gizmo2.creator.ClassCreator;
+import io.quarkus.gizmo2.desc.ConstructorDesc;
 import io.quarkus.gizmo2.desc.FieldDesc;
 import io.quarkus.gizmo2.desc.MethodDesc;
 
@@ -39,12 +42,14 @@ public class ContextInstancesGenerator extends AbstractGenerator {
 
     private final BeanDeployment beanDeployment;
     private final Map<DotName, String> scopeToGeneratedName;
+    private final boolean recycleRequestContexts;
 
     public ContextInstancesGenerator(boolean generateSources, ReflectionRegistration reflectionRegistration,
-            BeanDeployment beanDeployment, Map<DotName, String> scopeToGeneratedName) {
+            BeanDeployment beanDeployment, Map<DotName, String> scopeToGeneratedName, boolean recycleRequestContexts) {
         super(generateSources, reflectionRegistration);
         this.beanDeployment = beanDeployment;
         this.scopeToGeneratedName = scopeToGeneratedName;
+        this.recycleRequestContexts = recycleRequestContexts;
     }
 
     void precomputeGeneratedName(DotName scope) {
@@ -59,7 +64,11 @@ Collection<Resource> generate(DotName scope) {
 
         Gizmo gizmo = gizmo(classOutput);
 
-        createContextInstances(gizmo, scope);
+        if (BuiltinScope.REQUEST.getName().equals(scope)) {
+            createIndexedContextInstances(gizmo, scope);
+        } else {
+            createContextInstances(gizmo, scope);
+        }
 
         return classOutput.getResources();
     }
@@ -120,6 +129,64 @@ private void createContextInstances(Gizmo gizmo, DotName scope) {
         });
     }
 
+    private void createIndexedContextInstances(Gizmo gizmo, DotName scope) {
+        String generatedName = scopeToGeneratedName.get(scope);
+        reflectionRegistration.registerMethod(generatedName, Methods.INIT);
+
+        List<BeanInfo> beans = new BeanStream(beanDeployment.getBeans()).withScope(scope).collect();
+
+        gizmo.class_(generatedName, cc -> {
+            cc.extends_(IndexedContextInstances.class);
+
+            Map<String, Integer> indexes = beanIndexes(beans);
+
+            cc.constructor(mc -> {
+                mc.public_();
+                mc.body(bc -> {
+                    bc.invokeSpecial(ConstructorDesc.of(IndexedContextInstances.class, int.class, boolean.class),
+                            cc.this_(), Const.of(indexes.size()), Const.of(recycleRequestContexts));
+                    bc.return_();
+                });
+            });
+
+            cc.method("index", mc -> {
+                mc.protected_();
+                mc.returning(int.class);
+                ParamVar rtBeanId = mc.parameter("beanId", String.class);
+                mc.body(b0 -> {
+                    b0.return_(b0.switch_(int.class, rtBeanId, sc -> {
+                        for (Map.Entry<String, Integer> idToIndex : indexes.entrySet()) {
+                            sc.caseOf(idToIndex.getKey(), b1 -> {
+                                b1.yield(Const.of(idToIndex.getValue()));
+                            });
+                        }
+                        sc.default_(b1 -> {
+                            b1.throw_(IllegalArgumentException.class, "Unknown bean identifier");
+                        });
+                    }));
+                });
+            });
+        });
+    }
+
+    /**
+     *
+     * @param beanDeployment
+     * @return the indexes of the request scoped beans in the generated {@link IndexedContextInstances}
+     */
+    static Map<String, Integer> requestContextIndexes(BeanDeployment beanDeployment) {
+        return beanIndexes(new BeanStream(beanDeployment.getBeans()).withScope(BuiltinScope.REQUEST.getName()).collect());
+    }
+
+    private static Map<String, Integer> beanIndexes(List<BeanInfo> beans) {
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        // We need to iterate the beans in order for the indexes to be deterministic
+        for (BeanInfo bean : orderedBeans(beans)) {
+            indexes.put(bean.getIdentifier(), indexes.size());
+        }
+        return indexes;
+    }
+
     private Map<String, MethodDesc> generateLazyLocks(ClassCreator cc, Map<String, BeanFields> beanFields) {
         MethodDesc updaterCas = MethodDesc.of(AtomicReferenceFieldUpdater.class, "compareAndSet",
                 boolean.class, Object.class, Object.class, Object.class);
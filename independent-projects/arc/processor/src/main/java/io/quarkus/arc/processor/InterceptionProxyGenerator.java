@@ -406,7 +406,7 @@ private void createInitMetadataMethod(ClassCreator cc, ClassDesc pseudoBeanClass
 
                     // Now create metadata for the given intercepted method
                     Expr methodMetadata = bc.new_(MethodDescs.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
-                            chainArg, methodArg, bindingsArg, forwardFunArg);
+                            chainArg, methodArg, bindingsArg, forwardFunArg, Const.of(false));
 
                     FieldDesc metadataField = FieldDesc.of(cc.type(), "arc$" + interceptedMethod.index,
                             InterceptedMethodMetadata.class);
@@ -0,0 +1,186 @@
+package io.quarkus.arc.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.jandex.MethodInfo;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+/**
+ * Finds the interceptors whose {@code @AroundInvoke} method only uses its {@code InvocationContext} to invoke its methods.
+ * <p>
+ * Such an interceptor cannot store the invocation context, pass it to another method or proceed asynchronously, so
+ * an interceptor chain made only of such interceptors can share a single invocation context, see
+ * {@code io.quarkus.arc.impl.InterceptedMethodMetadata#simpleChain}.
+ */
+final class InvocationContextAnalysis {
+
+    private static final Logger LOGGER = Logger.getLogger(InvocationContextAnalysis.class);
+
+    private static final Set<String> INVOCATION_CONTEXTS = Set.of(
+            DotNames.INVOCATION_CONTEXT.toString().replace('.', '/'),
+            DotNames.ARC_INVOCATION_CONTEXT.toString().replace('.', '/'));
+
+    // The slot of the InvocationContext parameter of an @AroundInvoke method
+    private static final int CONTEXT_SLOT = 1;
+
+    private InvocationContextAnalysis() {
+    }
+
+    /**
+     *
+     * @param interceptors
+     * @param classLoader the class loader used to read the bytecode of the interceptor classes
+     * @return the interceptors that do not let their invocation context escape from their around invoke method
+     */
+    static Set<InterceptorInfo> findConfined(Iterable<InterceptorInfo> interceptors, ClassLoader classLoader) {
+        Set<InterceptorInfo> confined = new HashSet<>();
+        for (InterceptorInfo interceptor : interceptors) {
+            List<MethodInfo> aroundInvokes = interceptor.getAroundInvokes();
+            // interceptor methods declared in a class hierarchy receive a wrapping invocation context
+            if (aroundInvokes.size() == 1 && isConfined(aroundInvokes.get(0), classLoader)) {
+                confined.add(interceptor);
+            }
+        }
+        LOGGER.debugf("Interceptors with a confined invocation context: %s", confined);
+        return confined;
+    }
+
+    static boolean isConfined(MethodInfo aroundInvoke, ClassLoader classLoader) {
+        if (classLoader == null || aroundInvoke.parametersCount() != 1) {
+            return false;
+        }
+        String className = aroundInvoke.declaringClass().name().toString();
+        ClassNode classNode = new ClassNode();
+        try (InputStream in = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (in == null) {
+                return false;
+            }
+            new ClassReader(in).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to read the bytecode of %s", className);
+            return false;
+        }
+        for (MethodNode method : classNode.methods) {
+            if (method.name.equals(aroundInvoke.name()) && method.desc.equals(aroundInvoke.descriptor())) {
+                return isConfined(classNode.name, method);
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConfined(String owner, MethodNode method) {
+        if ((method.access & (Opcodes.ACC_STATIC | Opcodes.ACC_ABSTRACT)) != 0) {
+            return false;
+        }
+        for (AbstractInsnNode insn : method.instructions) {
+            if (insn.getOpcode() == Opcodes.ASTORE && ((VarInsnNode) insn).var == CONTEXT_SLOT) {
+                // the slot may then hold another value, we would not know which loads are the invocation context
+                return false;
+            }
+        }
+        ContextInterpreter interpreter = new ContextInterpreter();
+        try {
+            new Analyzer<>(interpreter).analyze(owner, method);
+        } catch (AnalyzerException e) {
+            return false;
+        }
+        return interpreter.confined;
+    }
+
+    /**
+     * Records whether an instruction consumes the invocation context in any way other than as the receiver of an
+     * {@code InvocationContext} method, or a null check.
+     */
+    private static class ContextInterpreter extends SourceInterpreter {
+
+        boolean confined = true;
+
+        ContextInterpreter() {
+            super(Opcodes.ASM9);
+        }
+
+        @Override
+        public SourceValue copyOperation(AbstractInsnNode insn, SourceValue value) {
+            // loading the context is the only allowed copy, DUP, ASTORE, etc. are not
+            if (!(insn.getOpcode() == Opcodes.ALOAD && ((VarInsnNode) insn).var == CONTEXT_SLOT)
+                    && isContext(value)) {
+                confined = false;
+            }
+            return super.copyOperation(insn, value);
+        }
+
+        @Override
+        public SourceValue unaryOperation(AbstractInsnNode insn, SourceValue value) {
+            if (insn.getOpcode() != Opcodes.IFNULL && insn.getOpcode() != Opcodes.IFNONNULL && isContext(value)) {
+                confined = false;
+            }
+            return super.unaryOperation(insn, value);
+        }
+
+        @Override
+        public SourceValue binaryOperation(AbstractInsnNode insn, SourceValue value1, SourceValue value2) {
+            if (insn.getOpcode() != Opcodes.IF_ACMPEQ && insn.getOpcode() != Opcodes.IF_ACMPNE
+                    && (isContext(value1) || isContext(value2))) {
+                confined = false;
+            }
+            return super.binaryOperation(insn, value1, value2);
+        }
+
+        @Override
+        public SourceValue ternaryOperation(AbstractInsnNode insn, SourceValue value1, SourceValue value2,
+                SourceValue value3) {
+            if (isContext(value1) || isContext(value2) || isContext(value3)) {
+                confined = false;
+            }
+            return super.ternaryOperation(insn, value1, value2, value3);
+        }
+
+        @Override
+        public SourceValue naryOperation(AbstractInsnNode insn, List<? extends SourceValue> values) {
+            for (int i = 0; i < values.size(); i++) {
+                if (isContext(values.get(i)) && !(i == 0 && isInvocationContextMethod(insn))) {
+                    confined = false;
+                }
+            }
+            return super.naryOperation(insn, values);
+        }
+
+        @Override
+        public void returnOperation(AbstractInsnNode insn, SourceValue value, SourceValue expected) {
+            if (isContext(value)) {
+                confined = false;
+            }
+            super.returnOperation(insn, value, expected);
+        }
+
+        private static boolean isInvocationContextMethod(AbstractInsnNode insn) {
+            return insn.getOpcode() == Opcodes.INVOKEINTERFACE
+                    && INVOCATION_CONTEXTS.contains(((MethodInsnNode) insn).owner);
+        }
+
+        private static boolean isContext(SourceValue value) {
+            for (AbstractInsnNode source : value.insns) {
+                if (source.getOpcode() == Opcodes.ALOAD && ((VarInsnNode) source).var == CONTEXT_SLOT) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
@@ -27,10 +27,12 @@
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableReferenceProvider;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.InterceptorCreator;
 import io.quarkus.arc.impl.ClientProxies;
 import io.quarkus.arc.impl.CreationalContextImpl;
@@ -179,7 +181,7 @@ private MethodDescs() {
     static final MethodDesc GET_IDENTIFIER = MethodDesc.of(InjectableBean.class, "getIdentifier", String.class);
 
     static final ConstructorDesc INTERCEPTED_METHOD_METADATA_CONSTRUCTOR = ConstructorDesc.of(InterceptedMethodMetadata.class,
-            List.class, Method.class, Set.class, BiFunction.class);
+            List.class, Method.class, Set.class, BiFunction.class, boolean.class);
 
     static final MethodDesc CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES = MethodDesc.of(CreationalContextImpl.class,
             "hasDependentInstances", boolean.class);
@@ -198,9 +200,18 @@ private MethodDescs() {
     static final MethodDesc CLIENT_PROXIES_GET_SINGLE_CONTEXT_DELEGATE = MethodDesc.of(ClientProxies.class,
             "getSingleContextDelegate", Object.class, InjectableContext.class, InjectableBean.class);
 
+    static final MethodDesc CLIENT_PROXIES_GET_APP_SCOPED_HANDLE = MethodDesc.of(ClientProxies.class,
+            "getApplicationScopedHandle", ContextInstanceHandle.class, InjectableContext.class, InjectableBean.class,
+            ContextInstanceHandle.class);
+
+    static final MethodDesc CLIENT_PROXIES_GET_REQUEST_SCOPED_DELEGATE = MethodDesc.of(ClientProxies.class,
+            "getRequestScopedDelegate", Object.class, InjectableContext.class, InjectableBean.class, int.class);
+
     static final MethodDesc CLIENT_PROXIES_GET_DELEGATE = MethodDesc.of(ClientProxies.class,
             "getDelegate", Object.class, InjectableBean.class);
 
+    static final MethodDesc INSTANCE_HANDLE_GET = MethodDesc.of(InstanceHandle.class, "get", Object.class);
+
     static final MethodDesc DECORATOR_DELEGATE_PROVIDER_GET = MethodDesc.of(DecoratorDelegateProvider.class,
             "getCurrent", Object.class, CreationalContext.class);
 
@@ -88,6 +88,7 @@ public class SubclassGenerator extends AbstractGenerator {
     private final Set<String> existingClasses;
     private final PrivateMembersCollector privateMembers;
     private final AnnotationLiteralProcessor annotationLiterals;
+    private final Set<InterceptorInfo> confinedInterceptors;
 
     static String generatedName(DotName providerTypeName, String baseName) {
         return generatedNameFromTarget(DotNames.packagePrefix(providerTypeName), baseName, SUBCLASS_SUFFIX);
@@ -95,8 +96,9 @@ static String generatedName(DotName providerTypeName, String baseName) {
 
     SubclassGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             boolean generateSources, ReflectionRegistration reflectionRegistration,
-            Set<String> existingClasses, PrivateMembersCollector privateMembers) {
+            Set<String> existingClasses, PrivateMembersCollector privateMembers, Set<InterceptorInfo> confinedInterceptors) {
         super(generateSources, reflectionRegistration);
+        this.confinedInterceptors = confinedInterceptors;
         this.applicationClassPredicate = applicationClassPredicate;
         this.annotationLiterals = annotationLiterals;
         this.existingClasses = existingClasses;
@@ -478,9 +480,13 @@ private void generateInitMetadata(ClassCreator cc, BeanInfo bean, Type providerT
                             }));
                         }
 
+                        // A chain of interceptors that never let the invocation context escape can share a single context
+                        boolean simpleChain = !bean.hasAroundInvokes()
+                                && confinedInterceptors.containsAll(interception.interceptors);
+
                         // Now create metadata for the given intercepted method
                         Expr methodMetadata = bc.new_(MethodDescs.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
-                                chainArg, methodArg, bindingsArg, forwardFun);
+                                chainArg, methodArg, bindingsArg, forwardFun, Const.of(simpleChain));
 
                         FieldDesc metadataField = FieldDesc.of(cc.type(), "arc$" + interceptedDecoratedMethod.index,
                                 InterceptedMethodMetadata.class);
@@ -52,6 +52,25 @@ public <T> T get(Contextual<T> contextual) {
         return handle != null ? (T) handle.get() : null;
     }
 
+    /**
+     * Returns the handle of the instance of the given bean, creating the instance if needed.
+     * <p>
+     * Unlike {@link #get(Contextual, CreationalContext)}, the scope of the bean is not checked.
+     */
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandle<T> getInstanceHandle(InjectableBean<T> bean) {
+        ContextInstanceHandle<?> handle = instances.getIfPresent(bean.getIdentifier());
+        if (handle == null) {
+            handle = instances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
+                @Override
+                public ContextInstanceHandle<?> get() {
+                    return createInstanceHandle(bean, new CreationalContextImpl<>(bean));
+                }
+            });
+        }
+        return (ContextInstanceHandle<T>) handle;
+    }
+
     @Override
     public ContextState getState() {
         return this;
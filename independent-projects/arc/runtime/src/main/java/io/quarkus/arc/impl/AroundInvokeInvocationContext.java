@@ -20,6 +20,9 @@
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredictable behavior may occur.
+ * <p>
+ * If no interceptor in the chain lets its invocation context escape, i.e. the chain cannot be continued asynchronously,
+ * a single {@link SimpleChainInvocationContext} is shared by all interceptors instead.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
@@ -27,13 +30,21 @@ static Object perform(Object target, Object[] args, InterceptedMethodMetadata me
         if (metadata.chain.isEmpty()) {
             return metadata.aroundInvokeForward.apply(target, new AroundInvokeInvocationContext(target, args, metadata));
         }
-        return metadata.chain.get(0).invoke(new AroundInvokeInvocationContext(target, args, metadata));
+        AroundInvokeInvocationContext ctx = metadata.simpleChain
+                ? new SimpleChainInvocationContext(target, args, metadata)
+                : new AroundInvokeInvocationContext(target, args, metadata);
+        return metadata.chain.get(0).invoke(ctx);
     }
 
-    private final InterceptedMethodMetadata metadata;
+    protected final InterceptedMethodMetadata metadata;
 
     AroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
-        super(target, args, new ContextDataMap(metadata.bindings));
+        this(target, args, metadata, new ContextDataMap(metadata.bindings));
+    }
+
+    AroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata,
+            ContextDataMap contextData) {
+        super(target, args, contextData);
         this.metadata = metadata;
     }
 
@@ -62,12 +73,12 @@ public Object proceed() throws Exception {
         return proceed(1);
     }
 
-    private Object proceed(int currentPosition) throws Exception {
+    protected Object proceed(int currentPosition) throws Exception {
         try {
             if (currentPosition < metadata.chain.size()) {
                 // Invoke the next interceptor in the chain
                 return metadata.chain.get(currentPosition)
-                        .invoke(new NextAroundInvokeInvocationContext(currentPosition + 1));
+                        .invoke(nextContext(currentPosition + 1));
             } else {
                 // Invoke the target method
                 return metadata.aroundInvokeForward.apply(target, this);
@@ -84,6 +95,15 @@ private Object proceed(int currentPosition) throws Exception {
         }
     }
 
+    /**
+     *
+     * @param position the position of the interceptor that follows the one receiving the returned context
+     * @return the invocation context passed to the interceptor at {@code position - 1}
+     */
+    protected ArcInvocationContext nextContext(int position) {
+        return new NextAroundInvokeInvocationContext(position);
+    }
+
     class NextAroundInvokeInvocationContext implements ArcInvocationContext {
 
         private final int position;
@@ -9,6 +9,7 @@
 import jakarta.enterprise.context.spi.Contextual;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 
@@ -25,6 +26,34 @@ public static <T> T getApplicationScopedDelegate(InjectableContext applicationCo
         return result;
     }
 
+    /**
+     * Used by client proxies that cache the handle of an application scoped bean instance.
+     *
+     * @param applicationContext
+     * @param bean
+     * @param cached the handle cached by the client proxy, may be {@code null}
+     * @return the cached handle if still valid, or the handle of the current instance
+     */
+    public static <T> ContextInstanceHandle<T> getApplicationScopedHandle(InjectableContext applicationContext,
+            InjectableBean<T> bean, ContextInstanceHandle<T> cached) {
+        if (cached instanceof ContextInstanceHandleImpl<T> handle && !handle.isRemoved()) {
+            return cached;
+        }
+        return ((AbstractSharedContext) applicationContext).getInstanceHandle(bean);
+    }
+
+    // This method is only used if a single context is registered for the given scope
+    // and the request scoped beans were indexed at build time, see IndexedContextInstances
+    public static <T> T getRequestScopedDelegate(InjectableContext requestContext, InjectableBean<T> bean, int index) {
+        T result = requestContext instanceof RequestContext context
+                ? context.getIfActive(bean, index, ClientProxies::newCreationalContext)
+                : requestContext.getIfActive(bean, ClientProxies::newCreationalContext);
+        if (result == null) {
+            throw notActive(bean);
+        }
+        return result;
+    }
+
     // This method is only used if a single context is registered for the given scope
     public static <T> T getSingleContextDelegate(InjectableContext context, InjectableBean<T> bean) {
         T result = context.getIfActive(bean, ClientProxies::newCreationalContext);
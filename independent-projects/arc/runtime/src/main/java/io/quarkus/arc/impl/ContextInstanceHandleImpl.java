@@ -16,12 +16,16 @@
 
     private static final Logger LOG = Logger.getLogger(ContextInstanceHandleImpl.class);
 
+    // set before the instance is destroyed, client proxies use it to validate the handles they cache
+    private volatile boolean removed;
+
     public ContextInstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         super(bean, instance, creationalContext);
     }
 
     @Override
     public void destroy() {
+        removed = true;
         try {
             destroyInternal();
         } catch (Exception e) {
@@ -29,4 +33,11 @@ public void destroy() {
         }
     }
 
+    /**
+     * @return {@code true} if this handle was removed from its context and the instance destroyed
+     */
+    boolean isRemoved() {
+        return removed;
+    }
+
 }
@@ -97,22 +97,54 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
         CurrentContextState state = currentState();
-        if (state == null || !state.isValid()) {
+        ContextInstances contextInstances = state != null ? state.enter() : null;
+        if (contextInstances == null) {
             return null;
         }
-        ContextInstances contextInstances = state.contextInstances;
         ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
-            return (T) contextInstances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
-
-                @Override
-                public ContextInstanceHandle<?> get() {
-                    return new ContextInstanceHandleImpl<>(bean, contextual.create(creationalContext), creationalContext);
+            instance = (ContextInstanceHandle<T>) contextInstances.computeIfAbsent(bean.getIdentifier(),
+                    new Supplier<ContextInstanceHandle<?>>() {
+
+                        @Override
+                        public ContextInstanceHandle<?> get() {
+                            return new ContextInstanceHandleImpl<>(bean, contextual.create(creationalContext),
+                                    creationalContext);
+                        }
+                    });
+            if (!state.isValid()) {
+                // the state was destroyed concurrently, the instance must not outlive it
+                ContextInstanceHandle<?> removed = contextInstances.remove(bean.getIdentifier());
+                if (removed != null) {
+                    removed.destroy();
                 }
-            }).get();
+                return null;
+            }
+            return instance.get();
         }
-        return instance.get();
+        return state.isValid() ? instance.get() : null;
+    }
+
+    /**
+     * A variant of {@link #getIfActive(Contextual, Function)} used by client proxies: the scope of the bean is not
+     * checked, and if the context instances are {@linkplain IndexedContextInstances indexed}, an existing instance is
+     * read directly at the given index.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getIfActive(InjectableBean<T> bean, int index, Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
+        CurrentContextState state = currentState();
+        ContextInstances contextInstances = state != null ? state.enter() : null;
+        if (contextInstances == null) {
+            return null;
+        }
+        if (contextInstances instanceof IndexedContextInstances indexed) {
+            ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) indexed.getIfPresent(index);
+            if (instance != null) {
+                return state.isValid() ? instance.get() : null;
+            }
+        }
+        return getIfActive(bean, creationalContextFun);
     }
 
     @Override
@@ -133,12 +165,16 @@ public <T> T get(Contextual<T> contextual) {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
         CurrentContextState state = currentState();
-        if (state == null || !state.isValid()) {
+        ContextInstances contextInstances = state != null ? state.enter() : null;
+        if (contextInstances == null) {
             throw notActive();
         }
         @SuppressWarnings("unchecked")
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.contextInstances
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances
                 .getIfPresent(bean.getIdentifier());
+        if (!state.isValid()) {
+            throw notActive();
+        }
         return instance == null ? null : instance.get();
     }
 
@@ -156,11 +192,12 @@ public void destroy() {
     @Override
     public void destroy(Contextual<?> contextual) {
         CurrentContextState state = currentState();
-        if (state == null || !state.isValid()) {
+        ContextInstances contextInstances = state != null ? state.enter() : null;
+        if (contextInstances == null) {
             throw notActive();
         }
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> instance = state.contextInstances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> instance = contextInstances.remove(bean.getIdentifier());
         if (instance != null) {
             instance.destroy();
         }
@@ -188,6 +225,7 @@ public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
                     }
                 });
                 fireIfNotNull(destroyedNotifier);
+                destroyed(currentState);
             }
         } else {
             throw new IllegalArgumentException("Invalid state implementation: " + state.getClass().getName());
@@ -216,6 +254,15 @@ protected void traceDestroy(ContextState state) {
         // Noop
     }
 
+    /**
+     * Called once the given state has been invalidated and all its instances destroyed.
+     *
+     * @param state
+     */
+    protected void destroyed(CurrentContextState state) {
+        // Noop
+    }
+
     private CurrentContextState currentState() {
         return currentContext.get();
     }
@@ -254,20 +301,64 @@ public static class CurrentContextState implements ContextState {
             }
         }
 
-        private final ContextInstances contextInstances;
+        // null once detached from a destroyed state, see detach()
+        private volatile ContextInstances contextInstances;
+        // the generation of indexed instances this state was created with, see IndexedContextInstances#enter(long)
+        private final long generation;
         // it contains 3 states: isValid, initializedFired and beforeDestroyedFired
         private volatile byte state;
 
         CurrentContextState(ContextInstances contextInstances) {
             this.contextInstances = Objects.requireNonNull(contextInstances);
+            this.generation = contextInstances instanceof IndexedContextInstances indexed ? indexed.generation() : 0;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null || !enter(contextInstances)) {
+                return Map.of();
+            }
             return contextInstances.getAllPresent().stream()
                     .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
 
+        ContextInstances contextInstances() {
+            return contextInstances;
+        }
+
+        /**
+         * Must be called before the instances of this state are used.
+         *
+         * @return the instances if this state is valid, {@code null} otherwise
+         */
+        ContextInstances enter() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null || !isValid() || !enter(contextInstances)) {
+                return null;
+            }
+            return contextInstances;
+        }
+
+        private boolean enter(ContextInstances contextInstances) {
+            return !(contextInstances instanceof IndexedContextInstances indexed) || indexed.enter(generation);
+        }
+
+        /**
+         * Detaches the instances from this state, so that they can be reused by another state.
+         *
+         * @return the detached instances
+         * @throws IllegalStateException if this state has not been invalidated
+         */
+        ContextInstances detach() {
+            if (isValid()) {
+                throw new IllegalStateException("Cannot detach the instances of a valid context state");
+            }
+            ContextInstances detached = contextInstances;
+            contextInstances = null;
+            return detached;
+        }
+
         /**
          * @return {@code true} if the state was successfully invalidated, {@code false} otherwise
          */
@@ -0,0 +1,230 @@
+package io.quarkus.arc.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+/**
+ * Context instances stored in an array, indexed by the position assigned to each bean of the scope at build time.
+ * <p>
+ * The subclass is generated and only maps a bean identifier to its index. If recycling is enabled, the instances can be
+ * {@linkplain #recycle() recycled} once they were all removed, provided they were only used by the thread that
+ * {@linkplain #acquire() acquired} them.
+ * <p>
+ * Every use of the instances by a context state must be preceded by {@link #enter(long)} with the generation the state
+ * was created with. A thread other than the owner marks the instances as shared, which prevents recycling for good.
+ * Recycling increments the generation, so a state that was destroyed and detached can never enter the instances again,
+ * even if they were acquired by another state in the meantime. Marking as shared and recycling are both done with a CAS
+ * on the same stamp, so exactly one of them wins.
+ */
+public abstract class IndexedContextInstances implements ContextInstances {
+
+    private static final VarHandle HANDLES = MethodHandles.arrayElementVarHandle(ContextInstanceHandle[].class);
+    private static final VarHandle LOCKS = MethodHandles.arrayElementVarHandle(Lock[].class);
+    private static final VarHandle STAMP;
+
+    static {
+        try {
+            STAMP = MethodHandles.lookup().findVarHandle(IndexedContextInstances.class, "stamp", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // the lowest bit of the stamp is set once the instances are shared, the generation is stored in the other bits
+    private static final long SHARED = 1;
+    private static final long GENERATION_INCREMENT = 2;
+
+    private final ContextInstanceHandle<?>[] handles;
+    private final Lock[] locks;
+    private final boolean recyclable;
+
+    // null while the instances are kept for recycling
+    private volatile Thread owner;
+    private volatile long stamp;
+
+    protected IndexedContextInstances(int size, boolean recyclable) {
+        this.handles = new ContextInstanceHandle<?>[size];
+        this.locks = new Lock[size];
+        this.recyclable = recyclable;
+        this.owner = Thread.currentThread();
+    }
+
+    /**
+     *
+     * @param id
+     * @return the index of the bean with the given identifier
+     * @throws IllegalArgumentException if the bean does not belong to the scope
+     */
+    protected abstract int index(String id);
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier) {
+        int index = index(id);
+        ContextInstanceHandle<?> handle = (ContextInstanceHandle<?>) HANDLES.getVolatile(handles, index);
+        if (handle != null) {
+            return handle;
+        }
+        Lock lock = lock(index);
+        lock.lock();
+        try {
+            handle = (ContextInstanceHandle<?>) HANDLES.getVolatile(handles, index);
+            if (handle == null) {
+                handle = supplier.get();
+                HANDLES.setVolatile(handles, index, handle);
+            }
+            return handle;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(String id) {
+        return (ContextInstanceHandle<?>) HANDLES.getVolatile(handles, index(id));
+    }
+
+    /**
+     *
+     * @param index
+     * @return the instance handle if present, {@code null} otherwise
+     */
+    ContextInstanceHandle<?> getIfPresent(int index) {
+        return (ContextInstanceHandle<?>) HANDLES.getVolatile(handles, index);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(String id) {
+        return remove(index(id));
+    }
+
+    @Override
+    public Set<ContextInstanceHandle<?>> getAllPresent() {
+        Set<ContextInstanceHandle<?>> result = new HashSet<>();
+        for (int i = 0; i < handles.length; i++) {
+            ContextInstanceHandle<?> handle = (ContextInstanceHandle<?>) HANDLES.getVolatile(handles, i);
+            if (handle != null) {
+                result.add(handle);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        for (int i = 0; i < handles.length; i++) {
+            ContextInstanceHandle<?> handle = remove(i);
+            if (handle != null && action != null) {
+                action.accept(handle);
+            }
+        }
+    }
+
+    boolean isRecyclable() {
+        return recyclable;
+    }
+
+    /**
+     *
+     * @return the current generation of these instances
+     */
+    long generation() {
+        return stamp & ~SHARED;
+    }
+
+    /**
+     * Makes the current thread the owner of these instances, once they were {@linkplain #recycle() recycled} by this thread.
+     */
+    void acquire() {
+        owner = Thread.currentThread();
+    }
+
+    /**
+     * Must be called before the instances are used by a context state.
+     *
+     * @param generation the generation the context state was created with
+     * @return {@code true} if the instances may be used, {@code false} if they were recycled in the meantime
+     */
+    boolean enter(long generation) {
+        if (!recyclable) {
+            return true;
+        }
+        while (true) {
+            long current = stamp;
+            if ((current & ~SHARED) != generation) {
+                return false;
+            }
+            if ((current & SHARED) != 0 || owner == Thread.currentThread()) {
+                return true;
+            }
+            // another thread may keep a reference to these instances, they must never be reused
+            if (STAMP.compareAndSet(this, current, current | SHARED)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Resets these instances so that they can be {@linkplain #acquire() acquired} again by the current thread.
+     *
+     * @return {@code true} if these instances can be reused, {@code false} if recycling is disabled, they were used by
+     *         another thread, or they still hold an instance
+     */
+    boolean recycle() {
+        if (!recyclable || owner != Thread.currentThread()) {
+            return false;
+        }
+        long current = stamp;
+        if ((current & SHARED) != 0) {
+            return false;
+        }
+        for (int i = 0; i < handles.length; i++) {
+            if (HANDLES.getVolatile(handles, i) != null) {
+                return false;
+            }
+        }
+        // fails if another thread marked the instances as shared in the meantime
+        if (!STAMP.compareAndSet(this, current, current + GENERATION_INCREMENT)) {
+            return false;
+        }
+        owner = null;
+        return true;
+    }
+
+    private ContextInstanceHandle<?> remove(int index) {
+        ContextInstanceHandle<?> handle = (ContextInstanceHandle<?>) HANDLES.getVolatile(handles, index);
+        if (handle == null) {
+            return null;
+        }
+        Lock lock = lock(index);
+        lock.lock();
+        try {
+            handle = (ContextInstanceHandle<?>) HANDLES.getVolatile(handles, index);
+            HANDLES.setVolatile(handles, index, null);
+            return handle;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Lock lock(int index) {
+        // locks are created lazily and survive recycling
+        Lock lock = (Lock) LOCKS.getVolatile(locks, index);
+        if (lock != null) {
+            return lock;
+        }
+        Lock newLock = new ReentrantLock();
+        if (LOCKS.compareAndSet(locks, index, null, newLock)) {
+            return newLock;
+        }
+        return (Lock) LOCKS.getVolatile(locks, index);
+    }
+
+}
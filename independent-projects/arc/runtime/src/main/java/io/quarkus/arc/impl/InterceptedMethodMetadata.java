@@ -17,13 +17,24 @@ public class InterceptedMethodMetadata {
     public final Method method;
     public final Set<Annotation> bindings;
     public final BiFunction<Object, InvocationContext, Object> aroundInvokeForward;
+    /**
+     * {@code true} if no interceptor in the chain lets its invocation context escape, i.e. all interceptors can share
+     * a single invocation context
+     */
+    public final boolean simpleChain;
 
     public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings,
             BiFunction<Object, InvocationContext, Object> aroundInvokeForward) {
+        this(chain, method, bindings, aroundInvokeForward, false);
+    }
+
+    public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings,
+            BiFunction<Object, InvocationContext, Object> aroundInvokeForward, boolean simpleChain) {
         this.chain = chain;
         this.method = method;
         this.bindings = bindings;
         this.aroundInvokeForward = aroundInvokeForward;
+        this.simpleChain = simpleChain;
     }
 
 }
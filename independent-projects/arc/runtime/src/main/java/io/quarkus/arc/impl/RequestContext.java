@@ -1,6 +1,9 @@
 package io.quarkus.arc.impl;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Arrays;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -15,6 +18,11 @@
 
 /**
  * The built-in context for {@link RequestScoped}.
+ * <p>
+ * If the context instances are {@linkplain IndexedContextInstances indexed} and recycling is enabled, the instances of a
+ * destroyed state are kept by the thread that destroyed it and reused by the next state initialized on that thread, so
+ * that the request context of an event loop does not allocate new storage for each request. The instances of a state
+ * that was used by another thread are never reused.
  *
  * @author Martin Kouba
  */
@@ -22,12 +30,54 @@ class RequestContext extends CurrentManagedContext {
 
     private static final Logger LOG = Logger.getLogger("io.quarkus.arc.requestContext");
 
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+    // null if the context instances cannot be recycled
+    private final ThreadLocal<Recycled> recycled;
+
     public RequestContext(CurrentContext<CurrentContextState> currentContext, Notifier<Object> initializedNotifier,
             Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier,
             Supplier<ContextInstances> contextInstances) {
         super(currentContext, contextInstances, initializedNotifier != null ? initializedNotifier::notify : null,
                 beforeDestroyedNotifier != null ? beforeDestroyedNotifier::notify : null,
                 destroyedNotifier != null ? destroyedNotifier::notify : null);
+        this.recycled = contextInstances.get() instanceof IndexedContextInstances indexed && indexed.isRecyclable()
+                ? ThreadLocal.withInitial(Recycled::new)
+                : null;
+    }
+
+    @Override
+    public ContextState activate(ContextState initialState) {
+        if (recycled != null && initialState instanceof CurrentContextState state) {
+            // the instances are marked as shared if the state is activated on another thread
+            state.enter();
+        }
+        return super.activate(initialState);
+    }
+
+    @Override
+    public CurrentContextState initializeState() {
+        if (recycled != null && !isVirtualThread()) {
+            Recycled recycled = this.recycled.get();
+            IndexedContextInstances instances = recycled.instances;
+            if (instances != null) {
+                recycled.instances = null;
+                instances.acquire();
+                return new CurrentContextState(instances);
+            }
+        }
+        return super.initializeState();
+    }
+
+    @Override
+    protected void destroyed(CurrentContextState state) {
+        if (recycled != null && !isVirtualThread()
+                && state.contextInstances() instanceof IndexedContextInstances instances
+                && instances.recycle()) {
+            // the generation was incremented, so the state can no longer enter the instances
+            state.detach();
+            recycled.get().instances = instances;
+        }
     }
 
     @Override
@@ -68,9 +118,36 @@ protected void traceDestroy(ContextState state) {
         LOG.tracef("Destroy %s%s\n\t...", state != null ? Integer.toHexString(state.hashCode()) : "", stack);
     }
 
+    private static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (ReflectiveOperationException e) {
+            // Java 17
+            return null;
+        }
+    }
+
     protected ContextNotActiveException notActive() {
         String msg = "Request context is not active - you can activate the request context for a specific method using the @ActivateRequestContext interceptor binding";
         return new ContextNotActiveException(msg);
     }
 
+    // the context instances kept by a thread, virtual threads do not keep any
+    private static final class Recycled {
+
+        private IndexedContextInstances instances;
+
+    }
+
 }
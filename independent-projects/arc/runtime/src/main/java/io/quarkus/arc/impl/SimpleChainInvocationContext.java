@@ -0,0 +1,48 @@
+package io.quarkus.arc.impl;
+
+import java.util.Map;
+
+import io.quarkus.arc.ArcInvocationContext;
+
+/**
+ * An {@link AroundInvokeInvocationContext} shared by all interceptors of a chain.
+ * <p>
+ * The interceptors of the chain were verified at build time to only use the invocation context within their around invoke
+ * method, so the current position in the chain is a field restored when {@link #proceed()} returns. The context data map
+ * is only created when needed.
+ */
+final class SimpleChainInvocationContext extends AroundInvokeInvocationContext {
+
+    // the position of the interceptor invoked by the next call to proceed()
+    private int position = 1;
+
+    SimpleChainInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
+        super(target, args, metadata, null);
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        int current = position;
+        position = current + 1;
+        try {
+            return proceed(current);
+        } finally {
+            // an interceptor may proceed several times
+            position = current;
+        }
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = new ContextDataMap(metadata.bindings);
+        }
+        return contextData;
+    }
+
+    @Override
+    protected ArcInvocationContext nextContext(int position) {
+        return this;
+    }
+
+}
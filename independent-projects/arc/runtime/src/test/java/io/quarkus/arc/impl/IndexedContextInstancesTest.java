@@ -0,0 +1,101 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexedContextInstancesTest {
+
+    @Test
+    public void testRecyclingDisabled() {
+        TestInstances instances = new TestInstances(false);
+        assertFalse(instances.recycle());
+        // the generation is never checked
+        assertTrue(instances.enter(42));
+    }
+
+    @Test
+    public void testRecycle() {
+        TestInstances instances = new TestInstances(true);
+        long generation = instances.generation();
+        assertTrue(instances.enter(generation));
+        assertTrue(instances.recycle());
+        // a destroyed state cannot enter the recycled instances
+        assertFalse(instances.enter(generation));
+        instances.acquire();
+        assertNotEquals(generation, instances.generation());
+        assertTrue(instances.enter(instances.generation()));
+        assertFalse(instances.enter(generation));
+    }
+
+    @Test
+    public void testNotRecycledIfNotEmpty() {
+        TestInstances instances = new TestInstances(true);
+        instances.computeIfAbsent("1", () -> new ContextInstanceHandleImpl<>(null, "foo", null));
+        assertFalse(instances.recycle());
+        instances.remove("1");
+        assertTrue(instances.recycle());
+    }
+
+    @Test
+    public void testSharedNeverRecycled() throws Exception {
+        TestInstances instances = new TestInstances(true);
+        long generation = instances.generation();
+        assertTrue(CompletableFuture.supplyAsync(() -> instances.enter(generation)).get(2, TimeUnit.SECONDS));
+        assertFalse(instances.recycle());
+        assertFalse(instances.recycle());
+        assertTrue(instances.enter(generation));
+    }
+
+    @Test
+    public void testNotRecycledByAnotherThread() throws Exception {
+        TestInstances instances = new TestInstances(true);
+        assertFalse(CompletableFuture.supplyAsync(instances::recycle).get(2, TimeUnit.SECONDS));
+        assertTrue(instances.enter(instances.generation()));
+    }
+
+    @Test
+    public void testConcurrentEnterAndRecycle() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                TestInstances instances = new TestInstances(true);
+                long generation = instances.generation();
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<Boolean> entered = executor.submit(() -> {
+                    barrier.await();
+                    return instances.enter(generation);
+                });
+                barrier.await();
+                boolean recycled = instances.recycle();
+                // either the other thread uses the instances, or they are recycled, never both
+                assertTrue(entered.get(2, TimeUnit.SECONDS) != recycled);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static class TestInstances extends IndexedContextInstances {
+
+        TestInstances(boolean recyclable) {
+            super(2, recyclable);
+        }
+
+        @Override
+        protected int index(String id) {
+            return Integer.parseInt(id);
+        }
+
+    }
+
+}
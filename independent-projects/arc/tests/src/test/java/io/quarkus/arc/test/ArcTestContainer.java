@@ -103,6 +103,8 @@ public static class Builder {
         private final List<BuildCompatibleExtension> buildCompatibleExtensions;
         private boolean strictCompatibility = false;
         private boolean optimizeContexts = false;
+        private boolean optimizeClientProxies = false;
+        private boolean recycleRequestContexts = false;
         private final List<Predicate<ClassInfo>> excludeTypes;
         private boolean testMode = false;
 
@@ -246,6 +248,16 @@ public Builder optimizeContexts(boolean value) {
             return this;
         }
 
+        public Builder optimizeClientProxies(boolean value) {
+            this.optimizeClientProxies = value;
+            return this;
+        }
+
+        public Builder recycleRequestContexts(boolean value) {
+            this.recycleRequestContexts = value;
+            return this;
+        }
+
         public Builder excludeType(Predicate<ClassInfo> predicate) {
             this.excludeTypes.add(predicate);
             return this;
@@ -288,6 +300,8 @@ public ArcTestContainer build() {
 
     private final boolean strictCompatibility;
     private final boolean optimizeContexts;
+    private final boolean optimizeClientProxies;
+    private final boolean recycleRequestContexts;
     private final boolean testMode;
 
     private final int reproducibilityRuns;
@@ -315,6 +329,8 @@ public ArcTestContainer(Class<?>... beanClasses) {
         this.buildCompatibleExtensions = Collections.emptyList();
         this.strictCompatibility = false;
         this.optimizeContexts = false;
+        this.optimizeClientProxies = false;
+        this.recycleRequestContexts = false;
         this.excludeTypes = Collections.emptyList();
         this.testMode = false;
         this.reproducibilityRuns = parseReproducibilityRuns();
@@ -343,6 +359,8 @@ public ArcTestContainer(Builder builder) {
         this.buildCompatibleExtensions = builder.buildCompatibleExtensions;
         this.strictCompatibility = builder.strictCompatibility;
         this.optimizeContexts = builder.optimizeContexts;
+        this.optimizeClientProxies = builder.optimizeClientProxies;
+        this.recycleRequestContexts = builder.recycleRequestContexts;
         this.excludeTypes = builder.excludeTypes;
         this.testMode = builder.testMode;
         this.reproducibilityRuns = parseReproducibilityRuns();
@@ -599,7 +617,9 @@ private BeanProcessor.Builder configureBeanProcessorBuilder(String deploymentNam
                 .setApplicationIndex(applicationIndex)
                 .setBuildCompatibleExtensions(buildCompatibleExtensions)
                 .setStrictCompatibility(strictCompatibility)
-                .setOptimizeContexts(optimizeContexts);
+                .setOptimizeContexts(optimizeContexts)
+                .setOptimizeClientProxies(optimizeClientProxies)
+                .setRecycleRequestContexts(recycleRequestContexts);
         if (!resourceAnnotations.isEmpty()) {
             builder.addResourceAnnotations(resourceAnnotations.stream()
                     .map(c -> DotName.createSimple(c.getName()))
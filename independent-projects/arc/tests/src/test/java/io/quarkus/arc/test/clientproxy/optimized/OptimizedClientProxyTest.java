@@ -0,0 +1,104 @@
+package io.quarkus.arc.test.clientproxy.optimized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class OptimizedClientProxyTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Counter.class, Request.class)
+            .optimizeContexts(true)
+            .optimizeClientProxies(true)
+            .build();
+
+    @Test
+    public void testApplicationScopedHandleIsCached() throws NoSuchFieldException {
+        ArcContainer container = Arc.container();
+        Counter counter = container.instance(Counter.class).get();
+        assertNotNull(counter.getClass().getDeclaredField("handle"));
+
+        String id1 = counter.id();
+        assertEquals(1, counter.increment());
+        assertEquals(2, counter.increment());
+        assertEquals(id1, counter.id());
+
+        // the cached handle is not used once the instance is destroyed
+        InjectableBean<Counter> bean = container.instance(Counter.class).getBean();
+        container.getActiveContext(ApplicationScoped.class).destroy(bean);
+        String id2 = counter.id();
+        assertNotEquals(id1, id2);
+        assertEquals(1, counter.increment());
+        assertEquals(id2, container.instance(Counter.class).get().id());
+    }
+
+    @Test
+    public void testRequestScopedInstanceIsReadFromContext() {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container.requestContext();
+        Request request = container.instance(Request.class).get();
+
+        assertThrows(ContextNotActiveException.class, request::id);
+
+        requestContext.activate();
+        String id1 = request.id();
+        assertEquals(id1, request.id());
+        requestContext.terminate();
+        assertThrows(ContextNotActiveException.class, request::id);
+
+        requestContext.activate();
+        try {
+            String id2 = request.id();
+            assertNotEquals(id1, id2);
+            assertEquals(id2, request.id());
+            assertEquals(id2, container.instance(Request.class).get().id());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @ApplicationScoped
+    public static class Counter {
+
+        private final String id = UUID.randomUUID().toString();
+
+        private int count;
+
+        String id() {
+            return id;
+        }
+
+        int increment() {
+            return ++count;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Request {
+
+        private final String id = UUID.randomUUID().toString();
+
+        String id() {
+            return id;
+        }
+
+    }
+}
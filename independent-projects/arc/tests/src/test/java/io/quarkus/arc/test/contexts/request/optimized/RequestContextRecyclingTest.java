@@ -0,0 +1,115 @@
+package io.quarkus.arc.test.contexts.request.optimized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class RequestContextRecyclingTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Boom.class)
+            .optimizeContexts(true)
+            .recycleRequestContexts(true)
+            .build();
+
+    @Test
+    public void testSequentialRequests() {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container.requestContext();
+        Boom boom = container.instance(Boom.class).get();
+        Boom.DESTROYED.clear();
+
+        requestContext.activate();
+        String id1 = boom.ping();
+        assertEquals(id1, boom.ping());
+        ContextState state1 = requestContext.getState();
+        requestContext.terminate();
+        assertEquals(List.of(id1), Boom.DESTROYED);
+        assertFalse(state1.isValid());
+        assertTrue(state1.getContextualInstances().isEmpty());
+
+        // the next request on this thread gets a fresh instance
+        requestContext.activate();
+        String id2 = boom.ping();
+        assertNotEquals(id1, id2);
+        assertEquals(1, requestContext.getState().getContextualInstances().size());
+        // the destroyed state does not see the instances of the current request
+        assertFalse(state1.isValid());
+        assertTrue(state1.getContextualInstances().isEmpty());
+        requestContext.terminate();
+        assertEquals(List.of(id1, id2), Boom.DESTROYED);
+    }
+
+    @Test
+    public void testRequestActivatedOnAnotherThread() throws Exception {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container.requestContext();
+        Boom boom = container.instance(Boom.class).get();
+        Boom.DESTROYED.clear();
+
+        requestContext.activate();
+        String id1 = boom.ping();
+        ContextState state1 = requestContext.getState();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            String id = executor.submit(() -> {
+                requestContext.activate(state1);
+                try {
+                    return boom.ping();
+                } finally {
+                    requestContext.deactivate();
+                }
+            }).get(2, TimeUnit.SECONDS);
+            assertEquals(id1, id);
+        } finally {
+            executor.shutdownNow();
+        }
+        requestContext.terminate();
+        assertEquals(List.of(id1), Boom.DESTROYED);
+
+        requestContext.activate();
+        String id2 = boom.ping();
+        assertNotEquals(id1, id2);
+        requestContext.terminate();
+        assertEquals(List.of(id1, id2), Boom.DESTROYED);
+    }
+
+    @RequestScoped
+    public static class Boom {
+
+        static final List<String> DESTROYED = new CopyOnWriteArrayList<>();
+
+        private final String id = UUID.randomUUID().toString();
+
+        String ping() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.add(id);
+        }
+
+    }
+}
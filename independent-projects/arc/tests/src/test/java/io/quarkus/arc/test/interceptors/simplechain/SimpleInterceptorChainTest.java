@@ -0,0 +1,138 @@
+package io.quarkus.arc.test.interceptors.simplechain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.InterceptedMethodMetadata;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class SimpleInterceptorChainTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Retried.class, Escaping.class, MyBean.class,
+            RetryInterceptor.class, UpperCaseInterceptor.class, EscapingInterceptor.class);
+
+    @Test
+    public void testSimpleChain() throws Exception {
+        MyBean bean = Arc.container().instance(MyBean.class).get();
+        assertTrue(metadata(bean, "hello").simpleChain);
+        assertFalse(metadata(bean, "escape").simpleChain);
+
+        MyBean.INVOCATIONS.clear();
+        // the first attempt fails, the second one proceeds again through the rest of the chain
+        assertEquals("hello FOO!", bean.hello("foo"));
+        assertEquals(List.of("FOO", "FOO"), MyBean.INVOCATIONS);
+
+        assertEquals("escaped foo", bean.escape("foo"));
+    }
+
+    private static InterceptedMethodMetadata metadata(MyBean bean, String method) throws Exception {
+        for (Field field : bean.getClass().getDeclaredFields()) {
+            if (field.getType().equals(InterceptedMethodMetadata.class)) {
+                field.setAccessible(true);
+                InterceptedMethodMetadata metadata = (InterceptedMethodMetadata) field.get(bean);
+                if (metadata.method.getName().equals(method)) {
+                    return metadata;
+                }
+            }
+        }
+        throw new AssertionError("No metadata for " + method);
+    }
+
+    @Singleton
+    static class MyBean {
+
+        static final List<String> INVOCATIONS = new ArrayList<>();
+
+        @Retried
+        String hello(String name) {
+            INVOCATIONS.add(name);
+            if (INVOCATIONS.size() == 1) {
+                throw new IllegalStateException();
+            }
+            return "hello " + name;
+        }
+
+        @Escaping
+        String escape(String name) {
+            return name;
+        }
+
+    }
+
+    @Retried
+    @Priority(1)
+    @Interceptor
+    public static class RetryInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            ctx.getContextData().put("suffix", "!");
+            try {
+                return ctx.proceed();
+            } catch (IllegalStateException e) {
+                return ctx.proceed();
+            }
+        }
+
+    }
+
+    @Retried
+    @Priority(2)
+    @Interceptor
+    public static class UpperCaseInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            Object[] params = ctx.getParameters();
+            ctx.setParameters(new Object[] { params[0].toString().toUpperCase() });
+            return ctx.proceed() + ctx.getContextData().get("suffix").toString();
+        }
+
+    }
+
+    @Escaping
+    @Priority(1)
+    @Interceptor
+    public static class EscapingInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return "escaped " + proceed(ctx);
+        }
+
+        private static Object proceed(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Retried {
+    }
+
+    @InterceptorBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Escaping {
+    }
+
+}
@@ -0,0 +1,115 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Records and replays the order in which the {@link RunnerClassLoader} defines classes during startup.
+ * <p>
+ * A training run started with the {@value #RECORD_PROPERTY} system property set to a file records the classes defined
+ * until the application is started, and writes them to this file, one class per line. When this file is packaged with the
+ * {@code quarkus.package.jar.class-loading-profile} build property, the classes are stored in the application index,
+ * and production runs define them in the recorded order on background threads, ahead of the main thread.
+ */
+final class ClassLoadingProfile {
+
+    static final String RECORD_PROPERTY = "quarkus.launch.class-loading-profile";
+    static final String PREFETCH_PROPERTY = "quarkus.launch.prefetch-classes";
+
+    private static final Logger LOG = Logger.getLogger(ClassLoadingProfile.class);
+
+    private static volatile Recording recording;
+
+    private ClassLoadingProfile() {
+    }
+
+    /**
+     * Starts recording the classes defined by the class loader if requested, or prefetches the recorded classes otherwise.
+     */
+    static void start(RunnerClassLoader runnerClassLoader, String[] profiledClasses) {
+        String file = System.getProperty(RECORD_PROPERTY);
+        if (file != null && !file.isBlank()) {
+            Recording recording = new Recording(Path.of(file));
+            ClassLoadingProfile.recording = recording;
+            runnerClassLoader.setRecording(recording);
+        } else if (profiledClasses.length > 0
+                && Boolean.parseBoolean(System.getProperty(PREFETCH_PROPERTY, "true"))) {
+            prefetch(runnerClassLoader, profiledClasses);
+        }
+    }
+
+    /**
+     * Called once the application is started, writes the recorded classes if a recording is in progress.
+     */
+    static void startupCompleted() {
+        Recording recording = ClassLoadingProfile.recording;
+        if (recording == null) {
+            return;
+        }
+        ClassLoadingProfile.recording = null;
+        recording.stop();
+    }
+
+    private static void prefetch(RunnerClassLoader runnerClassLoader, String[] profiledClasses) {
+        // the main thread keeps loading classes too, so leave it a core
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        AtomicInteger next = new AtomicInteger();
+        Runnable task = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < profiledClasses.length) {
+                try {
+                    // load without initializing: class initialization remains in the order of the main thread
+                    Class.forName(profiledClasses[i], false, runnerClassLoader);
+                } catch (Throwable ignored) {
+                    // the class will be loaded, or fail, on demand
+                }
+            }
+        };
+        for (int i = 0; i < threads; i++) {
+            Thread thread = new Thread(task, "quarkus-class-prefetch-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    static final class Recording {
+
+        private final Path file;
+        private final Queue<String> classes = new ConcurrentLinkedQueue<>();
+        private volatile boolean stopped;
+
+        private Recording(Path file) {
+            this.file = file;
+        }
+
+        void classDefined(String name) {
+            if (!stopped) {
+                classes.add(name);
+            }
+        }
+
+        private void stop() {
+            stopped = true;
+            List<String> lines = new ArrayList<>(classes);
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                Files.write(file, lines, StandardCharsets.UTF_8);
+                LOG.infof("Class loading profile with %d classes written to %s", lines.size(), file);
+            } catch (IOException e) {
+                LOG.errorf(e, "Failed to write the class loading profile to %s", file);
+            }
+        }
+    }
+}
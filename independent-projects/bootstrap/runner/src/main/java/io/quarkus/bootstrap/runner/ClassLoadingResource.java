@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
@@ -13,6 +14,16 @@ public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * Returns the content of a class file from a memory mapped archive, so that the class can be defined without copying
+     * it to the heap.
+     *
+     * @return the content of the class file, or {@code null} if this resource does not map its classes
+     */
+    default ByteBuffer getMappedClassData(String resource) {
+        return null;
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
@@ -0,0 +1,188 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * An uncompressed archive containing the classes of the application class path, which the {@link RunnerClassLoader} maps
+ * into memory and defines classes from directly, instead of opening the jars and inflating their entries.
+ * <p>
+ * The archive is a header padded to a page, followed by the class files. A class file that fits in a page never straddles
+ * a page boundary, so defining it only touches a single page of the mapping. The offsets of the classes are not stored in
+ * the archive, they are part of the {@link SerializedApplication} index.
+ * <p>
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+final class MappedClassesArchive {
+
+    static final int PAGE_SIZE = 4096;
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+    private static final String CLASS_SUFFIX = ".class";
+
+    private MappedClassesArchive() {
+    }
+
+    /**
+     * Maps the archive into memory.
+     *
+     * @param archive the archive file
+     * @return the read-only mapping of the whole archive
+     */
+    static ByteBuffer map(Path archive) throws IOException {
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new RuntimeException("The classes archive " + archive + " is too large to be mapped");
+            }
+            // the mapping remains valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new RuntimeException("Wrong magic number");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new RuntimeException("Wrong classes archive version");
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * The location of a class in the archive, packed into a single value to keep the per class overhead low.
+     */
+    static long location(int offset, int length) {
+        return ((long) offset << 32) | (length & 0xFFFFFFFFL);
+    }
+
+    static int offset(long location) {
+        return (int) (location >>> 32);
+    }
+
+    static int length(long location) {
+        return (int) location;
+    }
+
+    /**
+     * Writes the classes of the jars to the archive, one jar at a time.
+     */
+    static final class Writer implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final ByteBuffer padding = ByteBuffer.allocate(PAGE_SIZE);
+
+        Writer(Path archive) throws IOException {
+            Files.createDirectories(archive.getParent());
+            this.channel = FileChannel.open(archive, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.write(ByteBuffer.allocate(8).putInt(MAGIC).putInt(VERSION).flip());
+            pad(PAGE_SIZE - 8);
+        }
+
+        long size() throws IOException {
+            return channel.position();
+        }
+
+        /**
+         * @return a visitor that appends the classes of the visited jar to the archive
+         */
+        ClassesVisitor visitor() {
+            return new ClassesVisitor();
+        }
+
+        private int append(byte[] data) throws IOException {
+            long position = channel.position();
+            int pageOffset = (int) (position % PAGE_SIZE);
+            if (data.length <= PAGE_SIZE && pageOffset + data.length > PAGE_SIZE) {
+                pad(PAGE_SIZE - pageOffset);
+                position = channel.position();
+            }
+            if (position + data.length > Integer.MAX_VALUE) {
+                throw new IOException("The classes archive cannot exceed " + Integer.MAX_VALUE + " bytes");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            return (int) position;
+        }
+
+        private void pad(int length) throws IOException {
+            padding.clear().limit(length);
+            while (padding.hasRemaining()) {
+                channel.write(padding);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        final class ClassesVisitor implements JarVisitor {
+
+            private final List<String> names = new ArrayList<>();
+            private final List<Long> locations = new ArrayList<>();
+            private boolean multiRelease;
+
+            List<String> getNames() {
+                return names;
+            }
+
+            List<Long> getLocations() {
+                return locations;
+            }
+
+            @Override
+            public void visitJarManifest(Path jar, Manifest manifest) {
+                // the versioned classes are resolved by the JarFile at runtime, so these jars are not archived
+                multiRelease = Boolean.parseBoolean(manifest.getMainAttributes().getValue(Attributes.Name.MULTI_RELEASE));
+            }
+
+            @Override
+            public void visitRegularFile(Path jar, Path file, String relativePath) {
+                if (isArchivedClass(relativePath)) {
+                    try {
+                        add(relativePath, Files.readAllBytes(file));
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to archive " + file, e);
+                    }
+                }
+            }
+
+            @Override
+            public void visitJarFileEntry(JarFile jarFile, ZipEntry fileEntry) {
+                if (!multiRelease && isArchivedClass(fileEntry.getName())) {
+                    try (InputStream in = jarFile.getInputStream(fileEntry)) {
+                        add(fileEntry.getName(), in.readAllBytes());
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to archive " + fileEntry.getName() + " from " + jarFile.getName(),
+                                e);
+                    }
+                }
+            }
+
+            private void add(String name, byte[] data) throws IOException {
+                names.add(name);
+                locations.add(location(append(data), data.length));
+            }
+
+            private boolean isArchivedClass(String name) {
+                return name.endsWith(CLASS_SUFFIX) && !name.startsWith(SerializedApplication.META_INF);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * A jar resource whose classes are served from the {@link MappedClassesArchive}. The jar itself is only opened for the
+ * other resources.
+ */
+final class MappedJarResource extends JarResource {
+
+    private final ByteBuffer archive;
+    private final Map<String, Long> classes;
+
+    MappedJarResource(ManifestInfo manifestInfo, Path jarPath, ByteBuffer archive, Map<String, Long> classes) {
+        super(manifestInfo, jarPath);
+        this.archive = archive;
+        this.classes = classes;
+    }
+
+    @Override
+    public ByteBuffer getMappedClassData(String resource) {
+        Long location = classes.get(resource);
+        if (location == null) {
+            return null;
+        }
+        return archive.slice(MappedClassesArchive.offset(location), MappedClassesArchive.length(location));
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        Long location = classes.get(resource);
+        if (location == null) {
+            return super.getResourceData(resource);
+        }
+        byte[] data = new byte[MappedClassesArchive.length(location)];
+        archive.get(MappedClassesArchive.offset(location), data);
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedJarResource{" +
+                jarPath.getFileName() +
+                '}';
+    }
+}
@@ -23,6 +23,7 @@
 public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
+    public static final String QUARKUS_APPLICATION_CLASSES = "quarkus/quarkus-application-classes.dat";
     public static final String LIB_DEPLOYMENT_APPMODEL_DAT = "lib/deployment/appmodel.dat";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
 
@@ -62,6 +63,7 @@ private static void doRun(String... args) throws Throwable {
                 app = SerializedApplication.read(in, appRoot);
             }
             final RunnerClassLoader appRunnerClassLoader = app.getRunnerClassLoader();
+            ClassLoadingProfile.start(appRunnerClassLoader, app.getProfiledClasses());
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(appRunnerClassLoader);
@@ -4,6 +4,7 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -55,6 +56,9 @@ public final class RunnerClassLoader extends ClassLoader {
     //Protected by synchronization on the above field, as they are related.
     private boolean postBootPhase = false;
 
+    // only set during the training run recording the class loading profile
+    private volatile ClassLoadingProfile.Recording recording;
+
     @SuppressWarnings("FieldCanBeLocal") // needs to be a field for CraC to work
     private final CracResource resource;
 
@@ -123,6 +127,13 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                     continue;
                 }
 
+                // classes from the mapped archive are defined straight from the mapping, the jar is not opened
+                ByteBuffer mappedData = resource.getMappedClassData(classResource);
+                if (mappedData != null) {
+                    definePackage(packageName, resources);
+                    return defineClass(name, mappedData, resource);
+                }
+
                 accessingResource(resource);
                 byte[] data = resource.getResourceData(classResource);
                 if (data == null) {
@@ -173,7 +184,23 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
             return loaded;
         }
         try {
-            return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+            return recordDefinition(defineClass(name, data, 0, data.length, resource.getProtectionDomain()));
+        } catch (LinkageError e) {
+            loaded = findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            throw e;
+        }
+    }
+
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
+        Class<?> loaded = findLoadedClass(name);
+        if (loaded != null) {
+            return loaded;
+        }
+        try {
+            return recordDefinition(defineClass(name, data, resource.getProtectionDomain()));
         } catch (LinkageError e) {
             loaded = findLoadedClass(name);
             if (loaded != null) {
@@ -183,6 +210,18 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
         }
     }
 
+    private Class<?> recordDefinition(Class<?> defined) {
+        ClassLoadingProfile.Recording recording = this.recording;
+        if (recording != null) {
+            recording.classDefined(defined.getName());
+        }
+        return defined;
+    }
+
+    void setRecording(ClassLoadingProfile.Recording recording) {
+        this.recording = recording;
+    }
+
     private void accessingResource(final ClassLoadingResource resource) {
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
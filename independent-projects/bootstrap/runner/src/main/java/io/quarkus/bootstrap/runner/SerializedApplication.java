@@ -7,6 +7,8 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -35,17 +37,25 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_DIRECTORIES = List.of("", "META-INF", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 3;
+    private static final int VERSION = 5;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
 
+    private static final String[] NO_CLASSES = new String[0];
+
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
+    private final String[] profiledClasses;
 
     public SerializedApplication(RunnerClassLoader runnerClassLoader, String mainClass) {
+        this(runnerClassLoader, mainClass, NO_CLASSES);
+    }
+
+    SerializedApplication(RunnerClassLoader runnerClassLoader, String mainClass, String[] profiledClasses) {
         this.runnerClassLoader = runnerClassLoader;
         this.mainClass = mainClass;
+        this.profiledClasses = profiledClasses;
     }
 
     public RunnerClassLoader getRunnerClassLoader() {
@@ -56,12 +66,36 @@ public String getMainClass() {
         return mainClass;
     }
 
+    /**
+     * @return the classes defined during the startup of the training run, in the order they were defined
+     */
+    String[] getProfiledClasses() {
+        return profiledClasses;
+    }
+
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst) throws IOException {
-        try (DataOutputStream data = new DataOutputStream(outputStream)) {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, false, List.of());
+    }
+
+    /**
+     * @param mappedClasses whether the classes of the class path should also be written to the
+     *        {@link QuarkusEntryPoint#QUARKUS_APPLICATION_CLASSES} archive, from which they are defined at runtime
+     * @param profiledClasses the classes recorded by a training run, see {@link ClassLoadingProfile}
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, boolean mappedClasses, List<String> profiledClasses) throws IOException {
+        Path archive = applicationRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_CLASSES);
+        if (!mappedClasses) {
+            // make sure a stale archive is not left behind
+            Files.deleteIfExists(archive);
+        }
+        try (DataOutputStream data = new DataOutputStream(outputStream);
+                MappedClassesArchive.Writer archiveWriter = mappedClasses ? new MappedClassesArchive.Writer(archive) : null) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            data.writeBoolean(archiveWriter != null);
             data.writeShort(classPath.size());
 
             Map<String, List<Integer>> fullyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
@@ -70,8 +104,14 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
 
                 FullyIndexedJarVisitor fullyIndexedVisitor = new FullyIndexedJarVisitor(FULLY_INDEXED_DIRECTORIES);
                 JarInspectorVisitor jarInspectorVisitor = new JarInspectorVisitor();
+                MappedClassesArchive.Writer.ClassesVisitor classesVisitor = null;
 
-                visitJar(jar, fullyIndexedVisitor, jarInspectorVisitor);
+                if (archiveWriter == null) {
+                    visitJar(jar, fullyIndexedVisitor, jarInspectorVisitor);
+                } else {
+                    classesVisitor = archiveWriter.visitor();
+                    visitJar(jar, fullyIndexedVisitor, jarInspectorVisitor, classesVisitor);
+                }
 
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
@@ -89,6 +129,16 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                     writeNullableString(data, manifestAttributes.getValue(Attributes.Name.IMPLEMENTATION_VENDOR));
                 }
 
+                if (classesVisitor != null) {
+                    List<String> names = classesVisitor.getNames();
+                    List<Long> locations = classesVisitor.getLocations();
+                    data.writeInt(names.size());
+                    for (int j = 0; j < names.size(); j++) {
+                        data.writeUTF(names.get(j));
+                        data.writeLong(locations.get(j));
+                    }
+                }
+
                 data.writeBoolean(jarInspectorVisitor.isGeneratedBytecode());
                 data.writeBoolean(jarInspectorVisitor.isTransformedBytecode());
 
@@ -125,6 +175,13 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                     data.writeShort(index);
                 }
             }
+            data.writeInt(profiledClasses.size());
+            for (String profiledClass : profiledClasses) {
+                data.writeUTF(profiledClass);
+            }
+            if (archiveWriter != null) {
+                data.writeLong(archiveWriter.size());
+            }
             data.flush();
         }
     }
@@ -138,6 +195,9 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            ByteBuffer archive = in.readBoolean()
+                    ? MappedClassesArchive.map(appRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_CLASSES))
+                    : null;
             ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             int numPaths = in.readUnsignedShort();
             ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
@@ -153,7 +213,17 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                JarResource resource;
+                if (archive == null) {
+                    resource = new JarResource(info, appRoot.resolve(path));
+                } else {
+                    int numClasses = in.readInt();
+                    Map<String, Long> classes = new HashMap<>((int) Math.ceil(numClasses / 0.75f));
+                    for (int i = 0; i < numClasses; ++i) {
+                        classes.put(in.readUTF(), in.readLong());
+                    }
+                    resource = new MappedJarResource(info, appRoot.resolve(path), archive, classes);
+                }
                 boolean generatedBytecodeJar = in.readBoolean();
                 boolean transformedBytecodeJar = in.readBoolean();
                 if (generatedBytecodeJar) {
@@ -205,6 +275,14 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 }
                 fullyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
+            int numProfiledClasses = in.readInt();
+            String[] profiledClasses = numProfiledClasses == 0 ? NO_CLASSES : new String[numProfiledClasses];
+            for (int i = 0; i < numProfiledClasses; i++) {
+                profiledClasses[i] = in.readUTF();
+            }
+            if (archive != null && in.readLong() != archive.capacity()) {
+                throw new RuntimeException("The classes archive does not match the application index");
+            }
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
                     resourceDirectoryTracker.getResult(), parentFirstPackages,
                     FULLY_INDEXED_DIRECTORIES, fullyIndexedResourcesIndexMap,
@@ -213,7 +291,7 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init();
             }
-            return new SerializedApplication(runnerClassLoader, mainClass);
+            return new SerializedApplication(runnerClassLoader, mainClass, profiledClasses);
         }
     }
 
@@ -115,6 +115,10 @@ public static void printStartupTime(String name, String version, String quarkusV
                 liveCoding ? "Live Coding activated." : "");
         logger.infof("Installed features: [%s]", features);
         t.bootStartTime = -1;
+
+        if (!anc) {
+            ClassLoadingProfile.startupCompleted();
+        }
     }
 
     public static void printStopTime(String name, boolean auxiliaryApplication) {
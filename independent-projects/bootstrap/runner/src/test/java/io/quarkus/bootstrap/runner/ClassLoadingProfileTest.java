@@ -0,0 +1,64 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link ClassLoadingProfile}
+ */
+public class ClassLoadingProfileTest {
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testRecordProfile() throws Exception {
+        SerializedApplication app = writeAndRead(List.of());
+        Path profile = appRoot.resolve("profile.txt");
+        RunnerClassLoader runnerClassLoader = app.getRunnerClassLoader();
+        System.setProperty(ClassLoadingProfile.RECORD_PROPERTY, profile.toString());
+        try {
+            ClassLoadingProfile.start(runnerClassLoader, app.getProfiledClasses());
+            runnerClassLoader.loadClass("org.simple.SimplePojo2");
+            runnerClassLoader.loadClass("org.simple.SimplePojo1");
+            ClassLoadingProfile.startupCompleted();
+            // classes defined after the startup are not recorded
+            runnerClassLoader.loadClass("org.easy.EasyPojo");
+        } finally {
+            System.clearProperty(ClassLoadingProfile.RECORD_PROPERTY);
+            runnerClassLoader.close();
+        }
+
+        assertThat(Files.readAllLines(profile, StandardCharsets.UTF_8))
+                .containsExactly("org.simple.SimplePojo2", "org.simple.SimplePojo1");
+    }
+
+    @Test
+    public void testProfiledClassesIndexed() throws Exception {
+        SerializedApplication app = writeAndRead(List.of("org.simple.SimplePojo2", "org.easy.EasyPojo"));
+        assertThat(app.getProfiledClasses()).containsExactly("org.simple.SimplePojo2", "org.easy.EasyPojo");
+        app.getRunnerClassLoader().close();
+    }
+
+    private SerializedApplication writeAndRead(List<String> profiledClasses) throws Exception {
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        List<Path> classPath = List.of(lib.resolve("simple-project-1.0.jar"), lib.resolve("easy-project-1.0.jar"));
+        for (Path jar : classPath) {
+            if (!Files.exists(jar)) {
+                Files.copy(Path.of("src", "test", "resources", "jars").resolve(jar.getFileName()), jar);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, "org.simple.Main", appRoot, classPath, List.of(), false, profiledClasses);
+        return SerializedApplication.read(new ByteArrayInputStream(out.toByteArray()), appRoot);
+    }
+}
@@ -0,0 +1,76 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link MappedClassesArchive}
+ */
+public class MappedClassesArchiveTest {
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testClassesDefinedFromMappedArchive() throws Exception {
+        Path jar = Files.createDirectories(appRoot.resolve("lib"))
+                .resolve("simple-project-1.0.jar");
+        Files.copy(Path.of("src", "test", "resources", "jars", "simple-project-1.0.jar"), jar);
+
+        SerializedApplication app = writeAndRead(List.of(jar), true);
+        Path archive = appRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_CLASSES);
+        assertThat(archive).exists();
+        assertThat(Files.size(archive)).isGreaterThan(MappedClassesArchive.PAGE_SIZE);
+
+        RunnerClassLoader runnerClassLoader = app.getRunnerClassLoader();
+        try {
+            Class<?> pojo = runnerClassLoader.loadClass("org.simple.SimplePojo1");
+            assertThat(pojo.getClassLoader()).isSameAs(runnerClassLoader);
+            assertThat(pojo.getPackage().getName()).isEqualTo("org.simple");
+
+            // the class bytes are also readable as a resource
+            try (InputStream in = runnerClassLoader.getResourceAsStream("org/simple/SimplePojo2.class")) {
+                assertThat(in.readAllBytes()).startsWith(0xCA, 0xFE, 0xBA, 0xBE);
+            }
+            // resources that are not classes are still read from the jar
+            URL pom = runnerClassLoader.getResource("META-INF/maven/org.mario/simple-project/pom.properties");
+            assertThat(pom).isNotNull();
+        } finally {
+            runnerClassLoader.close();
+        }
+    }
+
+    @Test
+    public void testArchiveRemovedWhenDisabled() throws Exception {
+        Path jar = Files.createDirectories(appRoot.resolve("lib"))
+                .resolve("simple-project-1.0.jar");
+        Files.copy(Path.of("src", "test", "resources", "jars", "simple-project-1.0.jar"), jar);
+
+        writeAndRead(List.of(jar), true).getRunnerClassLoader().close();
+        SerializedApplication app = writeAndRead(List.of(jar), false);
+        assertThat(appRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_CLASSES)).doesNotExist();
+
+        RunnerClassLoader runnerClassLoader = app.getRunnerClassLoader();
+        try {
+            assertThat(runnerClassLoader.loadClass("org.simple.SimplePojo1").getClassLoader()).isSameAs(runnerClassLoader);
+        } finally {
+            runnerClassLoader.close();
+        }
+    }
+
+    private SerializedApplication writeAndRead(List<Path> classPath, boolean mappedClasses) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, "org.simple.Main", appRoot, classPath, List.of(), mappedClasses, List.of());
+        return SerializedApplication.read(new ByteArrayInputStream(out.toByteArray()), appRoot);
+    }
+}
@@ -0,0 +1,174 @@
+package io.quarkus.qute.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+
+/**
+ * Renders a loop-heavy template where each iteration evaluates nested property chains, conditions and a nested loop.
+ * <p>
+ * With {@code async=false} all value resolvers complete immediately, i.e. the expressions are evaluated without composing
+ * completion stages. With {@code async=true} the price of each item is resolved as a {@link CompletableFuture}, so that
+ * every iteration falls back to asynchronous evaluation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkLoopRendering {
+
+    static final String TEMPLATE = """
+            <h1>{order.customer.name}</h1>
+            <ul>
+            {#for item in order.items}
+              <li class="{#if item_odd}odd{#else}even{/if}">
+                {item_count}. {item.name} - {item.price}
+                {#if item.active && item.price}active{#else}inactive{/if}
+                {#for tag in item.tags}<span>{tag}</span>{/for}
+                {order.customer.address.city}
+              </li>
+            {/for}
+            </ul>
+            """;
+
+    @Param({ "10", "100" })
+    public int items;
+
+    @Param({ "false", "true" })
+    public boolean async;
+
+    private Template template;
+    private Order order;
+
+    @Setup
+    public void setup() {
+        var builder = Engine.builder().addDefaults();
+        if (async) {
+            builder.addValueResolver(ValueResolver.builder()
+                    .applyToBaseClass(Item.class)
+                    .applyToName("price")
+                    .resolveAsync(ctx -> CompletableFuture.completedFuture(((Item) ctx.getBase()).getPrice()))
+                    .build());
+        }
+        builder.addValueResolver(new ReflectionValueResolver());
+        template = builder.build().parse(TEMPLATE);
+        List<Item> list = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            list.add(new Item("Item " + i, BigDecimal.valueOf(i * 10), i % 3 != 0, List.of("new", "sale", "tag" + i)));
+        }
+        order = new Order(new Customer("Foo", new Address("Brno")), list);
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("order", order).render();
+    }
+
+    public static class Order {
+
+        private final Customer customer;
+        private final List<Item> items;
+
+        public Order(Customer customer, List<Item> items) {
+            this.customer = customer;
+            this.items = items;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+    }
+
+    public static class Customer {
+
+        private final String name;
+        private final Address address;
+
+        public Customer(String name, Address address) {
+            this.name = name;
+            this.address = address;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+    }
+
+    public static class Address {
+
+        private final String city;
+
+        public Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final BigDecimal price;
+        private final boolean active;
+        private final List<String> tags;
+
+        public Item(String name, BigDecimal price, boolean active, List<String> tags) {
+            this.name = name;
+            this.price = price;
+            this.active = active;
+            this.tags = tags;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package io.quarkus.qute;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A renderer generated at build time for a specific template.
+ * <p>
+ * A compiled template appends the static text directly to the output and obtains the values of output expressions by
+ * invoking the members matched at build time, i.e. without value resolvers and completion stages. If a value does not match
+ * the type the template was compiled for, rendering is abandoned, the output is discarded and the parsed template is
+ * rendered instead. Therefore, members may be invoked twice for a single rendering.
+ * <p>
+ * A compiled template is only used if it was generated for a template with the same {@linkplain #fingerprint(Template)
+ * fingerprint}.
+ *
+ * @see EngineBuilder#addCompiledTemplate(String, CompiledTemplate)
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the fingerprint of the template this renderer was generated for
+     * @see #fingerprint(Template)
+     */
+    int getFingerprint();
+
+    /**
+     *
+     * @param data the data of a template instance
+     * @param output
+     * @return {@code true} if the template was rendered, {@code false} if the parsed template must be rendered instead
+     */
+    boolean render(Object data, Output output);
+
+    /**
+     * The fingerprint is computed from the parsed template tree, i.e. it changes if the static text, any expression or any
+     * section of the template changes.
+     *
+     * @param template
+     * @return the fingerprint of the given template
+     */
+    static int fingerprint(Template template) {
+        return fingerprint(template.getNodes(), 1);
+    }
+
+    private static int fingerprint(List<TemplateNode> nodes, int result) {
+        for (TemplateNode node : nodes) {
+            if (node.isText()) {
+                result = 31 * result + node.asText().getValue().hashCode();
+            } else if (node.isExpression()) {
+                result = 31 * result + node.asExpression().expression.toOriginalString().hashCode();
+            } else if (node.isSection()) {
+                SectionNode section = node.asSection();
+                result = 31 * result + section.getName().hashCode();
+                for (SectionBlock block : section.getBlocks()) {
+                    result = 31 * result + block.label.hashCode();
+                    result = 31 * result + block.parameters.hashCode();
+                    result = fingerprint(block.nodes, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The output of a compiled template.
+     * <p>
+     * The methods of this class are invoked by the generated code.
+     */
+    final class Output {
+
+        private final StringBuilder builder;
+        private final Engine engine;
+        private final List<Expression> expressions;
+        private final boolean hasResultMappers;
+
+        Output(StringBuilder builder, Engine engine, List<Expression> expressions) {
+            this.builder = builder;
+            this.engine = engine;
+            this.expressions = expressions;
+            this.hasResultMappers = !engine.getResultMappers().isEmpty();
+        }
+
+        /**
+         *
+         * @param text
+         */
+        public void append(String text) {
+            builder.append(text);
+        }
+
+        /**
+         * The value is processed in the same way as the result of an output expression of a parsed template, e.g. the
+         * result mappers are applied.
+         *
+         * @param value
+         * @param expressionIndex the index of the output expression in {@link Template#getExpressions()}
+         * @return {@code true} if the value was appended, {@code false} if it cannot be rendered synchronously
+         */
+        public boolean append(Object value, int expressionIndex) {
+            if (!isResolved(value)) {
+                return false;
+            }
+            value = SingleResultNode.extractValue(value);
+            if (value != null) {
+                builder.append(hasResultMappers ? engine.mapResult(value, expressions.get(expressionIndex))
+                        : value.toString());
+            }
+            return true;
+        }
+
+        /**
+         *
+         * @param data the data of a template instance
+         * @param key
+         * @return the value of the given top-level key, or {@link Results.NotFound} if no such value exists
+         */
+        public Object get(Object data, String key) {
+            // Custom mappers may only implement Mapper#getAsync()
+            if (data instanceof TemplateInstanceBase.DataMap dataMap) {
+                if (dataMap.appliesTo(key)) {
+                    return dataMap.get(key);
+                }
+            } else if (data instanceof Map<?, ?> map) {
+                if (map.containsKey(key)) {
+                    return map.get(key);
+                }
+            }
+            return Results.NotFound.EMPTY;
+        }
+
+        /**
+         *
+         * @param value
+         * @return {@code false} if the value was not found or is only available asynchronously
+         */
+        public boolean isResolved(Object value) {
+            return !(value instanceof CompletionStage || value instanceof Uni || Results.isNotFound(value));
+        }
+
+        /**
+         *
+         * @param value
+         * @return {@code true} if the value of a condition is falsy
+         * @see Booleans#isFalsy(Object)
+         */
+        public boolean isFalsy(Object value) {
+            return Booleans.isFalsy(value);
+        }
+
+    }
+
+}
@@ -36,6 +36,7 @@ public final class EngineBuilder {
     final List<TemplateLocator> locators;
     final List<ResultMapper> resultMappers;
     final List<TemplateInstance.Initializer> initializers;
+    final Map<String, CompiledTemplate> compiledTemplates;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
     boolean removeStandaloneLines;
@@ -55,6 +56,7 @@ public final class EngineBuilder {
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
         this.initializers = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
         this.strictRendering = true;
         this.removeStandaloneLines = true;
         this.iterationMetadataPrefix = LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE;
@@ -244,6 +246,20 @@ public EngineBuilder addTemplateInstanceInitializer(TemplateInstance.Initializer
         return this;
     }
 
+    /**
+     * The compiled template is used to render the template with the given id if it was generated for the same template
+     * contents.
+     *
+     * @param templateId
+     * @param compiledTemplate
+     * @return self
+     * @see CompiledTemplate#fingerprint(Template)
+     */
+    public EngineBuilder addCompiledTemplate(String templateId, CompiledTemplate compiledTemplate) {
+        this.compiledTemplates.put(Objects.requireNonNull(templateId), Objects.requireNonNull(compiledTemplate));
+        return this;
+    }
+
     /**
      * The function is used if no section helper registered via {@link #addSectionHelper(SectionHelperFactory)} matches a
      * section name.
@@ -35,6 +35,7 @@ class EngineImpl implements Engine {
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
     final List<TemplateInstance.Initializer> initializers;
+    private final Map<String, CompiledTemplate> compiledTemplates;
     final boolean removeStandaloneLines;
     private final long timeout;
     private final boolean useAsyncTimeout;
@@ -54,6 +55,7 @@ class EngineImpl implements Engine {
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
         this.removeStandaloneLines = builder.removeStandaloneLines;
         this.initializers = ImmutableList.copyOf(builder.initializers);
+        this.compiledTemplates = Map.copyOf(builder.compiledTemplates);
         this.timeout = builder.timeout;
         this.useAsyncTimeout = builder.useAsyncTimeout;
         this.traceManager = builder.enableTracing ? new TraceManagerImpl() : null;
@@ -120,6 +122,11 @@ public String mapResult(Object result, Expression expression) {
         return val;
     }
 
+    CompiledTemplate getCompiledTemplate(String id) {
+        // Compiled templates do not fire trace events
+        return traceManager == null ? compiledTemplates.get(id) : null;
+    }
+
     public Template putTemplate(String id, Template template) {
         if (!Identifiers.isValid(id)) {
             throw new IllegalArgumentException("Invalid identifier found: [" + id + "]");
@@ -15,6 +15,7 @@
 import io.quarkus.qute.Expression.Part;
 import io.quarkus.qute.ExpressionImpl.PartImpl;
 import io.quarkus.qute.Results.NotFound;
+import io.smallrye.mutiny.operators.AbstractUni;
 
 class EvaluatorImpl implements Evaluator {
 
@@ -74,7 +75,21 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
                     : new NamespaceEvalContextImpl(resolutionContext, part);
             if (matching.length == 1) {
                 // Very often a single matching resolver will be found
-                return matching[0].resolve(context).thenCompose(r -> (parts.size() > 1)
+                CompletionStage<Object> result = matching[0].resolve(context);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    // Synchronous result - no need to compose
+                    Object r = completed.get();
+                    if (parts.size() == 1) {
+                        return toCompletionStage(completed, r);
+                    } else if (!isAsync(r)) {
+                        try {
+                            return resolveReference(false, r, parts, resolutionContext, expression, 1);
+                        } catch (Throwable e) {
+                            return CompletedStage.failure(e);
+                        }
+                    }
+                }
+                return result.thenCompose(r -> (parts.size() > 1)
                         ? resolveReference(false, r, parts, resolutionContext, expression, 1)
                         : CompletionStageSupport.toCompletionStage(r));
             } else {
@@ -132,11 +147,27 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
         if (partIndex + 1 >= parts.size()) {
             // The last part - no need to compose
             return resolve(evalContext, null, true, expression, true, partIndex);
-        } else {
-            // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
+        CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+        try {
+            // Resolve the next parts synchronously as long as the results are available
+            while (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                partIndex++;
+                // Next part - no need to try the parent context/outer scope
+                evalContext = new TerminalEvalContextImpl(completed.get(), resolutionContext, parts.get(partIndex));
+                boolean isLastPart = partIndex + 1 >= parts.size();
+                result = resolve(evalContext, null, true, expression, isLastPart, partIndex);
+                if (isLastPart) {
+                    return result;
+                }
+            }
+        } catch (Throwable e) {
+            // Fail in the same way as if the part was resolved in a thenCompose() callback
+            return CompletedStage.failure(e);
+        }
+        // Fall back to async resolution
+        int nextIndex = partIndex + 1;
+        return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, nextIndex));
     }
 
     private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers,
@@ -146,13 +177,23 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
-                    if (Results.isNotFound(r)) {
-                        return resolve(evalContext, null, false, expression, isLastPart, partIndex);
-                    } else {
-                        return CompletionStageSupport.toCompletionStage(r);
+                CompletionStage<Object> result = cached.resolve(evalContext);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    // Synchronous result - no need to compose
+                    Object r = completed.get();
+                    if (!Results.isNotFound(r)) {
+                        return toCompletionStage(completed, r);
                     }
-                });
+                    // Result not found - continue with all resolvers
+                } else {
+                    return result.thenCompose(r -> {
+                        if (Results.isNotFound(r)) {
+                            return resolve(evalContext, null, false, expression, isLastPart, partIndex);
+                        } else {
+                            return CompletionStageSupport.toCompletionStage(r);
+                        }
+                    });
+                }
             }
         }
 
@@ -161,66 +202,98 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             resolvers = this.resolvers.iterator();
         }
 
-        ValueResolver applicableResolver = null;
-        while (applicableResolver == null && resolvers.hasNext()) {
-            ValueResolver next = resolvers.next();
-            if (next.appliesTo(evalContext)) {
-                applicableResolver = next;
+        while (true) {
+            ValueResolver applicableResolver = null;
+            while (applicableResolver == null && resolvers.hasNext()) {
+                ValueResolver next = resolvers.next();
+                if (next.appliesTo(evalContext)) {
+                    applicableResolver = next;
+                }
             }
-        }
-        if (applicableResolver == null) {
-            ResolutionContext parent = evalContext.resolutionContext.getParent();
-            if (parent != null && evalContext.tryParent()) {
-                // Continue with parent context
-                return resolve(
-                        new EvalContextImpl(parent.getData(), parent,
-                                evalContext.part),
-                        null, false, expression, isLastPart, partIndex);
+            if (applicableResolver == null) {
+                return notFound(evalContext, expression, isLastPart, partIndex);
             }
-            LOG.tracef("Unable to resolve %s", evalContext);
-            Object notFound;
-            if (Results.isNotFound(evalContext.getBase())) {
-                // If the base is "not found" then just return it
-                notFound = evalContext.getBase();
-            } else {
-                // If the next part matches the ValueResolvers.orResolver() we can just use the empty NotFound constant
-                // and avoid unnecessary allocations
-                // This optimization should be ok in 99% of cases, for the rest an incomplete NotFound is an acceptable loss
-                Part nextPart = isLastPart ? null : expression.getParts().get(partIndex + 1);
-                if (nextPart != null
-                        // is virtual method with a single param
-                        && nextPart.isVirtualMethod()
-                        && nextPart.asVirtualMethod().getParameters().size() == 1
-                        // name has less than 3 chars
-                        && nextPart.getName().length() < 3
-                        // name is "?:", "or" or ":"
-                        && (nextPart.getName().equals(ValueResolvers.ELVIS)
-                                || nextPart.getName().equals(ValueResolvers.OR)
-                                || nextPart.getName().equals(ValueResolvers.COLON))) {
-                    notFound = Results.NotFound.EMPTY;
-                } else {
-                    notFound = Results.NotFound.from(evalContext);
+
+            CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+            if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                // Synchronous result - no need to compose
+                Object r = completed.get();
+                if (Results.isNotFound(r)) {
+                    // Result not found - try the next resolver
+                    continue;
                 }
+                // Cache the first resolver where a result is found
+                evalContext.setCachedResolver(applicableResolver.getCachedResolver(evalContext));
+                return toCompletionStage(completed, r);
             }
-            // If in strict mode then just fail
-            if (strictRendering && isLastPart) {
-                return CompletedStage.failure(propertyNotFound(notFound, expression));
-            }
-            return CompletedStage.of(notFound);
+
+            // Fall back to async resolution
+            final Iterator<ValueResolver> remainingResolvers = resolvers;
+            final ValueResolver foundResolver = applicableResolver;
+            return result.thenCompose(r -> {
+                if (Results.isNotFound(r)) {
+                    // Result not found - try the next resolver
+                    return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+                } else {
+                    // Cache the first resolver where a result is found
+                    evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
+                    return CompletionStageSupport.toCompletionStage(r);
+                }
+            });
         }
+    }
 
-        final Iterator<ValueResolver> remainingResolvers = resolvers;
-        final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
-            if (Results.isNotFound(r)) {
-                // Result not found - try the next resolver
-                return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+    private CompletionStage<Object> notFound(EvalContextImpl evalContext, final Expression expression, boolean isLastPart,
+            int partIndex) {
+        ResolutionContext parent = evalContext.resolutionContext.getParent();
+        if (parent != null && evalContext.tryParent()) {
+            // Continue with parent context
+            return resolve(
+                    new EvalContextImpl(parent.getData(), parent,
+                            evalContext.part),
+                    null, false, expression, isLastPart, partIndex);
+        }
+        LOG.tracef("Unable to resolve %s", evalContext);
+        Object notFound;
+        if (Results.isNotFound(evalContext.getBase())) {
+            // If the base is "not found" then just return it
+            notFound = evalContext.getBase();
+        } else {
+            // If the next part matches the ValueResolvers.orResolver() we can just use the empty NotFound constant
+            // and avoid unnecessary allocations
+            // This optimization should be ok in 99% of cases, for the rest an incomplete NotFound is an acceptable loss
+            Part nextPart = isLastPart ? null : expression.getParts().get(partIndex + 1);
+            if (nextPart != null
+                    // is virtual method with a single param
+                    && nextPart.isVirtualMethod()
+                    && nextPart.asVirtualMethod().getParameters().size() == 1
+                    // name has less than 3 chars
+                    && nextPart.getName().length() < 3
+                    // name is "?:", "or" or ":"
+                    && (nextPart.getName().equals(ValueResolvers.ELVIS)
+                            || nextPart.getName().equals(ValueResolvers.OR)
+                            || nextPart.getName().equals(ValueResolvers.COLON))) {
+                notFound = Results.NotFound.EMPTY;
             } else {
-                // Cache the first resolver where a result is found
-                evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
-                return CompletionStageSupport.toCompletionStage(r);
+                notFound = Results.NotFound.from(evalContext);
             }
-        });
+        }
+        // If in strict mode then just fail
+        if (strictRendering && isLastPart) {
+            return CompletedStage.failure(propertyNotFound(notFound, expression));
+        }
+        return CompletedStage.of(notFound);
+    }
+
+    /**
+     * The completed stage is reused unless the result itself needs to be converted.
+     */
+    private static CompletionStage<Object> toCompletionStage(CompletedStage<Object> completed, Object result) {
+        return isAsync(result) ? CompletionStageSupport.toCompletionStage(result) : completed;
+    }
+
+    private static boolean isAsync(Object result) {
+        return result instanceof CompletionStage || result instanceof AbstractUni;
     }
 
     private TemplateException propertyNotFound(Object result, Expression expression) {
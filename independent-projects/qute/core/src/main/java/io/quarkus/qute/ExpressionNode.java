@@ -33,7 +33,12 @@ public CompletionStage<ResultNode> resolve(ResolutionContext context) {
         if (traceLevel) {
             LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
         }
-        return context.evaluate(expression).thenCompose(this::toResultNode);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            // Synchronous result - no need to compose
+            return toResultNode(completed.get());
+        }
+        return result.thenCompose(this::toResultNode);
     }
 
     @Override
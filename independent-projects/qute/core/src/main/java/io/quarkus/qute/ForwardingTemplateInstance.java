@@ -58,6 +58,11 @@ public CompletionStage<Void> consume(Consumer<String> consumer) {
         return delegate().consume(consumer);
     }
 
+    @Override
+    public CompletionStage<ResolvedTemplate> resolve() {
+        return delegate().resolve();
+    }
+
     @Override
     public long getTimeout() {
         return delegate().getTimeout();
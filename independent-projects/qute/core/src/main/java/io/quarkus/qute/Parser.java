@@ -236,6 +236,11 @@ Template parse() {
             }
             template.root.optimizeNodes(nodesToRemove);
 
+            CompiledTemplate compiledTemplate = engine.getCompiledTemplate(templateId);
+            if (compiledTemplate != null) {
+                template.setCompiledTemplate(compiledTemplate);
+            }
+
             LOGGER.tracef("Parsing finished in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             return template;
 
@@ -0,0 +1,23 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A template instance whose expressions and sections are resolved.
+ *
+ * @see TemplateInstance#resolve()
+ */
+@FunctionalInterface
+public interface ResolvedTemplate {
+
+    /**
+     * Produces the output synchronously. The actions registered with {@link TemplateInstance#onRendered(Runnable)} are
+     * performed afterwards.
+     * <p>
+     * The output should be consumed exactly once.
+     *
+     * @param consumer To consume chunks of the rendered template
+     */
+    void consume(Consumer<String> consumer);
+
+}
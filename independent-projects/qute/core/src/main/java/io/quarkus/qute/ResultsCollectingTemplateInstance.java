@@ -68,4 +68,13 @@ public CompletionStage<Void> consume(Consumer<String> consumer) {
         });
     }
 
+    @Override
+    public CompletionStage<ResolvedTemplate> resolve() {
+        return delegate.resolve().thenApply(resolved -> consumer -> {
+            StringBuilder builder = new StringBuilder();
+            resolved.consume(consumer.andThen(builder::append));
+            resultConsumer.accept(delegate, builder.toString());
+        });
+    }
+
 }
@@ -17,6 +17,7 @@
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -43,6 +44,10 @@ class TemplateImpl implements Template {
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
 
+    // The renderer generated at build time, if any
+    private CompiledTemplate compiledTemplate;
+    private List<Expression> compiledTemplateExpressions;
+
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant,
             Optional<URI> source) {
         this.engine = engine;
@@ -134,6 +139,15 @@ public Optional<URI> getSource() {
         return source;
     }
 
+    void setCompiledTemplate(CompiledTemplate compiledTemplate) {
+        if (compiledTemplate.getFingerprint() == CompiledTemplate.fingerprint(this)) {
+            this.compiledTemplate = compiledTemplate;
+            this.compiledTemplateExpressions = getExpressions();
+        } else {
+            LOG.debugf("Compiled template ignored - %s was modified after the build", this);
+        }
+    }
+
     private LazyValue<Map<String, Fragment>> initFragments(SectionNode section) {
         if (section.name.equals(Parser.ROOT_HELPER_NAME)) {
             // Initialize the lazy map for root sections only
@@ -240,6 +254,22 @@ public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
             return cs;
         }
 
+        @Override
+        public CompletionStage<ResolvedTemplate> resolve() {
+            CompletableFuture<ResolvedTemplate> result = new CompletableFuture<>();
+            resolveData(data(), (r, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                } else {
+                    result.complete(r);
+                }
+            });
+            if (engine.useAsyncTimeout()) {
+                result.orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
+            }
+            return result;
+        }
+
         private TemplateException newTimeoutException(long timeout) {
             return new TemplateException(TemplateImpl.this.toString() + " rendering timeout [" + timeout + "ms] occurred");
         }
@@ -251,6 +281,22 @@ protected Engine engine() {
 
         private CompletionStage<String> renderAsyncNoTimeout() {
             StringBuilder builder = new StringBuilder(getCapacity());
+            if (compiledTemplate != null) {
+                try {
+                    if (compiledTemplate.render(data(), new CompiledTemplate.Output(builder, engine,
+                            compiledTemplateExpressions))) {
+                        String str = builder.toString();
+                        capacity.update(str.length());
+                        runRenderedActions();
+                        return CompletedStage.of(str);
+                    }
+                } catch (Throwable e) {
+                    runRenderedActions();
+                    return CompletedStage.failure(e);
+                }
+                // Discard the partial output and render the parsed template
+                builder.setLength(0);
+            }
             return renderData(data(), builder::append).thenApply(v -> {
                 String str = builder.toString();
                 capacity.update(str.length());
@@ -280,6 +326,23 @@ private int getCapacityAttributeValue() {
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
             CompletableFuture<Void> result = new CompletableFuture<>();
+            resolveData(data, (r, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                } else {
+                    // Sync processing of the result tree - build the output
+                    try {
+                        r.consume(consumer);
+                        result.complete(null);
+                    } catch (Throwable e) {
+                        result.completeExceptionally(e);
+                    }
+                }
+            });
+            return result;
+        }
+
+        private void resolveData(Object data, BiConsumer<ResolvedTemplateImpl, Throwable> action) {
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
@@ -291,34 +354,32 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
             // Async resolution
             root.resolve(rootContext).whenComplete((r, t) -> {
                 if (t != null) {
-                    result.completeExceptionally(t);
+                    action.accept(null, t);
+                    fireEndTemplate(event);
                 } else {
-                    // Sync processing of the result tree - build the output
+                    action.accept(new ResolvedTemplateImpl(r, event), null);
+                }
+            });
+        }
+
+        private void fireEndTemplate(TemplateEvent event) {
+            if (event != null) {
+                // Notify trace listeners that template rendering has ended.
+                event.done();
+                engine.getTraceManager().fireEndTemplate(event);
+            }
+        }
+
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
                     try {
-                        r.process(consumer);
-                        result.complete(null);
+                        action.run();
                     } catch (Throwable e) {
-                        result.completeExceptionally(e);
-                    } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        LOG.error("Unable to perform an action when rendering finished", e);
                     }
                 }
-                if (event != null) {
-                    // Notify trace listeners that template rendering has ended.
-                    event.done();
-                    engine.getTraceManager().fireEndTemplate(event);
-                }
-            });
-            return result;
+            }
         }
 
         @Override
@@ -331,6 +392,28 @@ public String toString() {
             return "Instance of " + TemplateImpl.this.toString();
         }
 
+        private final class ResolvedTemplateImpl implements ResolvedTemplate {
+
+            private final ResultNode result;
+            private final TemplateEvent event;
+
+            ResolvedTemplateImpl(ResultNode result, TemplateEvent event) {
+                this.result = result;
+                this.event = event;
+            }
+
+            @Override
+            public void consume(Consumer<String> consumer) {
+                try {
+                    result.process(consumer);
+                } finally {
+                    runRenderedActions();
+                    fireEndTemplate(event);
+                }
+            }
+
+        }
+
     }
 
     class Capacity {
@@ -1,5 +1,7 @@
 package io.quarkus.qute;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
@@ -150,6 +152,21 @@ default CompletionStage<Void> consume(Consumer<String> consumer) {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Triggers resolution but does not produce the output. Once all expressions and sections are resolved, the output can
+     * be produced synchronously with {@link ResolvedTemplate#consume(Consumer)}, e.g. written directly to a buffer.
+     * <p>
+     * Unlike {@link #consume(Consumer)}, the consumer does not need to be known when rendering is triggered.
+     * <p>
+     * The default implementation buffers the chunks produced by {@link #consume(Consumer)}.
+     *
+     * @return a completion stage that is completed once all expressions and sections are resolved
+     */
+    default CompletionStage<ResolvedTemplate> resolve() {
+        List<String> chunks = new ArrayList<>();
+        return consume(chunks::add).thenApply(v -> chunks::forEach);
+    }
+
     /**
      * @return the timeout
      * @see TemplateInstance#TIMEOUT
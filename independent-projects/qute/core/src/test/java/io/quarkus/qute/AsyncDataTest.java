@@ -1,6 +1,7 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +23,30 @@ public void testAsyncData() {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testMixedSyncAndAsyncParts() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Client.class)
+                        .applyToName("tokens").resolveAsync(ec -> ((Client) ec.getBase()).getTokens().thenApply(t -> t))
+                        .build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Client.class)
+                        .applyToName("name").resolveSync(ec -> "client").build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(String.class)
+                        .applyToName("fail").resolveSync(ec -> {
+                            throw new IllegalStateException();
+                        }).build())
+                .build();
+        // sync -> async -> sync
+        assertEquals("3:client", engine.parse("{client.tokens.size}:{client.name}").data("client", new Client()).render());
+        assertEquals("alpha,bravo,delta,",
+                engine.parse("{#for token in client.tokens}{token},{/for}").data("client", new Client()).render());
+        // the exception thrown by a resolver of the last part is propagated
+        assertThrows(IllegalStateException.class,
+                () -> engine.parse("{client.name.fail}").data("client", new Client()).render());
+        assertThrows(IllegalStateException.class,
+                () -> engine.parse("{client.tokens.0.fail}").data("client", new Client()).render());
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
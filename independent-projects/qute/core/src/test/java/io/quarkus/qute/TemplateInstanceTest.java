@@ -4,10 +4,14 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +44,41 @@ public void testRendered() {
         assertTrue(rendered.get());
     }
 
+    @Test
+    public void testResolve() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template hello = engine.parse("Hello {foo}{#for i in items}:{i}{/for}!");
+        AtomicBoolean rendered = new AtomicBoolean();
+        ResolvedTemplate resolved = hello.instance().data("foo", CompletableFuture.completedFuture("baz"))
+                .data("items", List.of(1, 2)).onRendered(() -> rendered.set(true)).resolve().toCompletableFuture().get();
+        // The output is not produced yet
+        assertFalse(rendered.get());
+        List<String> chunks = new ArrayList<>();
+        resolved.consume(chunks::add);
+        assertEquals("Hello baz:1:2!", String.join("", chunks));
+        assertTrue(rendered.get());
+
+        StringBuilder builder = new StringBuilder();
+        resolved = new ResultsCollectingTemplateInstance(hello.data("foo", "qux").data("items", List.of()),
+                (instance, result) -> builder.append(result)).resolve().toCompletableFuture().get();
+        assertEquals("", builder.toString());
+        resolved.consume(chunks::add);
+        assertEquals("Hello qux!", builder.toString());
+
+        // The default implementation buffers the chunks
+        TemplateInstance instance = new TemplateInstance() {
+            @Override
+            public CompletionStage<Void> consume(Consumer<String> consumer) {
+                consumer.accept("foo");
+                consumer.accept("bar");
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        chunks.clear();
+        instance.resolve().toCompletableFuture().get().consume(chunks::add);
+        assertEquals(List.of("foo", "bar"), chunks);
+    }
+
     @Test
     public void testGetTemplate() {
         Engine engine = Engine.builder().addDefaults().build();
@@ -0,0 +1,694 @@
+package io.quarkus.qute.generator;
+
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.classDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.methodDescOf;
+
+import java.lang.constant.ClassDesc;
+import java.lang.constant.ConstantDescs;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.TypeVariable;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.gizmo2.Const;
+import io.quarkus.gizmo2.Expr;
+import io.quarkus.gizmo2.LocalVar;
+import io.quarkus.gizmo2.ParamVar;
+import io.quarkus.gizmo2.creator.BlockCreator;
+import io.quarkus.gizmo2.desc.ClassMethodDesc;
+import io.quarkus.gizmo2.desc.FieldDesc;
+import io.quarkus.gizmo2.desc.InterfaceMethodDesc;
+import io.quarkus.gizmo2.desc.MethodDesc;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateNode;
+
+/**
+ * Generates {@link CompiledTemplate}s for type-safe templates.
+ * <p>
+ * Only a subset of templates can be compiled: the templates may only contain text, parameter declarations, output
+ * expressions, {@code #if} sections with a single operand condition and {@code #for}/{@code #each} sections. Every
+ * expression must start with a parameter declared for the template or a loop alias and may only reference properties
+ * (public fields and methods without parameters) that can be resolved from the declared types. Namespace expressions,
+ * virtual methods, iteration metadata and names of template extension methods are not supported.
+ * <p>
+ * The members are only invoked if the runtime type of a value is the declared type (or implements the declared interface);
+ * otherwise the parsed template is rendered.
+ */
+public class CompiledTemplateGenerator extends AbstractGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    public static final String SUFFIX = "_CompiledTemplate";
+
+    // A string constant may not exceed 65535 bytes in the modified UTF-8 encoding
+    private static final int MAX_TEXT_LENGTH = 16384;
+    // The nodes rendered by a single generated method; we need to stay well under the method size limit
+    private static final int MAX_BLOCK_ITEMS = 200;
+
+    private static final String ALIAS = "alias";
+    private static final String ITERABLE = "iterable";
+    private static final String DEFAULT_ALIAS = "it";
+    private static final String ELSE = "else";
+    private static final String IF = "if";
+
+    private static final Set<String> ITERATION_METADATA = Set.of("count", "index", "indexParity", "hasNext", "isLast",
+            "isFirst", "odd", "isOdd", "even", "isEven");
+
+    private static final Set<DotName> ITERABLES = Set.of(DotName.createSimple(Iterable.class),
+            DotName.createSimple(java.util.Collection.class), DotName.createSimple(List.class),
+            DotName.createSimple(Set.class), DotName.createSimple(java.util.SortedSet.class),
+            DotName.createSimple(java.util.NavigableSet.class), DotName.createSimple(java.util.Queue.class),
+            DotName.createSimple(java.util.Deque.class), DotName.createSimple(ArrayList.class),
+            DotName.createSimple(java.util.LinkedList.class), DotName.createSimple(java.util.HashSet.class),
+            DotName.createSimple(java.util.LinkedHashSet.class), DotName.createSimple(java.util.TreeSet.class),
+            DotName.createSimple(java.util.ArrayDeque.class));
+
+    private static final Set<DotName> ASYNC_TYPES = Set.of(DotNames.COMPLETION_STAGE,
+            DotName.createSimple(java.util.concurrent.CompletableFuture.class),
+            DotName.createSimple("io.smallrye.mutiny.Uni"), DotName.createSimple("io.smallrye.mutiny.Multi"));
+
+    private final Predicate<String> excludedNames;
+
+    /**
+     *
+     * @param index
+     * @param classOutput
+     * @param excludedNames the names that must not be resolved by the compiled template, e.g. the names of template
+     *        extension methods
+     */
+    public CompiledTemplateGenerator(IndexView index, ClassOutput classOutput, Predicate<String> excludedNames) {
+        super(index, classOutput);
+        this.excludedNames = excludedNames;
+    }
+
+    /**
+     *
+     * @param templateId
+     * @param template
+     * @param parameters the types of the parameters declared for the template
+     * @return the name of the generated class or {@code null} if the template cannot be compiled
+     */
+    public String generate(String templateId, Template template, Map<String, Type> parameters) {
+        Block root;
+        try {
+            root = new Analysis(parameters, template.getExpressions()).block(template.getNodes(), List.of());
+        } catch (NotCompilableException e) {
+            LOGGER.debugf("Template %s cannot be compiled: %s", templateId, e.getMessage());
+
+            return null;
+        }
+
+        String baseName = "io.quarkus.qute.generated." + templateId.replaceAll("[^a-zA-Z0-9_]", "_");
+        String generatedClassName = baseName + SUFFIX;
+        int idx = 1;
+        while (generatedTypes.contains(generatedClassName)) {
+            generatedClassName = baseName + "_" + idx++ + SUFFIX;
+        }
+        generatedTypes.add(generatedClassName);
+
+        int fingerprint = CompiledTemplate.fingerprint(template);
+
+        gizmo.class_(generatedClassName, cc -> {
+            cc.implements_(CompiledTemplate.class);
+            cc.defaultConstructor();
+
+            // Every block is rendered by a separate static method
+            List<Block> blocks = new ArrayList<>();
+            root.collect(blocks);
+            for (int i = 0; i < blocks.size(); i++) {
+                blocks.get(i).method = ClassMethodDesc.of(cc.type(), "block" + i, blocks.get(i).type());
+            }
+            for (Block block : blocks) {
+                cc.staticMethod(block.method, mc -> {
+                    ParamVar data = mc.parameter("data", 0);
+                    ParamVar out = mc.parameter("out", 1);
+                    List<ParamVar> aliases = new ArrayList<>();
+                    for (int i = 0; i < block.depth; i++) {
+                        aliases.add(mc.parameter("alias" + i, i + 2));
+                    }
+                    mc.body(bc -> {
+                        for (Item item : block.items) {
+                            item.render(bc, data, out, aliases);
+                        }
+                        bc.return_(true);
+                    });
+                });
+            }
+
+            // CompiledTemplate#getFingerprint()
+            cc.method("getFingerprint", mc -> {
+                mc.returning(int.class);
+                mc.body(bc -> bc.return_(fingerprint));
+            });
+
+            // CompiledTemplate#render()
+            cc.method("render", mc -> {
+                mc.returning(boolean.class);
+                ParamVar data = mc.parameter("data", Object.class);
+                ParamVar out = mc.parameter("out", CompiledTemplate.Output.class);
+                mc.body(bc -> bc.return_(bc.invokeStatic(root.method, data, out)));
+            });
+        });
+        return generatedClassName;
+    }
+
+    private class Analysis {
+
+        private final Map<String, Type> parameters;
+        private final List<Expression> expressions;
+
+        Analysis(Map<String, Type> parameters, List<Expression> expressions) {
+            this.parameters = parameters;
+            this.expressions = expressions;
+        }
+
+        Block block(List<TemplateNode> nodes, List<LoopScope> scope) throws NotCompilableException {
+            List<Item> items = new ArrayList<>();
+            for (TemplateNode node : nodes) {
+                switch (node.kind()) {
+                    case TEXT:
+                        String text = node.asText().getValue();
+                        for (int i = 0; i < text.length(); i += MAX_TEXT_LENGTH) {
+                            items.add(new Text(text.substring(i, Math.min(text.length(), i + MAX_TEXT_LENGTH))));
+                        }
+                        break;
+                    case PARAM_DECLARATION:
+                        break;
+                    case EXPRESSION:
+                        Expression expression = node.getExpressions().get(0);
+                        items.add(new Output(value(expression, scope), indexOf(expression)));
+                        break;
+                    case SECTION:
+                        SectionNode section = node.asSection();
+                        if (section.getHelper() instanceof IfSectionHelper) {
+                            items.add(ifSection(section, scope));
+                        } else if (section.getHelper() instanceof LoopSectionHelper) {
+                            items.add(loopSection(section, scope));
+                        } else {
+                            throw new NotCompilableException("unsupported section #" + section.getName());
+                        }
+                        break;
+                    default:
+                        throw new NotCompilableException("unsupported node " + node);
+                }
+            }
+            return new Block(scope.size(), items);
+        }
+
+        If ifSection(SectionNode section, List<LoopScope> scope) throws NotCompilableException {
+            List<Branch> branches = new ArrayList<>();
+            for (SectionBlock block : section.getBlocks()) {
+                List<String> params = new ArrayList<>(block.parameters.values());
+                Value condition;
+                if (SectionHelperFactory.MAIN_BLOCK_NAME.equals(block.label)) {
+                    if (params.size() != 1) {
+                        throw new NotCompilableException("composite condition");
+                    }
+                    condition = condition(block, params.get(0), scope);
+                } else if (ELSE.equals(block.label)) {
+                    if (params.isEmpty()) {
+                        condition = null;
+                    } else if (params.size() == 2 && IF.equals(params.get(0))) {
+                        condition = condition(block, params.get(1), scope);
+                    } else {
+                        throw new NotCompilableException("composite condition");
+                    }
+                } else {
+                    throw new NotCompilableException("unsupported block {#" + block.label + "}");
+                }
+                branches.add(new Branch(condition, block(block.nodes, scope)));
+            }
+            return new If(branches);
+        }
+
+        Value condition(SectionBlock block, String param, List<LoopScope> scope) throws NotCompilableException {
+            Expression expression = block.expressions.get(param);
+            if (param.startsWith("!") || expression == null) {
+                throw new NotCompilableException("unsupported condition " + param);
+            }
+            return value(expression, scope);
+        }
+
+        Loop loopSection(SectionNode section, List<LoopScope> scope) throws NotCompilableException {
+            LoopSectionHelper helper = (LoopSectionHelper) section.getHelper();
+            Block body = null;
+            Block elseBlock = null;
+            Value iterable = null;
+            for (SectionBlock block : section.getBlocks()) {
+                if (SectionHelperFactory.MAIN_BLOCK_NAME.equals(block.label)) {
+                    Expression iterableExpression = block.expressions.get(ITERABLE);
+                    if (iterableExpression == null) {
+                        throw new NotCompilableException("iterable not found");
+                    }
+                    iterable = value(iterableExpression, scope);
+                    String alias = block.parameters.get(ALIAS);
+                    if (alias == null || alias.equals(Parameter.EMPTY)) {
+                        alias = DEFAULT_ALIAS;
+                    }
+                    List<LoopScope> bodyScope = new ArrayList<>(scope);
+                    bodyScope.add(new LoopScope(alias, helper.getMetadataPrefix(), elementType(iterable.type)));
+                    body = block(block.nodes, bodyScope);
+                } else if (ELSE.equals(block.label)) {
+                    elseBlock = block(block.nodes, scope);
+                } else {
+                    throw new NotCompilableException("unsupported block {#" + block.label + "}");
+                }
+            }
+            return new Loop(iterable, body, elseBlock);
+        }
+
+        Value value(Expression expression, List<LoopScope> scope) throws NotCompilableException {
+            if (expression.hasNamespace() || expression.isLiteral()) {
+                throw new NotCompilableException("unsupported expression " + expression.toOriginalString());
+            }
+            List<Part> parts = expression.getParts();
+            for (Part part : parts) {
+                if (part.isVirtualMethod()) {
+                    throw new NotCompilableException("virtual method in " + expression.toOriginalString());
+                }
+            }
+            String first = parts.get(0).getName();
+            int alias = -1;
+            Type type = null;
+            for (int i = scope.size() - 1; i >= 0; i--) {
+                LoopScope loop = scope.get(i);
+                if (loop.alias.equals(first)) {
+                    alias = i;
+                    type = loop.elementType;
+                    break;
+                }
+                if (loop.isMetadata(first)) {
+                    throw new NotCompilableException("iteration metadata in " + expression.toOriginalString());
+                }
+            }
+            if (alias == -1) {
+                type = parameters.get(first);
+                if (type == null) {
+                    throw new NotCompilableException("undeclared parameter in " + expression.toOriginalString());
+                }
+            }
+            List<Member> members = new ArrayList<>();
+            for (Part part : parts.subList(1, parts.size())) {
+                String name = part.getName();
+                if (excludedNames.test(name)) {
+                    throw new NotCompilableException("excluded name in " + expression.toOriginalString());
+                }
+                ClassInfo clazz = type != null ? index.getClassByName(type.name()) : null;
+                if (clazz == null || !isPublic(clazz)) {
+                    throw new NotCompilableException("unknown type of a part of " + expression.toOriginalString());
+                }
+                AnnotationTarget target = findMember(clazz, name);
+                if (target == null) {
+                    throw new NotCompilableException("member not found for " + expression.toOriginalString());
+                }
+                Type memberType = target.kind() == AnnotationTarget.Kind.METHOD ? target.asMethod().returnType()
+                        : target.asField().type();
+                if (ASYNC_TYPES.contains(memberType.name()) || hasCompletionStage(memberType)) {
+                    throw new NotCompilableException("asynchronous member in " + expression.toOriginalString());
+                }
+                members.add(new Member(clazz, target));
+                type = resolveType(memberType, type, clazz, target);
+            }
+            return new Value(alias, first, members, type);
+        }
+
+        int indexOf(Expression expression) {
+            for (int i = 0; i < expressions.size(); i++) {
+                if (expressions.get(i) == expression) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Expression not found: " + expression);
+        }
+
+    }
+
+    private AnnotationTarget findMember(ClassInfo clazz, String name) throws NotCompilableException {
+        List<ClassInfo> hierarchy = hierarchy(clazz);
+        // Exact match first, then getters and finally fields
+        for (ClassInfo c : hierarchy) {
+            for (MethodInfo method : c.methods()) {
+                if (isProperty(method) && method.name().equals(name)) {
+                    return method;
+                }
+            }
+        }
+        for (ClassInfo c : hierarchy) {
+            for (MethodInfo method : c.methods()) {
+                if (isProperty(method) && ValueResolverGenerator.isGetterName(method.name(), method.returnType())
+                        && ValueResolverGenerator.getPropertyName(method.name()).equals(name)) {
+                    return method;
+                }
+            }
+        }
+        for (ClassInfo c : hierarchy) {
+            FieldInfo field = c.field(name);
+            if (field != null && Modifier.isPublic(field.flags()) && !Modifier.isStatic(field.flags())
+                    && !ValueResolverGenerator.isSynthetic(field.flags())) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private List<ClassInfo> hierarchy(ClassInfo clazz) throws NotCompilableException {
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        ClassInfo c = clazz;
+        while (c != null) {
+            hierarchy.add(c);
+            DotName superName = c.superName();
+            if (superName == null || DotNames.OBJECT.equals(superName)) {
+                break;
+            }
+            c = index.getClassByName(superName);
+            if (c == null) {
+                // A member declared on the superclass could take precedence
+                throw new NotCompilableException("superclass not found in the index: " + superName);
+            }
+        }
+        for (int i = 0; i < hierarchy.size(); i++) {
+            for (DotName interfaceName : hierarchy.get(i).interfaceNames()) {
+                ClassInfo interfaceClass = index.getClassByName(interfaceName);
+                if (interfaceClass != null && !hierarchy.contains(interfaceClass)) {
+                    hierarchy.add(interfaceClass);
+                }
+            }
+        }
+        return hierarchy;
+    }
+
+    private static boolean isProperty(MethodInfo method) {
+        return ValueResolverGenerator.defaultFilter(method)
+                && !Modifier.isStatic(method.flags())
+                && method.parametersCount() == 0;
+    }
+
+    private boolean isPublic(ClassInfo clazz) {
+        if (!Modifier.isPublic(clazz.flags())) {
+            return false;
+        }
+        if (clazz.enclosingClass() != null) {
+            ClassInfo enclosingClass = index.getClassByName(clazz.enclosingClass());
+            return enclosingClass != null && isPublic(enclosingClass);
+        }
+        return true;
+    }
+
+    private static void returnFalse(BlockCreator bc) {
+        bc.return_(false);
+    }
+
+    /**
+     *
+     * @return the type of the member or {@code null} if it cannot be used to resolve the next part of an expression
+     */
+    private static Type resolveType(Type memberType, Type ownerType, ClassInfo owner, AnnotationTarget member) {
+        switch (memberType.kind()) {
+            case CLASS:
+            case PARAMETERIZED_TYPE:
+                return memberType;
+            case TYPE_VARIABLE:
+                ClassInfo declaringClass = member.kind() == AnnotationTarget.Kind.METHOD
+                        ? member.asMethod().declaringClass()
+                        : member.asField().declaringClass();
+                if (ownerType.kind() == Type.Kind.PARAMETERIZED_TYPE && declaringClass.equals(owner)) {
+                    List<TypeVariable> typeParameters = owner.typeParameters();
+                    List<Type> arguments = ownerType.asParameterizedType().arguments();
+                    for (int i = 0; i < typeParameters.size() && i < arguments.size(); i++) {
+                        if (typeParameters.get(i).identifier().equals(memberType.asTypeVariable().identifier())) {
+                            Type argument = arguments.get(i);
+                            return argument.kind() == Type.Kind.CLASS || argument.kind() == Type.Kind.PARAMETERIZED_TYPE
+                                    ? argument
+                                    : null;
+                        }
+                    }
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static Type elementType(Type iterableType) {
+        if (iterableType != null
+                && iterableType.kind() == Type.Kind.PARAMETERIZED_TYPE
+                && ITERABLES.contains(iterableType.name())) {
+            Type argument = iterableType.asParameterizedType().arguments().get(0);
+            if (argument.kind() == Type.Kind.CLASS || argument.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                return argument;
+            }
+        }
+        return null;
+    }
+
+    private static class NotCompilableException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        NotCompilableException(String message) {
+            super(message, null, false, false);
+        }
+
+    }
+
+    record LoopScope(String alias, String metadataPrefix, Type elementType) {
+
+        boolean isMetadata(String name) {
+            return metadataPrefix != null ? name.startsWith(metadataPrefix) : ITERATION_METADATA.contains(name);
+        }
+
+    }
+
+    record Member(ClassInfo owner, AnnotationTarget target) {
+    }
+
+    /**
+     * A value obtained from a loop alias or a template parameter.
+     */
+    record Value(int alias, String key, List<Member> members, Type type) {
+
+        Expr evaluate(BlockCreator bc, ParamVar data, ParamVar out, List<ParamVar> aliases) {
+            LocalVar val = bc.localVar("val", Object.class, alias != -1 ? aliases.get(alias)
+                    : bc.invokeVirtual(Descriptors.OUTPUT_GET, out, data, Const.of(key)));
+            for (Member member : members) {
+                ClassDesc owner = classDescOf(member.owner);
+                // The parsed template must be rendered if the runtime type does not match
+                bc.ifNotInstanceOf(val, owner, CompiledTemplateGenerator::returnFalse);
+                if (!member.owner.isInterface() && !Modifier.isFinal(member.owner.flags())) {
+                    // A subclass may declare a member that takes precedence
+                    bc.if_(bc.ne(bc.invokeVirtual(Descriptors.GET_CLASS, val), Const.of(owner)),
+                            CompiledTemplateGenerator::returnFalse);
+                }
+                Expr base = bc.cast(val, owner);
+                Expr result;
+                if (member.target.kind() == AnnotationTarget.Kind.METHOD) {
+                    MethodTypeDesc type = methodDescOf(member.target.asMethod()).type();
+                    String name = member.target.asMethod().name();
+                    if (member.owner.isInterface()) {
+                        result = bc.invokeInterface(InterfaceMethodDesc.of(owner, name, type), base);
+                    } else {
+                        result = bc.invokeVirtual(ClassMethodDesc.of(owner, name, type), base);
+                    }
+                } else {
+                    FieldInfo field = member.target.asField();
+                    result = bc.get(base.field(FieldDesc.of(owner, field.name(), classDescOf(field.type()))));
+                }
+                bc.set(val, result.type().isPrimitive() ? bc.box(result) : result);
+            }
+            return val;
+        }
+
+    }
+
+    static final class Block {
+
+        final int depth;
+        final List<Item> items;
+        MethodDesc method;
+
+        Block(int depth, List<Item> items) {
+            this.depth = depth;
+            if (items.size() > MAX_BLOCK_ITEMS) {
+                // Split large blocks
+                List<Item> chunks = new ArrayList<>();
+                for (int i = 0; i < items.size(); i += MAX_BLOCK_ITEMS) {
+                    chunks.add(new Chunk(new Block(depth, items.subList(i, Math.min(items.size(), i + MAX_BLOCK_ITEMS)))));
+                }
+                items = chunks;
+            }
+            this.items = items;
+        }
+
+        MethodTypeDesc type() {
+            List<ClassDesc> params = new ArrayList<>();
+            params.add(ConstantDescs.CD_Object);
+            params.add(ClassDesc.of(CompiledTemplate.Output.class.getName()));
+            params.addAll(Collections.nCopies(depth, ConstantDescs.CD_Object));
+            return MethodTypeDesc.of(ConstantDescs.CD_boolean, params.toArray(ClassDesc[]::new));
+        }
+
+        void collect(List<Block> blocks) {
+            blocks.add(this);
+            for (Item item : items) {
+                item.collect(blocks);
+            }
+        }
+
+        Expr call(BlockCreator bc, ParamVar data, ParamVar out, List<? extends Expr> aliases) {
+            List<Expr> args = new ArrayList<>();
+            args.add(data);
+            args.add(out);
+            args.addAll(aliases);
+            return bc.invokeStatic(method, args);
+        }
+
+    }
+
+    interface Item {
+
+        /**
+         * Generates the bytecode that renders this item and returns {@code false} if the parsed template must be rendered
+         * instead.
+         */
+        void render(BlockCreator bc, ParamVar data, ParamVar out, List<ParamVar> aliases);
+
+        default void collect(List<Block> blocks) {
+        }
+
+    }
+
+    record Chunk(Block block) implements Item {
+
+        @Override
+        public void render(BlockCreator bc, ParamVar data, ParamVar out, List<ParamVar> aliases) {
+            bc.ifNot(block.call(bc, data, out, aliases), CompiledTemplateGenerator::returnFalse);
+        }
+
+        @Override
+        public void collect(List<Block> blocks) {
+            block.collect(blocks);
+        }
+
+    }
+
+    record Text(String value) implements Item {
+
+        @Override
+        public void render(BlockCreator bc, ParamVar data, ParamVar out, List<ParamVar> aliases) {
+            bc.invokeVirtual(Descriptors.OUTPUT_APPEND_TEXT, out, Const.of(value));
+        }
+
+    }
+
+    record Output(Value value, int expressionIndex) implements Item {
+
+        @Override
+        public void render(BlockCreator bc, ParamVar data, ParamVar out, List<ParamVar> aliases) {
+            Expr val = value.evaluate(bc, data, out, aliases);
+            bc.ifNot(bc.invokeVirtual(Descriptors.OUTPUT_APPEND_VALUE, out, val, Const.of(expressionIndex)),
+                    CompiledTemplateGenerator::returnFalse);
+        }
+
+    }
+
+    record Branch(Value condition, Block block) {
+    }
+
+    record If(List<Branch> branches) implements Item {
+
+        @Override
+        public void render(BlockCreator bc, ParamVar data, ParamVar out, List<ParamVar> aliases) {
+            renderBranch(bc, 0, data, out, aliases);
+        }
+
+        private void renderBranch(BlockCreator bc, int idx, ParamVar data, ParamVar out, List<ParamVar> aliases) {
+            if (idx >= branches.size()) {
+                return;
+            }
+            Branch branch = branches.get(idx);
+            if (branch.condition == null) {
+                bc.ifNot(branch.block.call(bc, data, out, aliases), CompiledTemplateGenerator::returnFalse);
+                return;
+            }
+            Expr val = branch.condition.evaluate(bc, data, out, aliases);
+            bc.ifNot(bc.invokeVirtual(Descriptors.OUTPUT_IS_RESOLVED, out, val), CompiledTemplateGenerator::returnFalse);
+            bc.ifElse(bc.invokeVirtual(Descriptors.OUTPUT_IS_FALSY, out, val),
+                    falsy -> renderBranch(falsy, idx + 1, data, out, aliases),
+                    truthy -> truthy.ifNot(branch.block.call(truthy, data, out, aliases),
+                            CompiledTemplateGenerator::returnFalse));
+        }
+
+        @Override
+        public void collect(List<Block> blocks) {
+            for (Branch branch : branches) {
+                branch.block.collect(blocks);
+            }
+        }
+
+    }
+
+    record Loop(Value iterable, Block body, Block elseBlock) implements Item {
+
+        @Override
+        public void render(BlockCreator bc, ParamVar data, ParamVar out, List<ParamVar> aliases) {
+            Expr val = iterable.evaluate(bc, data, out, aliases);
+            // null is a no-op
+            bc.ifNotNull(val, notNull -> {
+                // Maps, arrays, integers, streams, etc. are only handled by the parsed template
+                notNull.ifNotInstanceOf(val, Iterable.class, CompiledTemplateGenerator::returnFalse);
+                LocalVar it = notNull.localVar("it",
+                        notNull.invokeInterface(Descriptors.ITERABLE_ITERATOR, notNull.cast(val, Iterable.class)));
+                if (elseBlock != null) {
+                    notNull.ifElse(notNull.invokeInterface(Descriptors.ITERATOR_HAS_NEXT, it),
+                            notEmpty -> iterate(notEmpty, it, data, out, aliases),
+                            empty -> empty.ifNot(elseBlock.call(empty, data, out, aliases),
+                                    CompiledTemplateGenerator::returnFalse));
+                } else {
+                    iterate(notNull, it, data, out, aliases);
+                }
+            });
+        }
+
+        private void iterate(BlockCreator bc, LocalVar it, ParamVar data, ParamVar out, List<ParamVar> aliases) {
+            bc.while_(cond -> cond.yield(cond.invokeInterface(Descriptors.ITERATOR_HAS_NEXT, it)), loop -> {
+                List<Expr> bodyAliases = new ArrayList<>(aliases);
+                bodyAliases.add(loop.invokeInterface(Descriptors.ITERATOR_NEXT, it));
+                loop.ifNot(body.call(loop, data, out, bodyAliases), CompiledTemplateGenerator::returnFalse);
+            });
+        }
+
+        @Override
+        public void collect(List<Block> blocks) {
+            body.collect(blocks);
+            if (elseBlock != null) {
+                elseBlock.collect(blocks);
+            }
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.qute.generator;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -12,6 +13,7 @@
 import io.quarkus.gizmo2.desc.ConstructorDesc;
 import io.quarkus.gizmo2.desc.FieldDesc;
 import io.quarkus.gizmo2.desc.MethodDesc;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.CompletedStage;
 import io.quarkus.qute.EvalContext;
 import io.quarkus.qute.EvaluatedParams;
@@ -108,6 +110,20 @@ private Descriptors() {
     public static final MethodDesc VALUE_RESOLVERS_HAS_NO_PARAMS = MethodDesc.of(ValueResolvers.class,
             "hasNoParams", boolean.class, EvalContext.class);
 
+    static final MethodDesc OUTPUT_APPEND_TEXT = MethodDesc.of(CompiledTemplate.Output.class, "append", void.class,
+            String.class);
+    static final MethodDesc OUTPUT_APPEND_VALUE = MethodDesc.of(CompiledTemplate.Output.class, "append",
+            boolean.class, Object.class, int.class);
+    static final MethodDesc OUTPUT_GET = MethodDesc.of(CompiledTemplate.Output.class, "get", Object.class,
+            Object.class, String.class);
+    static final MethodDesc OUTPUT_IS_RESOLVED = MethodDesc.of(CompiledTemplate.Output.class, "isResolved",
+            boolean.class, Object.class);
+    static final MethodDesc OUTPUT_IS_FALSY = MethodDesc.of(CompiledTemplate.Output.class, "isFalsy", boolean.class,
+            Object.class);
+    static final MethodDesc ITERABLE_ITERATOR = MethodDesc.of(Iterable.class, "iterator", Iterator.class);
+    static final MethodDesc ITERATOR_HAS_NEXT = MethodDesc.of(Iterator.class, "hasNext", boolean.class);
+    static final MethodDesc ITERATOR_NEXT = MethodDesc.of(Iterator.class, "next", Object.class);
+
     public static final FieldDesc EVALUATED_PARAMS_STAGE = FieldDesc.of(EvaluatedParams.class, "stage");
 
     public static final FieldDesc RESULTS_TRUE = FieldDesc.of(Results.class, "TRUE");
@@ -0,0 +1,242 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+public class CompiledTemplateGeneratorTest {
+
+    static final String ORDER_TEMPLATE = "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Order order}"
+            + "Order {order.id}:{#for line in order.lines}\n"
+            + "{line_count}. {line.name} x {line.amount}"
+            + "{#if line.discounted} (discounted){#else if line.gift} (gift){#else} (full price){/if}"
+            + "{#else}\nNo lines{/for}\n"
+            + "{#each order.lines}{it.name}{#if it_hasNext},{/if}{/each}\n"
+            + "{order.note}";
+
+    static final String SIMPLE_TEMPLATE = "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Order order}"
+            + "Order {order.id}:{#for line in order.lines}\n"
+            + "- {line.name} x {line.amount}"
+            + "{#if line.discounted} (discounted){#else if line.gift} (gift){#else} (full price){/if}"
+            + "{#else}\nNo lines{/for}\n"
+            + "{#each order.lines}{it.name}{/each}\n"
+            + "{order.note}";
+
+    @Test
+    public void testCompiledTemplate() throws Exception {
+        String className = generate("simple", SIMPLE_TEMPLATE);
+        assertNotNull(className);
+
+        RecordingCompiledTemplate compiled = new RecordingCompiledTemplate(load(className));
+        Engine engine = engine().addCompiledTemplate("simple", compiled).build();
+        Template template = engine.parse(SIMPLE_TEMPLATE, null, "simple");
+        Template interpreted = engine().build().parse(SIMPLE_TEMPLATE, null, "simple");
+
+        Order order = new Order("1", "<b>Thanks!</b>", new Line("Apple", 2, true, false), new Line("Pear", 1, false, true),
+                new Line("Plum", 10, false, false));
+        String expected = "Order [1]:\n"
+                + "- [Apple] x [2] (discounted)\n"
+                + "- [Pear] x [1] (gift)\n"
+                + "- [Plum] x [10] (full price)\n"
+                + "[Apple][Pear][Plum]\n"
+                + "[<b>Thanks!</b>]";
+        assertEquals(expected, interpreted.data("order", order).render());
+        assertEquals(expected, template.data("order", order).render());
+        assertEquals(List.of(true), compiled.results);
+
+        // Empty iterable and null value
+        order = new Order("2", null);
+        expected = "Order [2]:\nNo lines\n\n";
+        assertEquals(expected, interpreted.data("order", order).render());
+        assertEquals(expected, template.data("order", order).render());
+        assertEquals(List.of(true, true), compiled.results);
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        String className = generate("fallback", SIMPLE_TEMPLATE);
+        assertNotNull(className);
+
+        RecordingCompiledTemplate compiled = new RecordingCompiledTemplate(load(className));
+        Engine engine = engine().addCompiledTemplate("fallback", compiled).build();
+        Template template = engine.parse(SIMPLE_TEMPLATE, null, "fallback");
+
+        // A map does not match the declared type
+        Map<String, Object> order = Map.of("id", "3", "lines", List.of(), "note", "Map");
+        assertEquals("Order [3]:\nNo lines\n\n[Map]", template.data("order", order).render());
+        assertEquals(List.of(false), compiled.results);
+
+        // Asynchronous values are only rendered by the parsed template
+        AsyncOrder asyncOrder = new AsyncOrder("4", "Async");
+        assertEquals("Order [4]:\nNo lines\n\n[Async]", template.data("order", asyncOrder).render());
+        assertEquals(List.of(false, false), compiled.results);
+    }
+
+    @Test
+    public void testModifiedTemplate() throws Exception {
+        String className = generate("modified", SIMPLE_TEMPLATE);
+        assertNotNull(className);
+
+        RecordingCompiledTemplate compiled = new RecordingCompiledTemplate(load(className));
+        Engine engine = engine().addCompiledTemplate("modified", compiled).build();
+        Template template = engine.parse(SIMPLE_TEMPLATE + "!", null, "modified");
+        assertEquals("Order [5]:\nNo lines\n\n[Foo]!", template.data("order", new Order("5", "Foo")).render());
+        // The fingerprint does not match
+        assertTrue(compiled.results.isEmpty());
+    }
+
+    @Test
+    public void testNotCompilable() throws Exception {
+        // Iteration metadata
+        assertNull(generate("metadata", ORDER_TEMPLATE));
+        // Undeclared parameter
+        assertNull(generate("undeclared", "{foo.name}"));
+        // Virtual method
+        assertNull(generate("virtual", "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Order order}"
+                + "{order.id.toUpperCase()}"));
+        // Unsupported section
+        assertNull(generate("let", "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Order order}"
+                + "{#let id=order.id}{id}{/let}"));
+        // Composite condition
+        assertNull(generate("composite", "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Order order}"
+                + "{#if order.id && order.note}{order.id}{/if}"));
+        // Excluded name
+        assertNull(generate("excluded", "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Order order}"
+                + "{order.excluded}"));
+    }
+
+    private static String generate(String id, String content) throws Exception {
+        Index index = SimpleGeneratorTest.index(CompiledTemplateGeneratorTest.class, Order.class, Line.class,
+                AsyncOrder.class);
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(index,
+                ClassOutput.fileWriter(new File("target/test-classes/").toPath()), "excluded"::equals);
+        Template template = engine().build().parse(content, null, id);
+        return generator.generate(id, template,
+                Map.of("order", Type.create(DotName.createSimple(Order.class), Kind.CLASS)));
+    }
+
+    private static CompiledTemplate load(String className) throws Exception {
+        return (CompiledTemplate) CompiledTemplateGeneratorTest.class.getClassLoader().loadClass(className)
+                .getDeclaredConstructor().newInstance();
+    }
+
+    private static EngineBuilder engine() {
+        return Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addResultMapper((result, expression) -> "[" + result + "]");
+    }
+
+    static class RecordingCompiledTemplate implements CompiledTemplate {
+
+        final CompiledTemplate delegate;
+        final List<Boolean> results = new ArrayList<>();
+
+        RecordingCompiledTemplate(CompiledTemplate delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int getFingerprint() {
+            return delegate.getFingerprint();
+        }
+
+        @Override
+        public boolean render(Object data, Output output) {
+            boolean result = delegate.render(data, output);
+            results.add(result);
+            return result;
+        }
+
+    }
+
+    public static class Order {
+
+        private final String id;
+        private final List<Line> lines;
+        public final String note;
+
+        public Order(String id, String note, Line... lines) {
+            this.id = id;
+            this.note = note;
+            this.lines = List.of(lines);
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public String excluded() {
+            return "excluded";
+        }
+
+    }
+
+    public static class AsyncOrder extends Order {
+
+        public AsyncOrder(String id, String note) {
+            super(id, note);
+        }
+
+        public CompletionStage<String> id() {
+            return CompletableFuture.completedFuture(getId());
+        }
+
+    }
+
+    public static class Line {
+
+        private final String name;
+        private final int amount;
+        private final boolean discounted;
+        private final boolean gift;
+
+        public Line(String name, int amount, boolean discounted, boolean gift) {
+            this.name = name;
+            this.amount = amount;
+            this.discounted = discounted;
+            this.gift = gift;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+
+        public boolean isDiscounted() {
+            return discounted;
+        }
+
+        public boolean isGift() {
+            return gift;
+        }
+
+    }
+
+}
@@ -24,6 +24,15 @@ public class ResteasyReactiveConfig {
      */
     private int outputBufferSize = 8192;
 
+    /**
+     * The maximum size of the output stream response buffer when it is sized from the previous responses of the
+     * endpoint, or 0 if the response buffer is not sized adaptively.
+     * <p>
+     * Responses are only chunked when they are larger than both the {@link #outputBufferSize} and the size predicted for
+     * the endpoint.
+     */
+    private int maxAdaptiveOutputBufferSize;
+
     /**
      * By default, we assume a default produced media type of "text/plain"
      * for String endpoint return types. If this is disabled, the default
@@ -45,9 +54,15 @@ public ResteasyReactiveConfig() {
 
     public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int outputBufferSize, boolean singleDefaultProduces,
             boolean defaultProduces) {
+        this(inputBufferSize, minChunkSize, outputBufferSize, 0, singleDefaultProduces, defaultProduces);
+    }
+
+    public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int outputBufferSize,
+            int maxAdaptiveOutputBufferSize, boolean singleDefaultProduces, boolean defaultProduces) {
         this.inputBufferSize = inputBufferSize;
         this.minChunkSize = minChunkSize;
         this.outputBufferSize = outputBufferSize;
+        this.maxAdaptiveOutputBufferSize = maxAdaptiveOutputBufferSize;
         this.singleDefaultProduces = singleDefaultProduces;
         this.defaultProduces = defaultProduces;
     }
@@ -76,6 +91,14 @@ public void setOutputBufferSize(int outputBufferSize) {
         this.outputBufferSize = outputBufferSize;
     }
 
+    public int getMaxAdaptiveOutputBufferSize() {
+        return maxAdaptiveOutputBufferSize;
+    }
+
+    public void setMaxAdaptiveOutputBufferSize(int maxAdaptiveOutputBufferSize) {
+        this.maxAdaptiveOutputBufferSize = maxAdaptiveOutputBufferSize;
+    }
+
     public boolean isSingleDefaultProduces() {
         return singleDefaultProduces;
     }
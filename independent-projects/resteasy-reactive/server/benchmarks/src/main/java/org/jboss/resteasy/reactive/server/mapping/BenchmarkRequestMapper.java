@@ -0,0 +1,119 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the stem trie of {@link RequestMapper} with the previous {@link PathMatcher} based lookup, for a
+ * deployment made of a few resource classes that each declare many endpoints.
+ * <p>
+ * The class level mapper resolves the resource class, the method level mapper of that class then resolves the
+ * endpoint, which is what {@code RestInitialHandler} and {@code ClassRoutingHandler} do for every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkRequestMapper {
+
+    @Param({ "4" })
+    public int resourceClasses;
+
+    @Param({ "150" })
+    public int endpointsPerClass;
+
+    private RequestMapper<Integer> classMapper;
+    private RequestMapper<String>[] methodMappers;
+    private PathMatcherRequestMapper<Integer> legacyClassMapper;
+    private PathMatcherRequestMapper<String>[] legacyMethodMappers;
+    private String[] paths;
+    private int next;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<Integer>> classPaths = new ArrayList<>();
+        methodMappers = new RequestMapper[resourceClasses];
+        legacyMethodMappers = new PathMatcherRequestMapper[resourceClasses];
+        paths = new String[resourceClasses * endpointsPerClass];
+        for (int c = 0; c < resourceClasses; c++) {
+            ArrayList<RequestMapper.RequestPath<String>> methodPaths = new ArrayList<>();
+            for (int m = 0; m < endpointsPerClass; m++) {
+                String template;
+                String path;
+                switch (m % 3) {
+                    case 0:
+                        template = "/entity" + m;
+                        path = template;
+                        break;
+                    case 1:
+                        template = "/entity" + m + "/{id}";
+                        path = "/entity" + m + "/42";
+                        break;
+                    default:
+                        template = "/entity" + m + "/{id}/children/{child}";
+                        path = "/entity" + m + "/42/children/7";
+                        break;
+                }
+                methodPaths.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+                paths[c * endpointsPerClass + m] = "/api/v1/resource" + c + path;
+            }
+            methodMappers[c] = new RequestMapper<>(methodPaths);
+            legacyMethodMappers[c] = new PathMatcherRequestMapper<>(methodMappers[c]);
+            String classTemplate = "/api/v1/resource" + c;
+            classPaths.add(new RequestMapper.RequestPath<>(true, new URITemplate(classTemplate, true), c));
+        }
+        classMapper = new RequestMapper<>(classPaths);
+        legacyClassMapper = new PathMatcherRequestMapper<>(classMapper);
+    }
+
+    private String nextPath() {
+        String path = paths[next];
+        next = (next + 1) % paths.length;
+        return path;
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> stemTrie() {
+        RequestMapper.RequestMatch<Integer> classMatch = classMapper.map(nextPath());
+        return methodMappers[classMatch.value].map(classMatch.remaining);
+    }
+
+    /**
+     * Like {@link #stemTrie()}, but also reads every path parameter as if the endpoint declared all of them
+     */
+    @Benchmark
+    public void stemTrieReadingParams(Blackhole blackhole) {
+        RequestMapper.RequestMatch<String> match = stemTrie();
+        for (int i = 0; i < match.getPathParamCount(); i++) {
+            blackhole.consume(match.getPathParamValue(i));
+        }
+    }
+
+    @Benchmark
+    public PathMatcherRequestMapper.LegacyRequestMatch<String> pathMatcher() {
+        PathMatcherRequestMapper.LegacyRequestMatch<Integer> classMatch = legacyClassMapper.map(nextPath());
+        return legacyMethodMappers[classMatch.value].map(classMatch.remaining);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc", BenchmarkRequestMapper.class.getSimpleName() });
+    }
+
+}
@@ -0,0 +1,125 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * The stem lookup used by {@link RequestMapper} before it switched to a {@link StemTrie}, kept as a baseline for
+ * {@link BenchmarkRequestMapper}. Only {@link #map(String)} is reproduced, including the eager extraction of the path
+ * parameter values.
+ */
+class PathMatcherRequestMapper<T> {
+
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+
+    private final PathMatcher<ArrayList<RequestMapper.RequestPath<T>>> requestPaths;
+    private final int maxParams;
+
+    PathMatcherRequestMapper(RequestMapper<T> mapper) {
+        this.requestPaths = mapper.getRequestPaths();
+        this.maxParams = mapper.maxParams;
+    }
+
+    LegacyRequestMatch<T> map(String path) {
+        List<PathMatcher.PathMatch<ArrayList<RequestMapper.RequestPath<T>>>> matches = requestPaths.match(path);
+        for (int i = 0; i < matches.size(); i++) {
+            var result = mapFromPathMatcher(path, matches.get(i));
+            if (result != null) {
+                return result;
+            }
+        }
+        return mapFromPathMatcher(path, requestPaths.defaultMatch(path));
+    }
+
+    private LegacyRequestMatch<T> mapFromPathMatcher(String path,
+            PathMatcher.PathMatch<ArrayList<RequestMapper.RequestPath<T>>> initialMatches) {
+        var value = initialMatches.getValue();
+        if (value == null) {
+            return null;
+        }
+        int pathLength = path.length();
+        for (int index = 0; index < value.size(); index++) {
+            RequestMapper.RequestPath<T> potentialMatch = value.get(index);
+            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            int paramCount = 0;
+            boolean matched = true;
+            boolean prefixAllowed = potentialMatch.prefixTemplate;
+            int matchPos = initialMatches.getMatched().length();
+            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                    boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
+                    Matcher matcher = segment.pattern.matcher(
+                            endSlash ? path.substring(0, path.length() - 1) : path);
+                    matched = matcher.find(matchPos);
+                    if (!matched || matcher.start() != matchPos) {
+                        break;
+                    }
+                    matchPos = matcher.end();
+                    if (endSlash) {
+                        matchPos++;
+                    }
+                    for (String group : segment.groups) {
+                        params[paramCount++] = matcher.group(group);
+                    }
+                } else if (segment.type == URITemplate.Type.LITERAL) {
+                    if (matchPos + segment.literalText.length() > pathLength) {
+                        matched = false;
+                        break;
+                    }
+                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
+                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
+                            matched = false;
+                            break;
+                        }
+                    }
+                    if (!matched) {
+                        break;
+                    }
+                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (matchPos == pathLength) {
+                        matched = false;
+                        break;
+                    }
+                    int start = matchPos;
+                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                        matchPos++;
+                    }
+                    params[paramCount++] = path.substring(start, matchPos);
+                }
+            }
+            if (!matched) {
+                continue;
+            }
+            boolean fullMatch = matchPos == pathLength;
+            boolean doPrefixMatch = false;
+            if (!fullMatch) {
+                if (matchPos == 1) {
+                    doPrefixMatch = prefixAllowed || pathLength == 1;
+                } else if (path.charAt(matchPos) == '/') {
+                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1;
+                }
+            }
+            if (fullMatch || doPrefixMatch) {
+                String remaining = fullMatch ? "" : (matchPos == 1 ? path : path.substring(matchPos));
+                return new LegacyRequestMatch<>(potentialMatch.template, potentialMatch.value, params, remaining);
+            }
+        }
+        return null;
+    }
+
+    static class LegacyRequestMatch<T> {
+        final URITemplate template;
+        final T value;
+        final String[] pathParamValues;
+        final String remaining;
+
+        LegacyRequestMatch(URITemplate template, T value, String[] pathParamValues, String remaining) {
+            this.template = template;
+            this.value = value;
+            this.pathParamValues = pathParamValues;
+            this.remaining = remaining;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Predicts the size of the responses of an endpoint from the sizes of its previous responses, so that the response
+ * buffer can be allocated once with the right capacity.
+ * <p>
+ * The sizes are recorded in a histogram of buckets growing by a quarter of a power of two, so that a prediction is at
+ * most 25% larger than the response it was computed from. Every {@link #WINDOW} responses, the prediction is moved to the
+ * upper bound of the bucket holding the {@link #PERCENTILE} of the recorded sizes, and the counts are halved so that old
+ * responses weigh less and less.
+ * <p>
+ * The histogram is updated without locking: concurrent updates can make a window slightly off, which only affects the
+ * accuracy of the prediction.
+ */
+public final class ResponseSizePredictor {
+
+    static final int WINDOW = 64;
+    static final double PERCENTILE = 0.9;
+
+    private static final int MIN_SIZE = 64;
+    private static final int[] BOUNDS;
+
+    static {
+        int[] bounds = new int[4 * (30 - 6) + 1];
+        int i = 0;
+        for (int exponent = 6; exponent < 30; exponent++) {
+            for (int quarter = 0; quarter < 4; quarter++) {
+                bounds[i++] = (1 << exponent) + quarter * (1 << (exponent - 2));
+            }
+        }
+        bounds[i] = Integer.MAX_VALUE;
+        BOUNDS = bounds;
+    }
+
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(BOUNDS.length);
+    private final AtomicLong samples = new AtomicLong();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder underestimated = new LongAdder();
+    private volatile int predictedSize;
+
+    /**
+     * @return the predicted size of the next response, or 0 if no response has been recorded yet
+     */
+    public int predictedSize() {
+        return predictedSize;
+    }
+
+    /**
+     * Records the size of a response.
+     *
+     * @param size the size of the response, in bytes
+     * @param expected the size it was expected to have when its buffer was allocated
+     */
+    public void record(long size, int expected) {
+        bytes.add(size);
+        if (size > expected) {
+            underestimated.increment();
+        }
+        counts.incrementAndGet(bucket(size));
+        long sample = samples.incrementAndGet();
+        if (sample == 1 || sample % WINDOW == 0) {
+            predictedSize = BOUNDS[percentileBucket()];
+        }
+    }
+
+    /**
+     * @return the number of recorded responses
+     */
+    public long responses() {
+        return samples.get();
+    }
+
+    /**
+     * @return the total size of the recorded responses, in bytes
+     */
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * @return the number of recorded responses that were larger than the size expected for them
+     */
+    public long underestimated() {
+        return underestimated.sum();
+    }
+
+    private int percentileBucket() {
+        int total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        int threshold = (int) Math.ceil(total * PERCENTILE);
+        int cumulated = 0;
+        int result = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            int count = counts.get(i);
+            if (cumulated < threshold) {
+                cumulated += count;
+                result = i;
+            }
+            // decay, so that the prediction follows the most recent responses
+            counts.set(i, count >> 1);
+        }
+        return result;
+    }
+
+    static int bucket(long size) {
+        if (size <= MIN_SIZE) {
+            return 0;
+        }
+        if (size >= Integer.MAX_VALUE) {
+            return BOUNDS.length - 1;
+        }
+        int index = Arrays.binarySearch(BOUNDS, (int) size);
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -95,13 +95,22 @@
      * that you can have equivalent templates with different names. This allows the
      * mapper to ignore the names, as everything is resolved in terms of indexes.
      * <p>
-     * If there is only a single path param then it is stored directly into the field,
-     * while multiple params this will be an array. This optimisation allows us to avoid
-     * allocating anything in the common case that there is zero or one path param.
+     * The values are not copied out of the request path when matching. They are read from
+     * the class level match (indexes below {@link #methodPathParamOffset}) and the method
+     * level match, which only keep offsets into the matched path, so a value is only
+     * extracted and decoded when it is actually read.
      * <p>
-     * Note: those are decoded.
+     * Values set explicitly through {@link #setPathParamValue(int, String)} take precedence.
+     * If there is only a single one then it is stored directly into the field, while multiple
+     * ones will be an array.
+     * <p>
+     * Note: those are not decoded.
      */
     private Object pathParamValues;
+    private int maxPathParams;
+    private RequestMapper.RequestMatch<?> classPathParamMatch;
+    private RequestMapper.RequestMatch<?> methodPathParamMatch;
+    private int methodPathParamOffset;
 
     private UriInfo uriInfo;
     /**
@@ -205,6 +214,7 @@ public void restart(RuntimeResource target, boolean setLocatorTarget) {
         parameters = target.getParameterTypes().length == 0 ? EMPTY_ARRAY : new Object[target.getParameterTypes().length];
         if (setLocatorTarget) {
             setProperty(PreviousResource.PROPERTY_KEY, new PreviousResource(this.target, pathParamValues,
+                    classPathParamMatch, methodPathParamMatch, methodPathParamOffset,
                     (PreviousResource) getProperty(PreviousResource.PROPERTY_KEY)));
         }
         this.target = target;
@@ -218,13 +228,7 @@ public void setupInitialMatchAndRestart(RequestMapper.RequestMatch<RestInitialHa
         restart(initialMatch.value.handlers);
         setMaxPathParams(initialMatch.value.maxPathParams);
         setRemaining(initialMatch.remaining);
-        for (int i = 0; i < initialMatch.pathParamValues.length; ++i) {
-            String pathParamValue = initialMatch.pathParamValues[i];
-            if (pathParamValue == null) {
-                break;
-            }
-            setPathParamValue(i, initialMatch.pathParamValues[i]);
-        }
+        setPathParamValues(initialMatch, 0);
     }
 
     /**
@@ -233,20 +237,14 @@ public void setupInitialMatchAndRestart(RequestMapper.RequestMatch<RestInitialHa
      * @return true if a restart occurred
      */
     public boolean restartWithNextInitialMatch() {
-        initialMatch = new RequestMapper<>(deployment.getClassMappers()).continueMatching(getPathWithoutPrefix(), initialMatch);
+        initialMatch = deployment.getClassMapper().continueMatching(getPathWithoutPrefix(), initialMatch);
         if (initialMatch == null) {
             return false;
         }
         restart(initialMatch.value.handlers);
         setMaxPathParams(initialMatch.value.maxPathParams);
         setRemaining(initialMatch.remaining);
-        for (int i = 0; i < initialMatch.pathParamValues.length; ++i) {
-            String pathParamValue = initialMatch.pathParamValues[i];
-            if (pathParamValue == null) {
-                break;
-            }
-            setPathParamValue(i, initialMatch.pathParamValues[i]);
-        }
+        setPathParamValues(initialMatch, 0);
         return true;
     }
 
@@ -290,38 +288,74 @@ public Object[] getParameters() {
         return parameters;
     }
 
+    /**
+     * Clears all path parameter values, and sets the number of parameters the next matches can provide.
+     */
     public void setMaxPathParams(int maxPathParams) {
-        if (maxPathParams > 1) {
-            pathParamValues = new String[maxPathParams];
-        } else {
-            pathParamValues = null;
-        }
+        this.maxPathParams = maxPathParams;
+        pathParamValues = null;
+        classPathParamMatch = null;
+        methodPathParamMatch = null;
+        methodPathParamOffset = 0;
     }
 
     public String getPathParam(int index, boolean encoded) {
-        return doGetPathParam(index, pathParamValues, encoded);
+        String pathParam = doGetPathParam(index, pathParamValues, classPathParamMatch, methodPathParamMatch,
+                methodPathParamOffset);
+        return encoded || pathParam == null ? pathParam : Encode.decodePath(pathParam);
     }
 
-    private String doGetPathParam(int index, Object pathParamValues, boolean encoded) {
+    private static String doGetPathParam(int index, Object pathParamValues, RequestMapper.RequestMatch<?> classMatch,
+            RequestMapper.RequestMatch<?> methodMatch, int methodOffset) {
         if (pathParamValues instanceof String[]) {
             String pathParam = ((String[]) pathParamValues)[index];
-            return encoded ? pathParam : Encode.decodePath(pathParam);
+            if (pathParam != null) {
+                return pathParam;
+            }
+        } else if (pathParamValues != null && index == 0) {
+            return (String) pathParamValues;
         }
-        if (index > 1) {
-            throw new IndexOutOfBoundsException();
+        if (methodMatch != null && index >= methodOffset) {
+            return methodMatch.getPathParamValue(index - methodOffset);
         }
-        String pathParam = (String) pathParamValues;
-        return encoded ? pathParam : Encode.decodePath(pathParam);
+        if (classMatch != null) {
+            return classMatch.getPathParamValue(index);
+        }
+        return null;
+    }
+
+    /**
+     * Makes the parameters of a match available, starting at the given index. The values are only extracted from the
+     * matched path when they are read.
+     *
+     * @param match the match, from the class level mapper when {@code offset} is zero and from a method level mapper
+     *        otherwise
+     * @param offset the index of the first parameter of the match
+     */
+    public ResteasyReactiveRequestContext setPathParamValues(RequestMapper.RequestMatch<?> match, int offset) {
+        if (offset == 0) {
+            classPathParamMatch = match;
+            methodPathParamMatch = null;
+            methodPathParamOffset = 0;
+        } else {
+            methodPathParamMatch = match;
+            methodPathParamOffset = offset;
+        }
+        return this;
     }
 
     public ResteasyReactiveRequestContext setPathParamValue(int index, String value) {
         if (pathParamValues instanceof String[]) {
             ((String[]) pathParamValues)[index] = value;
+        } else if (index == 0 && maxPathParams <= 1) {
+            pathParamValues = value;
         } else {
-            if (index > 1) {
-                throw new IndexOutOfBoundsException();
+            String[] values = new String[Math.max(maxPathParams, index + 1)];
+            if (pathParamValues != null) {
+                values[0] = (String) pathParamValues;
             }
-            pathParamValues = value;
+            values[index] = value;
+            pathParamValues = values;
         }
         return this;
     }
@@ -1238,26 +1272,17 @@ public MultivaluedMap<String, String> getAllPathParameters(boolean encoded) {
             return pathParams;
         }
 
-        PreviousResource previousResource = null;
-        Object paramValues = this.pathParamValues;
-        do {
-            for (Map.Entry<String, Integer> pathParam : target.getPathParameterIndexes().entrySet()) {
-                pathParams.add(pathParam.getKey(), doGetPathParam(pathParam.getValue(), paramValues, encoded));
-            }
-
-            if (previousResource != null) {
-                previousResource = previousResource.prev;
-            } else {
-                previousResource = (PreviousResource) getProperty(PreviousResource.PROPERTY_KEY);
-            }
-            if (previousResource == null) {
-                break;
+        for (Map.Entry<String, Integer> pathParam : target.getPathParameterIndexes().entrySet()) {
+            pathParams.add(pathParam.getKey(), getPathParam(pathParam.getValue(), encoded));
+        }
+        PreviousResource previousResource = (PreviousResource) getProperty(PreviousResource.PROPERTY_KEY);
+        while (previousResource != null) {
+            for (Map.Entry<String, Integer> pathParam : previousResource.locatorTarget.getPathParameterIndexes()
+                    .entrySet()) {
+                pathParams.add(pathParam.getKey(), previousResource.getPathParam(pathParam.getValue(), encoded));
             }
-
-            target = previousResource.locatorTarget;
-            paramValues = previousResource.locatorPathParamValues;
-
-        } while (true);
+            previousResource = previousResource.prev;
+        }
 
         return pathParams;
     }
@@ -1282,13 +1307,13 @@ private String getResourceLocatorPathParam(String name, PreviousResource previou
             for (URITemplate.TemplateComponent component : classPath.components) {
                 if (component.name != null) {
                     if (component.name.equals(name)) {
-                        return doGetPathParam(index, previousResource.locatorPathParamValues, encoded);
+                        return previousResource.getPathParam(index, encoded);
                     }
                     index++;
                 } else if (component.names != null) {
                     for (String nm : component.names) {
                         if (nm.equals(name)) {
-                            return doGetPathParam(index, previousResource.locatorPathParamValues, encoded);
+                            return previousResource.getPathParam(index, encoded);
                         }
                     }
                     index++;
@@ -1298,13 +1323,13 @@ private String getResourceLocatorPathParam(String name, PreviousResource previou
         for (URITemplate.TemplateComponent component : previousResource.locatorTarget.getPath().components) {
             if (component.name != null) {
                 if (component.name.equals(name)) {
-                    return doGetPathParam(index, previousResource.locatorPathParamValues, encoded);
+                    return previousResource.getPathParam(index, encoded);
                 }
                 index++;
             } else if (component.names != null) {
                 for (String nm : component.names) {
                     if (nm.equals(name)) {
-                        return doGetPathParam(index, previousResource.locatorPathParamValues, encoded);
+                        return previousResource.getPathParam(index, encoded);
                     }
                 }
                 index++;
@@ -1320,12 +1345,24 @@ static class PreviousResource {
         private static final String PROPERTY_KEY = AbstractResteasyReactiveContext.CUSTOM_RR_PROPERTIES_PREFIX
                 + "PreviousResource";
 
-        public PreviousResource(RuntimeResource locatorTarget, Object locatorPathParamValues, PreviousResource prev) {
+        public PreviousResource(RuntimeResource locatorTarget, Object locatorPathParamValues,
+                RequestMapper.RequestMatch<?> locatorClassPathParamMatch,
+                RequestMapper.RequestMatch<?> locatorMethodPathParamMatch, int locatorMethodPathParamOffset,
+                PreviousResource prev) {
             this.locatorTarget = locatorTarget;
             this.locatorPathParamValues = locatorPathParamValues;
+            this.locatorClassPathParamMatch = locatorClassPathParamMatch;
+            this.locatorMethodPathParamMatch = locatorMethodPathParamMatch;
+            this.locatorMethodPathParamOffset = locatorMethodPathParamOffset;
             this.prev = prev;
         }
 
+        String getPathParam(int index, boolean encoded) {
+            String pathParam = doGetPathParam(index, locatorPathParamValues, locatorClassPathParamMatch,
+                    locatorMethodPathParamMatch, locatorMethodPathParamOffset);
+            return encoded || pathParam == null ? pathParam : Encode.decodePath(pathParam);
+        }
+
         /**
          * When a subresource has been located and the processing has been restarted (and thus target point to the new
          * subresource),
@@ -1339,6 +1376,9 @@ public PreviousResource(RuntimeResource locatorTarget, Object locatorPathParamVa
          * this field contains the pathParamValues of the target that resulted in the offloading to the new target
          */
         private final Object locatorPathParamValues;
+        private final RequestMapper.RequestMatch<?> locatorClassPathParamMatch;
+        private final RequestMapper.RequestMatch<?> locatorMethodPathParamMatch;
+        private final int locatorMethodPathParamOffset;
 
         private final PreviousResource prev;
 
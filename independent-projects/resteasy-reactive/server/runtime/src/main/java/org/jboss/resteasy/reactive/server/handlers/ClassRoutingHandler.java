@@ -158,13 +158,7 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
 
         requestContext.restart(target.value);
         requestContext.setRemaining(target.remaining);
-        for (int i = 0; i < target.pathParamValues.length; ++i) {
-            String pathParamValue = target.pathParamValues[i];
-            if (pathParamValue == null) {
-                break;
-            }
-            requestContext.setPathParamValue(i + parameterOffset, pathParamValue);
-        }
+        requestContext.setPathParamValues(target, parameterOffset);
     }
 
     /**
@@ -121,14 +121,8 @@ public void onComplete(Throwable throwable) {
         requestContext.setEndpointInstance(locator);
         requestContext.setResult(null);
         requestContext.restart(res.value, true);
-        requestContext.setMaxPathParams(res.pathParamValues.length);
-        for (int i = 0; i < res.pathParamValues.length; ++i) {
-            String pathParamValue = res.pathParamValues[i];
-            if (pathParamValue == null) {
-                break;
-            }
-            requestContext.setPathParamValue(i, pathParamValue);
-        }
+        requestContext.setMaxPathParams(res.getPathParamCount());
+        requestContext.setPathParamValues(res, 0);
 
     }
 
@@ -24,7 +24,7 @@ public class RestInitialHandler implements ServerRestHandler {
     final RequestContextFactory requestContextFactory;
 
     public RestInitialHandler(Deployment deployment) {
-        this.mappers = new RequestMapper<>(deployment.getClassMappers());
+        this.mappers = deployment.getClassMapper();
         this.deployment = deployment;
         this.preMappingHandlers = deployment.getPreMatchHandlers();
         if (preMappingHandlers.isEmpty()) {
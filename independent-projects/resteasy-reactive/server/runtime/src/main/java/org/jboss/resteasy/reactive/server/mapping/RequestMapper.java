@@ -1,27 +1,41 @@
 package org.jboss.resteasy.reactive.server.mapping;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 
 public class RequestMapper<T> {
 
-    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final StemTrie<ArrayList<RequestPath<T>>> stems;
+    private final ArrayList<RequestPath<T>> defaultPaths;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
-        pathMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
+        for (RequestPath<T> i : templates) {
+            max = Math.max(max, i.template.countPathParamNames());
+        }
+        Map<String, ArrayList<RequestPath<T>>> aggregates = aggregate(templates);
+        // the root stem is always tried last, see https://github.com/quarkusio/quarkus/issues/30667
+        defaultPaths = aggregates.remove("/");
+        for (String stem : aggregates.keySet()) {
+            if (stem.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
+            } else if (stem.endsWith("/")) {
+                throw new RuntimeException("Prefix path cannot end with /");
+            }
+        }
+        maxParams = max;
+        stems = StemTrie.build(aggregates);
+    }
+
+    private static <T> Map<String, ArrayList<RequestPath<T>>> aggregate(ArrayList<RequestPath<T>> templates) {
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
         for (RequestPath<T> i : templates) {
             ArrayList<RequestPath<T>> paths = aggregates.get(i.template.stem);
@@ -29,17 +43,11 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
                 aggregates.put(i.template.stem, paths = new ArrayList<>());
             }
             paths.add(i);
-            max = Math.max(max, i.template.countPathParamNames());
         }
-        aggregates.forEach(new BiConsumer<>() {
-            @Override
-            public void accept(String stem, ArrayList<RequestPath<T>> list) {
-                Collections.sort(list);
-                pathMatcherBuilder.addPrefixPath(stem, list);
-            }
-        });
-        maxParams = max;
-        requestPaths = pathMatcherBuilder.build();
+        for (ArrayList<RequestPath<T>> list : aggregates.values()) {
+            Collections.sort(list);
+        }
+        return aggregates;
     }
 
     /**
@@ -49,16 +57,11 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        List<PathMatcher.PathMatch<ArrayList<RequestPath<T>>>> matches = requestPaths.match(path);
-        for (int i = 0; i < matches.size(); i++) {
-            var result = mapFromPathMatcher(path, matches.get(i), 0);
-            if (result != null) {
-                return result;
-            }
+        RequestMatch<T> result = mapFromStems(path, stems.root, null);
+        if (result != null) {
+            return result;
         }
-
-        // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromCandidates(path, defaultPaths, 1, 0);
     }
 
     /**
@@ -71,39 +74,52 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
         if (lastMatch == null) {
             return null;
         }
+        RequestMatch<T> result = mapFromStems(path, stems.root, lastMatch);
+        if (result != null) {
+            return result;
+        }
+        return continueFromCandidates(path, defaultPaths, 1, lastMatch);
+    }
 
-        var initialMatchesList = requestPaths.match(path);
-        for (int i = 0; i < initialMatchesList.size(); i++) {
-            var result = mapFromPathMatcher(path, initialMatchesList.get(i), 0);
+    /**
+     * Walks the stem trie depth first, so that candidates of longer stems are always tried before candidates of the
+     * shorter stems that prefix them.
+     */
+    private RequestMatch<T> mapFromStems(String path, StemTrie.Node<ArrayList<RequestPath<T>>> node,
+            RequestMatch<T> lastMatch) {
+        StemTrie.Node<ArrayList<RequestPath<T>>> next = node.next(path);
+        if (next != null) {
+            RequestMatch<T> result = mapFromStems(path, next, lastMatch);
             if (result != null) {
-                int idx = nextMatchStartingIndex(initialMatchesList.get(i), lastMatch);
-                RequestMatch<T> match = mapFromPathMatcher(path, initialMatchesList.get(i), idx);
-                if (match != null) {
-                    return match;
-                }
+                return result;
             }
         }
+        if (node.value == null) {
+            return null;
+        }
+        if (lastMatch == null) {
+            return mapFromCandidates(path, node.value, node.end, 0);
+        }
+        return continueFromCandidates(path, node.value, node.end, lastMatch);
+    }
 
-        // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        var initialMatches = requestPaths.defaultMatch(path);
-        var result = mapFromPathMatcher(path, initialMatches, 0);
-        if (result != null) {
-            int idx = nextMatchStartingIndex(initialMatches, lastMatch);
-            return mapFromPathMatcher(path, initialMatches, idx);
+    private RequestMatch<T> continueFromCandidates(String path, ArrayList<RequestPath<T>> candidates, int stemLength,
+            RequestMatch<T> lastMatch) {
+        if (mapFromCandidates(path, candidates, stemLength, 0) == null) {
+            return null;
         }
-        return null;
+        return mapFromCandidates(path, candidates, stemLength, nextMatchStartingIndex(candidates, lastMatch));
     }
 
-    private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
-            RequestMatch<T> current) {
-        if (initialMatches.getValue() == null || initialMatches.getValue().isEmpty()) {
+    private int nextMatchStartingIndex(ArrayList<RequestPath<T>> candidates, RequestMatch<T> current) {
+        if (candidates == null || candidates.isEmpty()) {
             return -1;
         }
-        for (int i = 0; i < initialMatches.getValue().size(); i++) {
-            if (initialMatches.getValue().get(i).template == current.template) {
+        for (int i = 0; i < candidates.size(); i++) {
+            if (candidates.get(i).template == current.template) {
                 i++;
 
-                if (i < initialMatches.getValue().size()) {
+                if (i < candidates.size()) {
                     return i;
                 }
                 return -1;
@@ -113,26 +129,32 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
+    /**
+     * Tries the candidates registered for a stem in order.
+     * <p>
+     * Parameter values are tracked as offsets into the path, and are only turned into strings when they are read from
+     * the resulting {@link RequestMatch}.
+     */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
+    private RequestMatch<T> mapFromCandidates(String path, ArrayList<RequestPath<T>> candidates, int stemLength,
             int startIdx) {
-        var value = initialMatches.getValue();
-        if (value == null || startIdx < 0) {
+        if (candidates == null || startIdx < 0) {
             return null;
         }
         int pathLength = path.length();
-        for (int index = startIdx; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int[] offsets = (maxParams > 0) ? new int[maxParams << 1] : EMPTY_INT_ARRAY;
+        for (int index = startIdx; index < candidates.size(); index++) {
+            RequestPath<T> potentialMatch = candidates.get(index);
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
+            int matchPos = stemLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
                     // exclude any path end slash when matching a subdir, but include it in the matched length
                     boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
+                    // offsets into the trimmed path are the same as offsets into the full path
                     Matcher matcher = segment.pattern.matcher(
                             endSlash ? path.substring(0, path.length() - 1) : path);
                     matched = matcher.find(matchPos);
@@ -144,23 +166,17 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                         matchPos++;
                     }
                     for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
+                        offsets[paramCount << 1] = matcher.start(group);
+                        offsets[(paramCount << 1) + 1] = matcher.end(group);
+                        paramCount++;
                     }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
+                    if (!path.regionMatches(matchPos, segment.literalText, 0, segment.literalText.length())) {
                         matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
                         break;
                     }
+                    matchPos += segment.literalText.length();
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
                     if (matchPos == pathLength) {
                         matched = false;
@@ -170,15 +186,14 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                     while (matchPos < pathLength && path.charAt(matchPos) != '/') {
                         matchPos++;
                     }
-                    params[paramCount++] = path.substring(start, matchPos);
+                    offsets[paramCount << 1] = start;
+                    offsets[(paramCount << 1) + 1] = matchPos;
+                    paramCount++;
                 }
             }
             if (!matched) {
                 continue;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
             if (!fullMatch) {
@@ -200,7 +215,7 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                         remaining = path.substring(matchPos);
                     }
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+                return new RequestMatch(potentialMatch.template, potentialMatch.value, path, offsets, paramCount, remaining);
             }
         }
         return null;
@@ -243,33 +258,75 @@ public int compareTo(RequestPath<T> o) {
         public final URITemplate template;
         public final T value;
         /**
-         * The matched parameters in order.
-         * <p>
-         * Note that this array may be larger than required, and padded with null values at the end
+         * The path that was matched, path parameter values are slices of it
+         */
+        public final String path;
+        /**
+         * The start and end offsets of the matched parameters in {@link #path}, in order. A start offset of {@code -1}
+         * means the parameter did not participate in the match.
          */
-        public final String[] pathParamValues;
+        private final int[] pathParamOffsets;
+        private final int pathParamCount;
         public final String remaining;
 
-        public RequestMatch(URITemplate template, T value, String[] pathParamValues, String remaining) {
+        public RequestMatch(URITemplate template, T value, String path, int[] pathParamOffsets, int pathParamCount,
+                String remaining) {
             this.template = template;
             this.value = value;
-            this.pathParamValues = pathParamValues;
+            this.path = path;
+            this.pathParamOffsets = pathParamOffsets;
+            this.pathParamCount = pathParamCount;
             this.remaining = remaining;
         }
 
+        public int getPathParamCount() {
+            return pathParamCount;
+        }
+
+        /**
+         * Returns the (still encoded) value of a matched parameter. The value is only extracted from the path when this
+         * is called.
+         *
+         * @param index the parameter index
+         * @return the value, or null if the parameter was not matched
+         */
+        public String getPathParamValue(int index) {
+            if (index >= pathParamCount) {
+                return null;
+            }
+            int start = pathParamOffsets[index << 1];
+            if (start < 0) {
+                return null;
+            }
+            return path.substring(start, pathParamOffsets[(index << 1) + 1]);
+        }
+
         @Override
         public String toString() {
+            StringBuilder params = new StringBuilder("[");
+            for (int i = 0; i < pathParamCount; i++) {
+                if (i > 0) {
+                    params.append(", ");
+                }
+                params.append(getPathParamValue(i));
+            }
             return "RequestMatch{ value: " + value + ", template: " + template + ", pathParamValues: "
-                    + Arrays.toString(pathParamValues) + " }";
+                    + params.append(']') + " }";
         }
     }
 
     public void dump() {
-        this.requestPaths.dump(0);
+        getRequestPaths().dump(0);
     }
 
+    /**
+     * Builds a view of the registered paths grouped by stem. This is not used for matching, which goes through a
+     * compiled trie of the stems.
+     */
     public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder = new PathMatcher.Builder<>();
+        aggregate(templates).forEach(pathMatcherBuilder::addPrefixPath);
+        return pathMatcherBuilder.build();
     }
 
     public ArrayList<RequestPath<T>> getTemplates() {
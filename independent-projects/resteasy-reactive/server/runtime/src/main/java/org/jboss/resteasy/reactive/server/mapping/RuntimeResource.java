@@ -9,6 +9,7 @@
 import org.jboss.resteasy.reactive.common.model.ResourceExceptionMapper;
 import org.jboss.resteasy.reactive.common.util.ServerMediaType;
 import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
+import org.jboss.resteasy.reactive.server.core.ResponseSizePredictor;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveSimplifiedResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
@@ -37,6 +38,7 @@ public class RuntimeResource {
     private final Map<ScoreSystem.Category, List<ScoreSystem.Diagnostic>> score;
     private final MediaType streamElementType;
     private final Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwable>> classExceptionMappers;
+    private final ResponseSizePredictor responseSizePredictor = new ResponseSizePredictor();
 
     public RuntimeResource(String httpMethod, URITemplate path, URITemplate classPath, ServerMediaType produces,
             List<MediaType> consumes,
@@ -154,6 +156,10 @@ public Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwab
         return classExceptionMappers;
     }
 
+    public ResponseSizePredictor getResponseSizePredictor() {
+        return responseSizePredictor;
+    }
+
     @Override
     public String toString() {
         return "RuntimeResource{ method: " + javaMethodName + ", path: " + path + "}";
@@ -0,0 +1,122 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A radix trie over the template stems of a {@link RequestMapper}. It is compiled once when the mapper is created and
+ * never modified afterwards.
+ * <p>
+ * Stems are plain character prefixes of the path, so {@code /foo} is a candidate for {@code /foobar}. Walking the trie
+ * from the root visits every stem that is a prefix of the path in a single pass over its characters, without
+ * allocating substrings.
+ */
+final class StemTrie<V> {
+
+    private static final char[] EMPTY_CHAR_ARRAY = new char[0];
+
+    final Node<V> root;
+
+    private StemTrie(Node<V> root) {
+        this.root = root;
+    }
+
+    static <V> StemTrie<V> build(Map<String, V> stems) {
+        List<String> keys = new ArrayList<>(stems.keySet());
+        keys.sort(null);
+        return new StemTrie<>(buildChildren("", 0, null, keys, 0, keys.size(), stems));
+    }
+
+    /**
+     * Builds a node for the sorted keys in {@code [from, to)}, all of which share the first {@code start} characters.
+     */
+    private static <V> Node<V> buildNode(List<String> keys, int from, int to, int start, Map<String, V> stems) {
+        String first = keys.get(from);
+        String last = keys.get(to - 1);
+        int end = start;
+        int max = Math.min(first.length(), last.length());
+        while (end < max && first.charAt(end) == last.charAt(end)) {
+            end++;
+        }
+        V value = null;
+        if (first.length() == end) {
+            // sorted order guarantees that the exact match comes first
+            value = stems.get(first);
+            from++;
+        }
+        return buildChildren(first.substring(start, end), end, value, keys, from, to, stems);
+    }
+
+    private static <V> Node<V> buildChildren(String label, int end, V value, List<String> keys, int from, int to,
+            Map<String, V> stems) {
+        List<Node<V>> children = new ArrayList<>();
+        StringBuilder childKeys = new StringBuilder();
+        int i = from;
+        while (i < to) {
+            char c = keys.get(i).charAt(end);
+            int j = i + 1;
+            while (j < to && keys.get(j).charAt(end) == c) {
+                j++;
+            }
+            childKeys.append(c);
+            children.add(buildNode(keys, i, j, end, stems));
+            i = j;
+        }
+        @SuppressWarnings("unchecked")
+        Node<V>[] childArray = children.toArray(new Node[0]);
+        return new Node<>(label, end, value,
+                childKeys.length() == 0 ? EMPTY_CHAR_ARRAY : childKeys.toString().toCharArray(), childArray);
+    }
+
+    static final class Node<V> {
+
+        /**
+         * The characters this node consumes, relative to its parent
+         */
+        final String label;
+        /**
+         * The length of the stem that ends at this node
+         */
+        final int end;
+        /**
+         * The value registered for the stem ending at this node, may be null for pure branching nodes
+         */
+        final V value;
+        /**
+         * The first character of each child label, sorted
+         */
+        private final char[] childKeys;
+        private final Node<V>[] children;
+
+        private Node(String label, int end, V value, char[] childKeys, Node<V>[] children) {
+            this.label = label;
+            this.end = end;
+            this.value = value;
+            this.childKeys = childKeys;
+            this.children = children;
+        }
+
+        /**
+         * Returns the child whose label matches the path, assuming this node has already been matched
+         *
+         * @param path the request path
+         * @return the matching child, or null if the path does not continue along any child
+         */
+        Node<V> next(String path) {
+            if (end >= path.length() || childKeys.length == 0) {
+                return null;
+            }
+            int idx = Arrays.binarySearch(childKeys, path.charAt(end));
+            if (idx < 0) {
+                return null;
+            }
+            Node<V> child = children[idx];
+            if (path.regionMatches(end, child.label, 0, child.label.length())) {
+                return child;
+            }
+            return null;
+        }
+    }
+}
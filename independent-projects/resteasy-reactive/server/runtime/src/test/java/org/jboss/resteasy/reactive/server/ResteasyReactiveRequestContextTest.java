@@ -1,11 +1,15 @@
 package org.jboss.resteasy.reactive.server;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.concurrent.Executor;
 
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.junit.jupiter.api.Test;
@@ -16,7 +20,48 @@ public class ResteasyReactiveRequestContextTest {
     @Test
     void testAbsoluteUriWithOverrides() {
         var request = Mockito.mock(ServerHttpRequest.class);
-        var context = new ResteasyReactiveRequestContext(null, null, null, null) {
+        var context = context(request);
+        Mockito.when(request.getRequestNormalisedPath()).thenReturn("/path;a");
+        Mockito.when(request.getRequestScheme()).thenReturn("http");
+        Mockito.when(request.getRequestHostAndPort()).thenReturn("host:port");
+
+        context.initPathSegments();
+        assertEquals("http://host:port/path", context.getAbsoluteURI());
+
+        context.setRequestUri(URI.create("https://host1:port1/path1"));
+        assertEquals("https://host1:port1/path1", context.getAbsoluteURI());
+    }
+
+    @Test
+    void testPathParamsFromMatches() {
+        var context = context(Mockito.mock(ServerHttpRequest.class));
+        var classMatch = mapper("/users/{user}").map("/users/j%20doe/orders/42/items/7");
+        var methodMatch = mapper("/orders/{order}/items/{item}").map(classMatch.remaining);
+
+        context.setMaxPathParams(3);
+        context.setPathParamValues(classMatch, 0);
+        context.setPathParamValues(methodMatch, 1);
+        assertEquals("j%20doe", context.getPathParam(0, true));
+        assertEquals("j doe", context.getPathParam(0, false));
+        assertEquals("42", context.getPathParam(1, false));
+        assertEquals("7", context.getPathParam(2, false));
+
+        context.setPathParamValue(2, "8");
+        assertEquals("8", context.getPathParam(2, false));
+        assertEquals("42", context.getPathParam(1, false));
+
+        context.setMaxPathParams(1);
+        assertNull(context.getPathParam(0, false));
+    }
+
+    private static RequestMapper<String> mapper(String template) {
+        ArrayList<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        paths.add(new RequestMapper.RequestPath<>(true, new URITemplate(template, true), template));
+        return new RequestMapper<>(paths);
+    }
+
+    private static ResteasyReactiveRequestContext context(ServerHttpRequest request) {
+        return new ResteasyReactiveRequestContext(null, null, null, null) {
 
             @Override
             public ServerHttpResponse serverResponse() {
@@ -48,15 +93,6 @@ protected void setQueryParamsFrom(String uri) {
 
             }
         };
-        Mockito.when(request.getRequestNormalisedPath()).thenReturn("/path;a");
-        Mockito.when(request.getRequestScheme()).thenReturn("http");
-        Mockito.when(request.getRequestHostAndPort()).thenReturn("host:port");
-
-        context.initPathSegments();
-        assertEquals("http://host:port/path", context.getAbsoluteURI());
-
-        context.setRequestUri(URI.create("https://host1:port1/path1"));
-        assertEquals("https://host1:port1/path1", context.getAbsoluteURI());
     }
 
 }
@@ -0,0 +1,64 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ResponseSizePredictorTest {
+
+    @Test
+    public void noPredictionBeforeFirstResponse() {
+        ResponseSizePredictor predictor = new ResponseSizePredictor();
+        assertEquals(0, predictor.predictedSize());
+        assertEquals(0, predictor.responses());
+    }
+
+    @Test
+    public void predictsFromFirstResponse() {
+        ResponseSizePredictor predictor = new ResponseSizePredictor();
+        predictor.record(1000, 0);
+        assertEquals(1024, predictor.predictedSize());
+        assertEquals(1, predictor.underestimated());
+    }
+
+    @Test
+    public void predictionFitsMostResponses() {
+        ResponseSizePredictor predictor = new ResponseSizePredictor();
+        for (int i = 0; i < ResponseSizePredictor.WINDOW; i++) {
+            // one response out of sixteen is much larger than the others
+            predictor.record(i % 16 == 0 ? 100_000 : 3000 + i, predictor.predictedSize());
+        }
+        int predicted = predictor.predictedSize();
+        assertTrue(predicted >= 3000 + ResponseSizePredictor.WINDOW, "predicted " + predicted);
+        assertTrue(predicted <= (3000 + ResponseSizePredictor.WINDOW) * 5 / 4, "predicted " + predicted);
+        assertEquals(ResponseSizePredictor.WINDOW, predictor.responses());
+    }
+
+    @Test
+    public void predictionFollowsRecentResponses() {
+        ResponseSizePredictor predictor = new ResponseSizePredictor();
+        for (int i = 0; i < 4 * ResponseSizePredictor.WINDOW; i++) {
+            predictor.record(20_000, predictor.predictedSize());
+        }
+        assertEquals(20_480, predictor.predictedSize());
+        for (int i = 0; i < 8 * ResponseSizePredictor.WINDOW; i++) {
+            predictor.record(500, predictor.predictedSize());
+        }
+        assertEquals(512, predictor.predictedSize());
+        assertEquals(4 * ResponseSizePredictor.WINDOW * 20_000L + 8 * ResponseSizePredictor.WINDOW * 500L,
+                predictor.bytes());
+        assertEquals(1, predictor.underestimated());
+    }
+
+    @Test
+    public void predictionIsAtMostAQuarterLarger() {
+        for (int size = 1; size < 10_000_000; size += 997) {
+            ResponseSizePredictor predictor = new ResponseSizePredictor();
+            predictor.record(size, 0);
+            int predicted = predictor.predictedSize();
+            assertTrue(predicted >= size, "size " + size);
+            assertTrue(predicted <= Math.max(64, size * 1.25), "size " + size);
+        }
+    }
+}
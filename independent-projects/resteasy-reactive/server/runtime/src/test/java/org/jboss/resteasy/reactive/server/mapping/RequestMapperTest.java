@@ -0,0 +1,72 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    static RequestMapper<String> mapper(boolean prefix, String... templates) {
+        ArrayList<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        for (String template : templates) {
+            paths.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), template));
+        }
+        return new RequestMapper<>(paths);
+    }
+
+    @Test
+    public void longestStemWins() {
+        RequestMapper<String> mapper = mapper(true, "/foo", "/foo/bar", "/foobar", "/{id}");
+        assertEquals("/foo/bar", mapper.map("/foo/bar/baz").value);
+        assertEquals("/foo/bar", mapper.map("/foo/bar/baz").template.template);
+        assertEquals("/baz", mapper.map("/foo/bar/baz").remaining);
+        assertEquals("/foo", mapper.map("/foo/baz").value);
+        assertEquals("/foobar", mapper.map("/foobar").value);
+        assertEquals("/{id}", mapper.map("/fo").value);
+        assertEquals("/{id}", mapper.map("/foob").value);
+    }
+
+    @Test
+    public void pathParameters() {
+        RequestMapper<String> mapper = mapper(false, "/users/{id}", "/users/{id}/orders/{order}", "/users/me",
+                "/files/{name:.+}");
+        RequestMapper.RequestMatch<String> match = mapper.map("/users/42/orders/7");
+        assertEquals("/users/{id}/orders/{order}", match.value);
+        assertEquals("42", match.getPathParamValue(0));
+        assertEquals("7", match.getPathParamValue(1));
+
+        match = mapper.map("/users/42");
+        assertEquals("/users/{id}", match.value);
+        assertEquals(1, match.getPathParamCount());
+        assertEquals("42", match.getPathParamValue(0));
+        assertNull(match.getPathParamValue(1));
+
+        assertEquals("/users/me", mapper.map("/users/me").value);
+        assertEquals("/users/me", mapper.map("/users/me/").value);
+
+        match = mapper.map("/files/a/b.txt");
+        assertEquals("/files/{name:.+}", match.value);
+        assertEquals("a/b.txt", match.getPathParamValue(0));
+        match = mapper.map("/files/a/b/");
+        assertEquals("a/b", match.getPathParamValue(0));
+        assertEquals("", match.remaining);
+
+        assertNull(mapper.map("/users"));
+        assertNull(mapper.map("/user"));
+        assertNull(mapper.map("/users/42/orders"));
+    }
+
+    @Test
+    public void continueMatching() {
+        RequestMapper<String> mapper = mapper(true, "/a", "/a/{x}", "/{y}");
+        RequestMapper.RequestMatch<String> match = mapper.map("/a/b");
+        assertEquals("/a/{x}", match.value);
+        match = mapper.continueMatching("/a/b", match);
+        assertEquals("/a", match.value);
+        assertEquals("/b", match.remaining);
+        assertNull(mapper.continueMatching("/a/b", match));
+    }
+}
@@ -26,10 +26,12 @@
 import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.core.LazyResponse;
+import org.jboss.resteasy.reactive.server.core.ResponseSizePredictor;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.multipart.FormData;
 import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
 import org.jboss.resteasy.reactive.server.handlers.ParameterHandler;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
@@ -512,11 +514,22 @@ public ServerHttpResponse sendFile(String path, long offset, long length) {
     @Override
     public OutputStream createResponseOutputStream() {
         final ResteasyReactiveConfig config = getDeployment().getResteasyReactiveConfig();
+        final RuntimeResource target = getTarget();
+        ResponseSizePredictor responseSizePredictor = null;
+        int expectedResponseSize = 0;
+        if (config.getMaxAdaptiveOutputBufferSize() > 0 && target != null) {
+            responseSizePredictor = target.getResponseSizePredictor();
+            expectedResponseSize = Math.min(responseSizePredictor.predictedSize(),
+                    config.getMaxAdaptiveOutputBufferSize());
+        }
         return new VertxOutputStream(
                 new ResteasyVertxJavaIoContext(
                         context,
                         config.getMinChunkSize(),
-                        config.getOutputBufferSize()));
+                        // a response predicted to fit in the buffer should not be chunked
+                        Math.max(config.getOutputBufferSize(), expectedResponseSize),
+                        responseSizePredictor,
+                        expectedResponseSize));
     }
 
     @Override
@@ -568,8 +581,31 @@ enum ContinueState {
 
     final class ResteasyVertxJavaIoContext extends VertxJavaIoContext {
 
-        public ResteasyVertxJavaIoContext(RoutingContext context, int minChunkSize, int outputBufferSize) {
+        private final ResponseSizePredictor responseSizePredictor;
+        private final int expectedResponseSize;
+
+        /**
+         * @param responseSizePredictor the predictor of the endpoint, or null if the response buffer is not sized
+         *        adaptively
+         * @param expectedResponseSize the size predicted for this response, or 0 if unknown
+         */
+        public ResteasyVertxJavaIoContext(RoutingContext context, int minChunkSize, int outputBufferSize,
+                ResponseSizePredictor responseSizePredictor, int expectedResponseSize) {
             super(context, minChunkSize, outputBufferSize);
+            this.responseSizePredictor = responseSizePredictor;
+            this.expectedResponseSize = expectedResponseSize;
+        }
+
+        @Override
+        public int getExpectedResponseSize() {
+            return expectedResponseSize;
+        }
+
+        @Override
+        public void responseWritten(long size) {
+            if (responseSizePredictor != null) {
+                responseSizePredictor.record(size, expectedResponseSize);
+            }
         }
 
         @Override
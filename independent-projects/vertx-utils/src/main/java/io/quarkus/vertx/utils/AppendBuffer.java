@@ -42,6 +42,7 @@ private static boolean isVirtualThread() {
 
     private final int minChunkSize;
     private final int capacity;
+    private int firstChunkSize;
     private ByteBuf buffer;
     private ArrayDeque<ByteBuf> otherBuffers;
     private int size;
@@ -77,6 +78,16 @@ public static AppendBuffer withMinChunks(int minChunkSize, int capacity) {
         return new AppendBuffer(minChunkSize, capacity);
     }
 
+    /**
+     * Like {@link #withMinChunks}, but the first {@link ByteBuf} allocated by this buffer has a minimum capacity of
+     * {@code firstChunkSize}, so that data up to that size is appended to a single eagerly sized {@link ByteBuf}.
+     */
+    public static AppendBuffer withFirstChunk(int firstChunkSize, int minChunkSize, int capacity) {
+        AppendBuffer appendBuffer = new AppendBuffer(minChunkSize, capacity);
+        appendBuffer.firstChunkSize = Math.min(firstChunkSize, capacity);
+        return appendBuffer;
+    }
+
     private ByteBuf lastBuffer() {
         if (otherBuffers == null || otherBuffers.isEmpty()) {
             return buffer;
@@ -121,7 +132,11 @@ public int append(byte[] bytes, int off, int len) {
         int toWrite = Math.min(len, availableCapacity);
         assert toWrite > 0;
         final int chunkCapacity;
-        if (minChunkSize > 0) {
+        if (firstChunkSize > 0) {
+            // only the first allocation is sized from the expected size, once it's exhausted we're back to chunks
+            chunkCapacity = Math.min(Math.max(firstChunkSize, toWrite), availableCapacity);
+            firstChunkSize = 0;
+        } else if (minChunkSize > 0) {
             // Cannot allocate less than minChunkSize, till the limit of capacity left
             chunkCapacity = Math.min(Math.max(minChunkSize, toWrite), availableCapacity);
         } else {
@@ -58,4 +58,27 @@ public Optional<String> getContentLength() {
         return Optional.empty();
     }
 
+    /**
+     * You may want to override this method if your framework can predict the size of the response, letting
+     * {@link VertxOutputStream} allocate its first buffer with that capacity rather than in chunks of
+     * {@link #getMinChunkSize()} bytes.
+     * <p>
+     * The default implementation always returns 0, i.e. the size is unknown.
+     *
+     * @return the expected size of the response in bytes, or 0 if unknown
+     */
+    public int getExpectedResponseSize() {
+        return 0;
+    }
+
+    /**
+     * Invoked by {@link VertxOutputStream} once the whole response has been written.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param size the number of bytes written to the stream
+     */
+    public void responseWritten(long size) {
+    }
+
 }
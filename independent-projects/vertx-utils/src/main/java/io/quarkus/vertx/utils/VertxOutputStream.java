@@ -30,6 +30,7 @@ public class VertxOutputStream extends OutputStream {
     private final AppendBuffer appendBuffer;
     private final HttpServerResponse response;
 
+    private long bytesWritten;
     private boolean committed;
     private boolean closed;
     private boolean waitingForDrain;
@@ -38,9 +39,11 @@ public class VertxOutputStream extends OutputStream {
     public VertxOutputStream(VertxJavaIoContext context) {
         this.context = context;
         this.request = context.getRoutingContext().request();
-        this.appendBuffer = AppendBuffer.withMinChunks(
-                context.getMinChunkSize(),
-                context.getOutputBufferCapacity());
+        int expectedResponseSize = context.getExpectedResponseSize();
+        this.appendBuffer = expectedResponseSize > 0
+                ? AppendBuffer.withFirstChunk(expectedResponseSize, context.getMinChunkSize(),
+                        context.getOutputBufferCapacity())
+                : AppendBuffer.withMinChunks(context.getMinChunkSize(), context.getOutputBufferCapacity());
         response = request.response();
         response.exceptionHandler(new Handler<>() {
             @Override
@@ -171,6 +174,7 @@ public void write(final byte[] b, final int off, final int len) throws IOExcepti
                 rem -= written;
                 idx += written;
             }
+            bytesWritten += len;
         } catch (Exception e) {
             throw new IOException(e);
         }
@@ -229,6 +233,7 @@ public void close() throws IOException {
             return;
         try {
             writeBlocking(appendBuffer.clear(), true);
+            context.responseWritten(bytesWritten);
         } catch (Exception e) {
             throw new IOException(e);
         } finally {